@@ -0,0 +1,83 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.metrics;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.jetbrains.annotations.Nullable;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The job, channel and provider a pipeline measurement belongs to. Values that do not apply to a stage are reported as {@value #NONE}.
+ */
+public final class PipelineMetricTags {
+    public static final String TAG_JOB = "job";
+    public static final String TAG_CHANNEL = "channel";
+    public static final String TAG_PROVIDER = "provider";
+    public static final String NONE = "none";
+
+    private static final PipelineMetricTags EMPTY = new PipelineMetricTags(null, null, null);
+
+    private final String job;
+    private final String channel;
+    private final String provider;
+
+    public static PipelineMetricTags none() {
+        return EMPTY;
+    }
+
+    public static PipelineMetricTags forProvider(@Nullable Long providerConfigId) {
+        return new PipelineMetricTags(null, null, providerConfigId);
+    }
+
+    public static PipelineMetricTags forJob(@Nullable UUID jobId, @Nullable String channelKey, @Nullable Long providerConfigId) {
+        return new PipelineMetricTags(jobId, channelKey, providerConfigId);
+    }
+
+    private PipelineMetricTags(@Nullable UUID jobId, @Nullable String channelKey, @Nullable Long providerConfigId) {
+        this.job = null != jobId ? jobId.toString() : NONE;
+        this.channel = null != channelKey ? channelKey : NONE;
+        this.provider = null != providerConfigId ? providerConfigId.toString() : NONE;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public Tags toTags() {
+        return Tags.of(TAG_JOB, job, TAG_CHANNEL, channel, TAG_PROVIDER, provider);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PipelineMetricTags)) {
+            return false;
+        }
+        PipelineMetricTags other = (PipelineMetricTags) obj;
+        return job.equals(other.job) && channel.equals(other.channel) && provider.equals(other.provider);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(job, channel, provider);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.metrics;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the latency and throughput of the notification pipeline stages so they can be scraped from the metrics endpoint.
+ */
+@Component
+public class PipelineMetrics {
+    public static final String STAGE_DURATION_METRIC = "alert.pipeline.stage.duration";
+    public static final String STAGE_NOTIFICATIONS_METRIC = "alert.pipeline.stage.notifications";
+    public static final String STAGE_FAILURES_METRIC = "alert.pipeline.stage.failures";
+    public static final String JOB_EXECUTIONS_METRIC = "alert.pipeline.job.executions";
+    public static final String TAG_STAGE = "stage";
+    public static final String TAG_STATUS = "status";
+
+    private static final Duration MINIMUM_EXPECTED_DURATION = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED_DURATION = Duration.ofHours(1);
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordDuration(PipelineStage stage, PipelineMetricTags tags, Timer.Sample sample) {
+        sample.stop(stageTimer(stage, tags));
+    }
+
+    public void recordDuration(PipelineStage stage, PipelineMetricTags tags, Duration duration) {
+        stageTimer(stage, tags).record(duration);
+    }
+
+    public void countNotifications(PipelineStage stage, PipelineMetricTags tags, long notificationCount) {
+        if (notificationCount > 0) {
+            Counter.builder(STAGE_NOTIFICATIONS_METRIC)
+                .description("The number of notifications handled by a pipeline stage")
+                .tag(TAG_STAGE, stage.getTagValue())
+                .tags(tags.toTags())
+                .register(meterRegistry)
+                .increment(notificationCount);
+        }
+    }
+
+    public void countFailure(PipelineStage stage, PipelineMetricTags tags) {
+        Counter.builder(STAGE_FAILURES_METRIC)
+            .description("The number of times a pipeline stage failed")
+            .tag(TAG_STAGE, stage.getTagValue())
+            .tags(tags.toTags())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void countJobExecution(PipelineMetricTags tags, AuditEntryStatus status) {
+        Counter.builder(JOB_EXECUTIONS_METRIC)
+            .description("The number of completed job executions")
+            .tag(TAG_STATUS, status.name())
+            .tags(tags.toTags())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Timer stageTimer(PipelineStage stage, PipelineMetricTags tags) {
+        return Timer.builder(STAGE_DURATION_METRIC)
+            .description("The time taken by a pipeline stage")
+            .tag(TAG_STAGE, stage.getTagValue())
+            .tags(tags.toTags())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MINIMUM_EXPECTED_DURATION)
+            .maximumExpectedValue(MAXIMUM_EXPECTED_DURATION)
+            .register(meterRegistry);
+    }
+
+}
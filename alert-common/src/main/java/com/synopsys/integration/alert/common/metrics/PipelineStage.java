@@ -0,0 +1,30 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.metrics;
+
+public enum PipelineStage {
+    ACCUMULATION("accumulation"),
+    MAPPING("mapping"),
+    JOB_PROCESSING("job_processing"),
+    EXTRACTION("extraction"),
+    DISTRIBUTION("distribution"),
+    ISSUE_CREATION("issue_creation"),
+    ISSUE_COMMENTING("issue_commenting"),
+    ISSUE_TRANSITION("issue_transition");
+
+    private final String tagValue;
+
+    PipelineStage(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+
+}
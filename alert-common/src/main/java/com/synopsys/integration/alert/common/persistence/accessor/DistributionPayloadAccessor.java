@@ -0,0 +1,23 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.accessor;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DistributionPayloadAccessor {
+    UUID savePayload(UUID jobExecutionId, String payload);
+
+    Optional<String> getPayload(UUID payloadId);
+
+    void deletePayload(UUID payloadId);
+
+    int deletePayloadsCreatedBefore(OffsetDateTime date);
+
+}
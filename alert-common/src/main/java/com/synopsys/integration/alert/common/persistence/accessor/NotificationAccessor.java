@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import com.synopsys.integration.alert.common.persistence.model.PurgeIdRange;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 
@@ -40,6 +41,26 @@ public interface NotificationAccessor {
 
     int deleteNotificationsCreatedBefore(OffsetDateTime date);
 
+    Optional<PurgeIdRange> findIdRangeCreatedBefore(OffsetDateTime date);
+
+    /**
+     * Deletes the notifications created before the date whose ids are within the range, along with the audit entries only they were part of.
+     */
+    int deleteNotificationsCreatedBefore(OffsetDateTime date, long firstId, long lastId);
+
+    /**
+     * Creates the monthly notification partitions up to and including the month of the date that do not exist yet.
+     * @return The number of partitions created.
+     */
+    int createNotificationPartitionsThrough(OffsetDateTime date);
+
+    /**
+     * Drops the notification partitions holding only notifications created before the date, along with the audit entries only they were part of.
+     * Notifications in partitions that also hold newer notifications are left for {@link #deleteNotificationsCreatedBefore(OffsetDateTime, long, long)}.
+     * @return The number of notifications dropped.
+     */
+    long dropNotificationPartitionsBefore(OffsetDateTime date);
+
     void deleteNotification(AlertNotificationModel notification);
 
     @Deprecated(since = "6.13.0")
@@ -47,6 +68,8 @@ public interface NotificationAccessor {
 
     boolean hasMoreNotificationsToProcess(long providerConfigId);
 
+    boolean hasMoreUnprocessedNotificationsThan(int count);
+
     long countNotificationsByProviderAndType(long providerConfigId, String notificationType);
 
 }
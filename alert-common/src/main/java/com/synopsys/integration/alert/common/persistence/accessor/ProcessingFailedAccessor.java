@@ -16,6 +16,8 @@ public interface ProcessingFailedAccessor {
 
     void deleteAuditEntriesBefore(OffsetDateTime expirationDate);
 
+    int deleteAuditEntriesBefore(OffsetDateTime expirationDate, int maxEntries);
+
     void deleteAuditsWithNotificationId(Long notificationId);
 
     void deleteAuditsWithJobIdAndNotificationId(UUID jobId, Long notificationId);
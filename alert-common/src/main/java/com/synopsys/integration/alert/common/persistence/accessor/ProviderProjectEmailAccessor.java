@@ -0,0 +1,27 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.accessor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.synopsys.integration.alert.common.persistence.model.ProviderProject;
+import com.synopsys.integration.alert.common.persistence.model.ProviderProjectEmailModel;
+
+public interface ProviderProjectEmailAccessor {
+    Optional<ProviderProjectEmailModel> getProjectEmails(Long providerConfigId, String projectHref);
+
+    /**
+     * Makes the stored projects of a provider match the given projects. Only projects whose email addresses changed are rewritten, projects that no longer exist
+     * are removed, and every remaining project is marked as refreshed.
+     * @return the number of projects that were added, changed or removed.
+     */
+    int synchronizeProjectEmails(Long providerConfigId, Map<ProviderProject, Set<String>> projectToUserEmailAddresses);
+
+}
@@ -11,7 +11,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
 
 import com.synopsys.integration.alert.common.persistence.model.AuditEntryModel;
 import com.synopsys.integration.alert.common.persistence.model.AuditEntryPageModel;
@@ -25,8 +24,7 @@ public interface RestApiAuditAccessor {
 
     List<AuditJobStatusModel> findByJobIds(Collection<UUID> jobIds);
 
-    AuditEntryPageModel getPageOfAuditEntries(Integer pageNumber, Integer pageSize, String searchTerm, String sortField, String sortOrder, boolean onlyShowSentNotifications,
-        Function<AlertNotificationModel, AuditEntryModel> notificationToAuditEntryConverter);
+    AuditEntryPageModel getPageOfAuditEntries(Integer pageNumber, Integer pageSize, String searchTerm, String sortField, String sortOrder, boolean onlyShowSentNotifications);
 
     AuditEntryModel convertToAuditEntryModelFromNotification(AlertNotificationModel notificationContentEntry);
 
@@ -37,4 +37,6 @@ public interface SystemMessageAccessor {
 
     int deleteSystemMessagesCreatedBefore(OffsetDateTime date);
 
+    int deleteSystemMessagesCreatedBefore(OffsetDateTime date, int maxMessages);
+
 }
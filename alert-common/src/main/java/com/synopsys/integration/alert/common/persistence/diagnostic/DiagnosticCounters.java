@@ -0,0 +1,165 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.diagnostic;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+/**
+ * Counts of the stored notifications and audit entries kept up to date as they are written, so diagnostics do not have to count the tables.
+ * The counts can drift from the database between reconciliations, for example when notifications are purged or audit entries are retried.
+ */
+@Component
+public class DiagnosticCounters {
+    private final AtomicLong notificationCount = new AtomicLong(0L);
+    private final AtomicLong processedNotificationCount = new AtomicLong(0L);
+    private final Map<Long, Map<String, AtomicLong>> notificationTypeCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> auditEntryStatusCounts = new ConcurrentHashMap<>();
+    private volatile String averageAuditEntryCompletionTime;
+    private volatile OffsetDateTime lastReconciled;
+
+    public void recordNotificationsSaved(Collection<AlertNotificationModel> savedNotifications) {
+        for (AlertNotificationModel savedNotification : savedNotifications) {
+            if (null != savedNotification.getProviderConfigId() && null != savedNotification.getNotificationType()) {
+                getNotificationTypeCount(savedNotification.getProviderConfigId(), savedNotification.getNotificationType()).incrementAndGet();
+            }
+        }
+        notificationCount.addAndGet(savedNotifications.size());
+    }
+
+    public void recordNotificationsProcessed(int processedCount) {
+        processedNotificationCount.addAndGet(processedCount);
+    }
+
+    // Purged notifications have been processed; the counts per provider and type are corrected by the next reconciliation
+    public void recordNotificationsRemoved(long removedCount) {
+        notificationCount.updateAndGet(count -> Math.max(0L, count - removedCount));
+        processedNotificationCount.updateAndGet(count -> Math.max(0L, count - removedCount));
+    }
+
+    public void recordAuditEntriesCreated(int createdCount) {
+        incrementAuditEntryCount(AuditEntryStatus.PENDING.name(), createdCount);
+    }
+
+    public void recordAuditEntriesCompleted(AuditEntryStatus status, int completedCount) {
+        incrementAuditEntryCount(AuditEntryStatus.PENDING.name(), -completedCount);
+        incrementAuditEntryCount(status.name(), completedCount);
+    }
+
+    public DiagnosticCountsSnapshot snapshot() {
+        Map<Long, Map<String, Long>> notificationTypeCountsSnapshot = new HashMap<>();
+        notificationTypeCounts.forEach((providerConfigId, providerCounts) -> notificationTypeCountsSnapshot.put(providerConfigId, copyCounts(providerCounts)));
+        return new DiagnosticCountsSnapshot(notificationCount.get(), processedNotificationCount.get(), notificationTypeCountsSnapshot, copyCounts(auditEntryStatusCounts));
+    }
+
+    /**
+     * Applies the difference between the counted notifications and the counters as they were before the notifications were counted,
+     * so the notifications recorded while the database was counted are not lost.
+     */
+    public void reconcileNotifications(DiagnosticCountsSnapshot countsBeforeQuery, Map<Long, Map<String, Long>> notificationCountsByProviderAndType, long processedNotifications) {
+        Map<Long, Map<String, Long>> snapshotTypeCounts = countsBeforeQuery.getNotificationTypeCounts();
+        long countedNotifications = 0L;
+        for (Long providerConfigId : union(snapshotTypeCounts.keySet(), notificationCountsByProviderAndType.keySet())) {
+            Map<String, Long> snapshotProviderCounts = snapshotTypeCounts.getOrDefault(providerConfigId, Map.of());
+            Map<String, Long> countedProviderCounts = notificationCountsByProviderAndType.getOrDefault(providerConfigId, Map.of());
+            for (String notificationType : union(snapshotProviderCounts.keySet(), countedProviderCounts.keySet())) {
+                long countedTypeNotifications = countedProviderCounts.getOrDefault(notificationType, 0L);
+                countedNotifications += countedTypeNotifications;
+                addToCount(getNotificationTypeCount(providerConfigId, notificationType), countedTypeNotifications - snapshotProviderCounts.getOrDefault(notificationType, 0L));
+            }
+        }
+        addToCount(notificationCount, countedNotifications - countsBeforeQuery.getNotificationCount());
+        addToCount(processedNotificationCount, processedNotifications - countsBeforeQuery.getProcessedNotificationCount());
+        lastReconciled = DateUtils.createCurrentDateTimestamp();
+    }
+
+    /**
+     * Applies the difference between the counted audit entries and the counters as they were before the audit entries were counted.
+     */
+    public void reconcileAuditEntries(DiagnosticCountsSnapshot countsBeforeQuery, Map<String, Long> auditEntryCountsByStatus, @Nullable String averageCompletionTime) {
+        Map<String, Long> snapshotStatusCounts = countsBeforeQuery.getAuditEntryStatusCounts();
+        for (String status : union(snapshotStatusCounts.keySet(), auditEntryCountsByStatus.keySet())) {
+            incrementAuditEntryCount(status, auditEntryCountsByStatus.getOrDefault(status, 0L) - snapshotStatusCounts.getOrDefault(status, 0L));
+        }
+        averageAuditEntryCompletionTime = averageCompletionTime;
+        lastReconciled = DateUtils.createCurrentDateTimestamp();
+    }
+
+    public long getNotificationCount() {
+        return notificationCount.get();
+    }
+
+    public long getProcessedNotificationCount() {
+        return Math.min(processedNotificationCount.get(), notificationCount.get());
+    }
+
+    public long getUnprocessedNotificationCount() {
+        return getNotificationCount() - getProcessedNotificationCount();
+    }
+
+    public long getNotificationCount(Long providerConfigId, String notificationType) {
+        return Optional.ofNullable(notificationTypeCounts.get(providerConfigId))
+            .map(providerCounts -> providerCounts.get(notificationType))
+            .map(AtomicLong::get)
+            .orElse(0L);
+    }
+
+    public long getAuditEntryCount(AuditEntryStatus status) {
+        return Optional.ofNullable(auditEntryStatusCounts.get(status.name()))
+            .map(AtomicLong::get)
+            .orElse(0L);
+    }
+
+    public Optional<String> getAverageAuditEntryCompletionTime() {
+        return Optional.ofNullable(averageAuditEntryCompletionTime);
+    }
+
+    public Optional<OffsetDateTime> getLastReconciled() {
+        return Optional.ofNullable(lastReconciled);
+    }
+
+    private AtomicLong getNotificationTypeCount(Long providerConfigId, String notificationType) {
+        return notificationTypeCounts.computeIfAbsent(providerConfigId, ignored -> new ConcurrentHashMap<>())
+            .computeIfAbsent(notificationType, ignored -> new AtomicLong(0L));
+    }
+
+    private void incrementAuditEntryCount(String status, long increment) {
+        addToCount(auditEntryStatusCounts.computeIfAbsent(status, ignored -> new AtomicLong(0L)), increment);
+    }
+
+    private static void addToCount(AtomicLong count, long increment) {
+        count.updateAndGet(currentCount -> Math.max(0L, currentCount + increment));
+    }
+
+    private static Map<String, Long> copyCounts(Map<String, AtomicLong> counts) {
+        Map<String, Long> copiedCounts = new HashMap<>();
+        counts.forEach((key, count) -> copiedCounts.put(key, count.get()));
+        return copiedCounts;
+    }
+
+    private static <T> Set<T> union(Set<T> first, Set<T> second) {
+        Set<T> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+}
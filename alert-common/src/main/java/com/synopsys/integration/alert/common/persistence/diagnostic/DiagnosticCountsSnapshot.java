@@ -0,0 +1,49 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.diagnostic;
+
+import java.util.Map;
+
+/**
+ * The values of the {@link DiagnosticCounters} at a point in time, taken before the database is counted so the counts recorded while it is counted are kept.
+ */
+public class DiagnosticCountsSnapshot {
+    private final long notificationCount;
+    private final long processedNotificationCount;
+    private final Map<Long, Map<String, Long>> notificationTypeCounts;
+    private final Map<String, Long> auditEntryStatusCounts;
+
+    public DiagnosticCountsSnapshot(
+        long notificationCount,
+        long processedNotificationCount,
+        Map<Long, Map<String, Long>> notificationTypeCounts,
+        Map<String, Long> auditEntryStatusCounts
+    ) {
+        this.notificationCount = notificationCount;
+        this.processedNotificationCount = processedNotificationCount;
+        this.notificationTypeCounts = notificationTypeCounts;
+        this.auditEntryStatusCounts = auditEntryStatusCounts;
+    }
+
+    public long getNotificationCount() {
+        return notificationCount;
+    }
+
+    public long getProcessedNotificationCount() {
+        return processedNotificationCount;
+    }
+
+    public Map<Long, Map<String, Long>> getNotificationTypeCounts() {
+        return notificationTypeCounts;
+    }
+
+    public Map<String, Long> getAuditEntryStatusCounts() {
+        return auditEntryStatusCounts;
+    }
+
+}
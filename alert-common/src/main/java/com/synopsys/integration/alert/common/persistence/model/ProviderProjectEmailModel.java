@@ -0,0 +1,48 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.model;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+
+public class ProviderProjectEmailModel extends AlertSerializableModel {
+    private final String projectHref;
+    @Nullable
+    private final String projectOwnerEmail;
+    private final Set<String> userEmailAddresses;
+    private final OffsetDateTime refreshedAt;
+
+    public ProviderProjectEmailModel(String projectHref, @Nullable String projectOwnerEmail, Set<String> userEmailAddresses, OffsetDateTime refreshedAt) {
+        this.projectHref = projectHref;
+        this.projectOwnerEmail = projectOwnerEmail;
+        this.userEmailAddresses = userEmailAddresses;
+        this.refreshedAt = refreshedAt;
+    }
+
+    public String getProjectHref() {
+        return projectHref;
+    }
+
+    public Optional<String> getProjectOwnerEmail() {
+        return Optional.ofNullable(projectOwnerEmail);
+    }
+
+    public Set<String> getUserEmailAddresses() {
+        return userEmailAddresses;
+    }
+
+    public OffsetDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.model;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+
+public class PurgeIdRange extends AlertSerializableModel {
+    private static final long serialVersionUID = 4119465412853385092L;
+    private final long firstId;
+    private final long lastId;
+
+    public PurgeIdRange(long firstId, long lastId) {
+        this.firstId = firstId;
+        this.lastId = lastId;
+    }
+
+    public long getFirstId() {
+        return firstId;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+}
@@ -0,0 +1,18 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.purge;
+
+@FunctionalInterface
+public interface PurgeBatchDeleter {
+    /**
+     * @param maxRows The most rows to delete.
+     * @return The number of rows deleted. Fewer than maxRows means there is nothing left to delete.
+     */
+    int deleteBatch(int maxRows);
+
+}
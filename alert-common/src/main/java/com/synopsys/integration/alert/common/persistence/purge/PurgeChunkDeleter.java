@@ -0,0 +1,19 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.purge;
+
+@FunctionalInterface
+public interface PurgeChunkDeleter {
+    /**
+     * @param firstId The first id of the chunk, inclusive.
+     * @param lastId  The last id of the chunk, inclusive.
+     * @return The number of rows deleted.
+     */
+    int deleteChunk(long firstId, long lastId);
+
+}
@@ -0,0 +1,221 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.purge;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.task.TaskMetaDataProperty;
+import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.SettingsKeyAccessor;
+import com.synopsys.integration.alert.common.persistence.model.PurgeIdRange;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+/**
+ * Deletes old data in bounded chunks so that a purge never holds locks on a large part of a table.
+ * Chunks are deleted no faster than the configured rows per second, and the purge waits while the unprocessed notifications are backed up.
+ * Purges by id range save a checkpoint after every chunk and resume from it when run again with the same cutoff.
+ */
+@Component
+public class PurgeEngine {
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+    public static final long DEFAULT_ROWS_PER_SECOND = 20000L;
+    public static final int DEFAULT_BACKLOG_THRESHOLD = 10000;
+    public static final long DEFAULT_BACKLOG_PAUSE_MILLIS = 30000L;
+    private static final String CHECKPOINT_KEY_FORMAT = "purge.checkpoint.%s";
+    private static final String CHECKPOINT_SEPARATOR = ":";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final NotificationAccessor notificationAccessor;
+    private final SettingsKeyAccessor settingsKeyAccessor;
+    private final int chunkSize;
+    private final long rowsPerSecond;
+    private final int backlogThreshold;
+    private final long backlogPauseMillis;
+    private final Map<String, PurgeProgress> progressByPurgeName = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PurgeEngine(
+        NotificationAccessor notificationAccessor,
+        SettingsKeyAccessor settingsKeyAccessor,
+        @Value("${alert.purge.chunk.size:" + DEFAULT_CHUNK_SIZE + "}") int chunkSize,
+        @Value("${alert.purge.rows.per.second:" + DEFAULT_ROWS_PER_SECOND + "}") long rowsPerSecond,
+        @Value("${alert.purge.backlog.threshold:" + DEFAULT_BACKLOG_THRESHOLD + "}") int backlogThreshold,
+        @Value("${alert.purge.backlog.pause.millis:" + DEFAULT_BACKLOG_PAUSE_MILLIS + "}") long backlogPauseMillis
+    ) {
+        this.notificationAccessor = notificationAccessor;
+        this.settingsKeyAccessor = settingsKeyAccessor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.rowsPerSecond = rowsPerSecond;
+        this.backlogThreshold = backlogThreshold;
+        this.backlogPauseMillis = Math.max(1L, backlogPauseMillis);
+    }
+
+    /**
+     * Deletes the ids of the range in chunks of consecutive ids, resuming after the checkpoint of a previous run with the same cutoff.
+     * @param purgeName A name unique to the data being purged.
+     * @param cutoff    The date the data is purged before; it identifies the run the checkpoint belongs to.
+     * @param idRange   The ids of the data created before the cutoff.
+     * @param deleter   Deletes the data created before the cutoff within a chunk of ids.
+     */
+    public PurgeProgress purgeByIdRange(String purgeName, OffsetDateTime cutoff, PurgeIdRange idRange, PurgeChunkDeleter deleter) {
+        long firstId = idRange.getFirstId();
+        Optional<Long> checkpoint = readCheckpoint(purgeName, cutoff);
+        if (checkpoint.isPresent() && checkpoint.get() >= firstId) {
+            logger.info("Resuming the {} purge after id {}", purgeName, checkpoint.get());
+            firstId = checkpoint.get() + 1;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long deletedCount = 0L;
+        Long lastPurgedId = checkpoint.orElse(null);
+        updateProgress(purgeName, PurgeStatus.RUNNING, deletedCount, lastPurgedId);
+        try {
+            for (long chunkFirstId = firstId; chunkFirstId <= idRange.getLastId(); chunkFirstId += chunkSize) {
+                if (!waitForNotificationBacklog(purgeName, deletedCount, lastPurgedId)) {
+                    return updateProgress(purgeName, PurgeStatus.STOPPED, deletedCount, lastPurgedId);
+                }
+                long chunkLastId = Math.min(idRange.getLastId(), chunkFirstId + chunkSize - 1);
+                deletedCount += deleter.deleteChunk(chunkFirstId, chunkLastId);
+                lastPurgedId = chunkLastId;
+                saveCheckpoint(purgeName, cutoff, chunkLastId);
+                updateProgress(purgeName, PurgeStatus.RUNNING, deletedCount, lastPurgedId);
+                if (!throttle(startTime, deletedCount)) {
+                    return updateProgress(purgeName, PurgeStatus.STOPPED, deletedCount, lastPurgedId);
+                }
+            }
+        } catch (RuntimeException e) {
+            updateProgress(purgeName, PurgeStatus.FAILED, deletedCount, lastPurgedId);
+            throw e;
+        }
+        settingsKeyAccessor.deleteSettingsKeyByKey(createCheckpointKey(purgeName));
+        return updateProgress(purgeName, PurgeStatus.COMPLETE, deletedCount, lastPurgedId);
+    }
+
+    /**
+     * Deletes batches of at most the chunk size until a batch comes back short, for data without sequential ids.
+     * @param purgeName A name unique to the data being purged.
+     * @param deleter   Deletes a batch of the data to purge.
+     */
+    public PurgeProgress purgeInBatches(String purgeName, PurgeBatchDeleter deleter) {
+        long startTime = System.currentTimeMillis();
+        long deletedCount = 0L;
+        updateProgress(purgeName, PurgeStatus.RUNNING, deletedCount, null);
+        try {
+            int deletedInBatch;
+            do {
+                if (!waitForNotificationBacklog(purgeName, deletedCount, null)) {
+                    return updateProgress(purgeName, PurgeStatus.STOPPED, deletedCount, null);
+                }
+                deletedInBatch = deleter.deleteBatch(chunkSize);
+                deletedCount += deletedInBatch;
+                updateProgress(purgeName, PurgeStatus.RUNNING, deletedCount, null);
+                if (!throttle(startTime, deletedCount)) {
+                    return updateProgress(purgeName, PurgeStatus.STOPPED, deletedCount, null);
+                }
+            } while (deletedInBatch >= chunkSize);
+        } catch (RuntimeException e) {
+            updateProgress(purgeName, PurgeStatus.FAILED, deletedCount, null);
+            throw e;
+        }
+        return updateProgress(purgeName, PurgeStatus.COMPLETE, deletedCount, null);
+    }
+
+    public Optional<PurgeProgress> getProgress(String purgeName) {
+        return Optional.ofNullable(progressByPurgeName.get(purgeName));
+    }
+
+    public List<TaskMetaDataProperty> createTaskMetaDataProperties(String purgeName, String displayName) {
+        List<TaskMetaDataProperty> properties = new ArrayList<>();
+        getProgress(purgeName).ifPresent(progress -> {
+            properties.add(new TaskMetaDataProperty(purgeName + "PurgeStatus", displayName + " Purge Status", progress.getStatus().getDisplayName()));
+            properties.add(new TaskMetaDataProperty(purgeName + "PurgeDeleted", displayName + " Purged", String.valueOf(progress.getDeletedCount())));
+            progress.getCheckpoint()
+                .map(checkpoint -> new TaskMetaDataProperty(purgeName + "PurgeCheckpoint", displayName + " Purge Checkpoint", String.valueOf(checkpoint)))
+                .ifPresent(properties::add);
+            properties.add(new TaskMetaDataProperty(purgeName + "PurgeLastUpdated", displayName + " Purge Last Updated", DateUtils.formatDateAsJsonString(progress.getLastUpdated())));
+        });
+        return properties;
+    }
+
+    private boolean waitForNotificationBacklog(String purgeName, long deletedCount, @Nullable Long lastPurgedId) {
+        boolean paused = false;
+        while (notificationAccessor.hasMoreUnprocessedNotificationsThan(backlogThreshold)) {
+            if (!paused) {
+                logger.info("Pausing the {} purge while more than {} notifications are waiting to be processed", purgeName, backlogThreshold);
+                updateProgress(purgeName, PurgeStatus.PAUSED, deletedCount, lastPurgedId);
+                paused = true;
+            }
+            if (!sleep(backlogPauseMillis)) {
+                return false;
+            }
+        }
+        if (paused) {
+            logger.info("Resuming the {} purge", purgeName);
+            updateProgress(purgeName, PurgeStatus.RUNNING, deletedCount, lastPurgedId);
+        }
+        return true;
+    }
+
+    // Waits until the rows deleted so far fit the rows per second budget
+    private boolean throttle(long startTime, long deletedCount) {
+        if (rowsPerSecond <= 0) {
+            return true;
+        }
+        long budgetedMillis = deletedCount * 1000L / rowsPerSecond;
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        return budgetedMillis <= elapsedMillis || sleep(budgetedMillis - elapsedMillis);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private PurgeProgress updateProgress(String purgeName, PurgeStatus status, long deletedCount, @Nullable Long lastPurgedId) {
+        PurgeProgress progress = new PurgeProgress(purgeName, status, deletedCount, lastPurgedId, DateUtils.createCurrentDateTimestamp());
+        progressByPurgeName.put(purgeName, progress);
+        return progress;
+    }
+
+    private Optional<Long> readCheckpoint(String purgeName, OffsetDateTime cutoff) {
+        String cutoffValue = String.valueOf(cutoff.toInstant().toEpochMilli());
+        return settingsKeyAccessor.getSettingsKeyByKey(createCheckpointKey(purgeName))
+            .map(settingsKey -> StringUtils.split(settingsKey.getValue(), CHECKPOINT_SEPARATOR))
+            .filter(checkpointValues -> checkpointValues.length == 2 && cutoffValue.equals(checkpointValues[0]) && NumberUtils.isDigits(checkpointValues[1]))
+            .map(checkpointValues -> NumberUtils.toLong(checkpointValues[1]));
+    }
+
+    private void saveCheckpoint(String purgeName, OffsetDateTime cutoff, long lastPurgedId) {
+        String checkpointValue = cutoff.toInstant().toEpochMilli() + CHECKPOINT_SEPARATOR + lastPurgedId;
+        settingsKeyAccessor.saveSettingsKey(createCheckpointKey(purgeName), checkpointValue);
+    }
+
+    private String createCheckpointKey(String purgeName) {
+        return String.format(CHECKPOINT_KEY_FORMAT, purgeName);
+    }
+
+}
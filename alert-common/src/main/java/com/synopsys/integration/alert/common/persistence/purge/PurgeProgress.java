@@ -0,0 +1,57 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.purge;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+
+public class PurgeProgress extends AlertSerializableModel {
+    private static final long serialVersionUID = -2409958717931286390L;
+    private final String purgeName;
+    private final PurgeStatus status;
+    private final long deletedCount;
+    @Nullable
+    private final Long checkpoint;
+    private final OffsetDateTime lastUpdated;
+
+    public PurgeProgress(String purgeName, PurgeStatus status, long deletedCount, @Nullable Long checkpoint, OffsetDateTime lastUpdated) {
+        this.purgeName = purgeName;
+        this.status = status;
+        this.deletedCount = deletedCount;
+        this.checkpoint = checkpoint;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public String getPurgeName() {
+        return purgeName;
+    }
+
+    public PurgeStatus getStatus() {
+        return status;
+    }
+
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * @return The last id that has been purged up to, for purges by id range.
+     */
+    public Optional<Long> getCheckpoint() {
+        return Optional.ofNullable(checkpoint);
+    }
+
+    public OffsetDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+}
@@ -0,0 +1,27 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.purge;
+
+public enum PurgeStatus {
+    RUNNING("Running"),
+    PAUSED("Paused while notifications are processed"),
+    STOPPED("Stopped"),
+    FAILED("Failed"),
+    COMPLETE("Complete");
+
+    private final String displayName;
+
+    PurgeStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.synopsys.integration.alert.common.persistence.diagnostic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+class DiagnosticCountersTest {
+    private static final Long PROVIDER_CONFIG_ID = 1L;
+    private static final String VULNERABILITY = "VULNERABILITY";
+
+    @Test
+    void recordNotificationsTest() {
+        DiagnosticCounters diagnosticCounters = new DiagnosticCounters();
+        diagnosticCounters.recordNotificationsSaved(List.of(createNotification(VULNERABILITY), createNotification(VULNERABILITY), createNotification("POLICY_OVERRIDE")));
+        diagnosticCounters.recordNotificationsProcessed(2);
+
+        assertEquals(3L, diagnosticCounters.getNotificationCount());
+        assertEquals(2L, diagnosticCounters.getProcessedNotificationCount());
+        assertEquals(1L, diagnosticCounters.getUnprocessedNotificationCount());
+        assertEquals(2L, diagnosticCounters.getNotificationCount(PROVIDER_CONFIG_ID, VULNERABILITY));
+        assertEquals(0L, diagnosticCounters.getNotificationCount(2L, VULNERABILITY));
+
+        diagnosticCounters.recordNotificationsRemoved(5L);
+        assertEquals(0L, diagnosticCounters.getNotificationCount());
+        assertEquals(0L, diagnosticCounters.getProcessedNotificationCount());
+    }
+
+    @Test
+    void recordAuditEntriesTest() {
+        DiagnosticCounters diagnosticCounters = new DiagnosticCounters();
+        diagnosticCounters.recordAuditEntriesCreated(5);
+        diagnosticCounters.recordAuditEntriesCompleted(AuditEntryStatus.SUCCESS, 3);
+        diagnosticCounters.recordAuditEntriesCompleted(AuditEntryStatus.FAILURE, 1);
+
+        assertEquals(1L, diagnosticCounters.getAuditEntryCount(AuditEntryStatus.PENDING));
+        assertEquals(3L, diagnosticCounters.getAuditEntryCount(AuditEntryStatus.SUCCESS));
+        assertEquals(1L, diagnosticCounters.getAuditEntryCount(AuditEntryStatus.FAILURE));
+    }
+
+    @Test
+    void reconcileReplacesDriftedCountsTest() {
+        DiagnosticCounters diagnosticCounters = new DiagnosticCounters();
+        diagnosticCounters.recordNotificationsSaved(List.of(createNotification(VULNERABILITY)));
+        diagnosticCounters.recordAuditEntriesCreated(10);
+
+        DiagnosticCountsSnapshot countsBeforeQuery = diagnosticCounters.snapshot();
+        diagnosticCounters.reconcileNotifications(countsBeforeQuery, Map.of(PROVIDER_CONFIG_ID, Map.of(VULNERABILITY, 7L)), 4L);
+        diagnosticCounters.reconcileAuditEntries(countsBeforeQuery, Map.of(AuditEntryStatus.SUCCESS.name(), 2L), "00:00:01.000");
+
+        assertEquals(7L, diagnosticCounters.getNotificationCount());
+        assertEquals(4L, diagnosticCounters.getProcessedNotificationCount());
+        assertEquals(7L, diagnosticCounters.getNotificationCount(PROVIDER_CONFIG_ID, VULNERABILITY));
+        assertEquals(0L, diagnosticCounters.getAuditEntryCount(AuditEntryStatus.PENDING));
+        assertEquals(2L, diagnosticCounters.getAuditEntryCount(AuditEntryStatus.SUCCESS));
+        assertEquals("00:00:01.000", diagnosticCounters.getAverageAuditEntryCompletionTime().orElse(null));
+        assertTrue(diagnosticCounters.getLastReconciled().isPresent());
+    }
+
+    @Test
+    void reconcileKeepsCountsRecordedDuringQueryTest() {
+        DiagnosticCounters diagnosticCounters = new DiagnosticCounters();
+        diagnosticCounters.recordNotificationsSaved(List.of(createNotification(VULNERABILITY)));
+        diagnosticCounters.recordAuditEntriesCreated(10);
+
+        DiagnosticCountsSnapshot countsBeforeQuery = diagnosticCounters.snapshot();
+        diagnosticCounters.recordNotificationsSaved(List.of(createNotification(VULNERABILITY), createNotification(VULNERABILITY)));
+        diagnosticCounters.recordNotificationsProcessed(1);
+        diagnosticCounters.recordAuditEntriesCreated(3);
+
+        diagnosticCounters.reconcileNotifications(countsBeforeQuery, Map.of(PROVIDER_CONFIG_ID, Map.of(VULNERABILITY, 7L)), 4L);
+        diagnosticCounters.reconcileAuditEntries(countsBeforeQuery, Map.of(AuditEntryStatus.PENDING.name(), 5L), null);
+
+        assertEquals(9L, diagnosticCounters.getNotificationCount());
+        assertEquals(5L, diagnosticCounters.getProcessedNotificationCount());
+        assertEquals(9L, diagnosticCounters.getNotificationCount(PROVIDER_CONFIG_ID, VULNERABILITY));
+        assertEquals(8L, diagnosticCounters.getAuditEntryCount(AuditEntryStatus.PENDING));
+    }
+
+    private AlertNotificationModel createNotification(String notificationType) {
+        return new AlertNotificationModel(
+            null,
+            PROVIDER_CONFIG_ID,
+            "provider",
+            "providerConfigName",
+            notificationType,
+            "{}",
+            DateUtils.createCurrentDateTimestamp(),
+            DateUtils.createCurrentDateTimestamp(),
+            false,
+            "contentId"
+        );
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.synopsys.integration.alert.common.persistence.purge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.SettingsKeyAccessor;
+import com.synopsys.integration.alert.common.persistence.model.PurgeIdRange;
+import com.synopsys.integration.alert.common.persistence.model.SettingsKeyModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+class PurgeEngineTest {
+    private static final String PURGE_NAME = "test";
+    private static final String CHECKPOINT_KEY = "purge.checkpoint.test";
+
+    private final OffsetDateTime cutoff = DateUtils.createCurrentDateTimestamp().minusDays(1L);
+
+    @Test
+    void purgeByIdRangeInChunksTest() {
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        SettingsKeyAccessor settingsKeyAccessor = Mockito.mock(SettingsKeyAccessor.class);
+        PurgeEngine purgeEngine = new PurgeEngine(notificationAccessor, settingsKeyAccessor, 4, 0L, 100, 1L);
+
+        List<String> deletedChunks = new ArrayList<>();
+        PurgeProgress purgeProgress = purgeEngine.purgeByIdRange(PURGE_NAME, cutoff, new PurgeIdRange(1L, 10L), (firstId, lastId) -> {
+            deletedChunks.add(firstId + "-" + lastId);
+            return (int) (lastId - firstId + 1);
+        });
+
+        assertEquals(List.of("1-4", "5-8", "9-10"), deletedChunks);
+        assertEquals(PurgeStatus.COMPLETE, purgeProgress.getStatus());
+        assertEquals(10L, purgeProgress.getDeletedCount());
+        assertEquals(Optional.of(10L), purgeProgress.getCheckpoint());
+        Mockito.verify(settingsKeyAccessor, Mockito.times(3)).saveSettingsKey(Mockito.eq(CHECKPOINT_KEY), Mockito.anyString());
+        Mockito.verify(settingsKeyAccessor).deleteSettingsKeyByKey(CHECKPOINT_KEY);
+        assertEquals(4, purgeEngine.createTaskMetaDataProperties(PURGE_NAME, "Test").size());
+    }
+
+    @Test
+    void purgeByIdRangeResumesFromCheckpointTest() {
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        SettingsKeyAccessor settingsKeyAccessor = Mockito.mock(SettingsKeyAccessor.class);
+        String checkpoint = cutoff.toInstant().toEpochMilli() + ":6";
+        Mockito.when(settingsKeyAccessor.getSettingsKeyByKey(CHECKPOINT_KEY)).thenReturn(Optional.of(new SettingsKeyModel(1L, CHECKPOINT_KEY, checkpoint)));
+        PurgeEngine purgeEngine = new PurgeEngine(notificationAccessor, settingsKeyAccessor, 4, 0L, 100, 1L);
+
+        List<Long> chunkFirstIds = new ArrayList<>();
+        purgeEngine.purgeByIdRange(PURGE_NAME, cutoff, new PurgeIdRange(1L, 10L), (firstId, lastId) -> {
+            chunkFirstIds.add(firstId);
+            return 0;
+        });
+        assertEquals(List.of(7L), chunkFirstIds);
+
+        // A checkpoint of an earlier run does not apply to a different cutoff
+        chunkFirstIds.clear();
+        purgeEngine.purgeByIdRange(PURGE_NAME, cutoff.plusDays(1L), new PurgeIdRange(1L, 10L), (firstId, lastId) -> {
+            chunkFirstIds.add(firstId);
+            return 0;
+        });
+        assertEquals(List.of(1L, 5L, 9L), chunkFirstIds);
+    }
+
+    @Test
+    void purgePausesWhileNotificationsBackedUpTest() {
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.hasMoreUnprocessedNotificationsThan(100)).thenReturn(true, true, false);
+        PurgeEngine purgeEngine = new PurgeEngine(notificationAccessor, Mockito.mock(SettingsKeyAccessor.class), 10, 0L, 100, 1L);
+
+        PurgeProgress purgeProgress = purgeEngine.purgeInBatches(PURGE_NAME, maxRows -> 3);
+
+        assertEquals(PurgeStatus.COMPLETE, purgeProgress.getStatus());
+        assertEquals(3L, purgeProgress.getDeletedCount());
+        Mockito.verify(notificationAccessor, Mockito.times(3)).hasMoreUnprocessedNotificationsThan(100);
+    }
+
+    @Test
+    void purgeInBatchesUntilShortBatchTest() {
+        PurgeEngine purgeEngine = new PurgeEngine(Mockito.mock(NotificationAccessor.class), Mockito.mock(SettingsKeyAccessor.class), 5, 0L, 100, 1L);
+        List<Integer> remainingRows = new ArrayList<>(List.of(12));
+
+        PurgeProgress purgeProgress = purgeEngine.purgeInBatches(PURGE_NAME, maxRows -> {
+            int deletedRows = Math.min(maxRows, remainingRows.get(0));
+            remainingRows.set(0, remainingRows.get(0) - deletedRows);
+            return deletedRows;
+        });
+
+        assertEquals(12L, purgeProgress.getDeletedCount());
+        assertEquals(0, remainingRows.get(0));
+    }
+
+    @Test
+    void failedChunkKeepsCheckpointTest() {
+        SettingsKeyAccessor settingsKeyAccessor = Mockito.mock(SettingsKeyAccessor.class);
+        PurgeEngine purgeEngine = new PurgeEngine(Mockito.mock(NotificationAccessor.class), settingsKeyAccessor, 4, 0L, 100, 1L);
+
+        assertThrows(IllegalStateException.class, () -> purgeEngine.purgeByIdRange(PURGE_NAME, cutoff, new PurgeIdRange(1L, 10L), (firstId, lastId) -> {
+            if (firstId > 1L) {
+                throw new IllegalStateException("Lock timeout");
+            }
+            return 4;
+        }));
+
+        PurgeProgress purgeProgress = purgeEngine.getProgress(PURGE_NAME).orElseThrow();
+        assertEquals(PurgeStatus.FAILED, purgeProgress.getStatus());
+        assertEquals(Optional.of(4L), purgeProgress.getCheckpoint());
+        Mockito.verify(settingsKeyAccessor).saveSettingsKey(CHECKPOINT_KEY, cutoff.toInstant().toEpochMilli() + ":4");
+        Mockito.verify(settingsKeyAccessor, Mockito.never()).deleteSettingsKeyByKey(Mockito.anyString());
+    }
+
+}
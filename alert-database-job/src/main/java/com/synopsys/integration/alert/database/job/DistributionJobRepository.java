@@ -26,6 +26,8 @@ public interface DistributionJobRepository extends JpaRepository<DistributionJob
 
     List<DistributionJobEntity> findByDistributionFrequency(String distributionFrequency);
 
+    List<DistributionJobEntity> findByEnabledTrue();
+
     Page<DistributionJobEntity> findByChannelDescriptorNameIn(Collection<String> channelDescriptorName, Pageable pageable);
 
     @Query("SELECT jobEntity FROM DistributionJobEntity jobEntity"
@@ -76,48 +78,4 @@ public interface DistributionJobRepository extends JpaRepository<DistributionJob
         Pageable pageable
     );
 
-    @Query(value =
-        "SELECT new com.synopsys.integration.alert.database.job.FilteredDistributionJob(jobEntity.jobId, notification.id, blackDuckDetails.filterByProject, blackDuckDetails.projectNamePattern, blackDuckDetails.projectVersionNamePattern)  FROM DistributionJobEntity jobEntity "
-            + "    LEFT JOIN jobEntity.blackDuckJobDetails blackDuckDetails ON jobEntity.jobId = blackDuckDetails.jobId "
-            + "    LEFT JOIN blackDuckDetails.blackDuckJobNotificationTypes notificationTypes ON jobEntity.jobId = notificationTypes.jobId "
-            + "    LEFT JOIN blackDuckDetails.blackDuckJobPolicyFilters policyFilters ON jobEntity.jobId = policyFilters.jobId "
-            + "    LEFT JOIN blackDuckDetails.blackDuckJobVulnerabilitySeverityFilters vulnerabilitySeverityFilters ON jobEntity.jobId = vulnerabilitySeverityFilters.jobId "
-            + "    LEFT JOIN blackDuckDetails.blackDuckJobProjects projects ON jobEntity.jobId = projects.jobId "
-            + "    LEFT JOIN NotificationEntity notification ON blackDuckDetails.globalConfigId = notification.providerConfigId "
-            + "    WHERE jobEntity.enabled = true"
-            + "    AND blackDuckDetails.globalConfigId = :blackDuckConfigId"
-            + "    AND notification.providerConfigId = :blackDuckConfigId "
-            + "    AND notification.id = :notificationId "
-            + "    AND notificationTypes.notificationType IN (notification.notificationType)"
-            + "    AND jobEntity.distributionFrequency IN (:frequencies)"
-            + "    AND (blackDuckDetails.filterByProject = false OR blackDuckDetails.projectNamePattern IS NOT NULL OR blackDuckDetails.projectVersionNamePattern IS NOT NULL OR projects.projectName IN (:projectNames))"
-            + "    AND ("
-            + "          ("
-            + "            (:#{NULL EQ #vulnerabilitySeverities} = TRUE)"
-            + "            OR vulnerabilitySeverityFilters.severityName IS NULL"
-            + "            OR vulnerabilitySeverityFilters.severityName IN (:vulnerabilitySeverities)"
-            + "          ) AND ("
-            + "            (:#{NULL EQ #policyNames} = TRUE)"
-            + "            OR policyFilters.policyName IS NULL"
-            + "            OR policyFilters.policyName IN (:policyNames)"
-            + "          )"
-            + "    )"
-            + " GROUP BY jobEntity.jobId, notification.id, blackDuckDetails.projectNamePattern, blackDuckDetails.projectVersionNamePattern, blackDuckDetails.filterByProject"
-            + " ORDER BY jobEntity.createdAt ASC"
-    )
-    Page<FilteredDistributionJob> findAndSortMatchingEnabledJobsByFilteredNotification(
-        @Param("notificationId") Long notificationId,
-        @Param("blackDuckConfigId") Long blackDuckConfigId,
-        @Param("frequencies") Collection<String> frequencies,
-        @Param("projectNames") Set<String> projectNames,
-        @Param("policyNames") Set<String> policyNames,
-        @Param("vulnerabilitySeverities") Set<String> vulnerabilitySeverities,
-        Pageable pageable
-    );
-
-    @Query(value =
-        "SELECT COUNT(projects.jobId) FROM BlackDuckJobProjectEntity projects WHERE projects.jobId = :jobId AND projects.projectName IN (:projectNames)"
-    )
-    int countConfiguredProjectsForJob(@Param("jobId") UUID jobId, @Param("projectNames") Set<String> projectNames);
-
 }
@@ -0,0 +1,64 @@
+/*
+ * alert-database-job
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job.api;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+@Component
+public class DefaultDistributionPayloadAccessor implements DistributionPayloadAccessor {
+    private static final String INSERT_PAYLOAD_SQL = "INSERT INTO alert.distribution_payloads (id, job_execution_id, payload, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_PAYLOAD_SQL = "SELECT payload FROM alert.distribution_payloads WHERE id = ?";
+    private static final String DELETE_PAYLOAD_SQL = "DELETE FROM alert.distribution_payloads WHERE id = ?";
+    private static final String DELETE_PAYLOADS_CREATED_BEFORE_SQL = "DELETE FROM alert.distribution_payloads WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public DefaultDistributionPayloadAccessor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public UUID savePayload(UUID jobExecutionId, String payload) {
+        UUID payloadId = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_PAYLOAD_SQL, payloadId, jobExecutionId, payload, DateUtils.createCurrentDateTimestamp());
+        return payloadId;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getPayload(UUID payloadId) {
+        List<String> payloads = jdbcTemplate.queryForList(SELECT_PAYLOAD_SQL, String.class, payloadId);
+        return payloads.stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void deletePayload(UUID payloadId) {
+        jdbcTemplate.update(DELETE_PAYLOAD_SQL, payloadId);
+    }
+
+    @Override
+    @Transactional
+    public int deletePayloadsCreatedBefore(OffsetDateTime date) {
+        return jdbcTemplate.update(DELETE_PAYLOADS_CREATED_BEFORE_SQL, date);
+    }
+
+}
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +27,16 @@ import com.synopsys.integration.alert.database.job.JobToNotificationRelationRepo
 
 @Component
 public class DefaultJobNotificationMappingAccessor implements JobNotificationMappingAccessor {
-    private JobToNotificationRelationRepository jobToNotificationRelationRepository;
+    // Duplicate mappings are ignored so that a page can be re-mapped safely if processing is retried
+    private static final String INSERT_MAPPING_SQL = "INSERT INTO alert.job_notification_relation (correlation_id, job_id, notification_id) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JobToNotificationRelationRepository jobToNotificationRelationRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
-    public DefaultJobNotificationMappingAccessor(JobToNotificationRelationRepository jobToNotificationRelationRepository) {
+    public DefaultJobNotificationMappingAccessor(JobToNotificationRelationRepository jobToNotificationRelationRepository, JdbcTemplate jdbcTemplate) {
         this.jobToNotificationRelationRepository = jobToNotificationRelationRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -64,10 +70,14 @@ public class DefaultJobNotificationMappingAccessor implements JobNotificationMap
     @Override
     @Transactional
     public void addJobMappings(List<JobToNotificationMappingModel> jobMappings) {
-        List<JobToNotificationRelation> entities = jobMappings.stream()
-            .map(this::convertToEntity)
+        if (jobMappings.isEmpty()) {
+            return;
+        }
+        // A single JDBC batch avoids the per-row select that JPA performs when saving entities with assigned ids
+        List<Object[]> batchArguments = jobMappings.stream()
+            .map(mapping -> new Object[] { mapping.getCorrelationId(), mapping.getJobId(), mapping.getNotificationId() })
             .collect(Collectors.toList());
-        jobToNotificationRelationRepository.saveAllAndFlush(entities);
+        jdbcTemplate.batchUpdate(INSERT_MAPPING_SQL, batchArguments);
     }
 
     @Override
@@ -88,10 +98,6 @@ public class DefaultJobNotificationMappingAccessor implements JobNotificationMap
         return jobToNotificationRelationRepository.countAllByCorrelationId(correlationId);
     }
 
-    private JobToNotificationRelation convertToEntity(JobToNotificationMappingModel model) {
-        return new JobToNotificationRelation(model.getCorrelationId(), model.getJobId(), model.getNotificationId());
-    }
-
     private JobToNotificationMappingModel convertToModel(JobToNotificationRelation relation) {
         return new JobToNotificationMappingModel(relation.getCorrelationId(), relation.getJobId(), relation.getNotificationId());
     }
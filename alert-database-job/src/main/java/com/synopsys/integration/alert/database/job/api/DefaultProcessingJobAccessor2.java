@@ -7,14 +7,9 @@
  */
 package com.synopsys.integration.alert.database.job.api;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,16 +18,18 @@ import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistr
 import com.synopsys.integration.alert.common.persistence.model.job.SimpleFilteredDistributionJobResponseModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.database.job.DistributionJobRepository;
-import com.synopsys.integration.alert.database.job.FilteredDistributionJob;
+import com.synopsys.integration.alert.database.job.matching.JobMatchingIndex;
 
 @Component
 public class DefaultProcessingJobAccessor2 implements ProcessingJobAccessor2 {
 
     private final DistributionJobRepository distributionJobRepository;
+    private final JobMatchingIndex jobMatchingIndex;
 
     @Autowired
-    public DefaultProcessingJobAccessor2(DistributionJobRepository distributionJobRepository) {
+    public DefaultProcessingJobAccessor2(DistributionJobRepository distributionJobRepository, JobMatchingIndex jobMatchingIndex) {
         this.distributionJobRepository = distributionJobRepository;
+        this.jobMatchingIndex = jobMatchingIndex;
     }
 
     @Override
@@ -42,42 +39,14 @@ public class DefaultProcessingJobAccessor2 implements ProcessingJobAccessor2 {
         int pageNumber,
         int pageLimit
     ) {
-        List<String> frequencyTypes = filteredDistributionJobRequestModel.getFrequencyTypes()
-            .stream()
-            .map(Enum::name)
-            .collect(Collectors.toList());
-
-        Set<String> projectNames = filteredDistributionJobRequestModel.getProjectName();
-
-        // If no policies and/or vulnerabilitySeverities exist the repository query expects a null to be passed
-        Set<String> policyNames = filteredDistributionJobRequestModel.getPolicyNames().isEmpty() ? null : filteredDistributionJobRequestModel.getPolicyNames();
-        Set<String> vulnerabilitySeverities = filteredDistributionJobRequestModel.getVulnerabilitySeverities().isEmpty() ?
-            null :
-            filteredDistributionJobRequestModel.getVulnerabilitySeverities();
-
-        PageRequest pageRequest = PageRequest.of(pageNumber, pageLimit);
-        Page<FilteredDistributionJob> pageOfDistributionJobEntities = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            filteredDistributionJobRequestModel.getNotificationId().orElse(null),
-            filteredDistributionJobRequestModel.getProviderConfigId(),
-            frequencyTypes,
-            projectNames,
-            policyNames,
-            vulnerabilitySeverities,
-            pageRequest
-        );
-        List<SimpleFilteredDistributionJobResponseModel> distributionJobResponseModels = new ArrayList<>(pageOfDistributionJobEntities.getNumberOfElements());
-        for (FilteredDistributionJob filteredJob : pageOfDistributionJobEntities.getContent()) {
-            int projectCount = distributionJobRepository.countConfiguredProjectsForJob(filteredJob.getJobId(), projectNames);
-            distributionJobResponseModels.add(new SimpleFilteredDistributionJobResponseModel(
-                filteredJob.getNotificationId(),
-                filteredJob.getJobId(),
-                filteredJob.getFilterByProject(),
-                filteredJob.getProjectNamePattern(),
-                filteredJob.getProjectVersionNamePattern(),
-                projectCount
-            ));
+        if (!jobMatchingIndex.isLoaded()) {
+            jobMatchingIndex.loadIfNecessary(distributionJobRepository::findByEnabledTrue);
         }
-        return new AlertPagedModel<>(pageOfDistributionJobEntities.getTotalPages(), pageNumber, pageLimit, distributionJobResponseModels);
 
+        List<SimpleFilteredDistributionJobResponseModel> matchingJobs = jobMatchingIndex.findMatchingJobs(filteredDistributionJobRequestModel);
+        int totalPages = (matchingJobs.size() + pageLimit - 1) / pageLimit;
+        int fromIndex = Math.min(pageNumber * pageLimit, matchingJobs.size());
+        int toIndex = Math.min(fromIndex + pageLimit, matchingJobs.size());
+        return new AlertPagedModel<>(totalPages, pageNumber, pageLimit, matchingJobs.subList(fromIndex, toIndex));
     }
 }
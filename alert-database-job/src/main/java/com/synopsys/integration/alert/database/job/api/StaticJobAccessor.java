@@ -53,6 +53,7 @@ import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetails
 import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsEntity;
 import com.synopsys.integration.alert.database.job.jira.cloud.DefaultJiraCloudJobDetailsAccessor;
 import com.synopsys.integration.alert.database.job.jira.cloud.JiraCloudJobDetailsEntity;
+import com.synopsys.integration.alert.database.job.matching.JobMatchingIndex;
 import com.synopsys.integration.alert.database.job.msteams.DefaultMSTeamsJobDetailsAccessor;
 import com.synopsys.integration.alert.database.job.msteams.MSTeamsJobDetailsEntity;
 import com.synopsys.integration.alert.database.job.slack.DefaultSlackJobDetailsAccessor;
@@ -66,6 +67,7 @@ public class StaticJobAccessor implements JobAccessor {
     private final DefaultJiraCloudJobDetailsAccessor jiraCloudJobDetailsAccessor;
     private final DefaultMSTeamsJobDetailsAccessor msTeamsJobDetailsAccessor;
     private final DefaultSlackJobDetailsAccessor slackJobDetailsAccessor;
+    private final JobMatchingIndex jobMatchingIndex;
 
     // Temporary until all three tiers of the application have been updated to new Job models
     // BlackDuck is currently the only provider, so this is safe in the short-term while we transition to new models
@@ -81,6 +83,7 @@ public class StaticJobAccessor implements JobAccessor {
         DefaultJiraCloudJobDetailsAccessor jiraCloudJobDetailsAccessor,
         DefaultMSTeamsJobDetailsAccessor msTeamsJobDetailsAccessor,
         DefaultSlackJobDetailsAccessor slackJobDetailsAccessor,
+        JobMatchingIndex jobMatchingIndex,
         ProviderKey blackDuckProviderKey,
         List<JobDetailsAccessor2<? extends DistributionJobDetailsModel>> jobDetailsAccessorList
     ) {
@@ -90,6 +93,7 @@ public class StaticJobAccessor implements JobAccessor {
         this.jiraCloudJobDetailsAccessor = jiraCloudJobDetailsAccessor;
         this.msTeamsJobDetailsAccessor = msTeamsJobDetailsAccessor;
         this.slackJobDetailsAccessor = slackJobDetailsAccessor;
+        this.jobMatchingIndex = jobMatchingIndex;
         this.blackDuckProviderKey = blackDuckProviderKey;
         this.jobDetailsAccessorMap = DataStructureUtils.mapToValues(jobDetailsAccessorList, JobDetailsAccessor2::getDescriptorKey);
     }
@@ -181,6 +185,7 @@ public class StaticJobAccessor implements JobAccessor {
     @Transactional
     public void deleteJob(UUID jobId) {
         distributionJobRepository.deleteById(jobId);
+        jobMatchingIndex.removeJob(jobId);
     }
 
     private DistributionJobModel convertToDistributionJobModelFromEntity(DistributionJobEntity distributionJobEntity) {
@@ -214,6 +219,7 @@ public class StaticJobAccessor implements JobAccessor {
 
         BlackDuckJobDetailsEntity savedBlackDuckJobDetails = blackDuckJobDetailsAccessor.saveBlackDuckJobDetails(savedJobId, requestModel);
         savedJobEntity.setBlackDuckJobDetails(savedBlackDuckJobDetails);
+        jobMatchingIndex.putJob(savedJobEntity);
 
         DistributionJobDetailsModel distributionJobDetails = requestModel.getDistributionJobDetails();
         if (distributionJobDetails.isA(ChannelKeys.AZURE_BOARDS)) {
@@ -0,0 +1,210 @@
+/*
+ * alert-database-job
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job.matching;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.common.persistence.model.job.SimpleFilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsEntity;
+import com.synopsys.integration.alert.database.job.blackduck.notification.BlackDuckJobNotificationTypeEntity;
+import com.synopsys.integration.alert.database.job.blackduck.policy.BlackDuckJobPolicyFilterEntity;
+import com.synopsys.integration.alert.database.job.blackduck.projects.BlackDuckJobProjectEntity;
+import com.synopsys.integration.alert.database.job.blackduck.vulnerability.BlackDuckJobVulnerabilitySeverityFilterEntity;
+
+/**
+ * An immutable, pre-compiled view of the filter configuration of a single enabled job.
+ */
+final class IndexedDistributionJob {
+    private final UUID jobId;
+    private final OffsetDateTime createdAt;
+    private final Long providerConfigId;
+    private final String frequency;
+    private final Set<String> notificationTypes;
+    private final boolean filterByProject;
+    private final String projectNamePattern;
+    private final String projectVersionNamePattern;
+    private final Pattern compiledProjectNamePattern;
+    private final Pattern compiledProjectVersionNamePattern;
+    private final boolean invalidPattern;
+    private final Set<String> projectNames;
+    private final Set<String> policyNames;
+    private final Set<String> vulnerabilitySeverityNames;
+
+    public static IndexedDistributionJob fromEntity(DistributionJobEntity jobEntity) {
+        BlackDuckJobDetailsEntity blackDuckJobDetails = jobEntity.getBlackDuckJobDetails();
+        return new IndexedDistributionJob(
+            jobEntity.getJobId(),
+            jobEntity.getCreatedAt(),
+            blackDuckJobDetails.getGlobalConfigId(),
+            jobEntity.getDistributionFrequency(),
+            extractValues(blackDuckJobDetails.getBlackDuckJobNotificationTypes(), BlackDuckJobNotificationTypeEntity::getNotificationType),
+            BooleanUtils.toBoolean(blackDuckJobDetails.getFilterByProject()),
+            blackDuckJobDetails.getProjectNamePattern(),
+            blackDuckJobDetails.getProjectVersionNamePattern(),
+            extractValues(blackDuckJobDetails.getBlackDuckJobProjects(), BlackDuckJobProjectEntity::getProjectName),
+            extractValues(blackDuckJobDetails.getBlackDuckJobPolicyFilters(), BlackDuckJobPolicyFilterEntity::getPolicyName),
+            extractValues(blackDuckJobDetails.getBlackDuckJobVulnerabilitySeverityFilters(), BlackDuckJobVulnerabilitySeverityFilterEntity::getSeverityName)
+        );
+    }
+
+    private static <T> Set<String> extractValues(@Nullable List<T> entities, Function<T, String> valueExtractor) {
+        if (null == entities) {
+            return Set.of();
+        }
+        return entities
+            .stream()
+            .map(valueExtractor)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private IndexedDistributionJob(
+        UUID jobId,
+        OffsetDateTime createdAt,
+        Long providerConfigId,
+        String frequency,
+        Set<String> notificationTypes,
+        boolean filterByProject,
+        @Nullable String projectNamePattern,
+        @Nullable String projectVersionNamePattern,
+        Set<String> projectNames,
+        Set<String> policyNames,
+        Set<String> vulnerabilitySeverityNames
+    ) {
+        this.jobId = jobId;
+        this.createdAt = createdAt;
+        this.providerConfigId = providerConfigId;
+        this.frequency = frequency;
+        this.notificationTypes = notificationTypes;
+        this.filterByProject = filterByProject;
+        this.projectNamePattern = projectNamePattern;
+        this.projectVersionNamePattern = projectVersionNamePattern;
+        this.projectNames = projectNames;
+        this.policyNames = policyNames;
+        this.vulnerabilitySeverityNames = vulnerabilitySeverityNames;
+
+        Pattern compiledNamePattern = null;
+        Pattern compiledVersionNamePattern = null;
+        boolean patternCompilationFailed = false;
+        try {
+            compiledNamePattern = compileIfNotBlank(projectNamePattern);
+            compiledVersionNamePattern = compileIfNotBlank(projectVersionNamePattern);
+        } catch (PatternSyntaxException e) {
+            patternCompilationFailed = true;
+        }
+        this.compiledProjectNamePattern = compiledNamePattern;
+        this.compiledProjectVersionNamePattern = compiledVersionNamePattern;
+        this.invalidPattern = patternCompilationFailed;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Set<JobMatchingKey> createMatchingKeys() {
+        return notificationTypes
+            .stream()
+            .map(notificationType -> new JobMatchingKey(providerConfigId, notificationType, frequency))
+            .collect(Collectors.toSet());
+    }
+
+    public boolean hasInvalidPattern() {
+        return invalidPattern;
+    }
+
+    /**
+     * Evaluates the non-key portion of the job filter against a single notification.
+     * @return a response model if the notification applies to this job, otherwise empty.
+     */
+    public Optional<SimpleFilteredDistributionJobResponseModel> match(
+        @Nullable Long notificationId,
+        Set<String> notificationProjectNames,
+        String projectName,
+        String projectVersionName,
+        Set<String> notificationPolicyNames,
+        Set<String> notificationSeverities
+    ) {
+        if (invalidPattern) {
+            return Optional.empty();
+        }
+
+        boolean projectsConfigured = !Collections.disjoint(projectNames, notificationProjectNames);
+        if (filterByProject && null == projectNamePattern && null == projectVersionNamePattern && !projectsConfigured) {
+            return Optional.empty();
+        }
+
+        if (isExcludedByFilter(vulnerabilitySeverityNames, notificationSeverities) || isExcludedByFilter(policyNames, notificationPolicyNames)) {
+            return Optional.empty();
+        }
+
+        if (!doesProjectApply(projectsConfigured, projectName, projectVersionName)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new SimpleFilteredDistributionJobResponseModel(
+            notificationId,
+            jobId,
+            filterByProject,
+            projectNamePattern,
+            projectVersionNamePattern,
+            projectsConfigured
+        ));
+    }
+
+    // Mirrors JobNotificationFilterUtils.doesProjectApplyToJob, but with the patterns compiled once per job rather than once per notification.
+    private boolean doesProjectApply(boolean projectsConfigured, String projectName, String projectVersionName) {
+        if (!filterByProject) {
+            return true;
+        }
+
+        boolean matchingProjectNamePattern = null != compiledProjectNamePattern && compiledProjectNamePattern.matcher(projectName).matches();
+        if (null != compiledProjectVersionNamePattern) {
+            boolean selectedProjectsOrNamePatternMatches = projectsConfigured || matchingProjectNamePattern;
+            if (!selectedProjectsOrNamePatternMatches && null != compiledProjectNamePattern) {
+                return false;
+            }
+            return compiledProjectVersionNamePattern.matcher(projectVersionName).matches();
+        }
+        return matchingProjectNamePattern || projectsConfigured;
+    }
+
+    private static boolean isExcludedByFilter(Set<String> jobFilterValues, Collection<String> notificationValues) {
+        // Mirrors the repository query: an empty notification value set or an empty job filter matches everything
+        if (notificationValues.isEmpty() || jobFilterValues.isEmpty()) {
+            return false;
+        }
+        return Collections.disjoint(jobFilterValues, notificationValues);
+    }
+
+    @Nullable
+    private static Pattern compileIfNotBlank(@Nullable String pattern) {
+        if (StringUtils.isBlank(pattern)) {
+            return null;
+        }
+        return Pattern.compile(pattern);
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * alert-database-job
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job.matching;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
+import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
+import com.synopsys.integration.alert.common.persistence.model.job.SimpleFilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+
+/**
+ * An in-memory index of enabled jobs used to match notifications to jobs without querying the database.
+ * Jobs are bucketed by provider configuration, notification type, and frequency. Project name and version patterns are compiled once per job.
+ * <br/>
+ * The index is loaded lazily on first use and patched when jobs are saved or deleted through the JobAccessor.
+ * Updates are applied after the surrounding transaction commits, and readers always see a consistent, immutable snapshot.
+ */
+@Component
+public class JobMatchingIndex {
+    private static final Comparator<IndexedDistributionJob> JOB_ORDER = Comparator.comparing(IndexedDistributionJob::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private volatile Snapshot snapshot;
+
+    public boolean isLoaded() {
+        return null != snapshot;
+    }
+
+    /**
+     * Replaces the contents of the index if it has not been loaded yet.
+     * @param enabledJobsSupplier Supplies every enabled job. Only invoked if the index has not yet been loaded.
+     */
+    public synchronized void loadIfNecessary(Supplier<Collection<DistributionJobEntity>> enabledJobsSupplier) {
+        if (null == snapshot) {
+            rebuild(enabledJobsSupplier.get());
+        }
+    }
+
+    public synchronized void rebuild(Collection<DistributionJobEntity> enabledJobs) {
+        Map<UUID, IndexedDistributionJob> jobsById = new HashMap<>();
+        for (DistributionJobEntity jobEntity : enabledJobs) {
+            indexJob(jobEntity).ifPresent(indexedJob -> jobsById.put(indexedJob.getJobId(), indexedJob));
+        }
+        snapshot = new Snapshot(jobsById);
+        logger.debug("Rebuilt the job matching index with {} enabled jobs", jobsById.size());
+    }
+
+    /**
+     * Clears the index so that the next lookup reloads it from the database.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Adds, replaces, or removes (if disabled) a saved job once the current transaction commits.
+     */
+    public void putJob(DistributionJobEntity jobEntity) {
+        UUID jobId = jobEntity.getJobId();
+        Optional<IndexedDistributionJob> indexedJob = indexJob(jobEntity);
+        runAfterCommit(() -> applyUpdate(jobId, indexedJob.orElse(null)));
+    }
+
+    /**
+     * Removes a deleted job once the current transaction commits.
+     */
+    public void removeJob(UUID jobId) {
+        runAfterCommit(() -> applyUpdate(jobId, null));
+    }
+
+    /**
+     * @return the jobs that apply to the notification described by the request, ordered by job creation date.
+     */
+    public List<SimpleFilteredDistributionJobResponseModel> findMatchingJobs(FilteredDistributionJobRequestModel requestModel) {
+        Snapshot currentSnapshot = snapshot;
+        if (null == currentSnapshot) {
+            return List.of();
+        }
+
+        Set<String> projectNames = requestModel.getProjectName();
+        String projectName = projectNames.stream().findFirst().orElse(StringUtils.EMPTY);
+        String projectVersionName = requestModel.getProjectVersionNames().stream().findFirst().orElse(StringUtils.EMPTY);
+        Long notificationId = requestModel.getNotificationId().orElse(null);
+
+        List<IndexedDistributionJob> candidates = new ArrayList<>();
+        for (String notificationType : requestModel.getNotificationTypes()) {
+            for (FrequencyType frequencyType : requestModel.getFrequencyTypes()) {
+                JobMatchingKey key = new JobMatchingKey(requestModel.getProviderConfigId(), notificationType, frequencyType.name());
+                candidates.addAll(currentSnapshot.getJobs(key));
+            }
+        }
+        candidates.sort(JOB_ORDER);
+
+        Map<UUID, SimpleFilteredDistributionJobResponseModel> matchingJobs = new LinkedHashMap<>();
+        for (IndexedDistributionJob candidate : candidates) {
+            if (matchingJobs.containsKey(candidate.getJobId())) {
+                continue;
+            }
+            candidate.match(
+                notificationId,
+                projectNames,
+                projectName,
+                projectVersionName,
+                requestModel.getPolicyNames(),
+                requestModel.getVulnerabilitySeverities()
+            ).ifPresent(response -> matchingJobs.put(response.getJobId(), response));
+        }
+        return new ArrayList<>(matchingJobs.values());
+    }
+
+    private Optional<IndexedDistributionJob> indexJob(DistributionJobEntity jobEntity) {
+        if (!BooleanUtils.toBoolean(jobEntity.getEnabled()) || null == jobEntity.getBlackDuckJobDetails()) {
+            return Optional.empty();
+        }
+        IndexedDistributionJob indexedJob = IndexedDistributionJob.fromEntity(jobEntity);
+        if (indexedJob.hasInvalidPattern()) {
+            logger.warn("The job '{}' has an invalid project name or project version name pattern. No notifications will be mapped to it.", jobEntity.getName());
+        }
+        return Optional.of(indexedJob);
+    }
+
+    private synchronized void applyUpdate(UUID jobId, IndexedDistributionJob indexedJob) {
+        if (null == snapshot) {
+            // The job will be picked up when the index is first loaded
+            return;
+        }
+        Map<UUID, IndexedDistributionJob> jobsById = new HashMap<>(snapshot.jobsById);
+        if (null == indexedJob) {
+            jobsById.remove(jobId);
+        } else {
+            jobsById.put(jobId, indexedJob);
+        }
+        snapshot = new Snapshot(jobsById);
+    }
+
+    private void runAfterCommit(Runnable indexUpdate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexUpdate.run();
+                }
+            });
+        } else {
+            indexUpdate.run();
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<UUID, IndexedDistributionJob> jobsById;
+        private final Map<JobMatchingKey, List<IndexedDistributionJob>> jobsByKey;
+
+        private Snapshot(Map<UUID, IndexedDistributionJob> jobsById) {
+            this.jobsById = Map.copyOf(jobsById);
+
+            Map<JobMatchingKey, List<IndexedDistributionJob>> mutableJobsByKey = new HashMap<>();
+            for (IndexedDistributionJob indexedJob : jobsById.values()) {
+                for (JobMatchingKey key : indexedJob.createMatchingKeys()) {
+                    mutableJobsByKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(indexedJob);
+                }
+            }
+            mutableJobsByKey.values().forEach(jobs -> jobs.sort(JOB_ORDER));
+            this.jobsByKey = mutableJobsByKey;
+        }
+
+        private List<IndexedDistributionJob> getJobs(JobMatchingKey key) {
+            return jobsByKey.getOrDefault(key, List.of());
+        }
+    }
+
+}
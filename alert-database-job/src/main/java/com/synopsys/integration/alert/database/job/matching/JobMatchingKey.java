@@ -0,0 +1,45 @@
+/*
+ * alert-database-job
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job.matching;
+
+import java.util.Objects;
+
+/**
+ * The exact-match portion of a job filter: provider configuration, notification type, and distribution frequency.
+ */
+final class JobMatchingKey {
+    private final Long providerConfigId;
+    private final String notificationType;
+    private final String frequency;
+
+    JobMatchingKey(Long providerConfigId, String notificationType, String frequency) {
+        this.providerConfigId = providerConfigId;
+        this.notificationType = notificationType;
+        this.frequency = frequency;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JobMatchingKey)) {
+            return false;
+        }
+        JobMatchingKey that = (JobMatchingKey) obj;
+        return Objects.equals(providerConfigId, that.providerConfigId)
+            && Objects.equals(notificationType, that.notificationType)
+            && Objects.equals(frequency, that.frequency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(providerConfigId, notificationType, frequency);
+    }
+
+}
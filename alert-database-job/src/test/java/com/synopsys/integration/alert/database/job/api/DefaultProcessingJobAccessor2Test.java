@@ -0,0 +1,104 @@
+package com.synopsys.integration.alert.database.job.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
+import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
+import com.synopsys.integration.alert.common.persistence.model.job.SimpleFilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
+import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+import com.synopsys.integration.alert.database.job.DistributionJobRepository;
+import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsEntity;
+import com.synopsys.integration.alert.database.job.blackduck.notification.BlackDuckJobNotificationTypeEntity;
+import com.synopsys.integration.alert.database.job.blackduck.projects.BlackDuckJobProjectEntity;
+import com.synopsys.integration.alert.database.job.matching.JobMatchingIndex;
+import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
+
+class DefaultProcessingJobAccessor2Test {
+    private static final Long PROVIDER_CONFIG_ID = 1L;
+    private static final String PROJECT_NAME = "project-1";
+
+    @Test
+    void pagesOfMatchingJobsTest() {
+        List<DistributionJobEntity> jobs = createProjectJobs(5);
+        DistributionJobRepository distributionJobRepository = createRepository(jobs);
+        DefaultProcessingJobAccessor2 processingJobAccessor = new DefaultProcessingJobAccessor2(distributionJobRepository, new JobMatchingIndex());
+
+        AlertPagedModel<SimpleFilteredDistributionJobResponseModel> firstPage = processingJobAccessor.getMatchingEnabledJobsForNotifications(createRequest(), 0, 2);
+        AlertPagedModel<SimpleFilteredDistributionJobResponseModel> lastPage = processingJobAccessor.getMatchingEnabledJobsForNotifications(createRequest(), 2, 2);
+
+        assertEquals(3, firstPage.getTotalPages());
+        assertEquals(2, firstPage.getModels().size());
+        assertEquals(1, lastPage.getModels().size());
+        assertTrue(firstPage.getModels().get(0).hasProjectsConfigured());
+    }
+
+    @Test
+    void databaseQueriesIndependentOfMatchedJobsTest() {
+        for (int numberOfJobs : List.of(1, 10, 1000)) {
+            DistributionJobRepository distributionJobRepository = createRepository(createProjectJobs(numberOfJobs));
+            DefaultProcessingJobAccessor2 processingJobAccessor = new DefaultProcessingJobAccessor2(distributionJobRepository, new JobMatchingIndex());
+
+            for (int notification = 0; notification < 10; notification++) {
+                AlertPagedModel<SimpleFilteredDistributionJobResponseModel> matchingJobs = processingJobAccessor.getMatchingEnabledJobsForNotifications(createRequest(), 0, numberOfJobs);
+                assertEquals(numberOfJobs, matchingJobs.getModels().size());
+            }
+
+            // The enabled jobs are loaded once, there are no per-job queries for the configured projects
+            Mockito.verify(distributionJobRepository, Mockito.times(1)).findByEnabledTrue();
+            Mockito.verifyNoMoreInteractions(distributionJobRepository);
+        }
+    }
+
+    private DistributionJobRepository createRepository(List<DistributionJobEntity> enabledJobs) {
+        DistributionJobRepository distributionJobRepository = Mockito.mock(DistributionJobRepository.class);
+        Mockito.when(distributionJobRepository.findByEnabledTrue()).thenReturn(enabledJobs);
+        return distributionJobRepository;
+    }
+
+    private FilteredDistributionJobRequestModel createRequest() {
+        FilteredDistributionJobRequestModel requestModel = new FilteredDistributionJobRequestModel(PROVIDER_CONFIG_ID, 1L, List.of(FrequencyType.REAL_TIME));
+        requestModel.addNotificationType(NotificationType.PROJECT.name());
+        requestModel.addProjectName(PROJECT_NAME);
+        return requestModel;
+    }
+
+    private List<DistributionJobEntity> createProjectJobs(int numberOfJobs) {
+        List<DistributionJobEntity> jobs = new ArrayList<>(numberOfJobs);
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        for (int index = 0; index < numberOfJobs; index++) {
+            UUID jobId = UUID.randomUUID();
+            DistributionJobEntity jobEntity = new DistributionJobEntity(
+                jobId,
+                "job-" + jobId,
+                true,
+                FrequencyType.REAL_TIME.name(),
+                ProcessingType.DEFAULT.name(),
+                ChannelKeys.SLACK.getUniversalKey(),
+                null,
+                createdAt.plusSeconds(index),
+                null
+            );
+            BlackDuckJobDetailsEntity blackDuckJobDetails = new BlackDuckJobDetailsEntity(jobId, PROVIDER_CONFIG_ID, true, null, null);
+            blackDuckJobDetails.setBlackDuckJobNotificationTypes(List.of(new BlackDuckJobNotificationTypeEntity(jobId, NotificationType.PROJECT.name())));
+            blackDuckJobDetails.setBlackDuckJobProjects(List.of(new BlackDuckJobProjectEntity(jobId, PROJECT_NAME, "href")));
+            blackDuckJobDetails.setBlackDuckJobPolicyFilters(List.of());
+            blackDuckJobDetails.setBlackDuckJobVulnerabilitySeverityFilters(List.of());
+            jobEntity.setBlackDuckJobDetails(blackDuckJobDetails);
+            jobs.add(jobEntity);
+        }
+        return jobs;
+    }
+
+}
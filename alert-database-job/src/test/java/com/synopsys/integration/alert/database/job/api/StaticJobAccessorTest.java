@@ -44,6 +44,7 @@ import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetails
 import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsEntity;
 import com.synopsys.integration.alert.database.job.jira.cloud.DefaultJiraCloudJobDetailsAccessor;
 import com.synopsys.integration.alert.database.job.jira.cloud.JiraCloudJobDetailsEntity;
+import com.synopsys.integration.alert.database.job.matching.JobMatchingIndex;
 import com.synopsys.integration.alert.database.job.msteams.DefaultMSTeamsJobDetailsAccessor;
 import com.synopsys.integration.alert.database.job.msteams.MSTeamsJobDetailsEntity;
 import com.synopsys.integration.alert.database.job.slack.DefaultSlackJobDetailsAccessor;
@@ -88,6 +89,7 @@ class StaticJobAccessorTest {
             jiraCloudJobDetailsAccessor,
             msTeamsJobDetailsAccessor,
             slackJobDetailsAccessor,
+            new JobMatchingIndex(),
             new BlackDuckProviderKey(),
             List.of(emailJobDetailsAccessor)
         );
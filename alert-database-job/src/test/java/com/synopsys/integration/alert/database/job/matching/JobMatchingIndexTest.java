@@ -0,0 +1,204 @@
+package com.synopsys.integration.alert.database.job.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
+import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
+import com.synopsys.integration.alert.common.persistence.model.job.SimpleFilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsEntity;
+import com.synopsys.integration.alert.database.job.blackduck.notification.BlackDuckJobNotificationTypeEntity;
+import com.synopsys.integration.alert.database.job.blackduck.policy.BlackDuckJobPolicyFilterEntity;
+import com.synopsys.integration.alert.database.job.blackduck.projects.BlackDuckJobProjectEntity;
+import com.synopsys.integration.alert.database.job.blackduck.vulnerability.BlackDuckJobVulnerabilitySeverityFilterEntity;
+import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
+
+class JobMatchingIndexTest {
+    private static final Long PROVIDER_CONFIG_ID = 1L;
+    private static final String PROJECT_NAME = "project-1";
+    private static final String PROJECT_VERSION_NAME = "version-1";
+
+    @Test
+    void notLoadedTest() {
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        assertFalse(jobMatchingIndex.isLoaded());
+        assertTrue(jobMatchingIndex.findMatchingJobs(createRequest(NotificationType.PROJECT, FrequencyType.REAL_TIME)).isEmpty());
+    }
+
+    @Test
+    void matchByKeyTest() {
+        DistributionJobEntity matchingJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, false, null, null);
+        DistributionJobEntity wrongFrequencyJob = createJob(FrequencyType.DAILY, NotificationType.PROJECT, false, null, null);
+        DistributionJobEntity wrongTypeJob = createJob(FrequencyType.REAL_TIME, NotificationType.VULNERABILITY, false, null, null);
+        DistributionJobEntity disabledJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, false, null, null);
+        disabledJob.setEnabled(false);
+
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.rebuild(List.of(matchingJob, wrongFrequencyJob, wrongTypeJob, disabledJob));
+
+        List<UUID> matchingJobIds = findMatchingJobIds(jobMatchingIndex, createRequest(NotificationType.PROJECT, FrequencyType.REAL_TIME));
+        assertEquals(List.of(matchingJob.getJobId()), matchingJobIds);
+    }
+
+    @Test
+    void orderedByCreationDateTest() {
+        DistributionJobEntity newerJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, false, null, null);
+        DistributionJobEntity olderJob = createJob(FrequencyType.DAILY, NotificationType.PROJECT, false, null, null);
+        olderJob.setCreatedAt(newerJob.getCreatedAt().minusDays(1));
+
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.rebuild(List.of(newerJob, olderJob));
+
+        FilteredDistributionJobRequestModel requestModel = new FilteredDistributionJobRequestModel(PROVIDER_CONFIG_ID, 1L, List.of(FrequencyType.REAL_TIME, FrequencyType.DAILY));
+        requestModel.addNotificationType(NotificationType.PROJECT.name());
+        List<UUID> matchingJobIds = findMatchingJobIds(jobMatchingIndex, requestModel);
+        assertEquals(List.of(olderJob.getJobId(), newerJob.getJobId()), matchingJobIds);
+    }
+
+    @Test
+    void matchBySelectedProjectTest() {
+        DistributionJobEntity selectedProjectJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, true, null, null);
+        selectedProjectJob.getBlackDuckJobDetails().setBlackDuckJobProjects(List.of(new BlackDuckJobProjectEntity(selectedProjectJob.getJobId(), PROJECT_NAME, "href")));
+        DistributionJobEntity otherProjectJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, true, null, null);
+        otherProjectJob.getBlackDuckJobDetails().setBlackDuckJobProjects(List.of(new BlackDuckJobProjectEntity(otherProjectJob.getJobId(), "other-project", "href")));
+
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.rebuild(List.of(selectedProjectJob, otherProjectJob));
+
+        List<SimpleFilteredDistributionJobResponseModel> matchingJobs = jobMatchingIndex.findMatchingJobs(createRequest(NotificationType.PROJECT, FrequencyType.REAL_TIME));
+        assertEquals(1, matchingJobs.size());
+        assertEquals(selectedProjectJob.getJobId(), matchingJobs.get(0).getJobId());
+        assertTrue(matchingJobs.get(0).hasProjectsConfigured());
+    }
+
+    @Test
+    void matchByProjectPatternsTest() {
+        DistributionJobEntity namePatternJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, true, "^project-\\d$", null);
+        DistributionJobEntity versionPatternJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, true, null, "^version-\\d$");
+        DistributionJobEntity nonMatchingPatternJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, true, "^other-.*$", null);
+        DistributionJobEntity invalidPatternJob = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, true, "[", null);
+
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.rebuild(List.of(namePatternJob, versionPatternJob, nonMatchingPatternJob, invalidPatternJob));
+
+        List<UUID> matchingJobIds = findMatchingJobIds(jobMatchingIndex, createRequest(NotificationType.PROJECT, FrequencyType.REAL_TIME));
+        assertEquals(2, matchingJobIds.size());
+        assertTrue(matchingJobIds.contains(namePatternJob.getJobId()));
+        assertTrue(matchingJobIds.contains(versionPatternJob.getJobId()));
+    }
+
+    @Test
+    void matchByPolicyAndSeverityTest() {
+        DistributionJobEntity policyJob = createJob(FrequencyType.REAL_TIME, NotificationType.RULE_VIOLATION, false, null, null);
+        policyJob.getBlackDuckJobDetails().setBlackDuckJobPolicyFilters(List.of(new BlackDuckJobPolicyFilterEntity(policyJob.getJobId(), "policy-1")));
+        DistributionJobEntity otherPolicyJob = createJob(FrequencyType.REAL_TIME, NotificationType.RULE_VIOLATION, false, null, null);
+        otherPolicyJob.getBlackDuckJobDetails().setBlackDuckJobPolicyFilters(List.of(new BlackDuckJobPolicyFilterEntity(otherPolicyJob.getJobId(), "policy-2")));
+        DistributionJobEntity severityJob = createJob(FrequencyType.REAL_TIME, NotificationType.VULNERABILITY, false, null, null);
+        severityJob.getBlackDuckJobDetails()
+            .setBlackDuckJobVulnerabilitySeverityFilters(List.of(new BlackDuckJobVulnerabilitySeverityFilterEntity(severityJob.getJobId(), "HIGH")));
+
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.rebuild(List.of(policyJob, otherPolicyJob, severityJob));
+
+        FilteredDistributionJobRequestModel policyRequest = createRequest(NotificationType.RULE_VIOLATION, FrequencyType.REAL_TIME);
+        policyRequest.addPolicyName("policy-1");
+        assertEquals(List.of(policyJob.getJobId()), findMatchingJobIds(jobMatchingIndex, policyRequest));
+
+        FilteredDistributionJobRequestModel highSeverityRequest = createRequest(NotificationType.VULNERABILITY, FrequencyType.REAL_TIME);
+        highSeverityRequest.addVulnerabilitySeverities(List.of("HIGH", "LOW"));
+        assertEquals(List.of(severityJob.getJobId()), findMatchingJobIds(jobMatchingIndex, highSeverityRequest));
+
+        FilteredDistributionJobRequestModel lowSeverityRequest = createRequest(NotificationType.VULNERABILITY, FrequencyType.REAL_TIME);
+        lowSeverityRequest.addVulnerabilitySeverities(List.of("LOW"));
+        assertTrue(findMatchingJobIds(jobMatchingIndex, lowSeverityRequest).isEmpty());
+    }
+
+    @Test
+    void putAndRemoveJobTest() {
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.rebuild(List.of());
+        FilteredDistributionJobRequestModel requestModel = createRequest(NotificationType.PROJECT, FrequencyType.REAL_TIME);
+
+        DistributionJobEntity job = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, false, null, null);
+        jobMatchingIndex.putJob(job);
+        assertEquals(List.of(job.getJobId()), findMatchingJobIds(jobMatchingIndex, requestModel));
+
+        job.setEnabled(false);
+        jobMatchingIndex.putJob(job);
+        assertTrue(findMatchingJobIds(jobMatchingIndex, requestModel).isEmpty());
+
+        job.setEnabled(true);
+        jobMatchingIndex.putJob(job);
+        jobMatchingIndex.removeJob(job.getJobId());
+        assertTrue(findMatchingJobIds(jobMatchingIndex, requestModel).isEmpty());
+    }
+
+    @Test
+    void loadIfNecessaryTest() {
+        DistributionJobEntity job = createJob(FrequencyType.REAL_TIME, NotificationType.PROJECT, false, null, null);
+        JobMatchingIndex jobMatchingIndex = new JobMatchingIndex();
+        jobMatchingIndex.loadIfNecessary(() -> List.of(job));
+        assertTrue(jobMatchingIndex.isLoaded());
+
+        jobMatchingIndex.loadIfNecessary(List::of);
+        assertEquals(List.of(job.getJobId()), findMatchingJobIds(jobMatchingIndex, createRequest(NotificationType.PROJECT, FrequencyType.REAL_TIME)));
+
+        jobMatchingIndex.invalidate();
+        assertFalse(jobMatchingIndex.isLoaded());
+    }
+
+    private List<UUID> findMatchingJobIds(JobMatchingIndex jobMatchingIndex, FilteredDistributionJobRequestModel requestModel) {
+        return jobMatchingIndex.findMatchingJobs(requestModel)
+            .stream()
+            .map(SimpleFilteredDistributionJobResponseModel::getJobId)
+            .collect(Collectors.toList());
+    }
+
+    private FilteredDistributionJobRequestModel createRequest(NotificationType notificationType, FrequencyType frequencyType) {
+        FilteredDistributionJobRequestModel requestModel = new FilteredDistributionJobRequestModel(PROVIDER_CONFIG_ID, 1L, List.of(frequencyType));
+        requestModel.addNotificationType(notificationType.name());
+        requestModel.addProjectName(PROJECT_NAME);
+        requestModel.addProjectVersionName(PROJECT_VERSION_NAME);
+        return requestModel;
+    }
+
+    private DistributionJobEntity createJob(
+        FrequencyType frequencyType,
+        NotificationType notificationType,
+        boolean filterByProject,
+        String projectNamePattern,
+        String projectVersionNamePattern
+    ) {
+        UUID jobId = UUID.randomUUID();
+        DistributionJobEntity jobEntity = new DistributionJobEntity(
+            jobId,
+            "job-" + jobId,
+            true,
+            frequencyType.name(),
+            ProcessingType.DEFAULT.name(),
+            ChannelKeys.SLACK.getUniversalKey(),
+            null,
+            OffsetDateTime.now(),
+            null
+        );
+        BlackDuckJobDetailsEntity blackDuckJobDetails = new BlackDuckJobDetailsEntity(jobId, PROVIDER_CONFIG_ID, filterByProject, projectNamePattern, projectVersionNamePattern);
+        blackDuckJobDetails.setBlackDuckJobNotificationTypes(List.of(new BlackDuckJobNotificationTypeEntity(jobId, notificationType.name())));
+        blackDuckJobDetails.setBlackDuckJobProjects(List.of());
+        blackDuckJobDetails.setBlackDuckJobPolicyFilters(List.of());
+        blackDuckJobDetails.setBlackDuckJobVulnerabilitySeverityFilters(List.of());
+        jobEntity.setBlackDuckJobDetails(blackDuckJobDetails);
+        return jobEntity;
+    }
+
+}
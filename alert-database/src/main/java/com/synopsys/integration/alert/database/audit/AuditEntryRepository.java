@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.audit;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +38,35 @@ public interface AuditEntryRepository extends JpaRepository<AuditEntryEntity, Lo
     )
     Optional<AuditEntryEntity> findMatchingAudit(Long notificationId, UUID commonConfigId);
 
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuditEntryEntity audit"
+        + " SET audit.status = :status, audit.timeLastSent = :timeLastSent, audit.errorMessage = :errorMessage, audit.errorStackTrace = :errorStackTrace"
+        + " WHERE audit.commonConfigId = :jobId"
+        + " AND audit.id IN (SELECT relation.auditEntryId FROM com.synopsys.integration.alert.database.audit.AuditNotificationRelation relation WHERE relation.notificationId IN :notificationIds)"
+    )
+    int bulkUpdateStatusForNotifications(
+        @Param("jobId") UUID jobId,
+        @Param("notificationIds") Collection<Long> notificationIds,
+        @Param("status") String status,
+        @Param("timeLastSent") OffsetDateTime timeLastSent,
+        @Param("errorMessage") String errorMessage,
+        @Param("errorStackTrace") String errorStackTrace
+    );
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuditEntryEntity audit"
+        + " SET audit.status = :status, audit.timeLastSent = :timeLastSent, audit.errorMessage = :errorMessage"
+        + " WHERE audit.commonConfigId = :jobId"
+        + " AND audit.id IN (SELECT relation.auditEntryId FROM com.synopsys.integration.alert.database.audit.AuditNotificationRelation relation WHERE relation.notificationId IN :notificationIds)"
+    )
+    int bulkUpdateStatusForNotificationsRetainingStackTrace(
+        @Param("jobId") UUID jobId,
+        @Param("notificationIds") Collection<Long> notificationIds,
+        @Param("status") String status,
+        @Param("timeLastSent") OffsetDateTime timeLastSent,
+        @Param("errorMessage") String errorMessage
+    );
+
     @Query("DELETE FROM AuditEntryEntity audit"
         + " WHERE audit.id NOT IN (SELECT relation.auditEntryId FROM com.synopsys.integration.alert.database.audit.AuditNotificationRelation relation)"
     )
@@ -45,6 +75,12 @@ public interface AuditEntryRepository extends JpaRepository<AuditEntryEntity, Lo
 
     long countByStatus(String status);
 
+    @Query("SELECT new com.synopsys.integration.alert.database.audit.AuditEntryStatusCountView(audit.status, COUNT(audit))"
+        + " FROM AuditEntryEntity audit"
+        + " GROUP BY audit.status"
+    )
+    List<AuditEntryStatusCountView> countGroupedByStatus();
+
     //TODO: Need to investigate if we can return a Duration object
     @Query(
         value = "SELECT CAST(AVG(audit.time_last_sent - audit.time_created) AS varchar)"
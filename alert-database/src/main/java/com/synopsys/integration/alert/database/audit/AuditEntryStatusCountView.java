@@ -0,0 +1,33 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.audit;
+
+import java.io.Serializable;
+
+public class AuditEntryStatusCountView implements Serializable {
+    private String status;
+    private Long auditEntryCount;
+
+    public AuditEntryStatusCountView() {
+        // For Serialization
+    }
+
+    public AuditEntryStatusCountView(String status, Long auditEntryCount) {
+        this.status = status;
+        this.auditEntryCount = auditEntryCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getAuditEntryCount() {
+        return auditEntryCount;
+    }
+
+}
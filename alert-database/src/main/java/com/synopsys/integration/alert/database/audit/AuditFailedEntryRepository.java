@@ -26,6 +26,8 @@ public interface AuditFailedEntryRepository extends JpaRepository<AuditFailedEnt
 
     List<AuditFailedEntity> findAllByCreatedAtBefore(OffsetDateTime expirationDate);
 
+    List<AuditFailedEntity> findAllByCreatedAtBeforeOrderByCreatedAtAsc(OffsetDateTime expirationDate, Pageable pageable);
+
     boolean existsByNotificationId(Long notificationId);
 
     boolean existsByJobNameAndNotificationId(String jobName, Long notificationId);
@@ -0,0 +1,31 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.audit;
+
+import java.util.Collection;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Keeps alert.notification_audit_summary in step with the notifications and audit entries it summarizes.
+ * Call it in the same transaction as the statements that changed them.
+ */
+public final class NotificationAuditSummaryUtil {
+    private static final String REFRESH_SUMMARY_SQL = "CALL alert.refresh_notification_audit_summary(?)";
+
+    public static void refreshSummaries(JdbcTemplate jdbcTemplate, Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(REFRESH_SUMMARY_SQL, preparedStatement -> preparedStatement.setArray(1, preparedStatement.getConnection().createArrayOf("bigint", notificationIds.toArray())));
+    }
+
+    private NotificationAuditSummaryUtil() {
+        // cannot construct
+    }
+}
@@ -8,14 +8,20 @@
 package com.synopsys.integration.alert.database.job.api;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -24,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
@@ -33,10 +40,13 @@ import com.synopsys.integration.alert.api.provider.ProviderDescriptor;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
+import com.synopsys.integration.alert.common.persistence.model.PurgeIdRange;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
+import com.synopsys.integration.alert.database.audit.NotificationAuditSummaryUtil;
 import com.synopsys.integration.alert.database.notification.NotificationContentRepository;
 import com.synopsys.integration.alert.database.notification.NotificationEntity;
 
@@ -44,38 +54,97 @@ import com.synopsys.integration.alert.database.notification.NotificationEntity;
 public class DefaultNotificationAccessor implements NotificationAccessor {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     public static final String COLUMN_NAME_PROVIDER_CREATION_TIME = "providerCreationTime";
+    // Keeps each insert well below the PostgreSQL limit of 65535 bind parameters per statement
+    private static final int MAX_NOTIFICATIONS_PER_INSERT = 1000;
+    private static final String INSERT_NOTIFICATION_VALUES = "(?::bigint, ?::timestamptz, ?, ?::bigint, ?::timestamptz, ?, ?, ?::boolean, ?)";
+    // The id sequence has INCREMENT 50 and Hibernate hands out its values pooled-lo, so each value reserves the block of 50 ids starting at it
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final String ALLOCATE_ID_BLOCKS_SQL = "SELECT nextval('alert.raw_notification_content_id_seq') FROM generate_series(1, ?)";
+    // content_id cannot be unique across the created_at partitions, so a notification is only written if its content id could be claimed in notification_content_ids
+    private static final String INSERT_NOTIFICATIONS_SQL = "WITH new_notification "
+        + "(id, created_at, provider, provider_config_id, provider_creation_time, notification_type, content, processed, content_id) AS (VALUES %s), "
+        + "claimed_content_id AS ("
+        + "INSERT INTO alert.notification_content_ids (content_id) SELECT new_notification.content_id FROM new_notification "
+        + "ON CONFLICT (content_id) DO NOTHING RETURNING content_id"
+        + ") "
+        + "INSERT INTO alert.raw_notification_content "
+        + "(id, created_at, provider, provider_config_id, provider_creation_time, notification_type, content, processed, content_id) "
+        + "SELECT new_notification.* FROM new_notification "
+        + "JOIN claimed_content_id ON claimed_content_id.content_id = new_notification.content_id "
+        + "RETURNING id, content_id";
+    private static final String SET_PROCESSED_SQL = "UPDATE alert.raw_notification_content SET processed = true WHERE id = ANY(?) AND created_at BETWEEN ? AND ? AND processed = false";
+    private static final String CREATE_PARTITIONS_SQL = "SELECT alert.create_notification_partitions(?)";
+    private static final String EXPIRED_PARTITIONS_SQL = "SELECT partition.relname FROM pg_inherits inheritance"
+        + " JOIN pg_class partition ON partition.oid = inheritance.inhrelid"
+        + " WHERE inheritance.inhparent = 'alert.raw_notification_content'::regclass"
+        + " AND alert.notification_partition_upper_bound(partition.oid) <= ?"
+        + " ORDER BY alert.notification_partition_upper_bound(partition.oid)";
+    private static final String DROP_PARTITION_SQL = "SELECT alert.drop_notification_partition(?)";
+    private static final String PURGE_ID_RANGE_SQL = "SELECT MIN(id) AS first_id, MAX(id) AS last_id FROM alert.raw_notification_content WHERE created_at < ?";
+    private static final String PURGE_CHUNK_AUDIT_ENTRY_IDS_SQL = "SELECT relation.audit_entry_id FROM alert.audit_notification_relation relation"
+        + " JOIN alert.raw_notification_content notification ON notification.id = relation.notification_id"
+        + " WHERE notification.id BETWEEN ? AND ? AND notification.created_at < ?";
+    private static final String PURGE_CHUNK_SQL = "DELETE FROM alert.raw_notification_content WHERE id BETWEEN ? AND ? AND created_at < ?";
+    // Only the audit entries of the purged notifications can have been orphaned by the chunk
+    private static final String PURGE_ORPHANED_AUDIT_ENTRIES_SQL = "DELETE FROM alert.audit_entries audit WHERE audit.id = ANY(?)"
+        + " AND NOT EXISTS (SELECT 1 FROM alert.audit_notification_relation relation WHERE relation.audit_entry_id = audit.id)";
+    private static final String UNPROCESSED_BACKLOG_SQL = "SELECT COUNT(*) FROM (SELECT 1 FROM alert.raw_notification_content WHERE processed = false LIMIT ?) backlog";
+
     private final NotificationContentRepository notificationContentRepository;
     private final AuditEntryRepository auditEntryRepository;
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
+    private final JdbcTemplate jdbcTemplate;
+    private final DiagnosticCounters diagnosticCounters;
 
     @Autowired
     public DefaultNotificationAccessor(
         NotificationContentRepository notificationContentRepository,
         AuditEntryRepository auditEntryRepository,
-        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor,
+        JdbcTemplate jdbcTemplate,
+        DiagnosticCounters diagnosticCounters
     ) {
         this.notificationContentRepository = notificationContentRepository;
         this.auditEntryRepository = auditEntryRepository;
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.diagnosticCounters = diagnosticCounters;
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRED)
     public List<AlertNotificationModel> saveAllNotifications(Collection<AlertNotificationModel> notifications) {
-        List<NotificationEntity> entitiesToSave = new LinkedList<>();
-
+        Map<String, AlertNotificationModel> notificationsByContentId = new LinkedHashMap<>();
         for (AlertNotificationModel model : notifications) {
-            if (notificationContentRepository.existsByContentId(model.getContentId())) {
-                logger.info("Notification already exists for provider: {} contentId: {}", model.getProviderConfigId(), model.getContentId());
-                logger.debug("Content: {}", model.getContent());
+            AlertNotificationModel duplicateModel = notificationsByContentId.putIfAbsent(model.getContentId(), model);
+            if (null != duplicateModel) {
+                logDuplicateNotification(model);
+            }
+        }
+        if (notificationsByContentId.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> writtenIdsByContentId = new HashMap<>();
+        for (List<AlertNotificationModel> partition : ListUtils.partition(new ArrayList<>(notificationsByContentId.values()), MAX_NOTIFICATIONS_PER_INSERT)) {
+            Map<String, Long> writtenPartitionIds = insertIgnoringExistingContentIds(partition);
+            NotificationAuditSummaryUtil.refreshSummaries(jdbcTemplate, writtenPartitionIds.values());
+            writtenIdsByContentId.putAll(writtenPartitionIds);
+        }
+
+        List<AlertNotificationModel> savedNotifications = new ArrayList<>(writtenIdsByContentId.size());
+        Map<Long, String> providerConfigNames = new HashMap<>();
+        for (AlertNotificationModel model : notificationsByContentId.values()) {
+            Long writtenId = writtenIdsByContentId.get(model.getContentId());
+            if (null != writtenId) {
+                String providerConfigName = providerConfigNames.computeIfAbsent(model.getProviderConfigId(), this::retrieveProviderConfigName);
+                savedNotifications.add(toSavedModel(model, writtenId, providerConfigName));
             } else {
-                entitiesToSave.add(fromModel(model));
+                logDuplicateNotification(model);
             }
         }
-        return notificationContentRepository.saveAllAndFlush(entitiesToSave)
-            .stream()
-            .map(this::toModel)
-            .collect(Collectors.toList());
+        diagnosticCounters.recordNotificationsSaved(savedNotifications);
+        return savedNotifications;
     }
 
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
@@ -154,6 +223,54 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         return deletedNotificationsCount;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PurgeIdRange> findIdRangeCreatedBefore(OffsetDateTime date) {
+        List<PurgeIdRange> idRanges = new ArrayList<>(1);
+        jdbcTemplate.query(PURGE_ID_RANGE_SQL, resultSet -> {
+            long lastId = resultSet.getLong("last_id");
+            if (!resultSet.wasNull()) {
+                idRanges.add(new PurgeIdRange(resultSet.getLong("first_id"), lastId));
+            }
+        }, date);
+        return idRanges.stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int deleteNotificationsCreatedBefore(OffsetDateTime date, long firstId, long lastId) {
+        List<Long> auditEntryIds = jdbcTemplate.queryForList(PURGE_CHUNK_AUDIT_ENTRY_IDS_SQL, Long.class, firstId, lastId, date);
+        int deletedNotificationsCount = jdbcTemplate.update(PURGE_CHUNK_SQL, firstId, lastId, date);
+        if (!auditEntryIds.isEmpty()) {
+            jdbcTemplate.update(PURGE_ORPHANED_AUDIT_ENTRIES_SQL, preparedStatement -> preparedStatement.setArray(1, preparedStatement.getConnection().createArrayOf("bigint", auditEntryIds.toArray())));
+        }
+        diagnosticCounters.recordNotificationsRemoved(deletedNotificationsCount);
+        return deletedNotificationsCount;
+    }
+
+    @Override
+    @Transactional
+    public int createNotificationPartitionsThrough(OffsetDateTime date) {
+        Integer createdPartitions = jdbcTemplate.queryForObject(CREATE_PARTITIONS_SQL, Integer.class, date);
+        return null != createdPartitions ? createdPartitions : 0;
+    }
+
+    // Not transactional so that each partition is dropped in its own transaction, holding the lock on the notification table only while one partition is dropped
+    @Override
+    public long dropNotificationPartitionsBefore(OffsetDateTime date) {
+        List<String> expiredPartitionNames = jdbcTemplate.queryForList(EXPIRED_PARTITIONS_SQL, String.class, date);
+        long droppedNotificationsCount = 0L;
+        for (String partitionName : expiredPartitionNames) {
+            Long partitionNotificationsCount = jdbcTemplate.queryForObject(DROP_PARTITION_SQL, Long.class, partitionName);
+            logger.debug("Dropped notification partition {} holding {} notifications", partitionName, partitionNotificationsCount);
+            if (null != partitionNotificationsCount) {
+                droppedNotificationsCount += partitionNotificationsCount;
+            }
+        }
+        diagnosticCounters.recordNotificationsRemoved(droppedNotificationsCount);
+        return droppedNotificationsCount;
+    }
+
     public PageRequest getPageRequestForNotifications(Integer pageNumber, Integer pageSize, @Nullable String sortField, @Nullable String sortOrder) {
         boolean sortQuery = false;
         String sortingField = "createdAt";
@@ -208,7 +325,26 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
             .stream()
             .map(AlertNotificationModel::getId)
             .collect(Collectors.toSet());
-        setNotificationsProcessedById(notificationIds);
+        List<OffsetDateTime> createdAtDates = notifications
+            .stream()
+            .map(AlertNotificationModel::getCreatedAt)
+            .filter(Objects::nonNull)
+            .sorted()
+            .collect(Collectors.toList());
+        if (notificationIds.isEmpty() || createdAtDates.size() != notifications.size()) {
+            setNotificationsProcessedById(notificationIds);
+            return;
+        }
+
+        // Bounding the update by the creation dates limits it to the partitions holding the notifications
+        OffsetDateTime firstCreatedAt = createdAtDates.get(0);
+        OffsetDateTime lastCreatedAt = createdAtDates.get(createdAtDates.size() - 1);
+        int processedCount = jdbcTemplate.update(SET_PROCESSED_SQL, preparedStatement -> {
+            preparedStatement.setArray(1, preparedStatement.getConnection().createArrayOf("bigint", notificationIds.toArray()));
+            preparedStatement.setObject(2, firstCreatedAt);
+            preparedStatement.setObject(3, lastCreatedAt);
+        });
+        diagnosticCounters.recordNotificationsProcessed(processedCount);
     }
 
     @Override
@@ -216,6 +352,7 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
     public void setNotificationsProcessedById(Set<Long> notificationIds) {
         notificationContentRepository.setProcessedByIds(notificationIds);
         notificationContentRepository.flush();
+        diagnosticCounters.recordNotificationsProcessed(notificationIds.size());
     }
 
     @Override
@@ -231,42 +368,88 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         return notificationContentRepository.existsByProviderConfigIdAndProcessedFalse(providerConfigId);
     }
 
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public boolean hasMoreUnprocessedNotificationsThan(int count) {
+        // Stops counting past the given count rather than counting the whole backlog
+        Long backlogCount = jdbcTemplate.queryForObject(UNPROCESSED_BACKLOG_SQL, Long.class, count + 1);
+        return null != backlogCount && backlogCount > count;
+    }
+
     @Override
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public long countNotificationsByProviderAndType(long providerConfigId, String notificationType) {
         return notificationContentRepository.countByProviderConfigIdAndNotificationType(providerConfigId, notificationType);
     }
 
-    private List<AlertNotificationModel> toModels(List<NotificationEntity> notificationEntities) {
-        return notificationEntities
-            .stream()
-            .map(this::toModel)
-            .collect(Collectors.toList());
+    // Notifications whose content id already exists are skipped by the insert, so only the rows actually written are returned
+    private Map<String, Long> insertIgnoringExistingContentIds(List<AlertNotificationModel> models) {
+        String valuesPlaceholders = StringUtils.join(Collections.nCopies(models.size(), INSERT_NOTIFICATION_VALUES), ", ");
+        String insertSql = String.format(INSERT_NOTIFICATIONS_SQL, valuesPlaceholders);
+        List<Long> ids = allocateIds(models.size());
+        List<Object> insertArguments = new ArrayList<>(models.size() * 9);
+        for (int index = 0; index < models.size(); index++) {
+            AlertNotificationModel model = models.get(index);
+            insertArguments.add(ids.get(index));
+            insertArguments.add(model.getCreatedAt());
+            insertArguments.add(model.getProvider());
+            insertArguments.add(model.getProviderConfigId());
+            insertArguments.add(model.getProviderCreationTime());
+            insertArguments.add(model.getNotificationType());
+            insertArguments.add(model.getContent());
+            insertArguments.add(model.getProcessed());
+            insertArguments.add(model.getContentId());
+        }
+
+        Map<String, Long> writtenIdsByContentId = new HashMap<>();
+        jdbcTemplate.query(insertSql, resultSet -> {
+            writtenIdsByContentId.put(resultSet.getString("content_id"), resultSet.getLong("id"));
+        }, insertArguments.toArray());
+        return writtenIdsByContentId;
     }
 
-    private NotificationEntity fromModel(AlertNotificationModel model) {
-        return new NotificationEntity(
-            model.getId(),
-            model.getCreatedAt(),
-            model.getProvider(),
+    private List<Long> allocateIds(int idCount) {
+        int blockCount = (idCount + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> blockStartIds = jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS_SQL, Long.class, blockCount);
+        List<Long> ids = new ArrayList<>(idCount);
+        for (Long blockStartId : blockStartIds) {
+            for (int offset = 0; offset < ID_ALLOCATION_SIZE && ids.size() < idCount; offset++) {
+                ids.add(blockStartId + offset);
+            }
+        }
+        return ids;
+    }
+
+    private void logDuplicateNotification(AlertNotificationModel model) {
+        logger.info("Notification already exists for provider: {} contentId: {}", model.getProviderConfigId(), model.getContentId());
+        logger.debug("Content: {}", model.getContent());
+    }
+
+    private AlertNotificationModel toSavedModel(AlertNotificationModel model, Long id, String providerConfigName) {
+        return new AlertNotificationModel(
+            id,
             model.getProviderConfigId(),
-            model.getProviderCreationTime(),
+            model.getProvider(),
+            providerConfigName,
             model.getNotificationType(),
             model.getContent(),
+            model.getCreatedAt(),
+            model.getProviderCreationTime(),
             model.getProcessed(),
             model.getContentId()
         );
     }
 
+    private List<AlertNotificationModel> toModels(List<NotificationEntity> notificationEntities) {
+        return notificationEntities
+            .stream()
+            .map(this::toModel)
+            .collect(Collectors.toList());
+    }
+
     private AlertNotificationModel toModel(NotificationEntity entity) {
         Long providerConfigId = entity.getProviderConfigId();
-        String providerConfigName = "DELETED CONFIGURATION";
-        if (null != providerConfigId) {
-            providerConfigName = configurationModelConfigurationAccessor.getConfigurationById(providerConfigId)
-                .flatMap(field -> field.getField(ProviderDescriptor.KEY_PROVIDER_CONFIG_NAME))
-                .flatMap(ConfigurationFieldModel::getFieldValue)
-                .orElse(providerConfigName);
-        }
+        String providerConfigName = retrieveProviderConfigName(providerConfigId);
         return new AlertNotificationModel(
             entity.getId(),
             providerConfigId,
@@ -281,4 +464,15 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         );
     }
 
+    private String retrieveProviderConfigName(@Nullable Long providerConfigId) {
+        String providerConfigName = "DELETED CONFIGURATION";
+        if (null != providerConfigId) {
+            providerConfigName = configurationModelConfigurationAccessor.getConfigurationById(providerConfigId)
+                .flatMap(field -> field.getField(ProviderDescriptor.KEY_PROVIDER_CONFIG_NAME))
+                .flatMap(ConfigurationFieldModel::getFieldValue)
+                .orElse(providerConfigName);
+        }
+        return providerConfigName;
+    }
+
 }
@@ -11,40 +11,52 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.util.AuditStackTraceUtil;
 import com.synopsys.integration.alert.common.util.DateUtils;
-import com.synopsys.integration.alert.database.audit.AuditEntryEntity;
 import com.synopsys.integration.alert.database.audit.AuditEntryNotificationView;
 import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
-import com.synopsys.integration.alert.database.audit.AuditNotificationRelation;
-import com.synopsys.integration.alert.database.audit.AuditNotificationRepository;
+import com.synopsys.integration.alert.database.audit.NotificationAuditSummaryUtil;
 
 @Component
 public class DefaultProcessingAuditAccessor implements ProcessingAuditAccessor {
+    // The audit entry sequence increments by 50 (pooled-lo), so each nextval reserves a block of 50 consecutive ids
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final String ALLOCATE_ID_BLOCKS_SQL = "SELECT nextval('alert.audit_entries_id_seq') FROM generate_series(1, ?)";
+    // Pairs each notification with its allocated audit entry id, then inserts the audit entries and their notification relations in a single statement
+    private static final String INSERT_PENDING_AUDIT_ENTRIES_SQL = "WITH new_audit_entries AS ("
+        + " SELECT new_audit_entry.notification_id, new_audit_entry.audit_entry_id"
+        + " FROM unnest(?, ?) AS new_audit_entry(notification_id, audit_entry_id)"
+        + "), inserted_audit_entries AS ("
+        + " INSERT INTO alert.audit_entries (id, common_config_id, time_created, status)"
+        + " SELECT new_audit_entries.audit_entry_id, ?, ?, ? FROM new_audit_entries"
+        + ")"
+        + " INSERT INTO alert.audit_notification_relation (audit_entry_id, notification_id)"
+        + " SELECT new_audit_entries.audit_entry_id, new_audit_entries.notification_id FROM new_audit_entries";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final AuditEntryRepository auditEntryRepository;
-    private final AuditNotificationRepository auditNotificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DiagnosticCounters diagnosticCounters;
 
     @Autowired
-    public DefaultProcessingAuditAccessor(AuditEntryRepository auditEntryRepository, AuditNotificationRepository auditNotificationRepository) {
+    public DefaultProcessingAuditAccessor(AuditEntryRepository auditEntryRepository, JdbcTemplate jdbcTemplate, DiagnosticCounters diagnosticCounters) {
         this.auditEntryRepository = auditEntryRepository;
-        this.auditNotificationRepository = auditNotificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.diagnosticCounters = diagnosticCounters;
     }
 
     @Override
@@ -54,48 +66,46 @@ public class DefaultProcessingAuditAccessor implements ProcessingAuditAccessor {
             return;
         }
 
-        Map<Long, AuditEntryNotificationView> notificationIdToView = auditEntryRepository.findByJobIdAndNotificationIds(jobId, notificationIds)
-                                                                         .stream()
-                                                                         .collect(Collectors.toMap(AuditEntryNotificationView::getNotificationId, Function.identity()));
-
-        Set<AuditNotificationRelation> relationsToUpdate = new HashSet<>();
-        for (Long notificationId : notificationIds) {
-            AuditEntryEntity auditEntryToSave;
-            AuditEntryNotificationView view = notificationIdToView.get(notificationId);
-            if (null != view) {
-                auditEntryToSave = fromView(view);
-            } else {
-                auditEntryToSave = new AuditEntryEntity(jobId, DateUtils.createCurrentDateTimestamp(), null, AuditEntryStatus.PENDING.name(), null, null);
-            }
-
-            AuditEntryEntity savedAuditEntry = auditEntryRepository.save(auditEntryToSave);
-            logger.trace("Created audit entry: {}. For notification: {}", savedAuditEntry.getId(), notificationId);
-
-            AuditNotificationRelation auditNotificationRelation = new AuditNotificationRelation(savedAuditEntry.getId(), notificationId);
-            relationsToUpdate.add(auditNotificationRelation);
+        Set<Long> notificationIdsWithoutAuditEntry = new HashSet<>(notificationIds);
+        auditEntryRepository.findByJobIdAndNotificationIds(jobId, notificationIds)
+            .stream()
+            .map(AuditEntryNotificationView::getNotificationId)
+            .forEach(notificationIdsWithoutAuditEntry::remove);
+        if (notificationIdsWithoutAuditEntry.isEmpty()) {
+            return;
         }
-        auditNotificationRepository.saveAll(relationsToUpdate);
+
+        List<Long> newAuditNotificationIds = new ArrayList<>(notificationIdsWithoutAuditEntry);
+        List<Long> auditEntryIds = allocateIds(newAuditNotificationIds.size());
+        OffsetDateTime timeCreated = DateUtils.createCurrentDateTimestamp();
+        int createdRelations = jdbcTemplate.update(INSERT_PENDING_AUDIT_ENTRIES_SQL, preparedStatement -> {
+            preparedStatement.setArray(1, preparedStatement.getConnection().createArrayOf("bigint", newAuditNotificationIds.toArray()));
+            preparedStatement.setArray(2, preparedStatement.getConnection().createArrayOf("bigint", auditEntryIds.toArray()));
+            preparedStatement.setObject(3, jobId);
+            preparedStatement.setObject(4, timeCreated);
+            preparedStatement.setString(5, AuditEntryStatus.PENDING.name());
+        });
+        NotificationAuditSummaryUtil.refreshSummaries(jdbcTemplate, notificationIdsWithoutAuditEntry);
+        diagnosticCounters.recordAuditEntriesCreated(createdRelations);
+        logger.trace("Created {} audit entries for job: {}", createdRelations, jobId);
     }
 
     @Override
     @Transactional
     public void setAuditEntrySuccess(UUID jobId, Set<Long> notificationIds) {
-        updateAuditEntries(jobId, notificationIds, auditEntry -> {
-            auditEntry.setStatus(AuditEntryStatus.SUCCESS.name());
-            auditEntry.setErrorMessage(null);
-            auditEntry.setErrorStackTrace(null);
-        });
+        setAuditEntrySuccess(jobId, notificationIds, DateUtils.createCurrentDateTimestamp());
     }
 
     @Override
     @Transactional
     public void setAuditEntrySuccess(UUID jobId, Set<Long> notificationIds, OffsetDateTime successTimestamp) {
-        updateAuditEntries(jobId, notificationIds, auditEntry -> {
-            auditEntry.setStatus(AuditEntryStatus.SUCCESS.name());
-            auditEntry.setTimeLastSent(successTimestamp);
-            auditEntry.setErrorMessage(null);
-            auditEntry.setErrorStackTrace(null);
-        });
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        int updatedAuditEntries = auditEntryRepository.bulkUpdateStatusForNotifications(jobId, notificationIds, AuditEntryStatus.SUCCESS.name(), successTimestamp, null, null);
+        NotificationAuditSummaryUtil.refreshSummaries(jdbcTemplate, notificationIds);
+        diagnosticCounters.recordAuditEntriesCompleted(AuditEntryStatus.SUCCESS, updatedAuditEntries);
+        logger.trace("Updated {} audit entries for job: {}", updatedAuditEntries, jobId);
     }
 
     @Override
@@ -112,13 +122,7 @@ public class DefaultProcessingAuditAccessor implements ProcessingAuditAccessor {
     @Override
     @Transactional
     public void setAuditEntryFailure(UUID jobId, Set<Long> notificationIds, String errorMessage, @Nullable String stackTrace) {
-        updateAuditEntries(jobId, notificationIds, auditEntry -> {
-            auditEntry.setStatus(AuditEntryStatus.FAILURE.name());
-            auditEntry.setErrorMessage(errorMessage);
-            if (null != stackTrace) {
-                auditEntry.setErrorStackTrace(stackTrace);
-            }
-        });
+        setAuditEntryFailure(jobId, notificationIds, DateUtils.createCurrentDateTimestamp(), errorMessage, stackTrace);
     }
 
     @Override
@@ -130,38 +134,32 @@ public class DefaultProcessingAuditAccessor implements ProcessingAuditAccessor {
         String errorMessage,
         @Nullable String stackTrace
     ) {
-        updateAuditEntries(jobId, notificationIds, auditEntry -> {
-            auditEntry.setTimeLastSent(failureTimestamp);
-            auditEntry.setStatus(AuditEntryStatus.FAILURE.name());
-            auditEntry.setErrorMessage(errorMessage);
-            if (null != stackTrace) {
-                auditEntry.setErrorStackTrace(stackTrace);
-            }
-        });
-    }
-
-    private void updateAuditEntries(UUID jobId, Set<Long> notificationIds, Consumer<AuditEntryEntity> auditFieldSetter) {
         if (notificationIds.isEmpty()) {
             return;
         }
 
-        List<AuditEntryNotificationView> auditEntryNotificationViews = auditEntryRepository.findByJobIdAndNotificationIds(jobId, notificationIds);
-
-        List<AuditEntryEntity> updatedAuditEntries = new ArrayList<>(auditEntryNotificationViews.size());
-        for (AuditEntryNotificationView view : auditEntryNotificationViews) {
-            AuditEntryEntity auditEntryToSave = fromView(view);
-            auditEntryToSave.setTimeLastSent(DateUtils.createCurrentDateTimestamp());
-            auditFieldSetter.accept(auditEntryToSave);
-            updatedAuditEntries.add(auditEntryToSave);
-            logger.trace("Updated audit entry: {}.", auditEntryToSave.getId());
+        String failureStatus = AuditEntryStatus.FAILURE.name();
+        int updatedAuditEntries;
+        if (null != stackTrace) {
+            updatedAuditEntries = auditEntryRepository.bulkUpdateStatusForNotifications(jobId, notificationIds, failureStatus, failureTimestamp, errorMessage, stackTrace);
+        } else {
+            updatedAuditEntries = auditEntryRepository.bulkUpdateStatusForNotificationsRetainingStackTrace(jobId, notificationIds, failureStatus, failureTimestamp, errorMessage);
         }
-        auditEntryRepository.saveAll(updatedAuditEntries);
+        NotificationAuditSummaryUtil.refreshSummaries(jdbcTemplate, notificationIds);
+        diagnosticCounters.recordAuditEntriesCompleted(AuditEntryStatus.FAILURE, updatedAuditEntries);
+        logger.trace("Updated {} audit entries for job: {}", updatedAuditEntries, jobId);
     }
 
-    private AuditEntryEntity fromView(AuditEntryNotificationView view) {
-        AuditEntryEntity auditEntry = new AuditEntryEntity(view.getJobId(), view.getTimeCreated(), view.getTimeLastSent(), view.getStatus(), view.getErrorMessage(), view.getErrorStackTrace());
-        auditEntry.setId(view.getId());
-        return auditEntry;
+    private List<Long> allocateIds(int idCount) {
+        int blockCount = (idCount + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> blockStartIds = jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS_SQL, Long.class, blockCount);
+        List<Long> ids = new ArrayList<>(idCount);
+        for (Long blockStartId : blockStartIds) {
+            for (int offset = 0; offset < ID_ALLOCATION_SIZE && ids.size() < idCount; offset++) {
+                ids.add(blockStartId + offset);
+            }
+        }
+        return ids;
     }
 
 }
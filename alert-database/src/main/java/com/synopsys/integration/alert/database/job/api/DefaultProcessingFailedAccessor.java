@@ -145,25 +145,15 @@ public class DefaultProcessingFailedAccessor implements ProcessingFailedAccessor
     @Override
     @Transactional
     public void deleteAuditEntriesBefore(OffsetDateTime expirationDate) {
-        List<AuditFailedEntity> auditFailedEntities = auditFailedEntryRepository.findAllByCreatedAtBefore(expirationDate);
-        Set<Long> notificationIds = auditFailedEntities.stream()
-            .map(AuditFailedEntity::getNotificationId)
-            .collect(Collectors.toSet());
-        List<UUID> entryIds = auditFailedEntities.stream()
-            .map(AuditFailedEntity::getId)
-            .collect(Collectors.toList());
-        if (!entryIds.isEmpty()) {
-            auditFailedEntryRepository.deleteAllById(entryIds);
-        }
-
-        Predicate<Long> notificationNoLongExists = notificationId -> !auditFailedEntryRepository.existsByNotificationId(notificationId);
-        List<Long> notificationIdsToRemove = notificationIds.stream()
-            .filter(notificationNoLongExists)
-            .collect(Collectors.toList());
+        deleteAuditEntries(auditFailedEntryRepository.findAllByCreatedAtBefore(expirationDate));
+    }
 
-        if (!notificationIdsToRemove.isEmpty()) {
-            auditFailedNotificationRepository.deleteAllById(notificationIdsToRemove);
-        }
+    @Override
+    @Transactional
+    public int deleteAuditEntriesBefore(OffsetDateTime expirationDate, int maxEntries) {
+        List<AuditFailedEntity> auditFailedEntities = auditFailedEntryRepository.findAllByCreatedAtBeforeOrderByCreatedAtAsc(expirationDate, PageRequest.of(0, maxEntries));
+        deleteAuditEntries(auditFailedEntities);
+        return auditFailedEntities.size();
     }
 
     @Override
@@ -274,4 +264,26 @@ public class DefaultProcessingFailedAccessor implements ProcessingFailedAccessor
         }
         return PageRequest.of(pageNumber, pageSize, Sort.by(sortingOrder));
     }
+
+    private void deleteAuditEntries(List<AuditFailedEntity> auditFailedEntities) {
+        Set<Long> notificationIds = auditFailedEntities.stream()
+            .map(AuditFailedEntity::getNotificationId)
+            .collect(Collectors.toSet());
+        List<UUID> entryIds = auditFailedEntities.stream()
+            .map(AuditFailedEntity::getId)
+            .collect(Collectors.toList());
+        if (!entryIds.isEmpty()) {
+            auditFailedEntryRepository.deleteAllById(entryIds);
+        }
+
+        Predicate<Long> notificationNoLongExists = notificationId -> !auditFailedEntryRepository.existsByNotificationId(notificationId);
+        List<Long> notificationIdsToRemove = notificationIds.stream()
+            .filter(notificationNoLongExists)
+            .collect(Collectors.toList());
+
+        if (!notificationIdsToRemove.isEmpty()) {
+            auditFailedNotificationRepository.deleteAllById(notificationIdsToRemove);
+        }
+    }
+
 }
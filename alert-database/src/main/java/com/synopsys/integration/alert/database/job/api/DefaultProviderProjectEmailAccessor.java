@@ -0,0 +1,110 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job.api;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.synopsys.integration.alert.common.persistence.accessor.ProviderProjectEmailAccessor;
+import com.synopsys.integration.alert.common.persistence.model.ProviderProject;
+import com.synopsys.integration.alert.common.persistence.model.ProviderProjectEmailModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+@Component
+public class DefaultProviderProjectEmailAccessor implements ProviderProjectEmailAccessor {
+    private static final String USER_EMAIL_DELIMITER = "\n";
+    private static final String SELECT_PROJECT_SQL = "SELECT project_href, project_owner_email, user_emails, refreshed_at FROM alert.provider_project_emails WHERE provider_config_id = ? AND project_href = ?";
+    private static final String SELECT_PROVIDER_PROJECTS_SQL = "SELECT project_href, project_owner_email, user_emails, refreshed_at FROM alert.provider_project_emails WHERE provider_config_id = ?";
+    private static final String UPSERT_PROJECT_SQL = "INSERT INTO alert.provider_project_emails (provider_config_id, project_href, project_owner_email, user_emails, refreshed_at) VALUES (?, ?, ?, ?, ?)"
+        + " ON CONFLICT (provider_config_id, project_href) DO UPDATE SET project_owner_email = EXCLUDED.project_owner_email, user_emails = EXCLUDED.user_emails, refreshed_at = EXCLUDED.refreshed_at";
+    private static final String DELETE_PROJECT_SQL = "DELETE FROM alert.provider_project_emails WHERE provider_config_id = ? AND project_href = ?";
+    private static final String MARK_REFRESHED_SQL = "UPDATE alert.provider_project_emails SET refreshed_at = ? WHERE provider_config_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public DefaultProviderProjectEmailAccessor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProviderProjectEmailModel> getProjectEmails(Long providerConfigId, String projectHref) {
+        return jdbcTemplate.query(SELECT_PROJECT_SQL, this::convertToModel, providerConfigId, projectHref)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int synchronizeProjectEmails(Long providerConfigId, Map<ProviderProject, Set<String>> projectToUserEmailAddresses) {
+        Map<String, ProviderProjectEmailModel> storedProjects = new HashMap<>();
+        for (ProviderProjectEmailModel storedProject : jdbcTemplate.query(SELECT_PROVIDER_PROJECTS_SQL, this::convertToModel, providerConfigId)) {
+            storedProjects.put(storedProject.getProjectHref(), storedProject);
+        }
+
+        OffsetDateTime refreshedAt = DateUtils.createCurrentDateTimestamp();
+        List<Object[]> changedProjects = new ArrayList<>();
+        for (Map.Entry<ProviderProject, Set<String>> projectEntry : projectToUserEmailAddresses.entrySet()) {
+            ProviderProject project = projectEntry.getKey();
+            String projectOwnerEmail = StringUtils.trimToNull(project.getProjectOwnerEmail());
+            ProviderProjectEmailModel storedProject = storedProjects.remove(project.getHref());
+            if (null == storedProject
+                || !Objects.equals(projectOwnerEmail, storedProject.getProjectOwnerEmail().orElse(null))
+                || !storedProject.getUserEmailAddresses().equals(projectEntry.getValue())) {
+                changedProjects.add(new Object[] { providerConfigId, project.getHref(), projectOwnerEmail, joinEmailAddresses(projectEntry.getValue()), refreshedAt });
+            }
+        }
+        List<Object[]> removedProjects = new ArrayList<>();
+        for (String removedProjectHref : storedProjects.keySet()) {
+            removedProjects.add(new Object[] { providerConfigId, removedProjectHref });
+        }
+
+        jdbcTemplate.update(MARK_REFRESHED_SQL, refreshedAt, providerConfigId);
+        if (!changedProjects.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_PROJECT_SQL, changedProjects);
+        }
+        if (!removedProjects.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_PROJECT_SQL, removedProjects);
+        }
+        return changedProjects.size() + removedProjects.size();
+    }
+
+    private ProviderProjectEmailModel convertToModel(ResultSet resultSet, int rowNumber) throws SQLException {
+        Set<String> userEmailAddresses = new HashSet<>(Arrays.asList(StringUtils.split(resultSet.getString("user_emails"), USER_EMAIL_DELIMITER)));
+        return new ProviderProjectEmailModel(
+            resultSet.getString("project_href"),
+            resultSet.getString("project_owner_email"),
+            userEmailAddresses,
+            resultSet.getObject("refreshed_at", OffsetDateTime.class)
+        );
+    }
+
+    private String joinEmailAddresses(Set<String> emailAddresses) {
+        // Sorted so that the same addresses are always stored the same way
+        return String.join(USER_EMAIL_DELIMITER, new TreeSet<>(emailAddresses));
+    }
+
+}
@@ -7,26 +7,30 @@
  */
 package com.synopsys.integration.alert.database.job.api;
 
-import java.text.ParseException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,24 +58,46 @@ import com.synopsys.integration.alert.database.audit.AuditNotificationRepository
 
 @Component
 public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
-    private final Logger logger = LoggerFactory.getLogger(DefaultRestApiAuditAccessor.class);
+    private static final String SORT_FIELD_LAST_SENT = "lastSent";
+    private static final String SORT_FIELD_OVERALL_STATUS = "overallStatus";
+    private static final String DEFAULT_SORT_COLUMN = "notification.created_at";
+    private static final Map<String, String> NOTIFICATION_SORT_COLUMNS = Map.of(
+        "createdat", DEFAULT_SORT_COLUMN,
+        "provider", "notification.provider",
+        "providercreationtime", "notification.provider_creation_time",
+        "notificationtype", "notification.notification_type",
+        "content", "notification.content"
+    );
+    // The last sent time, overall status and searchable text of each notification are kept in alert.notification_audit_summary by the audit accessors
+    private static final String AUDIT_SUMMARY_TABLE = " FROM alert.notification_audit_summary audit_summary";
+    private static final String NOTIFICATION_JOIN = " JOIN alert.raw_notification_content notification ON notification.id = audit_summary.notification_id";
+    private static final String SENT_NOTIFICATION_FILTER = "audit_summary.overall_status IS NOT NULL";
+    // Each side of the union is backed by its own trigram index
+    private static final String SEARCH_FILTER = "audit_summary.notification_id IN ("
+        + "SELECT search_summary.notification_id FROM alert.notification_audit_summary search_summary WHERE search_summary.search_text LIKE ?"
+        + " UNION "
+        + "SELECT search_notification.id FROM alert.raw_notification_content search_notification WHERE LOWER(search_notification.content) LIKE ?"
+        + ")";
+
     private final AuditEntryRepository auditEntryRepository;
     private final AuditNotificationRepository auditNotificationRepository;
     private final JobAccessor jobAccessor;
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
     private final DefaultNotificationAccessor notificationAccessor;
     private final ContentConverter contentConverter;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
     public DefaultRestApiAuditAccessor(AuditEntryRepository auditEntryRepository, AuditNotificationRepository auditNotificationRepository, JobAccessor jobAccessor,
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor,
-        DefaultNotificationAccessor notificationAccessor, ContentConverter contentConverter) {
+        DefaultNotificationAccessor notificationAccessor, ContentConverter contentConverter, JdbcTemplate jdbcTemplate) {
         this.auditEntryRepository = auditEntryRepository;
         this.auditNotificationRepository = auditNotificationRepository;
         this.jobAccessor = jobAccessor;
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
         this.notificationAccessor = notificationAccessor;
         this.contentConverter = contentConverter;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -105,20 +131,66 @@ public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
 
     @Override
     @Transactional
-    public AuditEntryPageModel getPageOfAuditEntries(Integer pageNumber, Integer pageSize, String searchTerm, String sortField, String sortOrder, boolean onlyShowSentNotifications,
-        Function<AlertNotificationModel, AuditEntryModel> notificationToAuditEntryConverter) {
-        Page<AlertNotificationModel> auditPage = getPageOfNotifications(sortField, sortOrder, searchTerm, pageNumber, pageSize, onlyShowSentNotifications);
-        List<AuditEntryModel> auditEntries = convertToAuditEntryModelFromNotificationsSorted(auditPage.getContent(), notificationToAuditEntryConverter, sortField, sortOrder);
+    public AuditEntryPageModel getPageOfAuditEntries(Integer pageNumber, Integer pageSize, String searchTerm, String sortField, String sortOrder, boolean onlyShowSentNotifications) {
+        Page<AlertNotificationModel> auditPage;
+        if (isAuditSummarySortField(sortField) || StringUtils.isNotBlank(searchTerm)) {
+            auditPage = getPageOfNotificationsFromAuditSummary(sortField, sortOrder, searchTerm, pageNumber, pageSize, onlyShowSentNotifications);
+        } else {
+            auditPage = getPageOfNotifications(sortField, sortOrder, pageNumber, pageSize, onlyShowSentNotifications);
+        }
+        List<AuditEntryModel> auditEntries = convertToAuditEntryModels(auditPage.getContent());
         return new AuditEntryPageModel(auditPage.getTotalPages(), auditPage.getNumber(), auditEntries.size(), auditEntries);
     }
 
     @Override
     @Transactional
     public AuditEntryModel convertToAuditEntryModelFromNotification(AlertNotificationModel notificationContentEntry) {
-        List<AuditNotificationRelation> relations = auditNotificationRepository.findByNotificationId(notificationContentEntry.getId());
-        List<Long> auditEntryIds = relations.stream().map(AuditNotificationRelation::getAuditEntryId).collect(Collectors.toList());
-        List<AuditEntryEntity> auditEntryEntities = auditEntryRepository.findAllById(auditEntryIds);
+        return convertToAuditEntryModels(List.of(notificationContentEntry)).get(0);
+    }
 
+    private List<AuditEntryModel> convertToAuditEntryModels(List<AlertNotificationModel> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        // Load the audit entries and jobs of the whole page at once rather than per notification
+        List<Long> notificationIds = notifications.stream().map(AlertNotificationModel::getId).collect(Collectors.toList());
+        Map<Long, List<Long>> auditEntryIdsByNotificationId = new HashMap<>();
+        for (AuditNotificationRelation relation : auditNotificationRepository.findAllByNotificationIdIn(notificationIds)) {
+            auditEntryIdsByNotificationId.computeIfAbsent(relation.getNotificationId(), ignored -> new ArrayList<>()).add(relation.getAuditEntryId());
+        }
+        Set<Long> auditEntryIds = auditEntryIdsByNotificationId.values()
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, AuditEntryEntity> auditEntriesById = new HashMap<>();
+        if (!auditEntryIds.isEmpty()) {
+            auditEntryRepository.findAllById(auditEntryIds).forEach(auditEntry -> auditEntriesById.put(auditEntry.getId(), auditEntry));
+        }
+        Set<UUID> jobIds = auditEntriesById.values()
+            .stream()
+            .map(AuditEntryEntity::getCommonConfigId)
+            .collect(Collectors.toSet());
+        Map<UUID, DistributionJobModel> jobsById = new HashMap<>();
+        if (!jobIds.isEmpty()) {
+            jobAccessor.getJobsById(jobIds).forEach(job -> jobsById.put(job.getJobId(), job));
+        }
+
+        Map<Long, String> providerConfigNames = new HashMap<>();
+        List<AuditEntryModel> auditEntryModels = new ArrayList<>(notifications.size());
+        for (AlertNotificationModel notification : notifications) {
+            List<AuditEntryEntity> auditEntryEntities = auditEntryIdsByNotificationId.getOrDefault(notification.getId(), List.of())
+                .stream()
+                .map(auditEntriesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+            auditEntryModels.add(convertToAuditEntryModel(notification, auditEntryEntities, jobsById, providerConfigNames));
+        }
+        return auditEntryModels;
+    }
+
+    private AuditEntryModel convertToAuditEntryModel(AlertNotificationModel notificationContentEntry, List<AuditEntryEntity> auditEntryEntities, Map<UUID, DistributionJobModel> jobsById,
+        Map<Long, String> providerConfigNames) {
         AuditEntryStatus overallStatus = null;
         String timeLastSent = null;
         OffsetDateTime timeLastSentOffsetDateTime = null;
@@ -143,7 +215,7 @@ public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
             String errorMessage = auditEntryEntity.getErrorMessage();
             String errorStackTrace = auditEntryEntity.getErrorStackTrace();
 
-            Optional<DistributionJobModel> distributionJobModel = jobAccessor.getJobById(jobId);
+            Optional<DistributionJobModel> distributionJobModel = Optional.ofNullable(jobsById.get(jobId));
             String distributionConfigName = distributionJobModel.map(DistributionJobModelData::getName).orElse(null);
             String eventType = distributionJobModel.map(DistributionJobModelData::getChannelDescriptorName).orElse(null);
 
@@ -155,7 +227,7 @@ public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
             jobAuditModels.add(new JobAuditModel(id, configId, distributionConfigName, eventType, auditJobStatusModel, errorMessage, errorStackTrace));
         }
         String id = contentConverter.getStringValue(notificationContentEntry.getId());
-        NotificationConfig notificationConfig = populateConfigFromEntity(notificationContentEntry);
+        NotificationConfig notificationConfig = populateConfigFromEntity(notificationContentEntry, providerConfigNames);
 
         String overallStatusDisplayName = null;
         if (null != overallStatus) {
@@ -172,39 +244,6 @@ public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
         return newOverallStatus;
     }
 
-    private List<AuditEntryModel> convertToAuditEntryModelFromNotificationsSorted(List<AlertNotificationModel> notificationContentEntries, Function<AlertNotificationModel, AuditEntryModel> notificationToAuditEntryConverter,
-        String sortField, String sortOrder) {
-        List<AuditEntryModel> auditEntryModels = notificationContentEntries
-                                                     .stream()
-                                                     .map(notificationToAuditEntryConverter)
-                                                     .collect(Collectors.toList());
-        if (StringUtils.isBlank(sortField) || sortField.equalsIgnoreCase("lastSent") || sortField.equalsIgnoreCase("overallStatus")) {
-            // We do this sorting here because lastSent is not a field in the NotificationContent entity and overallStatus is not stored in the database
-            boolean ascendingOrder = false;
-            if (StringUtils.isNotBlank(sortOrder) && Sort.Direction.ASC.name().equalsIgnoreCase(sortOrder)) {
-                ascendingOrder = true;
-            }
-            Comparator<AuditEntryModel> comparator;
-            if (StringUtils.isBlank(sortField) || sortField.equalsIgnoreCase("lastSent")) {
-                Function<AuditEntryModel, OffsetDateTime> function = auditEntryModel -> {
-                    OffsetDateTime date = null;
-                    if (StringUtils.isNotBlank(auditEntryModel.getLastSent())) {
-                        date = parseAuditDateString(auditEntryModel.getLastSent());
-                    }
-                    return date;
-                };
-                comparator = Comparator.comparing(function, Comparator.nullsFirst(Comparator.reverseOrder()));
-            } else {
-                comparator = Comparator.comparing(AuditEntryModel::getOverallStatus, Comparator.nullsLast(String::compareTo));
-            }
-            if (ascendingOrder) {
-                comparator = comparator.reversed();
-            }
-            auditEntryModels.sort(comparator);
-        }
-        return auditEntryModels;
-    }
-
     private AuditJobStatusModel convertToJobStatusModel(AuditEntryEntity auditEntryEntity) {
         String timeCreated = formatAuditDate(auditEntryEntity.getTimeCreated());
         String timeLastSent = formatAuditDate(auditEntryEntity.getTimeLastSent());
@@ -215,24 +254,95 @@ public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
         return new AuditJobStatusModel(auditEntryEntity.getCommonConfigId(), timeCreated, timeLastSent, status);
     }
 
-    private Page<AlertNotificationModel> getPageOfNotifications(String sortField, String sortOrder, String searchTerm, Integer pageNumber, Integer pageSize, boolean onlyShowSentNotifications) {
+    private Page<AlertNotificationModel> getPageOfNotifications(String sortField, String sortOrder, Integer pageNumber, Integer pageSize, boolean onlyShowSentNotifications) {
         PageRequest pageRequest = notificationAccessor.getPageRequestForNotifications(pageNumber, pageSize, sortField, sortOrder);
-        Page<AlertNotificationModel> auditPage;
+        return notificationAccessor.findAll(pageRequest, onlyShowSentNotifications);
+    }
+
+    private boolean isAuditSummarySortField(String sortField) {
+        return SORT_FIELD_LAST_SENT.equalsIgnoreCase(sortField) || SORT_FIELD_OVERALL_STATUS.equalsIgnoreCase(sortField);
+    }
+
+    private Page<AlertNotificationModel> getPageOfNotificationsFromAuditSummary(String sortField, String sortOrder, String searchTerm, Integer pageNumber, Integer pageSize,
+        boolean onlyShowSentNotifications) {
+        List<String> filters = new ArrayList<>();
+        List<Object> filterArguments = new ArrayList<>();
+        if (onlyShowSentNotifications) {
+            filters.add(SENT_NOTIFICATION_FILTER);
+        }
         if (StringUtils.isNotBlank(searchTerm)) {
-            auditPage = notificationAccessor.findAllWithSearch(searchTerm, pageRequest, onlyShowSentNotifications);
+            filters.add(SEARCH_FILTER);
+            String searchPattern = createSearchPattern(searchTerm);
+            filterArguments.add(searchPattern);
+            filterArguments.add(searchPattern);
+        }
+        String whereClause = filters.isEmpty() ? "" : " WHERE " + String.join(" AND ", filters);
+
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize);
+        Long totalNotifications = jdbcTemplate.queryForObject("SELECT COUNT(*)" + AUDIT_SUMMARY_TABLE + whereClause, Long.class, filterArguments.toArray());
+        if (null == totalNotifications || totalNotifications <= pageRequest.getOffset()) {
+            return new PageImpl<>(List.of(), pageRequest, null != totalNotifications ? totalNotifications : 0L);
+        }
+
+        String pageSql = "SELECT audit_summary.notification_id AS id"
+            + AUDIT_SUMMARY_TABLE
+            + NOTIFICATION_JOIN
+            + whereClause
+            + " ORDER BY " + createAuditSummaryOrder(sortField, sortOrder)
+            + " LIMIT ? OFFSET ?";
+        List<Object> pageArguments = new ArrayList<>(filterArguments);
+        pageArguments.add(pageRequest.getPageSize());
+        pageArguments.add(pageRequest.getOffset());
+        List<Long> notificationIds = new ArrayList<>(pageRequest.getPageSize());
+        jdbcTemplate.query(pageSql, resultSet -> {
+            notificationIds.add(resultSet.getLong("id"));
+        }, pageArguments.toArray());
+
+        Map<Long, AlertNotificationModel> notificationsById = notificationAccessor.findByIds(notificationIds)
+            .stream()
+            .collect(Collectors.toMap(AlertNotificationModel::getId, Function.identity()));
+        List<AlertNotificationModel> notifications = notificationIds.stream()
+            .map(notificationsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        return new PageImpl<>(notifications, pageRequest, totalNotifications);
+    }
+
+    private String createAuditSummaryOrder(String sortField, String sortOrder) {
+        boolean ascendingOrder = StringUtils.isNotBlank(sortOrder) && Sort.Direction.ASC.name().equalsIgnoreCase(sortOrder);
+        String sortColumn;
+        String nullOrdering = "";
+        if (isAuditSummarySortField(sortField)) {
+            sortColumn = SORT_FIELD_OVERALL_STATUS.equalsIgnoreCase(sortField) ? "audit_summary.overall_status" : "audit_summary.last_sent";
+            // Notifications that have not been sent yet come first when sorting in descending order
+            nullOrdering = ascendingOrder ? " NULLS LAST" : " NULLS FIRST";
         } else {
-            auditPage = notificationAccessor.findAll(pageRequest, onlyShowSentNotifications);
+            // Match the other audit pages, which show the newest notifications first unless a notification field is sorted by
+            sortColumn = NOTIFICATION_SORT_COLUMNS.get(StringUtils.lowerCase(sortField, Locale.ENGLISH));
+            if (null == sortColumn) {
+                sortColumn = DEFAULT_SORT_COLUMN;
+                ascendingOrder = false;
+            }
         }
-        return auditPage;
+        String sortDirection = ascendingOrder ? "ASC" : "DESC";
+        return String.format("%s %s%s, audit_summary.notification_id %s", sortColumn, sortDirection, nullOrdering, sortDirection);
     }
 
-    private NotificationConfig populateConfigFromEntity(AlertNotificationModel notificationEntity) {
+    private String createSearchPattern(String searchTerm) {
+        String escapedSearchTerm = searchTerm.toLowerCase(Locale.ENGLISH)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escapedSearchTerm + "%";
+    }
+
+    private NotificationConfig populateConfigFromEntity(AlertNotificationModel notificationEntity, Map<Long, String> providerConfigNames) {
         String id = contentConverter.getStringValue(notificationEntity.getId());
         String createdAt = formatAuditDate(notificationEntity.getCreatedAt());
         String providerCreationTime = formatAuditDate(notificationEntity.getProviderCreationTime());
 
         Long providerConfigId = notificationEntity.getProviderConfigId();
-        String providerConfigName = retrieveProviderConfigName(providerConfigId);
+        String providerConfigName = providerConfigNames.computeIfAbsent(providerConfigId, this::retrieveProviderConfigName);
 
         return new NotificationConfig(id, createdAt, notificationEntity.getProvider(), providerConfigId, providerConfigName, providerCreationTime, notificationEntity.getNotificationType(), notificationEntity.getContent());
     }
@@ -246,16 +356,6 @@ public class DefaultRestApiAuditAccessor implements RestApiAuditAccessor {
         return null;
     }
 
-    private OffsetDateTime parseAuditDateString(String dateString) {
-        OffsetDateTime date = null;
-        try {
-            date = DateUtils.parseDate(dateString, DateUtils.AUDIT_DATE_FORMAT);
-        } catch (ParseException e) {
-            logger.error(e.toString());
-        }
-        return date;
-    }
-
     private String retrieveProviderConfigName(Long providerConfigId) {
         return configurationModelConfigurationAccessor.getConfigurationById(providerConfigId)
                    .stream()
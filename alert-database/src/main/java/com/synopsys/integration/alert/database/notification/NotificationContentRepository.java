@@ -91,4 +91,10 @@ public interface NotificationContentRepository extends JpaRepository<Notificatio
     boolean existsByContentId(String contentId);
 
     long countByProviderConfigIdAndNotificationType(long providerConfigId, String notificationType);
+
+    @Query("SELECT new com.synopsys.integration.alert.database.notification.NotificationCountView(entity.providerConfigId, entity.notificationType, entity.processed, COUNT(entity))"
+        + " FROM NotificationEntity entity"
+        + " GROUP BY entity.providerConfigId, entity.notificationType, entity.processed"
+    )
+    List<NotificationCountView> countGroupedByProviderConfigIdAndNotificationTypeAndProcessed();
 }
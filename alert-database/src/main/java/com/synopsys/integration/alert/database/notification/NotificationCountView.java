@@ -0,0 +1,45 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.notification;
+
+import java.io.Serializable;
+
+public class NotificationCountView implements Serializable {
+    private Long providerConfigId;
+    private String notificationType;
+    private Boolean processed;
+    private Long notificationCount;
+
+    public NotificationCountView() {
+        // For Serialization
+    }
+
+    public NotificationCountView(Long providerConfigId, String notificationType, Boolean processed, Long notificationCount) {
+        this.providerConfigId = providerConfigId;
+        this.notificationType = notificationType;
+        this.processed = processed;
+        this.notificationCount = notificationCount;
+    }
+
+    public Long getProviderConfigId() {
+        return providerConfigId;
+    }
+
+    public String getNotificationType() {
+        return notificationType;
+    }
+
+    public Boolean getProcessed() {
+        return processed;
+    }
+
+    public Long getNotificationCount() {
+        return notificationCount;
+    }
+
+}
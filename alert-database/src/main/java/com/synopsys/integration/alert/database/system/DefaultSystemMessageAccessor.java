@@ -107,6 +107,11 @@ public class DefaultSystemMessageAccessor implements SystemMessageAccessor {
         return systemMessageRepository.bulkDeleteCreatedBefore(date);
     }
 
+    @Override
+    public int deleteSystemMessagesCreatedBefore(OffsetDateTime date, int maxMessages) {
+        return systemMessageRepository.bulkDeleteCreatedBefore(date, maxMessages);
+    }
+
     private List<SystemMessageModel> convertAllToSystemMessageModel(List<SystemMessageEntity> systemMessages) {
         return systemMessages
             .stream()
@@ -29,4 +29,11 @@ public interface SystemMessageRepository extends JpaRepository<SystemMessageEnti
     @Modifying
     int bulkDeleteCreatedBefore(@Param("date") OffsetDateTime date);
 
+    @Query(value = "DELETE FROM alert.system_messages"
+        + " WHERE id IN (SELECT message.id FROM alert.system_messages message WHERE message.created_at < :date ORDER BY message.id LIMIT :limit)",
+        nativeQuery = true
+    )
+    @Modifying
+    int bulkDeleteCreatedBefore(@Param("date") OffsetDateTime date, @Param("limit") int limit);
+
 }
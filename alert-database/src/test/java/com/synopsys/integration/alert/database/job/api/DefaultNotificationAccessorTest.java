@@ -4,23 +4,34 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 import com.synopsys.integration.alert.api.provider.ProviderDescriptor;
 import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
 import com.synopsys.integration.alert.common.persistence.model.mutable.ConfigurationModelMutable;
@@ -59,42 +70,18 @@ class DefaultNotificationAccessorTest {
     );
 
     @Test
-    void saveAllNotificationsTest() {
+    void saveAllNotificationsTest() throws SQLException {
         OffsetDateTime createdAt = DateUtils.createCurrentDateTimestamp();
         OffsetDateTime providerCreationTime = createdAt.minusSeconds(10);
 
-        AlertNotificationModel alertNotificationModel = new AlertNotificationModel(
-            null,
-            providerConfigId,
-            provider,
-            providerConfigName,
-            notificationType,
-            content,
-            createdAt,
-            providerCreationTime,
-            false,
-            contentId
-        );
-        NotificationEntity notificationEntity = new NotificationEntity(
-            id,
-            createdAt,
-            provider,
-            providerConfigId,
-            providerCreationTime,
-            notificationType,
-            content,
-            false,
-            contentId
-        );
+        AlertNotificationModel alertNotificationModel = createNotificationToSave(createdAt, providerCreationTime, contentId);
         ConfigurationModel configurationModel = createConfigurationModel();
 
-        NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
-
-        Mockito.when(notificationContentRepository.saveAllAndFlush(Mockito.any())).thenReturn(List.of(notificationEntity));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        JdbcTemplate jdbcTemplate = createInsertingJdbcTemplate(Map.of(contentId, id));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(null, null, configurationModelConfigurationAccessor, jdbcTemplate, new DiagnosticCounters());
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.saveAllNotifications(List.of(alertNotificationModel));
 
         assertEquals(1, alertNotificationModelList.size());
@@ -102,16 +89,61 @@ class DefaultNotificationAccessorTest {
         testExpectedAlertNotificationModel(expectedAlertNotificationModel, testAlertNotificationModel);
     }
 
+    @Test
+    void saveAllNotificationsSkipsExistingTest() throws SQLException {
+        OffsetDateTime createdAt = DateUtils.createCurrentDateTimestamp();
+        String existingContentId = String.format("content-id-%s", UUID.randomUUID());
+        AlertNotificationModel newNotification = createNotificationToSave(createdAt, createdAt, contentId);
+        AlertNotificationModel existingNotification = createNotificationToSave(createdAt, createdAt, existingContentId);
+
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
+        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(createConfigurationModel()));
+        JdbcTemplate jdbcTemplate = createInsertingJdbcTemplate(Map.of(contentId, id));
+
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(null, null, configurationModelConfigurationAccessor, jdbcTemplate, new DiagnosticCounters());
+        List<AlertNotificationModel> savedNotifications = notificationManager.saveAllNotifications(List.of(existingNotification, newNotification, newNotification));
+
+        assertEquals(1, savedNotifications.size());
+        assertEquals(id, savedNotifications.get(0).getId());
+        assertEquals(contentId, savedNotifications.get(0).getContentId());
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).query(Mockito.anyString(), Mockito.any(RowCallbackHandler.class), Mockito.any(Object[].class));
+        // The audit summary of the written notifications is created with them
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).update(Mockito.startsWith("CALL alert.refresh_notification_audit_summary"), Mockito.any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void saveAllNotificationsAllocatesIdBlocksTest() throws SQLException {
+        OffsetDateTime createdAt = DateUtils.createCurrentDateTimestamp();
+        List<AlertNotificationModel> notifications = IntStream.range(0, 120)
+            .mapToObj(index -> createNotificationToSave(createdAt, createdAt, String.format("content-id-%d", index)))
+            .collect(Collectors.toList());
+        JdbcTemplate jdbcTemplate = createInsertingJdbcTemplate(Map.of());
+
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(null, null, null, jdbcTemplate, new DiagnosticCounters());
+        notificationManager.saveAllNotifications(notifications);
+
+        // One block of ids is taken from the sequence for every 50 notifications rather than one value per notification
+        Mockito.verify(jdbcTemplate).queryForList(Mockito.startsWith("SELECT nextval"), Mockito.eq(Long.class), Mockito.eq(3));
+        ArgumentCaptor<Object[]> insertArguments = ArgumentCaptor.forClass(Object[].class);
+        Mockito.verify(jdbcTemplate).query(Mockito.startsWith("WITH new_notification"), Mockito.any(RowCallbackHandler.class), insertArguments.capture());
+        Object[] arguments = insertArguments.getValue();
+        int argumentsPerNotification = arguments.length / notifications.size();
+        for (int index = 0; index < notifications.size(); index++) {
+            assertEquals(1L + index, arguments[index * argumentsPerNotification]);
+        }
+    }
+
     @Test
     void saveAllNotificationsEmptyModelListTest() {
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
 
-        Mockito.when(notificationContentRepository.saveAll(Mockito.any())).thenReturn(new ArrayList<>());
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, null);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, null, jdbcTemplate, new DiagnosticCounters());
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.saveAllNotifications(new ArrayList<>());
 
         assertTrue(alertNotificationModelList.isEmpty());
+        Mockito.verifyNoInteractions(jdbcTemplate);
     }
 
     @Test
@@ -138,7 +170,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findAllSentNotifications(Mockito.any())).thenReturn(allSentNotifications);
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         Page<AlertNotificationModel> alertNotificationModelPage = notificationManager.findAll(pageRequest, Boolean.TRUE);
 
         assertEquals(1, alertNotificationModelPage.getTotalPages());
@@ -170,7 +202,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
         Mockito.when(notificationContentRepository.findAll(pageRequest)).thenReturn(allSentNotifications);
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         Page<AlertNotificationModel> alertNotificationModelPage = notificationManager.findAll(pageRequest, Boolean.FALSE);
 
         assertEquals(1, alertNotificationModelPage.getTotalPages());
@@ -204,7 +236,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
         Mockito.when(notificationContentRepository.findMatchingNotification(Mockito.any(), Mockito.any())).thenReturn(notificationEntityPage);
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         Page<AlertNotificationModel> alertNotificationModelPage = notificationManager.findAllWithSearch(searchTerm, pageRequest, Boolean.TRUE);
         Page<AlertNotificationModel> alertNotificationModelPageShowNotificationsFalse = notificationManager.findAllWithSearch(searchTerm, pageRequest, Boolean.FALSE);
 
@@ -238,7 +270,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findAllByIdInOrderByProviderCreationTimeAsc(Mockito.any())).thenReturn(List.of(notificationEntity1));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByIds(List.of(1L));
 
         assertEquals(1, alertNotificationModelList.size());
@@ -267,7 +299,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findById(Mockito.any())).thenReturn(Optional.of(notificationEntity));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         Optional<AlertNotificationModel> alertNotificationModel = notificationManager.findById(1L);
 
         assertTrue(alertNotificationModel.isPresent());
@@ -295,7 +327,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(new PageImpl<>(List.of(notificationEntity)));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByCreatedAtBetween(DateUtils.createCurrentDateTimestamp(),
                 DateUtils.createCurrentDateTimestamp(),
                 AlertPagedModel.DEFAULT_PAGE_NUMBER, AlertPagedModel.DEFAULT_PAGE_SIZE
@@ -328,7 +360,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findByCreatedAtBefore(Mockito.any())).thenReturn(List.of(notificationEntity));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByCreatedAtBefore(DateUtils.createCurrentDateTimestamp());
 
         assertEquals(1, alertNotificationModelList.size());
@@ -357,7 +389,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findByCreatedAtBefore(Mockito.any())).thenReturn(List.of(notificationEntity));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByCreatedAtBeforeDayOffset(1);
 
         assertEquals(1, alertNotificationModelList.size());
@@ -377,7 +409,7 @@ class DefaultNotificationAccessorTest {
         AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, auditEntryRepository, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, auditEntryRepository, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         PageRequest pageRequest = notificationManager.getPageRequestForNotifications(pageNumber, pageSize, sortField, sortOrder);
 
         assertEquals(pageNumber, pageRequest.getPageNumber());
@@ -406,7 +438,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findByProcessedFalseOrderByProviderCreationTimeAsc(Mockito.any())).thenReturn(pageOfNotificationEntities);
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         AlertPagedModel<AlertNotificationModel> model = notificationManager.getFirstPageOfNotificationsNotProcessed(100);
 
         List<AlertNotificationModel> alertNotificationModelList = model.getModels();
@@ -430,11 +462,29 @@ class DefaultNotificationAccessorTest {
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, jdbcTemplate, new DiagnosticCounters());
         notificationManager.setNotificationsProcessed(List.of(alertNotificationModel));
 
-        Mockito.verify(notificationContentRepository).setProcessedByIds(Mockito.any());
+        // The update is bounded by the creation dates of the notifications so only their partitions are searched
+        Mockito.verify(jdbcTemplate).update(Mockito.contains("created_at BETWEEN"), Mockito.any(PreparedStatementSetter.class));
+        Mockito.verifyNoInteractions(notificationContentRepository);
+    }
+
+    @Test
+    void dropNotificationPartitionsBeforeTest() {
+        OffsetDateTime date = DateUtils.createCurrentDateTimestamp();
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(), Mockito.eq(String.class), Mockito.any(Object[].class))).thenReturn(List.of("raw_notification_content_history", "raw_notification_content_2026_10"));
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.eq("raw_notification_content_history"))).thenReturn(100L);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.eq("raw_notification_content_2026_10"))).thenReturn(20L);
+
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(null, null, null, jdbcTemplate, new DiagnosticCounters());
+        long droppedCount = notificationManager.dropNotificationPartitionsBefore(date);
+
+        assertEquals(120L, droppedCount);
+        Mockito.verify(jdbcTemplate, Mockito.times(2)).queryForObject(Mockito.startsWith("SELECT alert.drop_notification_partition"), Mockito.eq(Long.class), Mockito.any(Object[].class));
     }
 
     @Test
@@ -459,7 +509,7 @@ class DefaultNotificationAccessorTest {
         Mockito.when(notificationContentRepository.findAllById(Mockito.any())).thenReturn(List.of(notificationEntity));
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         notificationManager.setNotificationsProcessedById(notificationIds);
 
         Mockito.verify(notificationContentRepository).setProcessedByIds(Mockito.any());
@@ -469,7 +519,7 @@ class DefaultNotificationAccessorTest {
     void hasMoreNotificationsToProcessFalseTest() {
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         Mockito.when(notificationContentRepository.existsByProcessedFalse()).thenReturn(Boolean.FALSE);
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, null);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, null, null, new DiagnosticCounters());
         assertFalse(notificationManager.hasMoreNotificationsToProcess());
     }
 
@@ -477,10 +527,48 @@ class DefaultNotificationAccessorTest {
     void hasMoreNotificationsToProcessTrueTest() {
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         Mockito.when(notificationContentRepository.existsByProcessedFalse()).thenReturn(Boolean.TRUE);
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, null);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, null, null, new DiagnosticCounters());
         assertTrue(notificationManager.hasMoreNotificationsToProcess());
     }
 
+    private AlertNotificationModel createNotificationToSave(OffsetDateTime createdAt, OffsetDateTime providerCreationTime, String notificationContentId) {
+        return new AlertNotificationModel(
+            null,
+            providerConfigId,
+            provider,
+            providerConfigName,
+            notificationType,
+            content,
+            createdAt,
+            providerCreationTime,
+            false,
+            notificationContentId
+        );
+    }
+
+    // Simulates the database returning a row for each inserted notification that did not already exist
+    private JdbcTemplate createInsertingJdbcTemplate(Map<String, Long> writtenIdsByContentId) throws SQLException {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        // Hands out the start of each requested block of 50 ids, like the sequence does
+        Mockito.when(jdbcTemplate.queryForList(Mockito.startsWith("SELECT nextval"), Mockito.eq(Long.class), Mockito.any(Object[].class))).thenAnswer(invocation -> {
+            int blockCount = invocation.getArgument(2);
+            return LongStream.range(0, blockCount)
+                .mapToObj(block -> 1L + block * 50L)
+                .collect(Collectors.toList());
+        });
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            for (Map.Entry<String, Long> writtenId : writtenIdsByContentId.entrySet()) {
+                ResultSet resultSet = Mockito.mock(ResultSet.class);
+                Mockito.when(resultSet.getString("content_id")).thenReturn(writtenId.getKey());
+                Mockito.when(resultSet.getLong("id")).thenReturn(writtenId.getValue());
+                rowCallbackHandler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(Mockito.anyString(), Mockito.any(RowCallbackHandler.class), Mockito.any(Object[].class));
+        return jdbcTemplate;
+    }
+
     private void testExpectedAlertNotificationModel(AlertNotificationModel expected, AlertNotificationModel actual) {
         assertEquals(expected.getId(), actual.getId());
         assertEquals(expected.getProviderConfigId(), actual.getProviderConfigId());
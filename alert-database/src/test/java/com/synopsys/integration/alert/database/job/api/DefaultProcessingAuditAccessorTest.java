@@ -1,28 +1,26 @@
 package com.synopsys.integration.alert.database.job.api;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
-import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
-import com.synopsys.integration.alert.database.audit.AuditEntryEntity;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.database.audit.AuditEntryNotificationView;
 import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
-import com.synopsys.integration.alert.database.audit.AuditNotificationRepository;
 
 class DefaultProcessingAuditAccessorTest {
-    private static final Random RANDOM = new Random();
+    private static final String REFRESH_SUMMARY_SQL = "CALL alert.refresh_notification_audit_summary";
 
     @Test
     void createOrUpdatePendingAuditEntryForJobTest() {
@@ -31,81 +29,114 @@ class DefaultProcessingAuditAccessorTest {
 
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
         Mockito.when(auditEntryRepository.findByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(List.of());
-        Mockito.when(auditEntryRepository.save(Mockito.any())).then(invocation -> {
-            AuditEntryEntity auditEntry = invocation.getArgument(0);
-            auditEntry.setId(RANDOM.nextLong());
-            return auditEntry;
-        });
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.update(Mockito.anyString(), Mockito.any(PreparedStatementSetter.class))).thenReturn(testNotificationIds.size());
+        Mockito.when(jdbcTemplate.queryForList(Mockito.startsWith("SELECT nextval"), Mockito.eq(Long.class), Mockito.any(Object[].class))).thenReturn(List.of(101L));
 
-        AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
-        Mockito.when(auditNotificationRepository.saveAll(Mockito.anyCollection())).thenReturn(List.of());
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, jdbcTemplate, new DiagnosticCounters());
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(testJobId, testNotificationIds);
+
+        Mockito.verify(jdbcTemplate).queryForList(Mockito.startsWith("SELECT nextval"), Mockito.eq(Long.class), Mockito.eq(1));
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).update(Mockito.startsWith("WITH new_audit_entries"), Mockito.any(PreparedStatementSetter.class));
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).update(Mockito.startsWith(REFRESH_SUMMARY_SQL), Mockito.any(PreparedStatementSetter.class));
+        Mockito.verify(auditEntryRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void createOrUpdatePendingAuditEntryForJobExistingEntriesTest() {
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(1L, 2L);
+        List<AuditEntryNotificationView> existingViews = List.of(
+            new AuditEntryNotificationView(5L, testJobId, 1L, null, null, AuditEntryStatus.PENDING.name(), null, null),
+            new AuditEntryNotificationView(6L, testJobId, 2L, null, null, AuditEntryStatus.PENDING.name(), null, null)
+        );
 
-        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, auditNotificationRepository);
+        AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        Mockito.when(auditEntryRepository.findByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(existingViews);
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, jdbcTemplate, new DiagnosticCounters());
         processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(testJobId, testNotificationIds);
 
-        Mockito.verify(auditEntryRepository, Mockito.times(testNotificationIds.size())).save(Mockito.any());
+        Mockito.verifyNoInteractions(jdbcTemplate);
     }
 
     @Test
     void setAuditEntrySuccessTest() {
-        setAuditEntryStatusTest(
-            AuditEntryStatus.SUCCESS,
-            ProcessingAuditAccessor::setAuditEntrySuccess
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(99L);
+        AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, jdbcTemplate, new DiagnosticCounters());
+        processingAuditAccessor.setAuditEntrySuccess(testJobId, testNotificationIds);
+
+        Mockito.verify(auditEntryRepository, Mockito.times(1)).bulkUpdateStatusForNotifications(
+            Mockito.eq(testJobId),
+            Mockito.eq(testNotificationIds),
+            Mockito.eq(AuditEntryStatus.SUCCESS.name()),
+            Mockito.notNull(),
+            Mockito.isNull(),
+            Mockito.isNull()
         );
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).update(Mockito.startsWith(REFRESH_SUMMARY_SQL), Mockito.any(PreparedStatementSetter.class));
     }
 
     @Test
     void setAuditEntryFailureTest() {
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(99L);
         String testErrorMessage = "Uh oh, an error occurred!";
         String testExceptionMessage = "Something bad happened. Yikes...";
         Throwable testThrowable = new AlertException(testExceptionMessage);
-        AuditEntryEntity testResultEntry = setAuditEntryStatusTest(
-            AuditEntryStatus.FAILURE,
-            (accessor, jobId, notificationIds) -> accessor.setAuditEntryFailure(jobId, notificationIds, testErrorMessage, testThrowable)
+        AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, jdbcTemplate, new DiagnosticCounters());
+        processingAuditAccessor.setAuditEntryFailure(testJobId, testNotificationIds, testErrorMessage, testThrowable);
+
+        ArgumentCaptor<String> stackTraceCaptor = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(auditEntryRepository, Mockito.times(1)).bulkUpdateStatusForNotifications(
+            Mockito.eq(testJobId),
+            Mockito.eq(testNotificationIds),
+            Mockito.eq(AuditEntryStatus.FAILURE.name()),
+            Mockito.notNull(),
+            Mockito.eq(testErrorMessage),
+            stackTraceCaptor.capture()
         );
-        assertEquals(testErrorMessage, testResultEntry.getErrorMessage());
-        assertNotNull(testResultEntry.getErrorStackTrace(), "Expected the audit entry to contain an error stack trace");
+        assertNotNull(stackTraceCaptor.getValue(), "Expected the audit entry to contain an error stack trace");
         assertTrue(
-            testResultEntry.getErrorStackTrace().contains(testExceptionMessage),
+            stackTraceCaptor.getValue().contains(testExceptionMessage),
             "Expected the error stack trace to contain a specific message, but that message was missing"
         );
     }
 
-    private AuditEntryEntity setAuditEntryStatusTest(AuditEntryStatus expectedStatus, AuditAccessorStatusSetter statusSetter) {
+    @Test
+    void setAuditEntryFailureWithoutStackTraceTest() {
         UUID testJobId = UUID.randomUUID();
-        Long testNotificationId = 99L;
-        Set<Long> testNotificationIds = Set.of(testNotificationId);
-        AuditEntryNotificationView testView = new AuditEntryNotificationView(0L, testJobId, testNotificationId, null, null, null, null, null);
-
-        AtomicReference<AuditEntryEntity> savedEntry = new AtomicReference<>();
-
+        Set<Long> testNotificationIds = Set.of(99L);
+        String testErrorMessage = "Uh oh, an error occurred!";
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
-        Mockito.when(auditEntryRepository.findByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(List.of(testView));
-        Mockito.when(auditEntryRepository.saveAll(Mockito.anyList())).then(invocation -> {
-            List<AuditEntryEntity> savedEntries = invocation.getArgument(0);
-            if (!savedEntries.isEmpty()) {
-                savedEntry.set(savedEntries.get(0));
-            }
-            return List.of();
-        });
-
-        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, null);
-        statusSetter.setStatus(processingAuditAccessor, testJobId, testNotificationIds);
-
-        AuditEntryEntity auditEntryEntity = savedEntry.get();
-        assertNotNull(auditEntryEntity, "Expected an audit entry to have been saved");
-        assertEquals(testView.getId(), auditEntryEntity.getId());
-        assertEquals(testView.getJobId(), auditEntryEntity.getCommonConfigId());
-        assertEquals(expectedStatus.name(), auditEntryEntity.getStatus());
-        assertNotNull(auditEntryEntity.getTimeLastSent(), "Expected time last sent to be set");
-
-        return auditEntryEntity;
-    }
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
 
-    @FunctionalInterface
-    private interface AuditAccessorStatusSetter {
-        void setStatus(ProcessingAuditAccessor accessor, UUID jobId, Set<Long> notificationIds);
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, jdbcTemplate, new DiagnosticCounters());
+        processingAuditAccessor.setAuditEntryFailure(testJobId, testNotificationIds, testErrorMessage, (String) null);
 
+        Mockito.verify(auditEntryRepository, Mockito.times(1)).bulkUpdateStatusForNotificationsRetainingStackTrace(
+            Mockito.eq(testJobId),
+            Mockito.eq(testNotificationIds),
+            Mockito.eq(AuditEntryStatus.FAILURE.name()),
+            Mockito.notNull(),
+            Mockito.eq(testErrorMessage)
+        );
+        Mockito.verify(auditEntryRepository, Mockito.never()).bulkUpdateStatusForNotifications(
+            Mockito.any(),
+            Mockito.anyCollection(),
+            Mockito.anyString(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any()
+        );
     }
 
 }
@@ -6,19 +6,23 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.core.convert.support.DefaultConversionService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.common.ContentConverter;
@@ -33,7 +37,6 @@ import com.synopsys.integration.alert.common.persistence.model.AuditJobStatusMod
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.JobAuditModel;
-import com.synopsys.integration.alert.common.rest.model.NotificationConfig;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.database.audit.AuditEntryEntity;
 import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
@@ -49,7 +52,7 @@ public class DefaultRestApiAuditAccessorTest {
     public void findMatchingAuditIdTest() {
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
         Mockito.when(auditEntryRepository.findMatchingAudit(Mockito.anyLong(), Mockito.any(UUID.class))).thenReturn(Optional.empty());
-        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, null);
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, null, null);
         Optional<Long> nullValue = auditUtility.findMatchingAuditId(1L, UUID.randomUUID());
 
         assertFalse(nullValue.isPresent());
@@ -69,7 +72,7 @@ public class DefaultRestApiAuditAccessorTest {
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
         ContentConverter contentConverter = Mockito.mock(ContentConverter.class);
         Mockito.when(auditEntryRepository.findFirstByCommonConfigIdOrderByTimeLastSentDesc(Mockito.any(UUID.class))).thenReturn(Optional.empty());
-        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, contentConverter);
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, contentConverter, null);
 
         assertFalse(auditUtility.findFirstByJobId(UUID.randomUUID()).isPresent());
     }
@@ -81,7 +84,7 @@ public class DefaultRestApiAuditAccessorTest {
         AuditEntryEntity auditEntryEntity = new AuditEntryEntity(null, null, null, null, null, null);
         Mockito.when(auditEntryRepository.findFirstByCommonConfigIdOrderByTimeLastSentDesc(Mockito.any(UUID.class))).thenReturn(Optional.of(auditEntryEntity));
 
-        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, contentConverter);
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, contentConverter, null);
 
         UUID testUUID = UUID.randomUUID();
         AuditJobStatusModel auditJobStatusModel = auditUtility.findFirstByJobId(testUUID).get();
@@ -106,7 +109,7 @@ public class DefaultRestApiAuditAccessorTest {
         AuditEntryEntity auditEntryEntity = new AuditEntryEntity(testUUID, timeCreated, timeLastSent, status.name(), null, null);
         Mockito.when(auditEntryRepository.findFirstByCommonConfigIdOrderByTimeLastSentDesc(Mockito.any(UUID.class))).thenReturn(Optional.of(auditEntryEntity));
 
-        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, null);
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, null, null);
         AuditJobStatusModel auditJobStatusModel = auditUtility.findFirstByJobId(testUUID).get();
 
         String testTimeAuditCreated = auditJobStatusModel.getTimeAuditCreated();
@@ -120,87 +123,150 @@ public class DefaultRestApiAuditAccessorTest {
     }
 
     @Test
-    public void getPageOfAuditEntriesTest() {
+    public void getPageOfAuditEntriesTest() throws SQLException {
         Integer pageNumber = 0;
         int pageSize = 2;
         String searchTerm = null;
         String sortField = "lastSent";
         String sortOrder = "ASC";
-        Boolean onlyShowSentNotifications = Boolean.TRUE;
-        String overallStatus = "overallStatusString";
-        String lastSent = DateUtils.createCurrentDateString(DateUtils.AUDIT_DATE_FORMAT);
+        boolean onlyShowSentNotifications = true;
 
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
         DefaultNotificationAccessor notificationManager = Mockito.mock(DefaultNotificationAccessor.class);
         AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
+        ContentConverter contentConverter = new ContentConverter(new DefaultConversionService());
 
-        PageRequest pageRequest = PageRequest.of(0, 10);
+        AlertNotificationModel alertNotificationModel = createNotificationModel(1L);
+        AlertNotificationModel alertNotificationModel2 = createNotificationModel(2L);
+        // The page order comes from the database, not from the order the notifications are loaded in
+        Mockito.when(notificationManager.findByIds(List.of(2L, 1L))).thenReturn(List.of(alertNotificationModel, alertNotificationModel2));
+
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.any(Object[].class))).thenReturn(3L);
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            for (Long notificationId : List.of(2L, 1L)) {
+                ResultSet resultSet = Mockito.mock(ResultSet.class);
+                Mockito.when(resultSet.getLong("id")).thenReturn(notificationId);
+                rowCallbackHandler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(Mockito.anyString(), Mockito.any(RowCallbackHandler.class), Mockito.any(Object[].class));
+
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(
+            auditEntryRepository,
+            auditNotificationRepository,
+            null,
+            configurationModelConfigurationAccessor,
+            notificationManager,
+            contentConverter,
+            jdbcTemplate
+        );
+        AuditEntryPageModel alertPagedModel = auditUtility.getPageOfAuditEntries(pageNumber, pageSize, searchTerm, sortField, sortOrder, onlyShowSentNotifications);
 
-        Mockito.when(auditEntryRepository.findMatchingAudit(Mockito.anyLong(), Mockito.any(UUID.class))).thenReturn(Optional.empty());
-        Mockito.when(notificationManager.getPageRequestForNotifications(pageNumber, pageSize, sortField, sortOrder)).thenReturn(pageRequest);
+        assertEquals(2, alertPagedModel.getTotalPages());
+        assertEquals(pageNumber.intValue(), alertPagedModel.getCurrentPage());
+        assertEquals(pageSize, alertPagedModel.getPageSize());
+        assertEquals(List.of("2", "1"), alertPagedModel.getContent().stream().map(AuditEntryModel::getId).collect(Collectors.toList()));
 
-        //At least two AlertNotificationModel are required for the comparator
-        AlertNotificationModel alertNotificationModel = new AlertNotificationModel(
-            1L,
-            1L,
-            "provider-test",
-            "providerConfigName-test",
-            "notificationType-test",
-            "{content: \"content is here...\"}",
-            DateUtils.createCurrentDateTimestamp(),
-            DateUtils.createCurrentDateTimestamp(),
-            false,
-            String.format("content-id-%s", UUID.randomUUID())
-        );
-        AlertNotificationModel alertNotificationModel2 = new AlertNotificationModel(
-            2L,
-            2L,
-            "provider-test2",
-            "providerConfigName-test2",
-            "notificationType-test2",
-            "{content: \"content is here2..\"}",
-            DateUtils.createCurrentDateTimestamp().minusSeconds(15),
-            DateUtils.createCurrentDateTimestamp().minusSeconds(10),
-            false,
-            String.format("content-id-%s", UUID.randomUUID())
-        );
+        ArgumentCaptor<String> pageSql = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jdbcTemplate).query(pageSql.capture(), Mockito.any(RowCallbackHandler.class), Mockito.any(Object[].class));
+        assertTrue(pageSql.getValue().contains("ORDER BY audit_summary.last_sent ASC NULLS LAST"));
+        Mockito.verify(notificationManager, Mockito.never()).findAll(Mockito.any(), Mockito.anyBoolean());
+    }
 
-        Pageable auditPageable = Mockito.mock(Pageable.class);
-        Mockito.when(auditPageable.getOffset()).thenReturn(pageNumber.longValue());
-        Mockito.when(auditPageable.getPageSize()).thenReturn(pageSize);
-        Page<AlertNotificationModel> auditPage = new PageImpl<>(List.of(alertNotificationModel, alertNotificationModel2), auditPageable, 1);
-        Mockito.when(notificationManager.findAll(pageRequest, onlyShowSentNotifications)).thenReturn(auditPage);
-
-        NotificationConfig notificationConfig = new NotificationConfig(
-            "3",
-            "createdAtString",
-            "providerString",
-            2L,
-            "providerConfigNameString",
-            "providerCreationTimeString",
-            "notificationTypeString",
-            "content-test"
+    @Test
+    public void getPageOfAuditEntriesSearchTest() {
+        AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
+        DefaultNotificationAccessor notificationManager = Mockito.mock(DefaultNotificationAccessor.class);
+        Mockito.when(notificationManager.findByIds(List.of(1L))).thenReturn(List.of(createNotificationModel(1L)));
+
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.eq(Long.class), Mockito.any(Object[].class))).thenReturn(1L);
+        Mockito.doAnswer(invocation -> {
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            ResultSet resultSet = Mockito.mock(ResultSet.class);
+            Mockito.when(resultSet.getLong("id")).thenReturn(1L);
+            rowCallbackHandler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(Mockito.anyString(), Mockito.any(RowCallbackHandler.class), Mockito.any(Object[].class));
+
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(
+            Mockito.mock(AuditEntryRepository.class),
+            auditNotificationRepository,
+            null,
+            Mockito.mock(ConfigurationModelConfigurationAccessor.class),
+            notificationManager,
+            new ContentConverter(new DefaultConversionService()),
+            jdbcTemplate
         );
-        AuditEntryModel auditEntryModel = new AuditEntryModel("2", notificationConfig, List.of(), overallStatus, lastSent);
-        Function<AlertNotificationModel, AuditEntryModel> notificationToAuditEntryConverter = (AlertNotificationModel notificationModel) -> auditEntryModel;
-
-        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, auditNotificationRepository, null, null, notificationManager, null);
-        AuditEntryPageModel alertPagedModel = auditUtility.getPageOfAuditEntries(pageNumber, pageSize, searchTerm, sortField, sortOrder, onlyShowSentNotifications, notificationToAuditEntryConverter);
+        AuditEntryPageModel alertPagedModel = auditUtility.getPageOfAuditEntries(0, 10, "Email_50%", "provider", "ASC", false);
+
+        assertEquals(1, alertPagedModel.getContent().size());
+        ArgumentCaptor<String> pageSql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> pageArguments = ArgumentCaptor.forClass(Object[].class);
+        Mockito.verify(jdbcTemplate).query(pageSql.capture(), Mockito.any(RowCallbackHandler.class), pageArguments.capture());
+        assertTrue(pageSql.getValue().contains("search_summary.search_text LIKE ?"));
+        assertTrue(pageSql.getValue().contains("ORDER BY notification.provider ASC, audit_summary.notification_id ASC"));
+        assertEquals("%email\\_50\\%%", pageArguments.getValue()[0]);
+        Mockito.verify(notificationManager, Mockito.never()).findAllWithSearch(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
 
-        assertEquals(1, alertPagedModel.getTotalPages());
-        assertEquals(pageNumber.intValue(), alertPagedModel.getCurrentPage());
-        assertEquals(pageSize, alertPagedModel.getPageSize());
-        assertEquals(2, alertPagedModel.getContent().size());
-        assertEquals(lastSent, alertPagedModel.getContent().get(0).getLastSent());
-        assertEquals(lastSent, alertPagedModel.getContent().get(1).getLastSent());
+    @Test
+    public void getPageOfAuditEntriesBatchLoadedTest() {
+        Integer pageNumber = 0;
+        int pageSize = 10;
+        UUID jobId = UUID.randomUUID();
 
-        AuditEntryModel auditContentTest = alertPagedModel.getContent().stream().findFirst().orElse(null);
+        AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        DefaultNotificationAccessor notificationManager = Mockito.mock(DefaultNotificationAccessor.class);
+        AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
+        JobAccessor jobAccessor = Mockito.mock(JobAccessor.class);
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
+        ContentConverter contentConverter = new ContentConverter(new DefaultConversionService());
 
-        assertEquals(auditEntryModel.getId(), auditContentTest.getId());
-        assertEquals(notificationConfig, auditContentTest.getNotification());
-        assertEquals(0, auditContentTest.getJobs().size());
-        assertEquals(overallStatus, auditContentTest.getOverallStatus());
-        assertEquals(lastSent, auditContentTest.getLastSent());
+        List<AlertNotificationModel> notifications = new ArrayList<>();
+        List<AuditNotificationRelation> relations = new ArrayList<>();
+        List<AuditEntryEntity> auditEntries = new ArrayList<>();
+        for (long notificationId = 1L; notificationId <= pageSize; notificationId++) {
+            notifications.add(createNotificationModel(notificationId));
+            AuditEntryEntity auditEntry = new AuditEntryEntity(jobId, DateUtils.createCurrentDateTimestamp(), DateUtils.createCurrentDateTimestamp(), AuditEntryStatus.SUCCESS.name(), null, null);
+            auditEntry.setId(notificationId + 100L);
+            auditEntries.add(auditEntry);
+            relations.add(new AuditNotificationRelation(auditEntry.getId(), notificationId));
+        }
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize);
+        Mockito.when(notificationManager.getPageRequestForNotifications(pageNumber, pageSize, "createdAt", "DESC")).thenReturn(pageRequest);
+        Mockito.when(notificationManager.findAll(pageRequest, false)).thenReturn(new PageImpl<>(notifications, pageRequest, pageSize));
+        Mockito.when(auditNotificationRepository.findAllByNotificationIdIn(Mockito.anyList())).thenReturn(relations);
+        Mockito.when(auditEntryRepository.findAllById(Mockito.any())).thenReturn(auditEntries);
+        DistributionJobModel distributionJob = createDistributionJob(jobId);
+        Mockito.when(jobAccessor.getJobsById(Mockito.any())).thenReturn(List.of(distributionJob));
+
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(
+            auditEntryRepository,
+            auditNotificationRepository,
+            jobAccessor,
+            configurationModelConfigurationAccessor,
+            notificationManager,
+            contentConverter,
+            null
+        );
+        AuditEntryPageModel alertPagedModel = auditUtility.getPageOfAuditEntries(pageNumber, pageSize, null, "createdAt", "DESC", false);
+
+        assertEquals(pageSize, alertPagedModel.getContent().size());
+        for (AuditEntryModel auditEntryModel : alertPagedModel.getContent()) {
+            assertEquals(AuditEntryStatus.SUCCESS.getDisplayName(), auditEntryModel.getOverallStatus());
+            assertEquals(1, auditEntryModel.getJobs().size());
+            assertEquals(distributionJob.getName(), auditEntryModel.getJobs().get(0).getName());
+        }
+        // The relations, audit entries, jobs and provider configurations are loaded once for the whole page
+        Mockito.verify(auditNotificationRepository, Mockito.times(1)).findAllByNotificationIdIn(Mockito.anyList());
+        Mockito.verify(auditEntryRepository, Mockito.times(1)).findAllById(Mockito.any());
+        Mockito.verify(jobAccessor, Mockito.times(1)).getJobsById(Mockito.any());
+        Mockito.verify(jobAccessor, Mockito.never()).getJobById(Mockito.any());
+        Mockito.verify(configurationModelConfigurationAccessor, Mockito.times(1)).getConfigurationById(Mockito.any());
     }
 
     @Test
@@ -236,13 +302,15 @@ public class DefaultRestApiAuditAccessorTest {
             String.format("content-id-%s", UUID.randomUUID())
         );
         AuditNotificationRelation auditNotificationRelation = new AuditNotificationRelation(auditEntryId, alertNotificationModel.getId());
-        AuditEntryEntity auditEntryEntity = new AuditEntryEntity(UUID.randomUUID(), timeCreated, timeLastSent, AuditEntryStatus.SUCCESS.name(), null, null);
+        UUID jobId = UUID.randomUUID();
+        AuditEntryEntity auditEntryEntity = new AuditEntryEntity(jobId, timeCreated, timeLastSent, AuditEntryStatus.SUCCESS.name(), null, null);
+        auditEntryEntity.setId(auditEntryId);
 
-        Mockito.when(auditNotificationRepository.findByNotificationId(Mockito.any())).thenReturn(List.of(auditNotificationRelation));
+        Mockito.when(auditNotificationRepository.findAllByNotificationIdIn(Mockito.anyList())).thenReturn(List.of(auditNotificationRelation));
         Mockito.when(auditEntryRepository.findAllById(Mockito.any())).thenReturn(List.of(auditEntryEntity));
 
         DistributionJobModel distributionJob = DistributionJobModel.builder()
-                                                   .jobId(UUID.randomUUID())
+                                                   .jobId(jobId)
                                                    .enabled(true)
                                                    .blackDuckGlobalConfigId(2L)
                                                    .channelDescriptorName("test-channel.common.channel.name-value")
@@ -253,9 +321,9 @@ public class DefaultRestApiAuditAccessorTest {
                                                    .processingType(ProcessingType.DEFAULT)
                                                    .createdAt(DateUtils.createCurrentDateTimestamp())
                                                    .build();
-        Mockito.when(jobAccessor.getJobById(Mockito.any())).thenReturn(Optional.of(distributionJob));
+        Mockito.when(jobAccessor.getJobsById(Mockito.any())).thenReturn(List.of(distributionJob));
 
-        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, auditNotificationRepository, jobAccessor, configurationModelConfigurationAccessor, null, contentConverter);
+        DefaultRestApiAuditAccessor auditUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, auditNotificationRepository, jobAccessor, configurationModelConfigurationAccessor, null, contentConverter, null);
         AuditEntryModel testAuditEntryModel = auditUtility.convertToAuditEntryModelFromNotification(alertNotificationModel);
 
         assertEquals(id, Long.valueOf(testAuditEntryModel.getId()));
@@ -269,4 +337,34 @@ public class DefaultRestApiAuditAccessorTest {
         assertEquals(DateUtils.formatDate(timeLastSent, DateUtils.AUDIT_DATE_FORMAT), testAuditEntryModel.getLastSent());
     }
 
+    private AlertNotificationModel createNotificationModel(Long notificationId) {
+        return new AlertNotificationModel(
+            notificationId,
+            1L,
+            "provider-test",
+            "providerConfigName-test",
+            "notificationType-test",
+            "{content: \"content is here...\"}",
+            DateUtils.createCurrentDateTimestamp(),
+            DateUtils.createCurrentDateTimestamp(),
+            false,
+            String.format("content-id-%s", UUID.randomUUID())
+        );
+    }
+
+    private DistributionJobModel createDistributionJob(UUID jobId) {
+        return DistributionJobModel.builder()
+            .jobId(jobId)
+            .enabled(true)
+            .blackDuckGlobalConfigId(1L)
+            .channelDescriptorName("test-channel.common.channel.name-value")
+            .name("test-channel.common.name-value")
+            .distributionFrequency(FrequencyType.REAL_TIME)
+            .filterByProject(false)
+            .notificationTypes(List.of(NotificationType.LICENSE_LIMIT.name()))
+            .processingType(ProcessingType.DEFAULT)
+            .createdAt(DateUtils.createCurrentDateTimestamp())
+            .build();
+    }
+
 }
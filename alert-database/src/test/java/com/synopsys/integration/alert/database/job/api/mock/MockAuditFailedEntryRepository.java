@@ -1,6 +1,7 @@
 package com.synopsys.integration.alert.database.job.api.mock;
 
 import java.time.OffsetDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
@@ -32,6 +33,15 @@ public class MockAuditFailedEntryRepository extends MockRepositoryContainer<UUID
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<AuditFailedEntity> findAllByCreatedAtBeforeOrderByCreatedAtAsc(OffsetDateTime expirationDate, Pageable pageable) {
+        return findAllByCreatedAtBefore(expirationDate)
+            .stream()
+            .sorted(Comparator.comparing(AuditFailedEntity::getCreatedAt))
+            .limit(pageable.getPageSize())
+            .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByNotificationId(Long notificationId) {
         Predicate<AuditFailedEntity> entryContainsNotification = entry -> entry.getNotificationId().equals(notificationId);
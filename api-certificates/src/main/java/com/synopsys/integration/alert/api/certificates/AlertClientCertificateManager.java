@@ -3,6 +3,7 @@ package com.synopsys.integration.alert.api.certificates;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -19,11 +20,14 @@ import com.synopsys.integration.alert.common.rest.AlertRestConstants;
 public class AlertClientCertificateManager {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private final AtomicLong modificationCount = new AtomicLong();
+
     private PemSslStoreBundle clientSslStoreBundle;
 
     public synchronized void importCertificate(ClientCertificateModel clientCertificateModel) throws AlertException {
         logger.debug("Importing certificate into key store.");
         clientSslStoreBundle = createPemSslStoreBundle(clientCertificateModel);
+        modificationCount.incrementAndGet();
     }
 
     public synchronized boolean validateCertificate(ClientCertificateModel clientCertificateModel) {
@@ -62,12 +66,20 @@ public class AlertClientCertificateManager {
         }
         // clean up the reference
         clientSslStoreBundle = null;
+        modificationCount.incrementAndGet();
     }
 
     public boolean containsClientCertificate() {
         return null != clientSslStoreBundle;
     }
 
+    /**
+     * @return a number that changes every time the client certificate is imported or removed.
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
     public Optional<KeyStore> getClientKeyStore() {
         return Optional.ofNullable(clientSslStoreBundle)
             .map(PemSslStoreBundle::getKeyStore);
@@ -30,6 +30,13 @@ public class AlertSSLContextManager {
         return sslManagerBundle.map(bundle -> bundle.createSslContext("TLS"));
     }
 
+    /**
+     * @return a number that changes whenever the trust store or the client certificate changes, so callers holding a context built earlier know to rebuild it.
+     */
+    public long getConfigurationVersion() {
+        return trustStoreManager.getModificationCount() + clientCertificateManager.getModificationCount();
+    }
+
     private Optional<SslManagerBundle> getSslManagerBundle() {
         Optional<KeyStore> trustStore = trustStoreManager.getTrustStore();
         if (clientCertificateManager.containsClientCertificate() && trustStore.isPresent()) {
@@ -4,6 +4,7 @@ import java.io.File;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -21,6 +22,7 @@ public class AlertTrustStoreManager {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final AlertProperties alertProperties;
     private final KeyStoreManager keyStoreManager;
+    private final AtomicLong modificationCount = new AtomicLong();
 
     @Autowired
     public AlertTrustStoreManager(AlertProperties alertProperties) {
@@ -35,6 +37,7 @@ public class AlertTrustStoreManager {
         Certificate cert = getAsJavaCertificate(customCertificate);
 
         keyStoreManager.importCertificate(cert, customCertificate.getAlias(), trustStoreFile, getTrustStorePassword());
+        modificationCount.incrementAndGet();
     }
 
     public synchronized void removeCertificate(CustomCertificateModel customCertificate) throws AlertException {
@@ -51,6 +54,7 @@ public class AlertTrustStoreManager {
             File trustStoreFile = getAndValidateTrustStoreFile();
             KeyStore trustStore = keyStoreManager.getAsKeyStore(trustStoreFile, getTrustStorePassword());
             keyStoreManager.removeCertificate(certificateAlias, optionalTrustStoreFileName.get(), trustStore, getTrustStorePassword());
+            modificationCount.incrementAndGet();
         } else {
             throw new AlertConfigurationException("No trust store file has been provided.");
         }
@@ -80,6 +84,13 @@ public class AlertTrustStoreManager {
 
     }
 
+    /**
+     * @return a number that changes every time a certificate is imported into or removed from the trust store.
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
     public synchronized void validateCertificateContent(CustomCertificateModel customCertificateModel) throws AlertException {
         // Result is ignored, but we continue to throw an AlertException if one occurs
         getAsJavaCertificate(customCertificateModel);
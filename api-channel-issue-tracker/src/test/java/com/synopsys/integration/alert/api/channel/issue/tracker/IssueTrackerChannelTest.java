@@ -19,6 +19,7 @@ import com.synopsys.integration.alert.api.channel.issue.tracker.send.IssueTracke
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.event.codec.AlertEventMessageConverter;
 import com.synopsys.integration.alert.common.message.model.MessageResult;
 import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
@@ -58,7 +59,7 @@ class IssueTrackerChannelTest {
         IssueTrackerTransitionEventGenerator<String> transitioner = (model) -> null;
         IssueTrackerCreationEventGenerator creator = (model) -> null;
         RabbitTemplate rabbitTemplate = Mockito.mock(RabbitTemplate.class);
-        EventManager eventManager = new EventManager(BlackDuckServicesFactory.createDefaultGson(), rabbitTemplate, new SyncTaskExecutor());
+        EventManager eventManager = new EventManager(rabbitTemplate, new SyncTaskExecutor(), new AlertEventMessageConverter(BlackDuckServicesFactory.createDefaultGson()));
         ExecutingJobManager executingJobManager = Mockito.mock(ExecutingJobManager.class);
         return new IssueTrackerAsyncMessageSender<>(
             creator,
@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.core.task.SyncTaskExecutor;
 
@@ -16,6 +17,7 @@ import com.google.gson.GsonBuilder;
 import com.synopsys.integration.alert.api.channel.issue.tracker.model.IssueTrackerIssueResponseModel;
 import com.synopsys.integration.alert.api.channel.issue.tracker.model.IssueTrackerResponse;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.event.codec.AlertEventMessageConverter;
 import com.synopsys.integration.alert.common.channel.issuetracker.enumeration.IssueOperation;
 import com.synopsys.integration.alert.common.channel.issuetracker.message.IssueTrackerCallbackInfo;
 
@@ -40,9 +42,9 @@ class ProviderCallbackIssueTrackerResponsePostProcessorTest {
         Mockito.doAnswer((answer -> {
             SEND_COUNTER.incrementAndGet();
             return null;
-        })).when(MOCK_RABBIT_TEMPLATE).convertAndSend(Mockito.anyString(), Mockito.any(Object.class));
+        })).when(MOCK_RABBIT_TEMPLATE).send(Mockito.anyString(), Mockito.any(Message.class));
 
-        EVENT_MANAGER = new EventManager(GSON, MOCK_RABBIT_TEMPLATE, new SyncTaskExecutor());
+        EVENT_MANAGER = new EventManager(MOCK_RABBIT_TEMPLATE, new SyncTaskExecutor(), new AlertEventMessageConverter(GSON));
     }
 
     @Test
@@ -13,6 +13,7 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 
+import com.synopsys.integration.alert.api.channel.rest.WebhookThrottledException;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.api.distribution.audit.AuditFailedEvent;
 import com.synopsys.integration.alert.api.distribution.execution.JobStage;
@@ -25,6 +26,8 @@ import com.synopsys.integration.alert.common.persistence.accessor.JobDetailsAcce
 import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
 import com.synopsys.integration.alert.common.persistence.util.AuditStackTraceUtil;
 import com.synopsys.integration.alert.api.processor.distribute.DistributionEvent;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
+import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessageHolder;
 
 public class DistributionEventHandler<D extends DistributionJobDetailsModel> implements AlertEventHandler<DistributionEvent> {
     private final Logger notificationLogger = AlertLoggerFactory.getNotificationLogger(getClass());
@@ -32,12 +35,18 @@ public class DistributionEventHandler<D extends DistributionJobDetailsModel> imp
     private final DistributionChannel<D> channel;
     private final JobDetailsAccessor<D> jobDetailsAccessor;
     private final EventManager eventManager;
+    private final DistributionPayloadStore distributionPayloadStore;
 
-    public DistributionEventHandler(DistributionChannel<D> channel, JobDetailsAccessor<D> jobDetailsAccessor, EventManager eventManager) {
+    public DistributionEventHandler(
+        DistributionChannel<D> channel,
+        JobDetailsAccessor<D> jobDetailsAccessor,
+        EventManager eventManager,
+        DistributionPayloadStore distributionPayloadStore
+    ) {
         this.channel = channel;
         this.jobDetailsAccessor = jobDetailsAccessor;
         this.eventManager = eventManager;
-
+        this.distributionPayloadStore = distributionPayloadStore;
     }
 
     @Override
@@ -48,15 +57,18 @@ public class DistributionEventHandler<D extends DistributionJobDetailsModel> imp
         if (details.isPresent()) {
             try {
                 notificationLogger.debug("Channel: {} is processing event: {}", channel.getClass(), event.getEventId());
+                ProviderMessageHolder providerMessages = distributionPayloadStore.retrieveProviderMessages(event);
                 channel.distributeMessages(
                     details.get(),
-                    event.getProviderMessages(),
+                    providerMessages,
                     event.getJobName(),
                     event.getJobId(),
                     jobExecutionId,
                     event.getNotificationIds()
                 );
                 notificationLogger.debug("Channel: {} successfully processed event: {}", channel.getClass(), event.getEventId());
+            } catch (WebhookThrottledException throttledException) {
+                handleThrottledException(throttledException, event);
             } catch (AlertException alertException) {
                 handleAlertException(alertException, event);
             } catch (Exception unknownException) {
@@ -65,6 +77,7 @@ public class DistributionEventHandler<D extends DistributionJobDetailsModel> imp
         } else {
             handleJobDetailsMissing(event);
         }
+        distributionPayloadStore.releasePayload(event);
         eventManager.sendEvent(new JobStageEndedEvent(jobExecutionId, JobStage.CHANNEL_PROCESSING, Instant.now().toEpochMilli()));
     }
 
@@ -79,6 +92,18 @@ public class DistributionEventHandler<D extends DistributionJobDetailsModel> imp
         ));
     }
 
+    // The event is not redelivered: the messages sent before the throttled one would be sent again. The audit failure lets the notifications be resent instead.
+    protected void handleThrottledException(WebhookThrottledException e, DistributionEvent event) {
+        notificationLogger.error("The channel throttled the messages of the following event: {}.", event.getEventId(), e);
+        eventManager.sendEvent(new AuditFailedEvent(
+            event.getJobExecutionId(),
+            event.getJobId(),
+            event.getNotificationIds(),
+            String.format("The channel throttled the messages and not all of them were sent: %s. Resend the notifications once the channel accepts messages again.", e.getMessage()),
+            AuditStackTraceUtil.createStackTraceString(e)
+        ));
+    }
+
     protected void handleUnknownException(Exception e, DistributionEvent event) {
         notificationLogger.error("An unexpected error occurred while handling the following event: {}.", event.getEventId(), e);
         eventManager.sendEvent(new AuditFailedEvent(
@@ -0,0 +1,277 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.rest;
+
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.certificates.AlertSSLContextManager;
+import com.synopsys.integration.alert.api.common.model.exception.AlertRuntimeException;
+import com.synopsys.integration.alert.common.AlertProperties;
+import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
+import com.synopsys.integration.log.Slf4jIntLogger;
+import com.synopsys.integration.rest.client.IntHttpClient;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Hands out one {@link IntHttpClient} per destination host. Every client shares a pool of keep-alive connections, so consecutive webhook posts to the same host
+ * reuse an established TLS session instead of negotiating a new one. A client is replaced when the proxy for its host changes, and the whole pool is replaced
+ * when a certificate is added or removed.
+ */
+@Component
+public class ChannelHttpClientRegistry implements MeterBinder, DisposableBean {
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 10;
+    public static final String CONNECTIONS_METRIC = "alert.channel.http.connections";
+    public static final String CLIENTS_METRIC = "alert.channel.http.clients";
+    public static final String TAG_STATE = "state";
+
+    private static final int TIMEOUT = 5 * 60 * 1000;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLISECONDS = 2000;
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final AlertProperties alertProperties;
+    private final ProxyManager proxyManager;
+    private final Gson gson;
+    private final AlertSSLContextManager alertSSLContextManager;
+    private final int maxConnections;
+    private final int maxConnectionsPerHost;
+
+    private final Map<String, PooledClient> clientsByOrigin = new ConcurrentHashMap<>();
+    private volatile ConnectionPool connectionPool;
+
+    @Autowired
+    public ChannelHttpClientRegistry(
+        AlertProperties alertProperties,
+        ProxyManager proxyManager,
+        Gson gson,
+        AlertSSLContextManager alertSSLContextManager,
+        @Value("${alert.channel.http.max.connections:" + DEFAULT_MAX_CONNECTIONS + "}") int maxConnections,
+        @Value("${alert.channel.http.max.connections.per.host:" + DEFAULT_MAX_CONNECTIONS_PER_HOST + "}") int maxConnectionsPerHost
+    ) {
+        this.alertProperties = alertProperties;
+        this.proxyManager = proxyManager;
+        this.gson = gson;
+        this.alertSSLContextManager = alertSSLContextManager;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    public IntHttpClient getClient(String url) {
+        ConnectionPool pool = getCurrentConnectionPool();
+        pool.getConnectionManager().closeExpiredConnections();
+        pool.getConnectionManager().closeIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        ProxyInfo proxyInfo = proxyManager.createProxyInfoForHost(url);
+        PooledClient pooledClient = clientsByOrigin.compute(extractOrigin(url), (origin, existingClient) -> {
+            if (null != existingClient && existingClient.isUsable(pool, proxyInfo)) {
+                return existingClient;
+            }
+            logger.debug("Creating a pooled HTTP client for {}", origin);
+            return new PooledClient(pool, proxyInfo, createIntHttpClient(pool, proxyInfo));
+        });
+        return pooledClient.getIntHttpClient();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerConnectionGauge(registry, "leased", PoolStats::getLeased);
+        registerConnectionGauge(registry, "available", PoolStats::getAvailable);
+        registerConnectionGauge(registry, "pending", PoolStats::getPending);
+        registerConnectionGauge(registry, "max", PoolStats::getMax);
+        Gauge.builder(CLIENTS_METRIC, clientsByOrigin, Map::size)
+            .description("The number of destination hosts with a pooled HTTP client")
+            .register(registry);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (null != connectionPool) {
+            connectionPool.getConnectionManager().shutdown();
+            connectionPool = null;
+        }
+        clientsByOrigin.clear();
+    }
+
+    private void registerConnectionGauge(MeterRegistry registry, String state, ToDoubleFunction<PoolStats> statistic) {
+        Gauge.builder(CONNECTIONS_METRIC, this, clientRegistry -> clientRegistry.getPoolStats().map(statistic::applyAsDouble).orElse(0.0))
+            .description("The connections in the pool shared by the channel HTTP clients")
+            .tag(TAG_STATE, state)
+            .register(registry);
+    }
+
+    private Optional<PoolStats> getPoolStats() {
+        return Optional.ofNullable(connectionPool)
+            .map(ConnectionPool::getConnectionManager)
+            .map(PoolingHttpClientConnectionManager::getTotalStats);
+    }
+
+    private ConnectionPool getCurrentConnectionPool() {
+        long configurationVersion = alertSSLContextManager.getConfigurationVersion();
+        ConnectionPool pool = connectionPool;
+        if (null != pool && pool.getConfigurationVersion() == configurationVersion) {
+            return pool;
+        }
+        return replaceConnectionPool(configurationVersion);
+    }
+
+    private synchronized ConnectionPool replaceConnectionPool(long configurationVersion) {
+        ConnectionPool previousPool = connectionPool;
+        if (null != previousPool && previousPool.getConfigurationVersion() == configurationVersion) {
+            return previousPool;
+        }
+
+        ConnectionPool newPool = createConnectionPool(configurationVersion);
+        connectionPool = newPool;
+        clientsByOrigin.clear();
+        if (null != previousPool) {
+            logger.info("The certificate configuration changed. Replacing the pooled channel HTTP connections.");
+            previousPool.getConnectionManager().shutdown();
+        }
+        return newPool;
+    }
+
+    private ConnectionPool createConnectionPool(long configurationVersion) {
+        Optional<SSLContext> sslContext = alertSSLContextManager.buildWithClientCertificate();
+        boolean alwaysTrustServerCertificate = alertProperties.getAlertTrustCertificate().orElse(Boolean.FALSE);
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", createSslSocketFactory(sslContext.orElse(null), alwaysTrustServerCertificate))
+            .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLISECONDS);
+        return new ConnectionPool(configurationVersion, connectionManager, sslContext.orElse(null), alwaysTrustServerCertificate);
+    }
+
+    private SSLConnectionSocketFactory createSslSocketFactory(SSLContext sslContext, boolean alwaysTrustServerCertificate) {
+        if (null != sslContext) {
+            return new SSLConnectionSocketFactory(sslContext);
+        }
+        if (alwaysTrustServerCertificate) {
+            try {
+                SSLContext trustAllContext = SSLContextBuilder.create()
+                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
+                    .build();
+                return new SSLConnectionSocketFactory(trustAllContext, NoopHostnameVerifier.INSTANCE);
+            } catch (GeneralSecurityException e) {
+                throw new AlertRuntimeException("Could not create an SSL context that trusts all server certificates", e);
+            }
+        }
+        return SSLConnectionSocketFactory.getSocketFactory();
+    }
+
+    private IntHttpClient createIntHttpClient(ConnectionPool pool, ProxyInfo proxyInfo) {
+        Slf4jIntLogger intLogger = new Slf4jIntLogger(logger);
+        IntHttpClient intHttpClient = pool.getSslContext()
+            .map(context -> new IntHttpClient(intLogger, gson, TIMEOUT, proxyInfo, context))
+            .orElseGet(() -> new IntHttpClient(intLogger, gson, TIMEOUT, pool.isAlwaysTrustServerCertificate(), proxyInfo));
+        // The client closes itself after every response, so the pool must outlive it
+        intHttpClient.getClientBuilder()
+            .setConnectionManager(pool.getConnectionManager())
+            .setConnectionManagerShared(true);
+        return intHttpClient;
+    }
+
+    private String extractOrigin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (null != uri.getScheme() && null != uri.getHost()) {
+                return String.format("%s://%s:%d", uri.getScheme(), uri.getHost(), uri.getPort());
+            }
+        } catch (IllegalArgumentException e) {
+            logger.trace("Could not parse the URL {}. Using it as the client key.", url, e);
+        }
+        return url;
+    }
+
+    private static class ConnectionPool {
+        private final long configurationVersion;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final SSLContext sslContext;
+        private final boolean alwaysTrustServerCertificate;
+
+        public ConnectionPool(long configurationVersion, PoolingHttpClientConnectionManager connectionManager, SSLContext sslContext, boolean alwaysTrustServerCertificate) {
+            this.configurationVersion = configurationVersion;
+            this.connectionManager = connectionManager;
+            this.sslContext = sslContext;
+            this.alwaysTrustServerCertificate = alwaysTrustServerCertificate;
+        }
+
+        public long getConfigurationVersion() {
+            return configurationVersion;
+        }
+
+        public PoolingHttpClientConnectionManager getConnectionManager() {
+            return connectionManager;
+        }
+
+        public Optional<SSLContext> getSslContext() {
+            return Optional.ofNullable(sslContext);
+        }
+
+        public boolean isAlwaysTrustServerCertificate() {
+            return alwaysTrustServerCertificate;
+        }
+
+    }
+
+    private static class PooledClient {
+        private final ConnectionPool connectionPool;
+        private final ProxyInfo proxyInfo;
+        private final IntHttpClient intHttpClient;
+
+        public PooledClient(ConnectionPool connectionPool, ProxyInfo proxyInfo, IntHttpClient intHttpClient) {
+            this.connectionPool = connectionPool;
+            this.proxyInfo = proxyInfo;
+            this.intHttpClient = intHttpClient;
+        }
+
+        public boolean isUsable(ConnectionPool currentPool, ProxyInfo currentProxyInfo) {
+            return connectionPool == currentPool && proxyInfo.equals(currentProxyInfo);
+        }
+
+        public IntHttpClient getIntHttpClient() {
+            return intHttpClient;
+        }
+
+    }
+
+}
@@ -30,12 +30,26 @@ import com.synopsys.integration.rest.response.Response;
 public class RestChannelUtility {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final IntHttpClient intHttpClient;
+    @Nullable
+    private final WebhookDispatcher webhookDispatcher;
 
     public RestChannelUtility(IntHttpClient intHttpClient) {
+        this(intHttpClient, null);
+    }
+
+    /**
+     * @param webhookDispatcher when present, requests are rate limited per webhook and throttled requests are retried instead of failing the whole batch.
+     */
+    public RestChannelUtility(IntHttpClient intHttpClient, @Nullable WebhookDispatcher webhookDispatcher) {
         this.intHttpClient = intHttpClient;
+        this.webhookDispatcher = webhookDispatcher;
     }
 
     public void sendMessage(List<Request> requests, String eventDestination) throws AlertException {
+        if (null != webhookDispatcher) {
+            webhookDispatcher.dispatch(intHttpClient, requests, eventDestination);
+            return;
+        }
         for (Request request : requests) {
             sendMessageRequest(request, eventDestination);
         }
@@ -68,7 +82,7 @@ public class RestChannelUtility {
     private void sendMessageRequest(Request request, String messageType) throws AlertException {
         logger.info("Attempting to send a {} message...", messageType);
         try (Response response = sendGenericRequest(request)) {
-            if (RestConstants.OK_200 >= response.getStatusCode() && response.getStatusCode() < RestConstants.MULT_CHOICE_300) {
+            if (response.getStatusCode() >= RestConstants.OK_200 && response.getStatusCode() < RestConstants.MULT_CHOICE_300) {
                 logger.info("Successfully sent a {} message!", messageType);
             } else {
                 throw new AlertException(String.format("Could not send message: %s. Status code: %s", response.getStatusMessage(), response.getStatusCode()));
@@ -0,0 +1,221 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.rest;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.rest.HttpUrl;
+import com.synopsys.integration.rest.RestConstants;
+import com.synopsys.integration.rest.client.IntHttpClient;
+import com.synopsys.integration.rest.request.Request;
+import com.synopsys.integration.rest.response.Response;
+
+/**
+ * Posts webhook requests without tripping the rate limits of services like Slack and MS Teams. Every webhook has a token bucket that spaces out its requests, and a
+ * throttled request waits for the time the service asks for in its Retry-After header before it is sent again. Requests for the same webhook are sent one at a
+ * time in their original order. Requests for different webhooks are sent in parallel, up to a fixed number at once.
+ */
+@Component
+public class WebhookDispatcher implements DisposableBean {
+    public static final double DEFAULT_REQUESTS_PER_SECOND = 1.0;
+    public static final int DEFAULT_BURST_SIZE = 4;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final int DEFAULT_MAX_RETRY_WAIT_SECONDS = 60;
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private static final int TOO_MANY_REQUESTS_429 = 429;
+    private static final int SERVICE_UNAVAILABLE_503 = 503;
+    private static final Duration INITIAL_RETRY_WAIT = Duration.ofSeconds(1);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final double requestsPerSecond;
+    private final int burstSize;
+    private final int maxRetries;
+    private final Duration maxRetryWait;
+    private final ExecutorService executorService;
+    private final Map<String, WebhookTokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WebhookDispatcher(
+        @Value("${alert.channel.webhook.requests.per.second:" + DEFAULT_REQUESTS_PER_SECOND + "}") double requestsPerSecond,
+        @Value("${alert.channel.webhook.burst.size:" + DEFAULT_BURST_SIZE + "}") int burstSize,
+        @Value("${alert.channel.webhook.parallelism:" + DEFAULT_PARALLELISM + "}") int parallelism,
+        @Value("${alert.channel.webhook.max.retries:" + DEFAULT_MAX_RETRIES + "}") int maxRetries,
+        @Value("${alert.channel.webhook.max.retry.wait.seconds:" + DEFAULT_MAX_RETRY_WAIT_SECONDS + "}") int maxRetryWaitSeconds
+    ) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burstSize = Math.max(1, burstSize);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.maxRetryWait = Duration.ofSeconds(maxRetryWaitSeconds);
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, parallelism), new CustomizableThreadFactory("alert-webhook-"));
+    }
+
+    public void dispatch(IntHttpClient intHttpClient, List<Request> requests, String messageType) throws AlertException {
+        Map<String, List<Request>> requestsByWebhook = new LinkedHashMap<>();
+        for (Request request : requests) {
+            requestsByWebhook.computeIfAbsent(extractWebhook(request), ignored -> new ArrayList<>()).add(request);
+        }
+
+        if (requestsByWebhook.size() <= 1) {
+            for (Map.Entry<String, List<Request>> webhookRequests : requestsByWebhook.entrySet()) {
+                sendInOrder(intHttpClient, webhookRequests.getKey(), webhookRequests.getValue(), messageType);
+            }
+            return;
+        }
+
+        List<CompletableFuture<Void>> webhookFutures = new ArrayList<>();
+        for (Map.Entry<String, List<Request>> webhookRequests : requestsByWebhook.entrySet()) {
+            webhookFutures.add(CompletableFuture.runAsync(() -> sendInOrderUnchecked(intHttpClient, webhookRequests.getKey(), webhookRequests.getValue(), messageType), executorService));
+        }
+        waitForAll(webhookFutures, messageType);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private void waitForAll(List<CompletableFuture<Void>> webhookFutures, String messageType) throws AlertException {
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<Void> webhookFuture : webhookFutures) {
+            try {
+                webhookFuture.join();
+            } catch (CompletionException e) {
+                failures.add(e.getCause());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            Throwable firstFailure = failures.get(0);
+            String errorMessage = String.format("Could not send %s messages to %d of %d webhooks: %s", messageType, failures.size(), webhookFutures.size(), firstFailure.getMessage());
+            if (firstFailure instanceof WebhookThrottledException) {
+                throw new WebhookThrottledException(errorMessage, firstFailure);
+            }
+            throw new AlertException(errorMessage, firstFailure);
+        }
+    }
+
+    private void sendInOrderUnchecked(IntHttpClient intHttpClient, String webhook, List<Request> requests, String messageType) {
+        try {
+            sendInOrder(intHttpClient, webhook, requests, messageType);
+        } catch (AlertException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void sendInOrder(IntHttpClient intHttpClient, String webhook, List<Request> requests, String messageType) throws AlertException {
+        WebhookTokenBucket tokenBucket = tokenBuckets.computeIfAbsent(webhook, ignored -> new WebhookTokenBucket(requestsPerSecond, burstSize, System.nanoTime()));
+        // Stopping at the first failure keeps later messages from arriving before the one that failed
+        for (Request request : requests) {
+            sendWithRetries(intHttpClient, tokenBucket, request, messageType);
+        }
+    }
+
+    private void sendWithRetries(IntHttpClient intHttpClient, WebhookTokenBucket tokenBucket, Request request, String messageType) throws AlertException {
+        logger.info("Attempting to send a {} message...", messageType);
+        for (int attempt = 0; ; attempt++) {
+            waitFor(Duration.ofNanos(tokenBucket.reservePermit(System.nanoTime())));
+            try (Response response = intHttpClient.execute(request)) {
+                logger.trace("Response: {}", response);
+                int statusCode = response.getStatusCode();
+                if (statusCode >= RestConstants.OK_200 && statusCode < RestConstants.MULT_CHOICE_300) {
+                    logger.info("Successfully sent a {} message!", messageType);
+                    return;
+                }
+
+                String failureMessage = String.format("Could not send message: %s. Status code: %s", response.getStatusMessage(), statusCode);
+                if (!isThrottled(statusCode)) {
+                    throw new AlertException(failureMessage);
+                }
+                if (attempt >= maxRetries) {
+                    throw new WebhookThrottledException(String.format("%s. The message was still throttled after %d retries", failureMessage, maxRetries));
+                }
+
+                Duration backoff = INITIAL_RETRY_WAIT.multipliedBy(1L << attempt);
+                Duration retryWait = parseRetryAfter(response.getHeaderValue(RETRY_AFTER_HEADER)).orElse(backoff);
+                if (retryWait.compareTo(maxRetryWait) > 0) {
+                    throw new WebhookThrottledException(String.format("%s. The service asked to wait %d seconds, which is longer than the limit of %d seconds", failureMessage, retryWait.toSeconds(), maxRetryWait.toSeconds()));
+                }
+                logger.debug("The {} webhook throttled a message. Retrying in {} ms.", messageType, retryWait.toMillis());
+                long nowNanos = System.nanoTime();
+                tokenBucket.pauseUntil(nowNanos, nowNanos + retryWait.toNanos());
+            } catch (AlertException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new AlertException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean isThrottled(int statusCode) {
+        return TOO_MANY_REQUESTS_429 == statusCode || SERVICE_UNAVAILABLE_503 == statusCode;
+    }
+
+    private Optional<Duration> parseRetryAfter(@Nullable String retryAfter) {
+        if (StringUtils.isBlank(retryAfter)) {
+            return Optional.empty();
+        }
+        String trimmedRetryAfter = retryAfter.trim();
+        if (StringUtils.isNumeric(trimmedRetryAfter)) {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(trimmedRetryAfter)));
+        }
+        try {
+            ZonedDateTime retryTime = ZonedDateTime.parse(trimmedRetryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration untilRetry = Duration.between(ZonedDateTime.now(retryTime.getZone()), retryTime);
+            return Optional.of(untilRetry.isNegative() ? Duration.ZERO : untilRetry);
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring the unreadable {} header: {}", RETRY_AFTER_HEADER, retryAfter);
+            return Optional.empty();
+        }
+    }
+
+    private void waitFor(Duration duration) throws AlertException {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AlertException("Interrupted while waiting to send a webhook message", e);
+        }
+    }
+
+    private String extractWebhook(Request request) {
+        return Optional.ofNullable(request.getUrl())
+            .map(HttpUrl::string)
+            .orElse(StringUtils.EMPTY);
+    }
+
+}
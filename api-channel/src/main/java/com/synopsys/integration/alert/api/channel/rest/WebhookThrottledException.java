@@ -0,0 +1,27 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.rest;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+
+/**
+ * Thrown when a webhook kept throttling a message after it was retried, or asked to wait longer than Alert is willing to. The message and the ones after it
+ * for the same webhook were not sent.
+ */
+public class WebhookThrottledException extends AlertException {
+    private static final long serialVersionUID = 4710263853316047092L;
+
+    public WebhookThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public WebhookThrottledException(String message) {
+        super(message);
+    }
+
+}
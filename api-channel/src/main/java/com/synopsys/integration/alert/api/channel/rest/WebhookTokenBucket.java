@@ -0,0 +1,62 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.rest;
+
+/**
+ * Spaces out the requests sent to one webhook. Permits refill at a steady rate up to the burst size, and a caller that finds none left reserves the next one and
+ * waits for it. Times are {@link System#nanoTime()} values.
+ */
+class WebhookTokenBucket {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double permitsPerSecond;
+    private final double burstSize;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    WebhookTokenBucket(double permitsPerSecond, int burstSize, long nowNanos) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        this.availablePermits = burstSize;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * @return how many nanoseconds the caller has to wait before it may use the permit it reserved.
+     */
+    synchronized long reservePermit(long nowNanos) {
+        refill(nowNanos);
+        availablePermits -= 1.0;
+        long refillStartDelay = Math.max(0L, lastRefillNanos - nowNanos);
+        if (availablePermits >= 0.0 || permitsPerSecond <= 0.0) {
+            return refillStartDelay;
+        }
+        return refillStartDelay + (long) (-availablePermits * NANOS_PER_SECOND / permitsPerSecond);
+    }
+
+    /**
+     * Holds back every request until the given time, for example because the webhook answered with a Retry-After header. Only one request goes out when the pause
+     * ends, and the rest follow at the refill rate.
+     */
+    synchronized void pauseUntil(long nowNanos, long resumeNanos) {
+        refill(nowNanos);
+        if (resumeNanos > lastRefillNanos) {
+            lastRefillNanos = resumeNanos;
+            availablePermits = Math.min(availablePermits, 1.0);
+        }
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            double refilledPermits = (nowNanos - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND;
+            availablePermits = Math.min(burstSize, availablePermits + refilledPermits);
+            lastRefillNanos = nowNanos;
+        }
+    }
+
+}
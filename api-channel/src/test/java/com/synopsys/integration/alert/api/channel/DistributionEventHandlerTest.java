@@ -1,24 +1,41 @@
 package com.synopsys.integration.alert.api.channel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import com.synopsys.integration.alert.api.channel.rest.WebhookThrottledException;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.api.distribution.audit.AuditFailedEvent;
+import com.synopsys.integration.alert.api.event.AlertEvent;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKey;
 import com.synopsys.integration.alert.api.processor.distribute.DistributionEvent;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
+import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
 class DistributionEventHandlerTest {
     private final ChannelKey channelKey = new ChannelKey("test universal key", "Test Universal Key");
+    private final DistributionPayloadAccessor payloadAccessor = Mockito.mock(DistributionPayloadAccessor.class);
+    private final DistributionPayloadStore payloadStore = new DistributionPayloadStore(
+        BlackDuckServicesFactory.createDefaultGson(),
+        payloadAccessor,
+        DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES
+    );
 
     @Test
     void handleEventSuccessTest() {
@@ -33,7 +50,7 @@ class DistributionEventHandlerTest {
             return null;
         };
 
-        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager);
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager, payloadStore);
 
         UUID testJobId = UUID.randomUUID();
         UUID jobExecutionId = UUID.randomUUID();
@@ -58,7 +75,7 @@ class DistributionEventHandlerTest {
             throw testException;
         };
 
-        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager);
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager, payloadStore);
 
         UUID testJobId = UUID.randomUUID();
         UUID jobExecutionId = UUID.randomUUID();
@@ -70,6 +87,32 @@ class DistributionEventHandlerTest {
         assertEquals(1, count.get());
     }
 
+    @Test
+    void handleEventThrottledTest() {
+        EventManager eventManager = Mockito.mock(EventManager.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+        DistributionChannel<DistributionJobDetailsModel> channel = (u, v, w, x, y, z) -> {
+            throw new WebhookThrottledException("Could not send message: Too Many Requests. Status code: 429");
+        };
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager, payloadStore);
+
+        Set<Long> testNotificationIds = Set.of(1L, 3L, 5L);
+        DistributionEvent testEvent = new DistributionEvent(channelKey, UUID.randomUUID(), UUID.randomUUID(), "jobName", testNotificationIds, null);
+        eventHandler.handle(testEvent);
+
+        ArgumentCaptor<AlertEvent> sentEvents = ArgumentCaptor.forClass(AlertEvent.class);
+        Mockito.verify(eventManager, Mockito.atLeastOnce()).sendEvent(sentEvents.capture());
+        List<AuditFailedEvent> auditFailedEvents = sentEvents.getAllValues()
+            .stream()
+            .filter(AuditFailedEvent.class::isInstance)
+            .map(AuditFailedEvent.class::cast)
+            .collect(Collectors.toList());
+        assertEquals(1, auditFailedEvents.size());
+        assertEquals(testNotificationIds, auditFailedEvents.get(0).getNotificationIds());
+        assertTrue(auditFailedEvents.get(0).getErrorMessage().contains("Status code: 429"));
+    }
+
     @Test
     void handleEventJobDetailsMissingTest() {
         AtomicInteger count = new AtomicInteger(0);
@@ -79,7 +122,7 @@ class DistributionEventHandlerTest {
             count.incrementAndGet();
             return null;
         };
-        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager);
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager, payloadStore);
 
         UUID testJobId = UUID.randomUUID();
         UUID jobExecutionId = UUID.randomUUID();
@@ -91,4 +134,47 @@ class DistributionEventHandlerTest {
         assertEquals(0, count.get());
     }
 
+    @Test
+    void handleEventWithStoredPayloadTest() {
+        AtomicInteger count = new AtomicInteger(0);
+        EventManager eventManager = Mockito.mock(EventManager.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+        DistributionChannel<DistributionJobDetailsModel> channel = (u, providerMessages, w, x, y, z) -> {
+            assertEquals(ProviderMessageHolder.empty(), providerMessages);
+            count.incrementAndGet();
+            return null;
+        };
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager, payloadStore);
+
+        UUID payloadId = UUID.randomUUID();
+        Mockito.when(payloadAccessor.getPayload(payloadId)).thenReturn(Optional.of(BlackDuckServicesFactory.createDefaultGson().toJson(ProviderMessageHolder.empty())));
+        DistributionEvent testEvent = DistributionEvent.withStoredPayload(channelKey, UUID.randomUUID(), UUID.randomUUID(), "jobName", Set.of(1L), payloadId);
+        eventHandler.handle(testEvent);
+
+        assertEquals(1, count.get());
+        Mockito.verify(payloadAccessor).deletePayload(payloadId);
+    }
+
+    @Test
+    void handleEventWithMissingPayloadTest() {
+        AtomicInteger count = new AtomicInteger(0);
+        EventManager eventManager = Mockito.mock(EventManager.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+        DistributionChannel<DistributionJobDetailsModel> channel = (u, v, w, x, y, z) -> {
+            count.incrementAndGet();
+            return null;
+        };
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, eventManager, payloadStore);
+
+        UUID payloadId = UUID.randomUUID();
+        Mockito.when(payloadAccessor.getPayload(payloadId)).thenReturn(Optional.empty());
+        DistributionEvent testEvent = DistributionEvent.withStoredPayload(channelKey, UUID.randomUUID(), UUID.randomUUID(), "jobName", Set.of(1L), payloadId);
+        eventHandler.handle(testEvent);
+
+        assertEquals(0, count.get());
+        Mockito.verify(eventManager).sendEvent(Mockito.any(AuditFailedEvent.class));
+    }
+
 }
@@ -0,0 +1,130 @@
+package com.synopsys.integration.alert.api.channel.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.certificates.AlertSSLContextManager;
+import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
+import com.synopsys.integration.alert.test.common.MockAlertProperties;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+import com.synopsys.integration.rest.client.IntHttpClient;
+import com.synopsys.integration.rest.credentials.Credentials;
+import com.synopsys.integration.rest.credentials.CredentialsBuilder;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+import com.synopsys.integration.rest.proxy.ProxyInfoBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChannelHttpClientRegistryTest {
+    private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
+
+    private ProxyManager proxyManager;
+    private AlertSSLContextManager alertSSLContextManager;
+    private ChannelHttpClientRegistry httpClientRegistry;
+
+    @BeforeEach
+    void init() {
+        MockAlertProperties testAlertProperties = new MockAlertProperties();
+        testAlertProperties.setAlertTrustCertificate(true);
+        proxyManager = Mockito.mock(ProxyManager.class);
+        alertSSLContextManager = Mockito.mock(AlertSSLContextManager.class);
+        Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(ProxyInfo.NO_PROXY_INFO);
+        Mockito.when(alertSSLContextManager.buildWithClientCertificate()).thenReturn(Optional.empty());
+        Mockito.when(alertSSLContextManager.getConfigurationVersion()).thenReturn(0L);
+        httpClientRegistry = new ChannelHttpClientRegistry(
+            testAlertProperties,
+            proxyManager,
+            gson,
+            alertSSLContextManager,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST
+        );
+    }
+
+    @Test
+    void testConnectionFields() {
+        ProxyInfo expectedProxyInfo = createProxyInfo("host", 1);
+        Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(expectedProxyInfo);
+
+        IntHttpClient intHttpClient = httpClientRegistry.getClient("https://example-base-url");
+
+        assertNotNull(intHttpClient);
+        assertEquals(expectedProxyInfo, intHttpClient.getProxyInfo());
+    }
+
+    @Test
+    void reusesClientForSameHostTest() {
+        IntHttpClient firstClient = httpClientRegistry.getClient("https://hooks.example.com/services/first");
+        IntHttpClient secondClient = httpClientRegistry.getClient("https://hooks.example.com/services/second");
+        IntHttpClient otherHostClient = httpClientRegistry.getClient("https://other.example.com/services/first");
+
+        assertSame(firstClient, secondClient);
+        assertNotSame(firstClient, otherHostClient);
+        Mockito.verify(alertSSLContextManager, Mockito.times(1)).buildWithClientCertificate();
+    }
+
+    @Test
+    void replacesClientWhenProxyChangesTest() {
+        String url = "https://hooks.example.com/services/first";
+        IntHttpClient firstClient = httpClientRegistry.getClient(url);
+
+        ProxyInfo newProxyInfo = createProxyInfo("proxy.example.com", 8080);
+        Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(newProxyInfo);
+        IntHttpClient secondClient = httpClientRegistry.getClient(url);
+
+        assertNotSame(firstClient, secondClient);
+        assertEquals(newProxyInfo, secondClient.getProxyInfo());
+    }
+
+    @Test
+    void replacesClientWhenCertificatesChangeTest() {
+        String url = "https://hooks.example.com/services/first";
+        IntHttpClient firstClient = httpClientRegistry.getClient(url);
+
+        Mockito.when(alertSSLContextManager.getConfigurationVersion()).thenReturn(1L);
+        IntHttpClient secondClient = httpClientRegistry.getClient(url);
+
+        assertNotSame(firstClient, secondClient);
+        Mockito.verify(alertSSLContextManager, Mockito.times(2)).buildWithClientCertificate();
+    }
+
+    @Test
+    void poolMetricsTest() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        httpClientRegistry.bindTo(meterRegistry);
+        httpClientRegistry.getClient("https://hooks.example.com/services/first");
+
+        double maxConnections = meterRegistry.get(ChannelHttpClientRegistry.CONNECTIONS_METRIC)
+            .tag(ChannelHttpClientRegistry.TAG_STATE, "max")
+            .gauge()
+            .value();
+        double clientCount = meterRegistry.get(ChannelHttpClientRegistry.CLIENTS_METRIC).gauge().value();
+
+        assertEquals(ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS, maxConnections);
+        assertEquals(1, clientCount);
+    }
+
+    private ProxyInfo createProxyInfo(String host, int port) {
+        CredentialsBuilder builder = Credentials.newBuilder();
+        builder.setUsername("username");
+        builder.setPassword("password");
+
+        ProxyInfoBuilder proxyBuilder = ProxyInfo.newBuilder();
+        proxyBuilder.setHost(host);
+        proxyBuilder.setPort(port);
+        proxyBuilder.setCredentials(builder.build());
+        proxyBuilder.setNtlmDomain(null);
+        proxyBuilder.setNtlmWorkstation(null);
+        return proxyBuilder.build();
+    }
+
+}
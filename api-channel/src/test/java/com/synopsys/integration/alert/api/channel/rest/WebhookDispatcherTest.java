@@ -0,0 +1,117 @@
+package com.synopsys.integration.alert.api.channel.rest;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.client.IntHttpClient;
+import com.synopsys.integration.rest.request.Request;
+import com.synopsys.integration.rest.response.Response;
+
+class WebhookDispatcherTest {
+    private static final String MESSAGE_TYPE = "test";
+    private static final String FIRST_WEBHOOK = "https://hooks.example.com/first";
+    private static final String SECOND_WEBHOOK = "https://hooks.example.com/second";
+
+    private final RestChannelUtility requestCreator = new RestChannelUtility(null);
+    private final WebhookDispatcher webhookDispatcher = new WebhookDispatcher(1000.0, 100, 2, 2, 5);
+
+    @AfterEach
+    void cleanup() {
+        webhookDispatcher.destroy();
+    }
+
+    @Test
+    void retriesThrottledRequestTest() throws IntegrationException {
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Response throttledResponse = createResponse(429, "0");
+        Response okResponse = createResponse(200, null);
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(throttledResponse, okResponse);
+
+        assertDoesNotThrow(() -> webhookDispatcher.dispatch(intHttpClient, List.of(createRequest(FIRST_WEBHOOK, "1")), MESSAGE_TYPE));
+        Mockito.verify(intHttpClient, Mockito.times(2)).execute(Mockito.any(Request.class));
+    }
+
+    @Test
+    void failsAfterMaxRetriesTest() throws IntegrationException {
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Response throttledResponse = createResponse(429, "0");
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(throttledResponse);
+
+        List<Request> requests = List.of(createRequest(FIRST_WEBHOOK, "1"));
+        assertThrows(WebhookThrottledException.class, () -> webhookDispatcher.dispatch(intHttpClient, requests, MESSAGE_TYPE));
+        // The first attempt plus two retries
+        Mockito.verify(intHttpClient, Mockito.times(3)).execute(Mockito.any(Request.class));
+    }
+
+    @Test
+    void failsWhenRetryAfterIsTooLongTest() throws IntegrationException {
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Response throttledResponse = createResponse(429, "3600");
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(throttledResponse);
+
+        List<Request> requests = List.of(createRequest(FIRST_WEBHOOK, "1"));
+        assertThrows(WebhookThrottledException.class, () -> webhookDispatcher.dispatch(intHttpClient, requests, MESSAGE_TYPE));
+        Mockito.verify(intHttpClient, Mockito.times(1)).execute(Mockito.any(Request.class));
+    }
+
+    @Test
+    void doesNotRetryClientErrorTest() throws IntegrationException {
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Response badResponse = createResponse(400, null);
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(badResponse);
+
+        List<Request> requests = List.of(createRequest(FIRST_WEBHOOK, "1"), createRequest(FIRST_WEBHOOK, "2"));
+        assertThrows(AlertException.class, () -> webhookDispatcher.dispatch(intHttpClient, requests, MESSAGE_TYPE));
+        Mockito.verify(intHttpClient, Mockito.times(1)).execute(Mockito.any(Request.class));
+    }
+
+    @Test
+    void keepsOrderWithinWebhookTest() throws IntegrationException, AlertException {
+        List<Request> sentRequests = Collections.synchronizedList(new ArrayList<>());
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Response okResponse = createResponse(200, null);
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenAnswer(invocation -> {
+            sentRequests.add(invocation.getArgument(0));
+            return okResponse;
+        });
+
+        Request firstWebhookFirstRequest = createRequest(FIRST_WEBHOOK, "1");
+        Request secondWebhookFirstRequest = createRequest(SECOND_WEBHOOK, "1");
+        Request firstWebhookSecondRequest = createRequest(FIRST_WEBHOOK, "2");
+        Request secondWebhookSecondRequest = createRequest(SECOND_WEBHOOK, "2");
+        Request firstWebhookThirdRequest = createRequest(FIRST_WEBHOOK, "3");
+        List<Request> requests = List.of(firstWebhookFirstRequest, secondWebhookFirstRequest, firstWebhookSecondRequest, secondWebhookSecondRequest, firstWebhookThirdRequest);
+        webhookDispatcher.dispatch(intHttpClient, requests, MESSAGE_TYPE);
+
+        assertEquals(5, sentRequests.size());
+        assertTrue(sentRequests.indexOf(firstWebhookFirstRequest) < sentRequests.indexOf(firstWebhookSecondRequest));
+        assertTrue(sentRequests.indexOf(firstWebhookSecondRequest) < sentRequests.indexOf(firstWebhookThirdRequest));
+        assertTrue(sentRequests.indexOf(secondWebhookFirstRequest) < sentRequests.indexOf(secondWebhookSecondRequest));
+    }
+
+    private Request createRequest(String webhook, String body) {
+        return requestCreator.createPostMessageRequest(webhook, Map.of(), body);
+    }
+
+    private Response createResponse(int statusCode, String retryAfter) {
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusCode()).thenReturn(statusCode);
+        Mockito.when(response.getStatusMessage()).thenReturn(String.valueOf(statusCode));
+        Mockito.when(response.getHeaderValue(WebhookDispatcher.RETRY_AFTER_HEADER)).thenReturn(retryAfter);
+        return response;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.synopsys.integration.alert.api.channel.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class WebhookTokenBucketTest {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstThenSteadyRateTest() {
+        long start = 0L;
+        WebhookTokenBucket tokenBucket = new WebhookTokenBucket(1.0, 2, start);
+
+        assertEquals(0L, tokenBucket.reservePermit(start));
+        assertEquals(0L, tokenBucket.reservePermit(start));
+        assertEquals(ONE_SECOND, tokenBucket.reservePermit(start));
+        assertEquals(2 * ONE_SECOND, tokenBucket.reservePermit(start));
+    }
+
+    @Test
+    void refillsOverTimeTest() {
+        long start = 0L;
+        WebhookTokenBucket tokenBucket = new WebhookTokenBucket(1.0, 1, start);
+
+        assertEquals(0L, tokenBucket.reservePermit(start));
+        assertEquals(0L, tokenBucket.reservePermit(start + ONE_SECOND));
+    }
+
+    @Test
+    void pauseHoldsBackRequestsTest() {
+        long start = 0L;
+        WebhookTokenBucket tokenBucket = new WebhookTokenBucket(1.0, 4, start);
+
+        tokenBucket.pauseUntil(start, start + 5 * ONE_SECOND);
+
+        assertEquals(5 * ONE_SECOND, tokenBucket.reservePermit(start));
+        assertEquals(6 * ONE_SECOND, tokenBucket.reservePermit(start));
+    }
+
+}
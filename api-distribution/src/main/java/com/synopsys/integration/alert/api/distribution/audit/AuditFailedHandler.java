@@ -11,20 +11,18 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJob;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.event.AlertEventHandler;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
-import com.synopsys.integration.alert.common.persistence.accessor.ProcessingFailedAccessor;
-import com.synopsys.integration.alert.common.util.DateUtils;
 
 @Component
 public class AuditFailedHandler implements AlertEventHandler<AuditFailedEvent> {
-    private final ProcessingFailedAccessor processingFailedAccessor;
+    private final AuditJournal auditJournal;
     private final ExecutingJobManager executingJobManager;
 
     @Autowired
     public AuditFailedHandler(
-        ProcessingFailedAccessor processingFailedAccessor,
+        AuditJournal auditJournal,
         ExecutingJobManager executingJobManager
     ) {
-        this.processingFailedAccessor = processingFailedAccessor;
+        this.auditJournal = auditJournal;
         this.executingJobManager = executingJobManager;
     }
 
@@ -33,19 +31,7 @@ public class AuditFailedHandler implements AlertEventHandler<AuditFailedEvent> {
         UUID jobExecutionId = event.getJobExecutionId();
         UUID jobConfigId = event.getJobConfigId();
         Instant eventCreatedTime = Instant.ofEpochMilli(event.getCreatedTimestamp());
-        synchronized (this) {
-            if (event.getStackTrace().isPresent()) {
-                processingFailedAccessor.setAuditFailure(
-                    jobConfigId,
-                    event.getNotificationIds(),
-                    DateUtils.fromInstantUTC(eventCreatedTime),
-                    event.getErrorMessage(),
-                    event.getStackTrace().orElse("NO STACK TRACE")
-                );
-            } else {
-                processingFailedAccessor.setAuditFailure(jobConfigId, event.getNotificationIds(), DateUtils.fromInstantUTC(eventCreatedTime), event.getErrorMessage());
-            }
-        }
+        auditJournal.appendFailure(jobConfigId, event.getNotificationIds(), eventCreatedTime, event.getErrorMessage(), event.getStackTrace().orElse(null));
         executingJobManager.updateJobStatus(jobExecutionId, AuditEntryStatus.FAILURE);
         executingJobManager.getExecutingJob(jobExecutionId)
             .filter(Predicate.not(ExecutingJob::hasRemainingEvents))
@@ -0,0 +1,485 @@
+/*
+ * api-distribution
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.distribution.audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.alert.common.AlertProperties;
+import com.synopsys.integration.alert.common.persistence.accessor.ProcessingFailedAccessor;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Records audit failures in an append-only journal on the local disk so that the distribution path does not wait on the database.
+ * A background writer coalesces the journaled failures per job and notification and writes them to the database in batches.
+ * Journal segments are only deleted once their failures have been written, so failures that were not yet written when Alert stopped are written after it starts again.
+ */
+@Component
+public class AuditJournal implements MeterBinder, DisposableBean {
+    public static final String JOURNAL_DIRECTORY_NAME = "audit-journal";
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000L;
+    public static final String PENDING_METRIC = "alert.audit.journal.pending";
+    public static final String LAG_METRIC = "alert.audit.journal.lag";
+    public static final String FLUSHED_METRIC = "alert.audit.journal.flushed";
+    public static final String LAST_FLUSH_AGE_METRIC = "alert.audit.journal.last.flush.age";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ProcessingFailedAccessor processingFailedAccessor;
+    private final Gson gson;
+    private final File journalDirectory;
+    private final ScheduledExecutorService flushExecutor;
+
+    private final Object journalLock = new Object();
+    private final Object flushLock = new Object();
+    private final Map<JournalKey, AuditJournalEntry> pendingEntries = new LinkedHashMap<>();
+    private final List<Path> unflushedSegments = new ArrayList<>();
+    private final AtomicLong flushedCount = new AtomicLong(0L);
+    private long nextSegmentNumber;
+    private Path currentSegment;
+    private Writer currentSegmentWriter;
+    private Instant lastFlushTime;
+
+    @Autowired
+    public AuditJournal(
+        ProcessingFailedAccessor processingFailedAccessor,
+        Gson gson,
+        AlertProperties alertProperties,
+        @Value("${alert.audit.journal.flush.interval.millis:" + DEFAULT_FLUSH_INTERVAL_MILLIS + "}") long flushIntervalMillis
+    ) {
+        this(processingFailedAccessor, gson, new File(createDataDirectoryPath(alertProperties), JOURNAL_DIRECTORY_NAME), flushIntervalMillis);
+    }
+
+    /**
+     * @param flushIntervalMillis The time between writes to the database. A value less than one disables the background writer; {@link #flush()} must then be called explicitly.
+     */
+    public AuditJournal(ProcessingFailedAccessor processingFailedAccessor, Gson gson, File journalDirectory, long flushIntervalMillis) {
+        this.processingFailedAccessor = processingFailedAccessor;
+        this.gson = gson;
+        this.journalDirectory = journalDirectory;
+        this.lastFlushTime = Instant.now();
+        recoverSegments();
+
+        if (flushIntervalMillis > 0) {
+            this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "audit-journal-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flushExecutor = null;
+        }
+    }
+
+    public void appendFailure(UUID jobConfigId, Set<Long> notificationIds, Instant occurrence, String errorMessage, @Nullable String stackTrace) {
+        AuditJournalEntry entry = new AuditJournalEntry(jobConfigId, notificationIds, occurrence.toEpochMilli(), errorMessage, stackTrace);
+        String journalLine = gson.toJson(entry);
+        synchronized (journalLock) {
+            try {
+                Writer segmentWriter = getCurrentSegmentWriter();
+                segmentWriter.write(journalLine);
+                segmentWriter.write(System.lineSeparator());
+                segmentWriter.flush();
+            } catch (IOException e) {
+                // The failure is still audited if Alert keeps running, it is only at risk if Alert stops before the next flush.
+                logger.error("Could not write audit failure for job {} to the audit journal", jobConfigId, e);
+            }
+            addPendingEntry(entry);
+        }
+    }
+
+    /**
+     * Writes every failure journaled so far to the database. Failures that could not be written are kept and retried by the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushPendingEntries();
+        }
+    }
+
+    private void flushPendingEntries() {
+        List<AuditJournalEntry> entriesToFlush;
+        List<Path> segmentsToDelete;
+        synchronized (journalLock) {
+            if (pendingEntries.isEmpty() && unflushedSegments.isEmpty()) {
+                lastFlushTime = Instant.now();
+                return;
+            }
+            closeCurrentSegment();
+            entriesToFlush = new ArrayList<>(pendingEntries.values());
+            segmentsToDelete = new ArrayList<>(unflushedSegments);
+            pendingEntries.clear();
+        }
+
+        try {
+            writeEntries(entriesToFlush);
+        } catch (RuntimeException e) {
+            synchronized (journalLock) {
+                // Keep the entries that were appended while flushing behind the ones that failed, the order of the journal is preserved.
+                Map<JournalKey, AuditJournalEntry> appendedEntries = new LinkedHashMap<>(pendingEntries);
+                pendingEntries.clear();
+                entriesToFlush.forEach(this::addPendingEntry);
+                appendedEntries.values().forEach(this::addPendingEntry);
+            }
+            throw e;
+        }
+
+        synchronized (journalLock) {
+            for (Path segment : segmentsToDelete) {
+                deleteSegment(segment);
+                unflushedSegments.remove(segment);
+            }
+            lastFlushTime = Instant.now();
+        }
+        flushedCount.addAndGet(entriesToFlush.stream().mapToLong(entry -> entry.getNotificationIds().size()).sum());
+    }
+
+    /**
+     * @return The number of job and notification pairs that have been journaled but not yet written to the database.
+     */
+    public int getPendingCount() {
+        synchronized (journalLock) {
+            return pendingEntries.size();
+        }
+    }
+
+    /**
+     * @return How long the oldest failure that has not yet been written to the database has been waiting, or zero if every failure has been written.
+     */
+    public Duration getLag() {
+        synchronized (journalLock) {
+            return pendingEntries.values()
+                .stream()
+                .findFirst()
+                .map(entry -> Duration.between(Instant.ofEpochMilli(entry.getJournaledTime()), Instant.now()))
+                .orElse(Duration.ZERO);
+        }
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public Instant getLastFlushTime() {
+        synchronized (journalLock) {
+            return lastFlushTime;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PENDING_METRIC, this, AuditJournal::getPendingCount)
+            .description("The number of job and notification failures journaled but not yet written to the database")
+            .register(registry);
+        Gauge.builder(LAG_METRIC, this, auditJournal -> auditJournal.getLag().toMillis())
+            .description("How long the oldest failure not yet written to the database has been waiting")
+            .baseUnit("milliseconds")
+            .register(registry);
+        FunctionCounter.builder(FLUSHED_METRIC, this, AuditJournal::getFlushedCount)
+            .description("The number of job and notification failures written to the database")
+            .register(registry);
+        Gauge.builder(LAST_FLUSH_AGE_METRIC, this, auditJournal -> Duration.between(auditJournal.getLastFlushTime(), Instant.now()).toMillis())
+            .description("The time since the audit journal was last written to the database")
+            .baseUnit("milliseconds")
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (null != flushExecutor) {
+            flushExecutor.shutdownNow();
+        }
+        flushQuietly();
+        synchronized (journalLock) {
+            closeCurrentSegment();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Could not write the audit journal to the database, it will be retried. Pending notifications: {}", getPendingCount(), e);
+        }
+    }
+
+    private void writeEntries(Collection<AuditJournalEntry> entries) {
+        // Failures of a job with the same occurrence and error are written together, which is how they arrive from a single audit failed event.
+        Map<AuditJournalEntry, Set<Long>> notificationIdsByFailure = new LinkedHashMap<>();
+        for (AuditJournalEntry entry : entries) {
+            notificationIdsByFailure.computeIfAbsent(entry.withoutNotifications(), ignored -> new LinkedHashSet<>()).addAll(entry.getNotificationIds());
+        }
+
+        for (Map.Entry<AuditJournalEntry, Set<Long>> failure : notificationIdsByFailure.entrySet()) {
+            AuditJournalEntry entry = failure.getKey();
+            Optional<String> stackTrace = entry.getStackTrace();
+            if (stackTrace.isPresent()) {
+                processingFailedAccessor.setAuditFailure(entry.getJobConfigId(), failure.getValue(), entry.getOccurrence(), entry.getErrorMessage(), stackTrace.get());
+            } else {
+                processingFailedAccessor.setAuditFailure(entry.getJobConfigId(), failure.getValue(), entry.getOccurrence(), entry.getErrorMessage());
+            }
+        }
+    }
+
+    // Only the first failure of a notification for a job is audited, so later failures of the same pair are coalesced into it.
+    private void addPendingEntry(AuditJournalEntry entry) {
+        for (Long notificationId : entry.getNotificationIds()) {
+            pendingEntries.putIfAbsent(new JournalKey(entry.getJobConfigId(), notificationId), entry.forNotification(notificationId));
+        }
+    }
+
+    private Writer getCurrentSegmentWriter() throws IOException {
+        if (null == currentSegmentWriter) {
+            Files.createDirectories(journalDirectory.toPath());
+            currentSegment = journalDirectory.toPath().resolve(String.format("%s%019d%s", SEGMENT_PREFIX, nextSegmentNumber, SEGMENT_SUFFIX));
+            nextSegmentNumber++;
+            currentSegmentWriter = Files.newBufferedWriter(currentSegment, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            unflushedSegments.add(currentSegment);
+        }
+        return currentSegmentWriter;
+    }
+
+    private void closeCurrentSegment() {
+        if (null != currentSegmentWriter) {
+            try {
+                currentSegmentWriter.close();
+            } catch (IOException e) {
+                logger.warn("Could not close audit journal segment {}", currentSegment, e);
+            }
+            currentSegmentWriter = null;
+            currentSegment = null;
+        }
+    }
+
+    private void deleteSegment(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            // The failures of the segment are already written, replaying them after a restart will not audit them twice.
+            logger.warn("Could not delete audit journal segment {}", segment, e);
+        }
+    }
+
+    private void recoverSegments() {
+        if (!journalDirectory.isDirectory()) {
+            return;
+        }
+        List<Path> segments;
+        try (Stream<Path> journalFiles = Files.list(journalDirectory.toPath())) {
+            segments = journalFiles
+                .filter(path -> isSegmentFileName(path.getFileName().toString()))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.error("Could not read the audit journal directory {}", journalDirectory, e);
+            return;
+        }
+
+        for (Path segment : segments) {
+            recoverSegment(segment);
+            unflushedSegments.add(segment);
+            nextSegmentNumber = Math.max(nextSegmentNumber, parseSegmentNumber(segment.getFileName().toString()) + 1);
+        }
+        if (!pendingEntries.isEmpty()) {
+            logger.info("Recovered {} audit failures from the audit journal", pendingEntries.size());
+        }
+    }
+
+    private void recoverSegment(Path segment) {
+        try {
+            for (String journalLine : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                if (StringUtils.isBlank(journalLine)) {
+                    continue;
+                }
+                try {
+                    Optional.ofNullable(gson.fromJson(journalLine, AuditJournalEntry.class))
+                        .filter(AuditJournalEntry::isComplete)
+                        .ifPresent(this::addPendingEntry);
+                } catch (JsonParseException e) {
+                    // A line that was only partly written when Alert stopped.
+                    logger.warn("Skipping an unreadable entry in audit journal segment {}", segment);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Could not read audit journal segment {}", segment, e);
+        }
+    }
+
+    private static boolean isSegmentFileName(String fileName) {
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX) && parseSegmentNumber(fileName) >= 0;
+    }
+
+    private static long parseSegmentNumber(String fileName) {
+        String segmentNumber = StringUtils.substringBetween(fileName, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        try {
+            return Long.parseLong(segmentNumber);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static String createDataDirectoryPath(AlertProperties alertProperties) {
+        String dataDirectory = "data/";
+        if (StringUtils.isNotBlank(alertProperties.getAlertConfigHome())) {
+            dataDirectory = String.format("%s/data", alertProperties.getAlertConfigHome());
+        }
+        return dataDirectory;
+    }
+
+    private static class JournalKey {
+        private final UUID jobConfigId;
+        private final Long notificationId;
+
+        public JournalKey(UUID jobConfigId, Long notificationId) {
+            this.jobConfigId = jobConfigId;
+            this.notificationId = notificationId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            JournalKey that = (JournalKey) o;
+            return Objects.equals(jobConfigId, that.jobConfigId) && Objects.equals(notificationId, that.notificationId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobConfigId, notificationId);
+        }
+    }
+
+    private static class AuditJournalEntry {
+        private final UUID jobConfigId;
+        private final Set<Long> notificationIds;
+        private final long occurrence;
+        private final long journaledTime;
+        private final String errorMessage;
+        private final String stackTrace;
+
+        public AuditJournalEntry(UUID jobConfigId, Set<Long> notificationIds, long occurrence, String errorMessage, @Nullable String stackTrace) {
+            this(jobConfigId, notificationIds, occurrence, Instant.now().toEpochMilli(), errorMessage, stackTrace);
+        }
+
+        private AuditJournalEntry(UUID jobConfigId, Set<Long> notificationIds, long occurrence, long journaledTime, String errorMessage, @Nullable String stackTrace) {
+            this.jobConfigId = jobConfigId;
+            this.notificationIds = notificationIds;
+            this.occurrence = occurrence;
+            this.journaledTime = journaledTime;
+            this.errorMessage = errorMessage;
+            this.stackTrace = stackTrace;
+        }
+
+        public UUID getJobConfigId() {
+            return jobConfigId;
+        }
+
+        public Set<Long> getNotificationIds() {
+            return notificationIds;
+        }
+
+        public OffsetDateTime getOccurrence() {
+            return DateUtils.fromInstantUTC(Instant.ofEpochMilli(occurrence));
+        }
+
+        public long getJournaledTime() {
+            return journaledTime;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public Optional<String> getStackTrace() {
+            return Optional.ofNullable(stackTrace);
+        }
+
+        public boolean isComplete() {
+            return null != jobConfigId && null != notificationIds;
+        }
+
+        public AuditJournalEntry forNotification(Long notificationId) {
+            return new AuditJournalEntry(jobConfigId, Set.of(notificationId), occurrence, journaledTime, errorMessage, stackTrace);
+        }
+
+        public AuditJournalEntry withoutNotifications() {
+            // The journaled time only drives the lag, it does not distinguish failures.
+            return new AuditJournalEntry(jobConfigId, Set.of(), occurrence, 0L, errorMessage, stackTrace);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            AuditJournalEntry that = (AuditJournalEntry) o;
+            return occurrence == that.occurrence
+                && journaledTime == that.journaledTime
+                && Objects.equals(jobConfigId, that.jobConfigId)
+                && Objects.equals(notificationIds, that.notificationIds)
+                && Objects.equals(errorMessage, that.errorMessage)
+                && Objects.equals(stackTrace, that.stackTrace);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobConfigId, notificationIds, occurrence, journaledTime, errorMessage, stackTrace);
+        }
+    }
+
+}
@@ -1,16 +1,12 @@
 package com.synopsys.integration.alert.api.distribution.audit;
 
 import java.time.Instant;
-import java.util.UUID;
-import java.util.function.Predicate;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.synopsys.integration.alert.api.distribution.execution.ExecutingJob;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.event.AlertEventHandler;
-import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
 
 @Component
 public class AuditSuccessHandler implements AlertEventHandler<AuditSuccessEvent> {
@@ -23,12 +19,7 @@ public class AuditSuccessHandler implements AlertEventHandler<AuditSuccessEvent>
 
     @Override
     public void handle(AuditSuccessEvent event) {
-        UUID jobExecutionId = event.getJobExecutionId();
-        executingJobManager.getExecutingJob(jobExecutionId)
-            .filter(Predicate.not(ExecutingJob::isCompleted))
-            .ifPresent(executingJob -> {
-                executingJobManager.updateJobStatus(jobExecutionId, AuditEntryStatus.SUCCESS);
-                executingJobManager.endJob(jobExecutionId, Instant.ofEpochMilli(event.getCreatedTimestamp()));
-            });
+        // A job is distributed in several events, so it only ends once the last of them has been sent
+        executingJobManager.endJobIfDistributed(event.getJobExecutionId(), Instant.ofEpochMilli(event.getCreatedTimestamp()));
     }
 }
@@ -1,6 +1,7 @@
 package com.synopsys.integration.alert.api.distribution.audit;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -12,17 +13,22 @@ import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.task.StartupScheduledTask;
 import com.synopsys.integration.alert.api.task.TaskManager;
+import com.synopsys.integration.alert.api.task.TaskMetaData;
+import com.synopsys.integration.alert.api.task.TaskMetaDataProperty;
 import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.FieldUtility;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingFailedAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
+import com.synopsys.integration.alert.common.persistence.purge.PurgeEngine;
+import com.synopsys.integration.alert.common.persistence.purge.PurgeProgress;
 import com.synopsys.integration.alert.common.util.DateUtils;
 
 @Component
 public class FailedAuditPurgeTask extends StartupScheduledTask {
     public static final String CRON_EXPRESSION_FORMAT = "0 0 0 1/%s * ?";
     public static final Integer DEFAULT_FREQUENCY = 10;
+    private static final String FAILED_AUDIT_PURGE_NAME = "failedAudit";
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final ProcessingFailedAccessor failedAuditAccessor;
 
@@ -30,17 +36,20 @@ public class FailedAuditPurgeTask extends StartupScheduledTask {
     public static final String KEY_PURGE_AUDIT_FAILED_FREQUENCY_DAYS = "scheduling.purge.data.audit.failed.frequency";
     public static final String DESCRIPTOR_NAME = "component_scheduling";
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
+    private final PurgeEngine purgeEngine;
 
     @Autowired
     public FailedAuditPurgeTask(
         TaskScheduler taskScheduler,
         TaskManager taskManager,
         ProcessingFailedAccessor failedAuditAccessor,
-        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor,
+        PurgeEngine purgeEngine
     ) {
         super(taskScheduler, taskManager);
         this.failedAuditAccessor = failedAuditAccessor;
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
+        this.purgeEngine = purgeEngine;
     }
 
     @Override
@@ -54,6 +63,12 @@ public class FailedAuditPurgeTask extends StartupScheduledTask {
         purgeOldData();
     }
 
+    @Override
+    public TaskMetaData createTaskMetaData() {
+        List<TaskMetaDataProperty> properties = purgeEngine.createTaskMetaDataProperties(FAILED_AUDIT_PURGE_NAME, "Failed Audit");
+        return new TaskMetaData(getTaskName(), getClass().getSimpleName(), computeFullyQualifiedName(getClass()), getFormatedNextRunTime().orElse(""), properties);
+    }
+
     @Override
     public void postTaskStartup() {
         CompletableFuture.supplyAsync(this::purgeOldData);
@@ -64,7 +79,8 @@ public class FailedAuditPurgeTask extends StartupScheduledTask {
             .minusDays(getConfiguredFrequency())
             .withHour(0).withMinute(0).withSecond(0).withNano(0);
         logger.info("Purging old failed Audit entries older than {}", purgeDate);
-        failedAuditAccessor.deleteAuditEntriesBefore(purgeDate);
+        PurgeProgress purgeProgress = purgeEngine.purgeInBatches(FAILED_AUDIT_PURGE_NAME, maxEntries -> failedAuditAccessor.deleteAuditEntriesBefore(purgeDate, maxEntries));
+        logger.info("Purged {} failed Audit entries", purgeProgress.getDeletedCount());
         return Boolean.TRUE;
     }
 
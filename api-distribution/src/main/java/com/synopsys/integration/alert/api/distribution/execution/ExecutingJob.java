@@ -8,10 +8,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
 
 public class ExecutingJob {
     private final UUID executionId;
     private final UUID jobConfigId;
+    private final PipelineMetricTags metricTags;
     private final Instant start;
     private Instant end;
     private AuditEntryStatus status;
@@ -26,12 +28,17 @@ public class ExecutingJob {
     private final Map<JobStage, ExecutingJobStage> stages = new ConcurrentHashMap<>();
 
     public static ExecutingJob startJob(UUID jobConfigId, int totalNotificationCount) {
-        return new ExecutingJob(jobConfigId, Instant.now(), AuditEntryStatus.PENDING, totalNotificationCount);
+        return startJob(jobConfigId, PipelineMetricTags.forJob(jobConfigId, null, null), totalNotificationCount);
     }
 
-    private ExecutingJob(UUID jobConfigId, Instant start, AuditEntryStatus status, int totalNotificationCount) {
+    public static ExecutingJob startJob(UUID jobConfigId, PipelineMetricTags metricTags, int totalNotificationCount) {
+        return new ExecutingJob(jobConfigId, metricTags, Instant.now(), AuditEntryStatus.PENDING, totalNotificationCount);
+    }
+
+    private ExecutingJob(UUID jobConfigId, PipelineMetricTags metricTags, Instant start, AuditEntryStatus status, int totalNotificationCount) {
         this.executionId = UUID.randomUUID();
         this.jobConfigId = jobConfigId;
+        this.metricTags = metricTags;
         this.start = start;
         this.status = status;
         this.processedNotificationCount = new AtomicInteger(0);
@@ -104,6 +111,10 @@ public class ExecutingJob {
         return jobConfigId;
     }
 
+    public PipelineMetricTags getMetricTags() {
+        return metricTags;
+    }
+
     public int getProcessedNotificationCount() {
         return processedNotificationCount.get();
     }
@@ -16,6 +16,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusDurations;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusModel;
@@ -27,15 +30,21 @@ public class ExecutingJobManager {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final Map<UUID, ExecutingJob> executingJobMap = new ConcurrentHashMap<>();
     private final JobCompletionStatusModelAccessor jobCompletionStatusAccessor;
+    private final PipelineMetrics pipelineMetrics;
 
     @Autowired
-    public ExecutingJobManager(JobCompletionStatusModelAccessor jobCompletionStatusAccessor) {
+    public ExecutingJobManager(JobCompletionStatusModelAccessor jobCompletionStatusAccessor, PipelineMetrics pipelineMetrics) {
         this.jobCompletionStatusAccessor = jobCompletionStatusAccessor;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     public ExecutingJob startJob(UUID jobConfigId, int totalNotificationCount) {
+        return startJob(jobConfigId, PipelineMetricTags.forJob(jobConfigId, null, null), totalNotificationCount);
+    }
+
+    public ExecutingJob startJob(UUID jobConfigId, PipelineMetricTags metricTags, int totalNotificationCount) {
         logger.debug("Starting job for config: {} ({} notifications)", jobConfigId, totalNotificationCount);
-        ExecutingJob job = ExecutingJob.startJob(jobConfigId, totalNotificationCount);
+        ExecutingJob job = ExecutingJob.startJob(jobConfigId, metricTags, totalNotificationCount);
         executingJobMap.putIfAbsent(job.getExecutionId(), job);
         Optional<JobCompletionStatusModel> jobExecutionStatusModel = jobCompletionStatusAccessor.getJobExecutionStatus(jobConfigId);
         if (jobExecutionStatusModel.isEmpty()) {
@@ -53,10 +62,26 @@ public class ExecutingJobManager {
         executingJob.ifPresent(execution -> {
             execution.endJob(DateUtils.fromInstantUTC(endTime).toInstant());
             jobCompletionStatusAccessor.saveExecutionStatus(createStatusModel(execution));
+            recordMetrics(execution);
             purgeJob(executionId);
         });
     }
 
+    /**
+     * Ends the job execution once no events are outstanding and it either failed or sent every notification it expected to send.
+     */
+    public void endJobIfDistributed(UUID executionId, Instant endTime) {
+        getExecutingJob(executionId).ifPresent(execution -> {
+            synchronized (execution) {
+                boolean distributed = AuditEntryStatus.FAILURE == execution.getStatus() || execution.getNotificationsSent() >= execution.getExpectedNotificationsToSend();
+                if (executingJobMap.containsKey(executionId) && !execution.hasRemainingEvents() && distributed) {
+                    execution.updateStatus(AuditEntryStatus.SUCCESS);
+                    endJob(executionId, endTime);
+                }
+            }
+        });
+    }
+
     public void updateJobStatus(UUID executionId, AuditEntryStatus status) {
         String statusName = status.name();
         logger.debug("Updating status for job execution {} to {}", executionId, statusName);
@@ -211,6 +236,19 @@ public class ExecutingJobManager {
         );
     }
 
+    // Each stage is recorded once per execution, from its first start to its last end, so stages spread over many events are not counted repeatedly
+    private void recordMetrics(ExecutingJob executingJob) {
+        PipelineMetricTags metricTags = executingJob.getMetricTags();
+        for (ExecutingJobStage executedStage : executingJob.getStages().values()) {
+            executedStage.getEnd()
+                .map(stageEnd -> Duration.between(executedStage.getStart(), stageEnd))
+                .ifPresent(stageDuration -> pipelineMetrics.recordDuration(executedStage.getStage().getPipelineStage(), metricTags, stageDuration));
+        }
+        pipelineMetrics.countNotifications(PipelineStage.JOB_PROCESSING, metricTags, executingJob.getProcessedNotificationCount());
+        pipelineMetrics.countNotifications(PipelineStage.DISTRIBUTION, metricTags, executingJob.getNotificationsSent());
+        pipelineMetrics.countJobExecution(metricTags, executingJob.getStatus());
+    }
+
     private Long calculateJobStageDuration(ExecutingJob executingJob, JobStage stage) {
         return executingJob.getStage(stage)
             .filter(executingJobStage -> executingJobStage.getEnd().isPresent())
@@ -1,9 +1,21 @@
 package com.synopsys.integration.alert.api.distribution.execution;
 
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
+
 public enum JobStage {
-    NOTIFICATION_PROCESSING,
-    CHANNEL_PROCESSING,
-    ISSUE_CREATION,
-    ISSUE_COMMENTING,
-    ISSUE_TRANSITION
+    NOTIFICATION_PROCESSING(PipelineStage.JOB_PROCESSING),
+    CHANNEL_PROCESSING(PipelineStage.DISTRIBUTION),
+    ISSUE_CREATION(PipelineStage.ISSUE_CREATION),
+    ISSUE_COMMENTING(PipelineStage.ISSUE_COMMENTING),
+    ISSUE_TRANSITION(PipelineStage.ISSUE_TRANSITION);
+
+    private final PipelineStage pipelineStage;
+
+    JobStage(PipelineStage pipelineStage) {
+        this.pipelineStage = pipelineStage;
+    }
+
+    public PipelineStage getPipelineStage() {
+        return pipelineStage;
+    }
 }
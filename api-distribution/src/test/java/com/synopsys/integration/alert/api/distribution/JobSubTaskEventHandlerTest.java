@@ -19,11 +19,14 @@ import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionSta
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusRepository;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.event.distribution.JobSubTaskEvent;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.database.job.api.DefaultJobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.database.job.execution.JobCompletionDurationsRepository;
 import com.synopsys.integration.alert.database.job.execution.JobCompletionRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class JobSubTaskEventHandlerTest {
     private EventManager eventManager;
     private ExecutingJobManager executingJobManager;
@@ -34,7 +37,7 @@ class JobSubTaskEventHandlerTest {
         JobCompletionDurationsRepository jobCompletionDurationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(jobCompletionDurationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, jobCompletionDurationsRepository);
-        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
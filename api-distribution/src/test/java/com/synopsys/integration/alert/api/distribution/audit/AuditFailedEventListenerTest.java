@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
@@ -16,6 +17,7 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.amqp.core.Message;
 import org.springframework.core.task.SyncTaskExecutor;
@@ -35,12 +37,14 @@ import com.synopsys.integration.alert.api.distribution.mock.MockNotificationCont
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingFailedAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModelBuilder;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusModel;
@@ -64,12 +68,17 @@ import com.synopsys.integration.alert.database.notification.NotificationContentR
 import com.synopsys.integration.alert.database.notification.NotificationEntity;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuditFailedEventListenerTest {
     public static final String TEST_JOB_NAME = "Test Job";
     private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
     private final TaskExecutor taskExecutor = new SyncTaskExecutor();
     private ProcessingAuditAccessor processingAuditAccessor;
     private AuditEntryRepository auditEntryRepository;
+    @TempDir
+    Path tempDir;
+
     private ExecutingJobManager executingJobManager;
     private final AtomicLong idContainer = new AtomicLong(0L);
 
@@ -85,17 +94,17 @@ class AuditFailedEventListenerTest {
     public void init() {
         AuditNotificationRepository auditNotificationRepository = new MockAuditNotificationRepository(this::generateRelationKey);
         AuditEntryRepository auditEntryRepository = new MockAuditEntryRepository(this::generateEntityKey, auditNotificationRepository);
-        processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, auditNotificationRepository);
+        processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, null, new DiagnosticCounters());
         notificationContentRepository = new MockNotificationContentRepository(this::generateNotificationId);
         auditFailedEntryRepository = new MockAuditFailedEntryRepository(AuditFailedEntity::getId);
         auditFailedNotificationRepository = new MockAuditFailedNotificationRepository(AuditFailedNotificationEntity::getNotificationId);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
-        notificationAccessor = new DefaultNotificationAccessor(notificationContentRepository, auditEntryRepository, configurationModelConfigurationAccessor);
+        notificationAccessor = new DefaultNotificationAccessor(notificationContentRepository, auditEntryRepository, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         JobCompletionDurationsRepository jobCompletionDurationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(jobCompletionDurationsRepository);
 
         jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, jobCompletionDurationsRepository);
-        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     private Long generateNotificationId(NotificationEntity entity) {
@@ -139,7 +148,8 @@ class AuditFailedEventListenerTest {
             notificationAccessor,
             jobAccessor
         );
-        AuditFailedHandler handler = new AuditFailedHandler(processingFailedAccessor, executingJobManager);
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        AuditFailedHandler handler = new AuditFailedHandler(auditJournal, executingJobManager);
 
         notificationIds.stream()
             .map(this::createNotification)
@@ -148,6 +158,7 @@ class AuditFailedEventListenerTest {
         AuditFailedEvent event = new AuditFailedEvent(executingJobId, jobConfigId, notificationIds, errorMessage, stackTrace);
         Message message = new Message(gson.toJson(event).getBytes());
         listener.onMessage(message);
+        auditJournal.flush();
 
         List<AuditFailedEntity> failedEntities = auditFailedEntryRepository.findAll();
         for (AuditFailedEntity entity : failedEntities) {
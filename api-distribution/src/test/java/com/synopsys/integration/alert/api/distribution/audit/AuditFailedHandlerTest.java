@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
@@ -16,8 +17,10 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJob;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
@@ -31,11 +34,13 @@ import com.synopsys.integration.alert.api.distribution.mock.MockNotificationCont
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingFailedAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModelBuilder;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusModel;
@@ -57,9 +62,14 @@ import com.synopsys.integration.alert.database.job.execution.JobCompletionReposi
 import com.synopsys.integration.alert.database.notification.NotificationContentRepository;
 import com.synopsys.integration.alert.database.notification.NotificationEntity;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuditFailedHandlerTest {
     public static final String TEST_JOB_NAME = "Test Job";
 
+    @TempDir
+    Path tempDir;
+
     private ExecutingJobManager executingJobManager;
     private final AtomicLong idContainer = new AtomicLong(0L);
 
@@ -81,12 +91,12 @@ class AuditFailedHandlerTest {
         auditFailedEntryRepository = new MockAuditFailedEntryRepository(AuditFailedEntity::getId);
         auditFailedNotificationRepository = new MockAuditFailedNotificationRepository(AuditFailedNotificationEntity::getNotificationId);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
-        notificationAccessor = new DefaultNotificationAccessor(notificationContentRepository, auditEntryRepository, configurationModelConfigurationAccessor);
+        notificationAccessor = new DefaultNotificationAccessor(notificationContentRepository, auditEntryRepository, configurationModelConfigurationAccessor, null, new DiagnosticCounters());
         JobCompletionDurationsRepository jobCompletionDurationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(jobCompletionDurationsRepository);
 
         jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, jobCompletionDurationsRepository);
-        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     private Long generateNotificationId(NotificationEntity entity) {
@@ -131,13 +141,15 @@ class AuditFailedHandlerTest {
         String stackTrace = "Stack trace goes here";
         UUID executingJobId = executingJob.getExecutionId();
 
-        AuditFailedHandler handler = new AuditFailedHandler(processingFailedAccessor, executingJobManager);
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, new Gson(), tempDir.toFile(), 0L);
+        AuditFailedHandler handler = new AuditFailedHandler(auditJournal, executingJobManager);
         notificationIds.stream()
             .map(this::createNotification)
             .forEach(notificationContentRepository::save);
         AuditFailedEvent event = new AuditFailedEvent(executingJobId, jobConfigId, notificationIds, errorMessage, stackTrace);
 
         handler.handle(event);
+        auditJournal.flush();
 
         List<AuditFailedEntity> failedEntities = auditFailedEntryRepository.findAll();
         for (AuditFailedEntity entity : failedEntities) {
@@ -176,13 +188,15 @@ class AuditFailedHandlerTest {
         String errorMessage = "Error message";
         UUID executingJobId = executingJob.getExecutionId();
 
-        AuditFailedHandler handler = new AuditFailedHandler(processingFailedAccessor, executingJobManager);
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, new Gson(), tempDir.toFile(), 0L);
+        AuditFailedHandler handler = new AuditFailedHandler(auditJournal, executingJobManager);
         notificationIds.stream()
             .map(this::createNotification)
             .forEach(notificationContentRepository::save);
         AuditFailedEvent event = new AuditFailedEvent(executingJobId, jobConfigId, notificationIds, errorMessage, null);
 
         handler.handle(event);
+        auditJournal.flush();
 
         List<AuditFailedEntity> failedEntities = auditFailedEntryRepository.findAll();
         for (AuditFailedEntity entity : failedEntities) {
@@ -222,10 +236,12 @@ class AuditFailedHandlerTest {
         notificationIds.stream()
             .map(this::createNotification)
             .forEach(notificationContentRepository::save);
-        AuditFailedHandler handler = new AuditFailedHandler(processingFailedAccessor, executingJobManager);
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, new Gson(), tempDir.toFile(), 0L);
+        AuditFailedHandler handler = new AuditFailedHandler(auditJournal, executingJobManager);
         AuditFailedEvent event = new AuditFailedEvent(jobExecutionId, jobConfigId, notificationIds, errorMessage, stackTrace);
 
         handler.handle(event);
+        auditJournal.flush();
 
         List<AuditFailedEntity> failedEntities = auditFailedEntryRepository.findAll();
         for (AuditFailedEntity entity : failedEntities) {
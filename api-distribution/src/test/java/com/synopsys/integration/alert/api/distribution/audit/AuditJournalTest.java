@@ -0,0 +1,144 @@
+package com.synopsys.integration.alert.api.distribution.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.common.persistence.accessor.ProcessingFailedAccessor;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditJournalTest {
+    private static final String ERROR_MESSAGE = "Error message";
+    private static final String STACK_TRACE = "Stack trace goes here";
+
+    private final Gson gson = new Gson();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void flushCoalescesFailuresTest() {
+        UUID jobConfigId = UUID.randomUUID();
+        Instant occurrence = Instant.ofEpochMilli(System.currentTimeMillis());
+        ProcessingFailedAccessor processingFailedAccessor = Mockito.mock(ProcessingFailedAccessor.class);
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+
+        auditJournal.appendFailure(jobConfigId, Set.of(1L, 2L), occurrence, ERROR_MESSAGE, STACK_TRACE);
+        auditJournal.appendFailure(jobConfigId, Set.of(3L), occurrence, ERROR_MESSAGE, STACK_TRACE);
+        auditJournal.appendFailure(jobConfigId, Set.of(1L), occurrence.plusSeconds(1L), "Second failure", null);
+        assertEquals(3, auditJournal.getPendingCount());
+
+        auditJournal.flush();
+
+        Mockito.verify(processingFailedAccessor).setAuditFailure(jobConfigId, Set.of(1L, 2L, 3L), DateUtils.fromInstantUTC(occurrence), ERROR_MESSAGE, STACK_TRACE);
+        Mockito.verifyNoMoreInteractions(processingFailedAccessor);
+        assertEquals(0, auditJournal.getPendingCount());
+        assertEquals(3, auditJournal.getFlushedCount());
+        assertEquals(Duration.ZERO, auditJournal.getLag());
+        assertEquals(0, countSegments());
+    }
+
+    @Test
+    void recoverAfterRestartTest() {
+        UUID jobConfigId = UUID.randomUUID();
+        Instant occurrence = Instant.ofEpochMilli(System.currentTimeMillis());
+        ProcessingFailedAccessor processingFailedAccessor = Mockito.mock(ProcessingFailedAccessor.class);
+        AuditJournal stoppedJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        stoppedJournal.appendFailure(jobConfigId, Set.of(1L, 2L), occurrence, ERROR_MESSAGE, null);
+        Mockito.verifyNoInteractions(processingFailedAccessor);
+
+        AuditJournal restartedJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        assertEquals(2, restartedJournal.getPendingCount());
+        restartedJournal.flush();
+
+        Mockito.verify(processingFailedAccessor).setAuditFailure(jobConfigId, Set.of(1L, 2L), DateUtils.fromInstantUTC(occurrence), ERROR_MESSAGE);
+        assertEquals(0, countSegments());
+    }
+
+    @Test
+    void recoverSkipsPartialEntryTest() throws IOException {
+        UUID jobConfigId = UUID.randomUUID();
+        ProcessingFailedAccessor processingFailedAccessor = Mockito.mock(ProcessingFailedAccessor.class);
+        AuditJournal stoppedJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        stoppedJournal.appendFailure(jobConfigId, Set.of(1L), Instant.now(), ERROR_MESSAGE, STACK_TRACE);
+        stoppedJournal.destroy();
+        assertEquals(0, countSegments());
+
+        stoppedJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        stoppedJournal.appendFailure(jobConfigId, Set.of(2L), Instant.now(), ERROR_MESSAGE, STACK_TRACE);
+        try (Stream<Path> segments = Files.list(tempDir)) {
+            Path segment = segments.findFirst().orElseThrow(() -> new AssertionError("Expected a journal segment"));
+            Files.writeString(segment, "{\"jobConfigId\":\"", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+
+        AuditJournal restartedJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        assertEquals(1, restartedJournal.getPendingCount());
+    }
+
+    @Test
+    void failedFlushRetriedTest() {
+        UUID jobConfigId = UUID.randomUUID();
+        Instant occurrence = Instant.ofEpochMilli(System.currentTimeMillis());
+        ProcessingFailedAccessor processingFailedAccessor = Mockito.mock(ProcessingFailedAccessor.class);
+        Mockito.doThrow(new IllegalStateException("Database unavailable"))
+            .doNothing()
+            .when(processingFailedAccessor).setAuditFailure(ArgumentMatchers.any(), ArgumentMatchers.anySet(), ArgumentMatchers.any(), ArgumentMatchers.anyString());
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+
+        auditJournal.appendFailure(jobConfigId, Set.of(1L), occurrence, ERROR_MESSAGE, null);
+        assertThrows(IllegalStateException.class, auditJournal::flush);
+        assertEquals(1, auditJournal.getPendingCount());
+        assertTrue(countSegments() > 0);
+
+        auditJournal.flush();
+        Mockito.verify(processingFailedAccessor, Mockito.times(2)).setAuditFailure(jobConfigId, Set.of(1L), DateUtils.fromInstantUTC(occurrence), ERROR_MESSAGE);
+        assertEquals(0, auditJournal.getPendingCount());
+        assertEquals(0, countSegments());
+    }
+
+    @Test
+    void metricsTest() {
+        UUID jobConfigId = UUID.randomUUID();
+        ProcessingFailedAccessor processingFailedAccessor = Mockito.mock(ProcessingFailedAccessor.class);
+        AuditJournal auditJournal = new AuditJournal(processingFailedAccessor, gson, tempDir.toFile(), 0L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        auditJournal.bindTo(meterRegistry);
+
+        auditJournal.appendFailure(jobConfigId, Set.of(1L, 2L), Instant.now(), ERROR_MESSAGE, null);
+        assertEquals(2.0, meterRegistry.get(AuditJournal.PENDING_METRIC).gauge().value());
+        assertTrue(meterRegistry.get(AuditJournal.LAG_METRIC).gauge().value() >= 0.0);
+
+        auditJournal.flush();
+
+        assertEquals(0.0, meterRegistry.get(AuditJournal.PENDING_METRIC).gauge().value());
+        assertEquals(0.0, meterRegistry.get(AuditJournal.LAG_METRIC).gauge().value());
+        assertEquals(2.0, meterRegistry.get(AuditJournal.FLUSHED_METRIC).functionCounter().count());
+        assertTrue(meterRegistry.get(AuditJournal.LAST_FLUSH_AGE_METRIC).gauge().value() >= 0.0);
+    }
+
+    private long countSegments() {
+        File[] segments = tempDir.toFile().listFiles();
+        return null != segments ? segments.length : 0;
+    }
+
+}
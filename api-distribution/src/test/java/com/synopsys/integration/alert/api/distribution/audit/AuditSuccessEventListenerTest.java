@@ -18,6 +18,7 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobMan
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusDurationsRepository;
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusRepository;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusModel;
 import com.synopsys.integration.alert.database.job.api.DefaultJobCompletionStatusModelAccessor;
@@ -25,6 +26,8 @@ import com.synopsys.integration.alert.database.job.execution.JobCompletionDurati
 import com.synopsys.integration.alert.database.job.execution.JobCompletionRepository;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuditSuccessEventListenerTest {
     private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
     private final TaskExecutor taskExecutor = new SyncTaskExecutor();
@@ -38,7 +41,7 @@ class AuditSuccessEventListenerTest {
         JobCompletionDurationsRepository jobCompletionDurationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(jobCompletionDurationsRepository);
         jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, jobCompletionDurationsRepository);
-        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         handler = new AuditSuccessHandler(executingJobManager);
     }
 
@@ -3,6 +3,7 @@ package com.synopsys.integration.alert.api.distribution.audit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -15,6 +16,7 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobMan
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusDurationsRepository;
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusRepository;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedQueryDetails;
@@ -22,6 +24,8 @@ import com.synopsys.integration.alert.database.job.api.DefaultJobCompletionStatu
 import com.synopsys.integration.alert.database.job.execution.JobCompletionDurationsRepository;
 import com.synopsys.integration.alert.database.job.execution.JobCompletionRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuditSuccessHandlerTest {
     private ExecutingJobManager executingJobManager;
     private JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor;
@@ -31,7 +35,7 @@ class AuditSuccessHandlerTest {
         JobCompletionDurationsRepository jobCompletionDurationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(jobCompletionDurationsRepository);
         jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, jobCompletionDurationsRepository);
-        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -51,6 +55,31 @@ class AuditSuccessHandlerTest {
         assertTrue(executingJobManager.getExecutingJob(jobExecutionId).isEmpty());
     }
 
+    @Test
+    void handleEventBeforeJobDistributedTest() {
+        UUID jobId = UUID.randomUUID();
+        ExecutingJob executingJob = executingJobManager.startJob(jobId, 2);
+        UUID jobExecutionId = executingJob.getExecutionId();
+        executingJobManager.incrementExpectedNotificationsSent(jobExecutionId, 2);
+        executingJobManager.incrementSentNotificationCount(jobExecutionId, 1);
+        AuditSuccessHandler handler = new AuditSuccessHandler(executingJobManager);
+        handler.handle(new AuditSuccessEvent(jobExecutionId, jobId, Set.of(1L)));
+        assertTrue(executingJobManager.getExecutingJob(jobExecutionId).isPresent());
+
+        executingJobManager.incrementSentNotificationCount(jobExecutionId, 1);
+        executingJobManager.incrementRemainingEvents(jobExecutionId, 1);
+        handler.handle(new AuditSuccessEvent(jobExecutionId, jobId, Set.of(2L)));
+        assertTrue(executingJobManager.getExecutingJob(jobExecutionId).isPresent());
+
+        executingJobManager.decrementRemainingEvents(jobExecutionId);
+        executingJobManager.endJobIfDistributed(jobExecutionId, Instant.now());
+        JobCompletionStatusModel statusModel = jobCompletionStatusModelAccessor.getJobExecutionStatus(jobId)
+            .orElseThrow(() -> new AssertionError("Executing Job cannot be missing from the test."));
+        assertEquals(AuditEntryStatus.SUCCESS.name(), statusModel.getLatestStatus());
+        assertEquals(2, statusModel.getTotalNotificationCount());
+        assertTrue(executingJobManager.getExecutingJob(jobExecutionId).isEmpty());
+    }
+
     @Test
     void handleEventAuditMissingTest() {
         UUID jobId = UUID.randomUUID();
@@ -18,8 +18,10 @@ import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.SettingsKeyAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
+import com.synopsys.integration.alert.common.persistence.purge.PurgeEngine;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.database.audit.AuditFailedEntity;
 import com.synopsys.integration.alert.database.audit.AuditFailedNotificationEntity;
@@ -30,7 +32,7 @@ class FailedAuditPurgeTaskTest {
     @Test
     void cronExpressionTest() {
         ConfigurationModelConfigurationAccessor configurationAccessor = createConfigurationAccessor(-1);
-        FailedAuditPurgeTask task = new FailedAuditPurgeTask(null, null, null, configurationAccessor);
+        FailedAuditPurgeTask task = new FailedAuditPurgeTask(null, null, null, configurationAccessor, null);
         assertEquals(String.format(FailedAuditPurgeTask.CRON_EXPRESSION_FORMAT, FailedAuditPurgeTask.DEFAULT_FREQUENCY), task.scheduleCronExpression());
     }
 
@@ -91,7 +93,7 @@ class FailedAuditPurgeTaskTest {
         auditFailedNotificationRepository.save(new AuditFailedNotificationEntity(2L, "notification 2 content"));
         auditFailedNotificationRepository.save(new AuditFailedNotificationEntity(3L, "notification 3 content"));
 
-        FailedAuditPurgeTask task = new FailedAuditPurgeTask(null, null, processingFailedAccessor, configurationAccessor);
+        FailedAuditPurgeTask task = new FailedAuditPurgeTask(null, null, processingFailedAccessor, configurationAccessor, createPurgeEngine(notificationAccessor));
         task.runTask();
         assertEquals(1, auditFailedEntryRepository.count());
         assertEquals(1, auditFailedNotificationRepository.count());
@@ -173,7 +175,7 @@ class FailedAuditPurgeTaskTest {
         auditFailedNotificationRepository.save(new AuditFailedNotificationEntity(2L, "notification 2 content"));
         auditFailedNotificationRepository.save(new AuditFailedNotificationEntity(3L, "notification 3 content"));
 
-        FailedAuditPurgeTask task = new FailedAuditPurgeTask(null, null, processingFailedAccessor, configurationAccessor);
+        FailedAuditPurgeTask task = new FailedAuditPurgeTask(null, null, processingFailedAccessor, configurationAccessor, createPurgeEngine(notificationAccessor));
         task.runTask();
         assertEquals(2, auditFailedEntryRepository.count());
         assertEquals(2, auditFailedNotificationRepository.count());
@@ -186,6 +188,11 @@ class FailedAuditPurgeTaskTest {
         assertFalse(auditFailedNotificationRepository.existsById(3L));
     }
 
+    private PurgeEngine createPurgeEngine(NotificationAccessor notificationAccessor) {
+        // Purge one entry at a time to delete across several batches
+        return new PurgeEngine(notificationAccessor, Mockito.mock(SettingsKeyAccessor.class), 1, 0L, 1000, 1L);
+    }
+
     private ConfigurationModelConfigurationAccessor createConfigurationAccessor(int purgeFrequencyDays) {
         ConfigurationModelConfigurationAccessor configurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
@@ -8,16 +8,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusDurationsRepository;
 import com.synopsys.integration.alert.api.distribution.mock.MockJobCompletionStatusRepository;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.database.job.api.DefaultJobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.database.job.execution.JobCompletionRepository;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class ExecutingJobManagerTest {
 
     @Test
@@ -25,19 +32,49 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 0);
         assertNotNull(executingJob);
         assertEquals(jobConfigId, executingJob.getJobConfigId());
     }
 
+    @Test
+    void endJobRecordsStageMetricsTest() {
+        MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
+        JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
+        JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(meterRegistry));
+        UUID jobConfigId = UUID.randomUUID();
+        PipelineMetricTags metricTags = PipelineMetricTags.forJob(jobConfigId, "channel_slack", 1L);
+        ExecutingJob executingJob = jobManager.startJob(jobConfigId, metricTags, 2);
+        UUID executionId = executingJob.getExecutionId();
+        Instant start = Instant.now();
+        jobManager.startStage(executionId, JobStage.CHANNEL_PROCESSING, start);
+        jobManager.endStage(executionId, JobStage.CHANNEL_PROCESSING, start.plusMillis(500));
+        jobManager.endStage(executionId, JobStage.CHANNEL_PROCESSING, start.plusMillis(1000));
+        jobManager.incrementSentNotificationCount(executionId, 2);
+        jobManager.updateJobStatus(executionId, AuditEntryStatus.SUCCESS);
+        jobManager.endJob(executionId, Instant.now());
+
+        Timer distributionTimer = meterRegistry.get(PipelineMetrics.STAGE_DURATION_METRIC)
+            .tag(PipelineMetrics.TAG_STAGE, PipelineStage.DISTRIBUTION.getTagValue())
+            .tag(PipelineMetricTags.TAG_CHANNEL, "channel_slack")
+            .tag(PipelineMetricTags.TAG_PROVIDER, "1")
+            .timer();
+        assertEquals(1L, distributionTimer.count());
+        assertEquals(1000.0, distributionTimer.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(2.0, meterRegistry.get(PipelineMetrics.STAGE_NOTIFICATIONS_METRIC).tag(PipelineMetrics.TAG_STAGE, PipelineStage.DISTRIBUTION.getTagValue()).counter().count());
+        assertEquals(1.0, meterRegistry.get(PipelineMetrics.JOB_EXECUTIONS_METRIC).tag(PipelineMetrics.TAG_STATUS, AuditEntryStatus.SUCCESS.name()).counter().count());
+    }
+
     @Test
     void removeExecutingJobTest() {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 0);
         jobManager.updateJobStatus(executingJob.getExecutionId(), AuditEntryStatus.SUCCESS);
@@ -54,7 +91,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         AggregatedExecutionResults results = jobManager.aggregateExecutingJobData();
@@ -75,7 +112,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         jobManager.updateJobStatus(executingJob.getExecutionId(), AuditEntryStatus.SUCCESS);
@@ -95,7 +132,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         ExecutingJob savedJob = jobManager.getExecutingJob(executingJob.getExecutionId()).orElseThrow(() -> new AssertionError("Job with execution ID not found."));
@@ -115,7 +152,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         ExecutingJobStage executingJobStage = ExecutingJobStage.createStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
@@ -135,7 +172,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         ExecutingJobStage executingJobStage = ExecutingJobStage.createStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
@@ -150,7 +187,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         ExecutingJobStage firstStage = ExecutingJobStage.createStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
@@ -172,7 +209,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         ExecutingJobStage mappingStage = ExecutingJobStage.createStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
@@ -191,7 +228,7 @@ class ExecutingJobManagerTest {
         MockJobCompletionStatusDurationsRepository durationsRepository = new MockJobCompletionStatusDurationsRepository();
         JobCompletionRepository jobCompletionRepository = new MockJobCompletionStatusRepository(durationsRepository);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = new DefaultJobCompletionStatusModelAccessor(jobCompletionRepository, durationsRepository);
-        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager jobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         UUID jobConfigId = UUID.randomUUID();
         ExecutingJob executingJob = jobManager.startJob(jobConfigId, 1);
         UUID executionId = executingJob.getExecutionId();
@@ -1,5 +1,6 @@
 package com.synopsys.integration.alert.api.distribution.mock;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 import com.synopsys.integration.alert.database.audit.AuditEntryEntity;
 import com.synopsys.integration.alert.database.audit.AuditEntryNotificationView;
 import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
+import com.synopsys.integration.alert.database.audit.AuditEntryStatusCountView;
 import com.synopsys.integration.alert.database.audit.AuditNotificationRelation;
 import com.synopsys.integration.alert.database.audit.AuditNotificationRepository;
 import com.synopsys.integration.alert.test.common.database.MockRepositoryContainer;
@@ -79,6 +81,41 @@ public class MockAuditEntryRepository extends MockRepositoryContainer<Long, Audi
         return Optional.empty();
     }
 
+    @Override
+    public int bulkUpdateStatusForNotifications(
+        UUID jobId,
+        Collection<Long> notificationIds,
+        String status,
+        OffsetDateTime timeLastSent,
+        String errorMessage,
+        String errorStackTrace
+    ) {
+        List<AuditEntryEntity> auditEntries = findByJobIdAndNotifications(jobId, notificationIds);
+        auditEntries.forEach(entry -> entry.setErrorStackTrace(errorStackTrace));
+        return bulkUpdateStatusForNotificationsRetainingStackTrace(jobId, notificationIds, status, timeLastSent, errorMessage);
+    }
+
+    @Override
+    public int bulkUpdateStatusForNotificationsRetainingStackTrace(UUID jobId, Collection<Long> notificationIds, String status, OffsetDateTime timeLastSent, String errorMessage) {
+        List<AuditEntryEntity> auditEntries = findByJobIdAndNotifications(jobId, notificationIds);
+        for (AuditEntryEntity entry : auditEntries) {
+            entry.setStatus(status);
+            entry.setTimeLastSent(timeLastSent);
+            entry.setErrorMessage(errorMessage);
+        }
+        return auditEntries.size();
+    }
+
+    private List<AuditEntryEntity> findByJobIdAndNotifications(UUID jobId, Collection<Long> notificationIds) {
+        return getDataMap().values().stream()
+            .filter(entry -> entry.getCommonConfigId().equals(jobId))
+            .filter(entry -> auditNotificationRepository.findByAuditEntryId(entry.getId())
+                .stream()
+                .map(AuditNotificationRelation::getNotificationId)
+                .anyMatch(notificationIds::contains))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public void bulkDeleteOrphanedEntries() {
         // not implemented
@@ -91,6 +128,16 @@ public class MockAuditEntryRepository extends MockRepositoryContainer<Long, Audi
             .count();
     }
 
+    @Override
+    public List<AuditEntryStatusCountView> countGroupedByStatus() {
+        return getDataMap().values().stream()
+            .collect(Collectors.groupingBy(AuditEntryEntity::getStatus, Collectors.counting()))
+            .entrySet()
+            .stream()
+            .map(count -> new AuditEntryStatusCountView(count.getKey(), count.getValue()))
+            .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<String> getAverageAuditEntryCompletionTime() {
         // not implemented
@@ -1,6 +1,7 @@
 package com.synopsys.integration.alert.api.distribution.mock;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -14,6 +15,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import com.synopsys.integration.alert.database.notification.NotificationContentRepository;
+import com.synopsys.integration.alert.database.notification.NotificationCountView;
 import com.synopsys.integration.alert.database.notification.NotificationEntity;
 import com.synopsys.integration.alert.test.common.database.MockRepositoryContainer;
 
@@ -165,4 +167,19 @@ public class MockNotificationContentRepository extends MockRepositoryContainer<L
             .filter(providerEqual.and(notificationTypeEqual))
             .count();
     }
+
+    @Override
+    public List<NotificationCountView> countGroupedByProviderConfigIdAndNotificationTypeAndProcessed() {
+        List<NotificationCountView> counts = new ArrayList<>();
+        findAll()
+            .stream()
+            .collect(Collectors.groupingBy(
+                NotificationEntity::getProviderConfigId,
+                Collectors.groupingBy(NotificationEntity::getNotificationType, Collectors.groupingBy(NotificationEntity::getProcessed, Collectors.counting()))
+            ))
+            .forEach((providerConfigId, typeCounts) -> typeCounts.forEach((notificationType, processedCounts) -> processedCounts.forEach(
+                (processed, count) -> counts.add(new NotificationCountView(providerConfigId, notificationType, processed, count))
+            )));
+        return counts;
+    }
 }
@@ -14,17 +14,18 @@ import org.springframework.amqp.core.MessageListener;
 import org.springframework.core.task.TaskExecutor;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.event.codec.AlertEventMessageConverter;
 
 public abstract class AlertMessageListener<T extends AlertEvent> implements MessageListener {
     private final Logger logger = LoggerFactory.getLogger(getClass());
-    private final Gson gson;
+    private final AlertEventMessageConverter messageConverter;
     private final TaskExecutor taskExecutor;
     private final String destinationName;
     private final Class<T> eventClass;
     private final AlertEventHandler<T> eventHandler;
 
     protected AlertMessageListener(Gson gson, TaskExecutor taskExecutor, String destinationName, Class<T> eventClass, AlertEventHandler<T> eventHandler) {
-        this.gson = gson;
+        this.messageConverter = new AlertEventMessageConverter(gson);
         this.destinationName = destinationName;
         this.eventClass = eventClass;
         this.eventHandler = eventHandler;
@@ -38,11 +39,10 @@ public abstract class AlertMessageListener<T extends AlertEvent> implements Mess
     @Override
     public final void onMessage(Message message) {
         try {
-            String messageContent = new String(message.getBody());
             String receiverClassName = getClass().getName();
             logger.info("Receiver {}, sending message.", receiverClassName);
             logger.debug("Event message: {}", message);
-            T event = gson.fromJson(messageContent, eventClass);
+            T event = messageConverter.fromMessage(message, eventClass);
             logger.trace("{} event {}", receiverClassName, event);
             logger.debug("Received Event ID: {}", event.getEventId());
             taskExecutor.execute(() ->
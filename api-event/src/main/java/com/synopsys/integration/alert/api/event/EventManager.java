@@ -9,24 +9,25 @@ package com.synopsys.integration.alert.api.event;
 
 import java.util.List;
 
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
-import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.event.codec.AlertEventMessageConverter;
 
 @Component
 public class EventManager {
-    private final Gson gson;
     private final RabbitTemplate rabbitTemplate;
     private final TaskExecutor taskExecutor;
+    private final AlertEventMessageConverter messageConverter;
 
     @Autowired
-    public EventManager(Gson gson, RabbitTemplate rabbitTemplate, TaskExecutor taskExecutor) {
-        this.gson = gson;
+    public EventManager(RabbitTemplate rabbitTemplate, TaskExecutor taskExecutor, AlertEventMessageConverter messageConverter) {
         this.rabbitTemplate = rabbitTemplate;
         this.taskExecutor = taskExecutor;
+        this.messageConverter = messageConverter;
     }
 
     public void sendEvents(List<? extends AlertEvent> eventList) {
@@ -38,16 +39,9 @@ public class EventManager {
     public void sendEvent(AlertEvent event) {
         taskExecutor.execute(() -> {
             String destination = event.getDestination();
-            String jsonMessage = toJsonOrNull(event);
-            rabbitTemplate.convertAndSend(destination, jsonMessage);
+            Message message = messageConverter.toMessage(event);
+            rabbitTemplate.send(destination, message);
         });
     }
 
-    private String toJsonOrNull(Object content) {
-        if (content != null) {
-            return gson.toJson(content);
-        }
-        return null;
-    }
-
 }
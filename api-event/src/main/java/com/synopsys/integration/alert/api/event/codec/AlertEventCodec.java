@@ -0,0 +1,24 @@
+/*
+ * api-event
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.event.codec;
+
+import com.synopsys.integration.alert.api.event.AlertEvent;
+
+/**
+ * Turns events into message bodies and back. The content type identifies the codec on the message so a listener can read events written by any codec.
+ */
+public interface AlertEventCodec {
+    String getName();
+
+    String getContentType();
+
+    byte[] encode(AlertEvent event);
+
+    <T extends AlertEvent> T decode(byte[] body, Class<T> eventClass);
+
+}
@@ -0,0 +1,122 @@
+/*
+ * api-event
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.event.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.event.AlertEvent;
+
+/**
+ * Builds RabbitMQ messages for events with the configured codec and reads them back with whichever codec the message content type names. Messages without a known
+ * content type, such as those queued by earlier versions, are read as JSON.
+ */
+@Component
+public class AlertEventMessageConverter {
+    public static final String DEFAULT_CODEC = BinaryAlertEventCodec.NAME;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD_BYTES = 8192;
+    public static final String CONTENT_ENCODING_DEFLATE = "deflate";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final JsonAlertEventCodec jsonCodec;
+    private final Map<String, AlertEventCodec> codecsByContentType;
+    private final AlertEventCodec outgoingCodec;
+    private final boolean compressionEnabled;
+    private final int compressionThresholdBytes;
+
+    @Autowired
+    public AlertEventMessageConverter(
+        Gson gson,
+        @Value("${alert.event.codec:" + DEFAULT_CODEC + "}") String codecName,
+        @Value("${alert.event.compression.enabled:true}") boolean compressionEnabled,
+        @Value("${alert.event.compression.threshold.bytes:" + DEFAULT_COMPRESSION_THRESHOLD_BYTES + "}") int compressionThresholdBytes
+    ) {
+        this.jsonCodec = new JsonAlertEventCodec(gson);
+        List<AlertEventCodec> codecs = List.of(jsonCodec, new BinaryAlertEventCodec(gson));
+        this.codecsByContentType = codecs.stream()
+            .collect(Collectors.toMap(AlertEventCodec::getContentType, Function.identity()));
+        this.outgoingCodec = codecs.stream()
+            .filter(codec -> codec.getName().equalsIgnoreCase(codecName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown event codec '%s'. Expected one of: json, binary", codecName)));
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    /**
+     * Creates a converter that writes uncompressed JSON. It can read messages written by any codec.
+     */
+    public AlertEventMessageConverter(Gson gson) {
+        this(gson, JsonAlertEventCodec.NAME, false, DEFAULT_COMPRESSION_THRESHOLD_BYTES);
+    }
+
+    public Message toMessage(AlertEvent event) {
+        byte[] body = outgoingCodec.encode(event);
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(outgoingCodec.getContentType());
+        if (compressionEnabled && body.length >= compressionThresholdBytes) {
+            body = compress(body);
+            messageProperties.setContentEncoding(CONTENT_ENCODING_DEFLATE);
+        }
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    public <T extends AlertEvent> T fromMessage(Message message, Class<T> eventClass) {
+        MessageProperties messageProperties = message.getMessageProperties();
+        String contentType = messageProperties.getContentType();
+        AlertEventCodec codec = codecsByContentType.get(contentType);
+        if (null == codec) {
+            logger.trace("No event codec for content type '{}'. Reading the message as JSON.", contentType);
+            codec = jsonCodec;
+        }
+
+        byte[] body = message.getBody();
+        if (CONTENT_ENCODING_DEFLATE.equals(messageProperties.getContentEncoding())) {
+            body = decompress(body);
+        }
+        return codec.decode(body, eventClass);
+    }
+
+    private byte[] compress(byte[] body) {
+        ByteArrayOutputStream compressedOutput = new ByteArrayOutputStream(body.length / 4);
+        try (DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(compressedOutput)) {
+            deflaterOutput.write(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not compress the event message", e);
+        }
+        return compressedOutput.toByteArray();
+    }
+
+    private byte[] decompress(byte[] body) {
+        try (InputStream inflaterInput = new InflaterInputStream(new ByteArrayInputStream(body))) {
+            return inflaterInput.readAllBytes();
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not decompress the event message", e);
+        }
+    }
+
+}
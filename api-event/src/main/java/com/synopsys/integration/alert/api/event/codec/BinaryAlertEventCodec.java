@@ -0,0 +1,301 @@
+/*
+ * api-event
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.event.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.synopsys.integration.alert.api.event.AlertEvent;
+
+/**
+ * Writes the same document Gson would produce for an event, but as tagged binary values instead of text. Field names and short strings are written once and then
+ * referenced by index, which removes most of the repetition in large events. Because the field names travel with the data, fields can be added to or removed from
+ * an event the same way they can with JSON.
+ */
+public class BinaryAlertEventCodec implements AlertEventCodec {
+    public static final String NAME = "binary";
+    public static final String CONTENT_TYPE = "application/x-alert-event";
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_NUMBER = 5;
+    private static final byte TAG_STRING = 6;
+    private static final byte TAG_STRING_DEFINITION = 7;
+    private static final byte TAG_STRING_REFERENCE = 8;
+    private static final byte TAG_ARRAY = 9;
+    private static final byte TAG_OBJECT = 10;
+
+    // Longer strings rarely repeat, so they are not worth hashing into the table
+    private static final int MAX_INTERNED_STRING_LENGTH = 128;
+
+    private final Gson gson;
+
+    public BinaryAlertEventCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(AlertEvent event) {
+        JsonElement document = gson.toJsonTree(event);
+        Encoder encoder = new Encoder();
+        encoder.writeByte(FORMAT_VERSION);
+        encoder.writeElement(document);
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public <T extends AlertEvent> T decode(byte[] body, Class<T> eventClass) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        try {
+            byte formatVersion = buffer.get();
+            if (FORMAT_VERSION != formatVersion) {
+                throw new MessageConversionException(String.format("Unsupported binary event format version: %d", formatVersion));
+            }
+            JsonElement document = new Decoder(buffer).readElement();
+            return gson.fromJson(document, eventClass);
+        } catch (BufferUnderflowException e) {
+            throw new MessageConversionException("Binary event message ended unexpectedly", e);
+        }
+    }
+
+    private static class Encoder {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+        private final Map<String, Integer> stringTable = new HashMap<>();
+
+        public void writeElement(JsonElement element) {
+            if (element.isJsonNull()) {
+                writeByte(TAG_NULL);
+            } else if (element.isJsonPrimitive()) {
+                writePrimitive(element.getAsJsonPrimitive());
+            } else if (element.isJsonArray()) {
+                JsonArray array = element.getAsJsonArray();
+                writeByte(TAG_ARRAY);
+                writeUnsignedVarInt(array.size());
+                for (JsonElement arrayElement : array) {
+                    writeElement(arrayElement);
+                }
+            } else {
+                JsonObject object = element.getAsJsonObject();
+                writeByte(TAG_OBJECT);
+                writeUnsignedVarInt(object.size());
+                for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+                    writeString(member.getKey());
+                    writeElement(member.getValue());
+                }
+            }
+        }
+
+        public void writeByte(byte value) {
+            output.write(value);
+        }
+
+        public byte[] toByteArray() {
+            return output.toByteArray();
+        }
+
+        private void writePrimitive(JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                writeByte(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (primitive.isString()) {
+                writeString(primitive.getAsString());
+            } else {
+                writeNumber(primitive.getAsNumber());
+            }
+        }
+
+        private void writeNumber(Number number) {
+            if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+                writeByte(TAG_INTEGER);
+                long value = number.longValue();
+                writeUnsignedVarLong((value << 1) ^ (value >> 63));
+            } else if (number instanceof Double) {
+                writeByte(TAG_DOUBLE);
+                long bits = Double.doubleToLongBits(number.doubleValue());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    output.write((int) (bits >>> shift));
+                }
+            } else {
+                // Keep the exact text of floats and arbitrary precision values
+                writeByte(TAG_NUMBER);
+                writeStringBytes(number.toString());
+            }
+        }
+
+        private void writeString(String value) {
+            if (value.length() > MAX_INTERNED_STRING_LENGTH) {
+                writeByte(TAG_STRING);
+                writeStringBytes(value);
+                return;
+            }
+
+            Integer reference = stringTable.get(value);
+            if (null != reference) {
+                writeByte(TAG_STRING_REFERENCE);
+                writeUnsignedVarInt(reference);
+            } else {
+                stringTable.put(value, stringTable.size());
+                writeByte(TAG_STRING_DEFINITION);
+                writeStringBytes(value);
+            }
+        }
+
+        private void writeStringBytes(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsignedVarInt(bytes.length);
+            output.write(bytes, 0, bytes.length);
+        }
+
+        private void writeUnsignedVarInt(int value) {
+            writeUnsignedVarLong(Integer.toUnsignedLong(value));
+        }
+
+        private void writeUnsignedVarLong(long value) {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                output.write((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            output.write((int) remaining);
+        }
+
+    }
+
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private final List<String> stringTable = new ArrayList<>();
+
+        public Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        public JsonElement readElement() {
+            byte tag = buffer.get();
+            switch (tag) {
+                case TAG_NULL:
+                    return JsonNull.INSTANCE;
+                case TAG_TRUE:
+                    return new JsonPrimitive(Boolean.TRUE);
+                case TAG_FALSE:
+                    return new JsonPrimitive(Boolean.FALSE);
+                case TAG_INTEGER:
+                    long zigZagValue = readUnsignedVarLong();
+                    return new JsonPrimitive((zigZagValue >>> 1) ^ -(zigZagValue & 1));
+                case TAG_DOUBLE:
+                    return new JsonPrimitive(Double.longBitsToDouble(buffer.getLong()));
+                case TAG_NUMBER:
+                    return new JsonPrimitive(new BigDecimal(readStringBytes()));
+                case TAG_ARRAY:
+                    return readArray();
+                case TAG_OBJECT:
+                    return readObject();
+                default:
+                    return new JsonPrimitive(readString(tag));
+            }
+        }
+
+        private JsonArray readArray() {
+            int size = readUnsignedVarInt();
+            JsonArray array = new JsonArray(size);
+            for (int index = 0; index < size; index++) {
+                array.add(readElement());
+            }
+            return array;
+        }
+
+        private JsonObject readObject() {
+            int size = readUnsignedVarInt();
+            JsonObject object = new JsonObject();
+            for (int index = 0; index < size; index++) {
+                String key = readString(buffer.get());
+                object.add(key, readElement());
+            }
+            return object;
+        }
+
+        private String readString(byte tag) {
+            switch (tag) {
+                case TAG_STRING:
+                    return readStringBytes();
+                case TAG_STRING_DEFINITION:
+                    String value = readStringBytes();
+                    stringTable.add(value);
+                    return value;
+                case TAG_STRING_REFERENCE:
+                    int reference = readUnsignedVarInt();
+                    if (reference >= stringTable.size()) {
+                        throw new MessageConversionException(String.format("Binary event message refers to an undefined string: %d", reference));
+                    }
+                    return stringTable.get(reference);
+                default:
+                    throw new MessageConversionException(String.format("Unknown value tag in binary event message: %d", tag));
+            }
+        }
+
+        private String readStringBytes() {
+            int length = readUnsignedVarInt();
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        private int readUnsignedVarInt() {
+            long value = readUnsignedVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new MessageConversionException(String.format("Binary event message contains an invalid length: %d", value));
+            }
+            return (int) value;
+        }
+
+        private long readUnsignedVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte nextByte = buffer.get();
+                value |= (long) (nextByte & 0x7F) << shift;
+                if ((nextByte & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new MessageConversionException("Binary event message contains a malformed number");
+        }
+
+    }
+
+}
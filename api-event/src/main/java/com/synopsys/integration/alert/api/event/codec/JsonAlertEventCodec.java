@@ -0,0 +1,46 @@
+/*
+ * api-event
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.event.codec;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.MessageProperties;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.event.AlertEvent;
+
+public class JsonAlertEventCodec implements AlertEventCodec {
+    public static final String NAME = "json";
+
+    private final Gson gson;
+
+    public JsonAlertEventCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getContentType() {
+        return MessageProperties.CONTENT_TYPE_JSON;
+    }
+
+    @Override
+    public byte[] encode(AlertEvent event) {
+        return gson.toJson(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <T extends AlertEvent> T decode(byte[] body, Class<T> eventClass) {
+        return gson.fromJson(new String(body, StandardCharsets.UTF_8), eventClass);
+    }
+
+}
@@ -1,13 +1,18 @@
 package com.synopsys.integration.alert.api.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.core.task.SyncTaskExecutor;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.event.codec.AlertEventMessageConverter;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
 class EventManagerTest {
@@ -17,15 +22,19 @@ class EventManagerTest {
         AlertEvent testEvent = new AlertEvent(testDestination);
 
         RabbitTemplate rabbitTemplate = Mockito.mock(RabbitTemplate.class);
-        Mockito.doNothing().when(rabbitTemplate).convertAndSend(Mockito.anyString(), Mockito.any(Object.class));
+        Mockito.doNothing().when(rabbitTemplate).send(Mockito.anyString(), Mockito.any(Message.class));
 
         Gson gson = BlackDuckServicesFactory.createDefaultGson();
-        String testEventJson = gson.toJson(testEvent);
+        AlertEventMessageConverter messageConverter = new AlertEventMessageConverter(gson, AlertEventMessageConverter.DEFAULT_CODEC, true, AlertEventMessageConverter.DEFAULT_COMPRESSION_THRESHOLD_BYTES);
 
-        EventManager eventManager = new EventManager(gson, rabbitTemplate, new SyncTaskExecutor());
+        EventManager eventManager = new EventManager(rabbitTemplate, new SyncTaskExecutor(), messageConverter);
         eventManager.sendEvents(List.of(testEvent));
 
-        Mockito.verify(rabbitTemplate, Mockito.times(1)).convertAndSend(testDestination, testEventJson);
+        ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(rabbitTemplate, Mockito.times(1)).send(Mockito.eq(testDestination), messageCaptor.capture());
+        AlertEvent sentEvent = messageConverter.fromMessage(messageCaptor.getValue(), AlertEvent.class);
+        assertEquals(testEvent.getEventId(), sentEvent.getEventId());
+        assertEquals(testDestination, sentEvent.getDestination());
     }
 
 }
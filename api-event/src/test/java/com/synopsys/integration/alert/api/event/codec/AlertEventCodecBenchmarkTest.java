@@ -0,0 +1,66 @@
+package com.synopsys.integration.alert.api.event.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.test.common.TestTags;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+
+@Tag(TestTags.DEFAULT_PERFORMANCE)
+class AlertEventCodecBenchmarkTest {
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
+
+    @Test
+    void compareCodecsTest() {
+        for (int componentCount : List.of(10, 500, 5000)) {
+            TestPayloadEvent event = TestPayloadEvent.withComponents("destination", componentCount);
+            benchmark("json", new AlertEventMessageConverter(gson), event);
+            benchmark("json+deflate", new AlertEventMessageConverter(gson, JsonAlertEventCodec.NAME, true, 0), event);
+            benchmark("binary", new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, false, 0), event);
+            benchmark("binary+deflate", new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, true, 0), event);
+        }
+    }
+
+    private void benchmark(String label, AlertEventMessageConverter converter, TestPayloadEvent event) {
+        int iterations = event.getComponents().size() > 1000 ? MEASURED_ITERATIONS / 10 : MEASURED_ITERATIONS;
+        for (int index = 0; index < WARM_UP_ITERATIONS; index++) {
+            converter.fromMessage(converter.toMessage(event), TestPayloadEvent.class);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        int messageSize = 0;
+        for (int index = 0; index < iterations; index++) {
+            long start = System.nanoTime();
+            Message message = converter.toMessage(event);
+            long encoded = System.nanoTime();
+            TestPayloadEvent decodedEvent = converter.fromMessage(message, TestPayloadEvent.class);
+            decodeNanos += System.nanoTime() - encoded;
+            encodeNanos += encoded - start;
+            messageSize = message.getBody().length;
+            assertEquals(event.getComponents().size(), decodedEvent.getComponents().size());
+        }
+
+        logger.info(
+            "{} components, {}: {} bytes, encode {}us, decode {}us",
+            event.getComponents().size(),
+            label,
+            messageSize,
+            encodeNanos / iterations / 1000,
+            decodeNanos / iterations / 1000
+        );
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.synopsys.integration.alert.api.event.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.event.AlertEvent;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+
+class AlertEventMessageConverterTest {
+    private static final String DESTINATION = "destination";
+
+    private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
+
+    @Test
+    void binaryRoundTripTest() {
+        AlertEventMessageConverter converter = new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, false, 0);
+        TestPayloadEvent event = TestPayloadEvent.withComponents(DESTINATION, 50);
+
+        Message message = converter.toMessage(event);
+        assertEquals(BinaryAlertEventCodec.CONTENT_TYPE, message.getMessageProperties().getContentType());
+        assertNull(message.getMessageProperties().getContentEncoding());
+        assertTrue(message.getBody().length < gson.toJson(event).getBytes(StandardCharsets.UTF_8).length);
+
+        TestPayloadEvent decodedEvent = converter.fromMessage(message, TestPayloadEvent.class);
+        assertEquals(event, decodedEvent);
+    }
+
+    @Test
+    void compressedRoundTripTest() {
+        TestPayloadEvent event = TestPayloadEvent.withComponents(DESTINATION, 200);
+        for (String codecName : List.of(JsonAlertEventCodec.NAME, BinaryAlertEventCodec.NAME)) {
+            AlertEventMessageConverter converter = new AlertEventMessageConverter(gson, codecName, true, 1024);
+            Message message = converter.toMessage(event);
+            assertEquals(AlertEventMessageConverter.CONTENT_ENCODING_DEFLATE, message.getMessageProperties().getContentEncoding());
+
+            TestPayloadEvent decodedEvent = converter.fromMessage(message, TestPayloadEvent.class);
+            assertEquals(event, decodedEvent);
+        }
+    }
+
+    @Test
+    void smallMessagesAreNotCompressedTest() {
+        AlertEventMessageConverter converter = new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, true, AlertEventMessageConverter.DEFAULT_COMPRESSION_THRESHOLD_BYTES);
+        Message message = converter.toMessage(new AlertEvent(DESTINATION));
+        assertNull(message.getMessageProperties().getContentEncoding());
+    }
+
+    @Test
+    void readsMessagesFromAnyCodecTest() {
+        TestPayloadEvent event = TestPayloadEvent.withComponents(DESTINATION, 10);
+        AlertEventMessageConverter binaryConverter = new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, true, 0);
+        AlertEventMessageConverter jsonConverter = new AlertEventMessageConverter(gson);
+
+        assertEquals(event, jsonConverter.fromMessage(binaryConverter.toMessage(event), TestPayloadEvent.class));
+        assertEquals(event, binaryConverter.fromMessage(jsonConverter.toMessage(event), TestPayloadEvent.class));
+    }
+
+    @Test
+    void readsLegacyTextMessageTest() {
+        TestPayloadEvent event = TestPayloadEvent.withComponents(DESTINATION, 5);
+        // Earlier versions sent the JSON string through the template's default converter
+        Message legacyMessage = new SimpleMessageConverter().toMessage(gson.toJson(event), new MessageProperties());
+        assertEquals(MessageProperties.CONTENT_TYPE_TEXT_PLAIN, legacyMessage.getMessageProperties().getContentType());
+
+        AlertEventMessageConverter converter = new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, true, 0);
+        assertEquals(event, converter.fromMessage(legacyMessage, TestPayloadEvent.class));
+    }
+
+    @Test
+    void unknownCodecTest() {
+        assertThrows(IllegalArgumentException.class, () -> new AlertEventMessageConverter(gson, "unknown", true, 0));
+    }
+
+    @Test
+    void unsupportedBinaryVersionTest() {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(BinaryAlertEventCodec.CONTENT_TYPE);
+        Message message = new Message(new byte[] { 99 }, messageProperties);
+
+        AlertEventMessageConverter converter = new AlertEventMessageConverter(gson);
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message, AlertEvent.class));
+    }
+
+    @Test
+    void truncatedBinaryMessageTest() {
+        AlertEventMessageConverter converter = new AlertEventMessageConverter(gson, BinaryAlertEventCodec.NAME, false, 0);
+        Message message = converter.toMessage(TestPayloadEvent.withComponents(DESTINATION, 5));
+        byte[] body = message.getBody();
+        byte[] truncatedBody = new byte[body.length / 2];
+        System.arraycopy(body, 0, truncatedBody, 0, truncatedBody.length);
+
+        Message truncatedMessage = new Message(truncatedBody, message.getMessageProperties());
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(truncatedMessage, TestPayloadEvent.class));
+    }
+
+}
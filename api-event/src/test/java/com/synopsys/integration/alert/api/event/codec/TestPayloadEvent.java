@@ -0,0 +1,100 @@
+package com.synopsys.integration.alert.api.event.codec;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+import com.synopsys.integration.alert.api.event.AlertEvent;
+
+public class TestPayloadEvent extends AlertEvent {
+    private final List<TestComponent> components;
+
+    public static TestPayloadEvent withComponents(String destination, int componentCount) {
+        List<TestComponent> components = new ArrayList<>(componentCount);
+        for (int index = 0; index < componentCount; index++) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            attributes.put("policy", "No High Severity Vulnerabilities");
+            attributes.put("severity", index % 2 == 0 ? "HIGH" : "MEDIUM");
+            attributes.put("remediation", "Upgrade to the latest release of component " + index);
+            components.add(new TestComponent(
+                "component-" + index,
+                "1." + index + ".0",
+                "https://blackduck.example.com/api/components/" + index + "/versions/" + index,
+                index * 1000L,
+                index / 3.0d,
+                new BigDecimal("12345.6789"),
+                index % 2 == 0,
+                attributes
+            ));
+        }
+        return new TestPayloadEvent(destination, components);
+    }
+
+    public TestPayloadEvent(String destination, List<TestComponent> components) {
+        super(destination);
+        this.components = components;
+    }
+
+    public List<TestComponent> getComponents() {
+        return components;
+    }
+
+    public static class TestComponent extends AlertSerializableModel {
+        private final String name;
+        private final String version;
+        private final String url;
+        private final long vulnerabilityCount;
+        private final double riskScore;
+        private final BigDecimal cost;
+        private final Boolean ignored;
+        private final Map<String, String> attributes;
+
+        public TestComponent(String name, String version, String url, long vulnerabilityCount, double riskScore, BigDecimal cost, Boolean ignored, Map<String, String> attributes) {
+            this.name = name;
+            this.version = version;
+            this.url = url;
+            this.vulnerabilityCount = vulnerabilityCount;
+            this.riskScore = riskScore;
+            this.cost = cost;
+            this.ignored = ignored;
+            this.attributes = attributes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public long getVulnerabilityCount() {
+            return vulnerabilityCount;
+        }
+
+        public double getRiskScore() {
+            return riskScore;
+        }
+
+        public BigDecimal getCost() {
+            return cost;
+        }
+
+        public Boolean getIgnored() {
+            return ignored;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+    }
+
+}
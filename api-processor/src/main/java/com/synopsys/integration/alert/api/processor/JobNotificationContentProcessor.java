@@ -2,6 +2,7 @@ package com.synopsys.integration.alert.api.processor;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.ListUtils;
@@ -18,13 +19,16 @@ import com.synopsys.integration.alert.api.processor.digest.ProjectMessageDigeste
 import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
 import com.synopsys.integration.alert.api.processor.extract.ProviderMessageExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageAccumulator;
 import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
 import com.synopsys.integration.alert.api.processor.extract.model.SimpleMessage;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
-import com.synopsys.integration.alert.api.processor.filter.NotificationContentWrapper;
 import com.synopsys.integration.alert.api.processor.summarize.ProjectMessageSummarizer;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.logging.AlertLoggerFactory;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
 import com.synopsys.integration.alert.common.persistence.accessor.JobNotificationMappingAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
@@ -32,6 +36,8 @@ import com.synopsys.integration.alert.common.persistence.model.job.JobToNotifica
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 
+import io.micrometer.core.instrument.Timer;
+
 @Component
 public class JobNotificationContentProcessor {
 
@@ -46,6 +52,8 @@ public class JobNotificationContentProcessor {
     private final ProjectMessageDigester projectMessageDigester;
     private final ProjectMessageSummarizer projectMessageSummarizer;
     private final ExecutingJobManager executingJobManager;
+    private final NotificationExtractionCache notificationExtractionCache;
+    private final PipelineMetrics pipelineMetrics;
 
     @Autowired
     public JobNotificationContentProcessor(
@@ -55,7 +63,9 @@ public class JobNotificationContentProcessor {
         ProviderMessageExtractionDelegator providerMessageExtractionDelegator,
         ProjectMessageDigester projectMessageDigester,
         ProjectMessageSummarizer projectMessageSummarizer,
-        ExecutingJobManager executingJobManager
+        ExecutingJobManager executingJobManager,
+        NotificationExtractionCache notificationExtractionCache,
+        PipelineMetrics pipelineMetrics
     ) {
         this.notificationDetailExtractionDelegator = notificationDetailExtractionDelegator;
         this.notificationAccessor = notificationAccessor;
@@ -64,10 +74,16 @@ public class JobNotificationContentProcessor {
         this.projectMessageDigester = projectMessageDigester;
         this.projectMessageSummarizer = projectMessageSummarizer;
         this.executingJobManager = executingJobManager;
+        this.notificationExtractionCache = notificationExtractionCache;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
-    public ProcessedProviderMessageHolder processNotifications(JobProcessingEvent event, UUID jobExecutionId, DistributionJobModel job) {
-        ProcessedProviderMessageHolder processedMessageHolder = null;
+    /**
+     * Extracts the messages for every notification mapped to the job and hands them to the messageConsumer.
+     * DEFAULT jobs hand off the messages of each page as soon as they are extracted so the whole batch is never held in memory.
+     * DIGEST and SUMMARY jobs digest the messages of each page, combine the pages, and hand them off once every page has been processed.
+     */
+    public void processNotifications(JobProcessingEvent event, UUID jobExecutionId, DistributionJobModel job, Consumer<ProcessedProviderMessageHolder> messageConsumer) {
         UUID correlationId = event.getCorrelationId();
         UUID jobId = event.getJobId();
         int pageNumber = 0;
@@ -79,28 +95,23 @@ public class JobNotificationContentProcessor {
             pageSize
         );
 
+        PipelineMetricTags metricTags = PipelineMetricTags.forJob(jobId, job.getChannelDescriptorName(), job.getBlackDuckGlobalConfigId());
         ProcessingType jobProcessingType = job.getProcessingType();
+        boolean combineAcrossPages = ProcessingType.DIGEST == jobProcessingType || ProcessingType.SUMMARY == jobProcessingType;
+        ProcessedProviderMessageAccumulator combinedMessages = new ProcessedProviderMessageAccumulator();
         while (jobNotificationMappings.getCurrentPage() <= jobNotificationMappings.getTotalPages()) {
             List<Long> notificationIds = extractNotificationIds(jobNotificationMappings);
             List<AlertNotificationModel> notifications = notificationAccessor.findByIds(notificationIds);
             logNotifications("Start", event, notificationIds);
-            List<NotificationContentWrapper> notificationContentList = notifications
-                .stream()
-                .map(notificationDetailExtractionDelegator::wrapNotification)
-                .flatMap(List::stream)
-                .filter(notificationContent -> applyDistributionJobFilters(notificationContent, job))
-                .map(DetailedNotificationContent::getNotificationContentWrapper)
-                .collect(Collectors.toList());
-
-            ProcessedProviderMessageHolder extractedProviderMessages = notificationContentList
-                .stream()
-                .map(providerMessageExtractionDelegator::extract)
-                .reduce(ProcessedProviderMessageHolder::reduce)
-                .orElse(ProcessedProviderMessageHolder.empty());
-            processedMessageHolder = defaultProcessing(processedMessageHolder, extractedProviderMessages);
-
-            if (ProcessingType.DIGEST == jobProcessingType || ProcessingType.SUMMARY == jobProcessingType) {
-                processedMessageHolder = digestProcessing(processedMessageHolder);
+            Timer.Sample extractionTimer = pipelineMetrics.startTimer();
+            ProcessedProviderMessageHolder extractedProviderMessages = extractMessages(correlationId, notifications, job);
+            pipelineMetrics.recordDuration(PipelineStage.EXTRACTION, metricTags, extractionTimer);
+            pipelineMetrics.countNotifications(PipelineStage.EXTRACTION, metricTags, notifications.size());
+
+            if (combineAcrossPages) {
+                combinedMessages.add(digestProjectMessages(extractedProviderMessages));
+            } else if (hasMessages(extractedProviderMessages)) {
+                messageConsumer.accept(extractedProviderMessages);
             }
             executingJobManager.incrementProcessedNotificationCount(jobExecutionId, notifications.size());
             pageNumber++;
@@ -113,11 +124,39 @@ public class JobNotificationContentProcessor {
             logNotifications("Finished", event, notificationIds);
         }
 
-        if (ProcessingType.SUMMARY == jobProcessingType) {
-            processedMessageHolder = summaryProcessing(processedMessageHolder);
+        if (combineAcrossPages) {
+            combinedMessages.combineProjectMessages(projectMessages -> projectMessageDigester.digest(filterProcessedMessages(projectMessages)));
+            combinedMessages.combineSimpleMessages(this::filterProcessedMessages);
+            ProcessedProviderMessageHolder processedMessageHolder = combinedMessages.toHolder();
+            if (ProcessingType.SUMMARY == jobProcessingType) {
+                processedMessageHolder = summaryProcessing(processedMessageHolder);
+            }
+            messageConsumer.accept(processedMessageHolder);
         }
+    }
+
+    private ProcessedProviderMessageHolder extractMessages(UUID correlationId, List<AlertNotificationModel> notifications, DistributionJobModel job) {
+        ProcessedProviderMessageAccumulator extractedMessages = new ProcessedProviderMessageAccumulator();
+        notifications
+            .stream()
+            .map(notification -> notificationExtractionCache.retrieveDetailedContent(correlationId, notification, notificationDetailExtractionDelegator::wrapNotification))
+            .flatMap(List::stream)
+            .filter(notificationContent -> applyDistributionJobFilters(notificationContent, job))
+            .map(notificationContent -> notificationExtractionCache.retrieveProviderMessages(correlationId, notificationContent, providerMessageExtractionDelegator::extract))
+            .forEach(extractedMessages::add);
+        extractedMessages.combineProjectMessages(this::filterProcessedMessages);
+        extractedMessages.combineSimpleMessages(this::filterProcessedMessages);
+        return extractedMessages.toHolder();
+    }
+
+    // Digesting each page keeps the accumulated messages small; the pages are digested together once after the last page.
+    private ProcessedProviderMessageHolder digestProjectMessages(ProcessedProviderMessageHolder pageMessages) {
+        List<ProcessedProviderMessage<ProjectMessage>> digestedProjectMessages = projectMessageDigester.digest(pageMessages.getProcessedProjectMessages());
+        return new ProcessedProviderMessageHolder(digestedProjectMessages, pageMessages.getProcessedSimpleMessages());
+    }
 
-        return processedMessageHolder;
+    private boolean hasMessages(ProcessedProviderMessageHolder processedMessageHolder) {
+        return !processedMessageHolder.getProcessedProjectMessages().isEmpty() || !processedMessageHolder.getProcessedSimpleMessages().isEmpty();
     }
 
     private List<Long> extractNotificationIds(AlertPagedModel<JobToNotificationMappingModel> pageOfMappingData) {
@@ -150,25 +189,6 @@ public class JobNotificationContentProcessor {
         }
     }
 
-    private ProcessedProviderMessageHolder defaultProcessing(ProcessedProviderMessageHolder currentMessageHolder, ProcessedProviderMessageHolder extractedProviderMessages) {
-        List<ProcessedProviderMessage<ProjectMessage>> filteredProjectMessages = filterProcessedMessages(extractedProviderMessages.getProcessedProjectMessages());
-        List<ProcessedProviderMessage<SimpleMessage>> filteredSimpleMessages = filterProcessedMessages(extractedProviderMessages.getProcessedSimpleMessages());
-
-        ProcessedProviderMessageHolder processedProviderMessageHolder = new ProcessedProviderMessageHolder(filteredProjectMessages, filteredSimpleMessages);
-        if (null == currentMessageHolder) {
-            return processedProviderMessageHolder;
-        }
-
-        return ProcessedProviderMessageHolder.reduce(currentMessageHolder, processedProviderMessageHolder);
-    }
-
-    private ProcessedProviderMessageHolder digestProcessing(ProcessedProviderMessageHolder extractedProviderMessages) {
-        List<ProcessedProviderMessage<ProjectMessage>> filteredProjectMessages = filterProcessedMessages(extractedProviderMessages.getProcessedProjectMessages());
-        List<ProcessedProviderMessage<SimpleMessage>> filteredSimpleMessages = filterProcessedMessages(extractedProviderMessages.getProcessedSimpleMessages());
-        List<ProcessedProviderMessage<ProjectMessage>> digestedMessages = projectMessageDigester.digest(filteredProjectMessages);
-        return new ProcessedProviderMessageHolder(digestedMessages, filteredSimpleMessages);
-    }
-
     private ProcessedProviderMessageHolder summaryProcessing(ProcessedProviderMessageHolder providerMessages) {
         List<ProcessedProviderMessage<ProjectMessage>> filteredProjectMessages = filterProcessedMessages(providerMessages.getProcessedProjectMessages());
         List<ProcessedProviderMessage<SimpleMessage>> filteredSimpleMessages = filterProcessedMessages(providerMessages.getProcessedSimpleMessages());
@@ -0,0 +1,119 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.processor;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.processor.detail.DetailedNotificationContent;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.api.processor.filter.NotificationContentWrapper;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+
+/**
+ * Caches the {@link DetailedNotificationContent} and the extracted {@link ProcessedProviderMessageHolder}s of a notification by batch and notification ID,
+ * so that the notification content is only parsed and extracted once no matter how many jobs it is mapped to.
+ * The entries of a batch live until {@link #evictBatch(UUID)} is called for its correlation ID, which happens once every job mapped to the batch has processed it
+ * or as soon as it is known that no job was mapped to it. Once the configured number of notifications is cached for a batch,
+ * any further notifications of that batch are extracted without being cached.
+ */
+@Component
+public class NotificationExtractionCache {
+    public static final int DEFAULT_MAX_CACHED_NOTIFICATIONS = 10000;
+
+    private final int maxCachedNotifications;
+    private final Map<UUID, Map<Long, CachedNotification>> batchCaches;
+
+    @Autowired
+    public NotificationExtractionCache(@Value("${alert.processing.extraction.cache.size:" + DEFAULT_MAX_CACHED_NOTIFICATIONS + "}") int maxCachedNotifications) {
+        this.maxCachedNotifications = maxCachedNotifications;
+        this.batchCaches = new ConcurrentHashMap<>();
+    }
+
+    public List<DetailedNotificationContent> retrieveDetailedContent(
+        UUID correlationId,
+        AlertNotificationModel notification,
+        Function<AlertNotificationModel, List<DetailedNotificationContent>> detailExtractor
+    ) {
+        Long notificationId = notification.getId();
+        Map<Long, CachedNotification> notificationCache = batchCaches.computeIfAbsent(correlationId, ignored -> new ConcurrentHashMap<>());
+        CachedNotification cachedNotification = null != notificationId ? notificationCache.get(notificationId) : null;
+        if (null != cachedNotification) {
+            return cachedNotification.getDetailedContent();
+        }
+
+        List<DetailedNotificationContent> detailedContent = detailExtractor.apply(notification);
+        if (null != notificationId && notificationCache.size() < maxCachedNotifications) {
+            CachedNotification existingNotification = notificationCache.putIfAbsent(notificationId, new CachedNotification(detailedContent));
+            if (null != existingNotification) {
+                return existingNotification.getDetailedContent();
+            }
+        }
+        return detailedContent;
+    }
+
+    public ProcessedProviderMessageHolder retrieveProviderMessages(
+        UUID correlationId,
+        DetailedNotificationContent detailedContent,
+        Function<NotificationContentWrapper, ProcessedProviderMessageHolder> messageExtractor
+    ) {
+        NotificationContentWrapper notificationContentWrapper = detailedContent.getNotificationContentWrapper();
+        CachedNotification cachedNotification = Optional.ofNullable(batchCaches.get(correlationId))
+            .map(notificationCache -> notificationCache.get(notificationContentWrapper.getNotificationId()))
+            .orElse(null);
+        if (null == cachedNotification) {
+            return messageExtractor.apply(notificationContentWrapper);
+        }
+
+        ProcessedProviderMessageHolder providerMessages = cachedNotification.getProviderMessages(detailedContent);
+        if (null == providerMessages) {
+            // The extraction may call the provider, so it is not done while holding the lock of the cached notification.
+            providerMessages = messageExtractor.apply(notificationContentWrapper);
+            cachedNotification.putProviderMessages(detailedContent, providerMessages);
+        }
+        return providerMessages;
+    }
+
+    public void evictBatch(UUID correlationId) {
+        batchCaches.remove(correlationId);
+    }
+
+    private static class CachedNotification {
+        private final List<DetailedNotificationContent> detailedContent;
+        // Only the DetailedNotificationContent instances handed out by this cache are keys, so identity is sufficient.
+        private final Map<DetailedNotificationContent, ProcessedProviderMessageHolder> providerMessagesByContent;
+
+        public CachedNotification(List<DetailedNotificationContent> detailedContent) {
+            this.detailedContent = detailedContent;
+            this.providerMessagesByContent = Collections.synchronizedMap(new IdentityHashMap<>());
+        }
+
+        public List<DetailedNotificationContent> getDetailedContent() {
+            return detailedContent;
+        }
+
+        public ProcessedProviderMessageHolder getProviderMessages(DetailedNotificationContent content) {
+            return providerMessagesByContent.get(content);
+        }
+
+        public void putProviderMessages(DetailedNotificationContent content, ProcessedProviderMessageHolder providerMessages) {
+            providerMessagesByContent.putIfAbsent(content, providerMessages);
+        }
+    }
+
+}
@@ -7,7 +7,9 @@
  */
 package com.synopsys.integration.alert.api.processor;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,10 +23,15 @@ import com.synopsys.integration.alert.api.processor.detail.DetailedNotificationC
 import com.synopsys.integration.alert.api.processor.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.logging.AlertLoggerFactory;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.api.processor.mapping.JobNotificationMapper2;
 
+import io.micrometer.core.instrument.Timer;
+
 @Component
 public class NotificationMappingProcessor {
     public static final int DEFAULT_BATCH_LIMIT = 10000;
@@ -33,27 +40,36 @@ public class NotificationMappingProcessor {
     private final NotificationDetailExtractionDelegator notificationDetailExtractionDelegator;
     private final JobNotificationMapper2 jobNotificationMapper;
     private final NotificationAccessor notificationAccessor;
+    private final NotificationExtractionCache notificationExtractionCache;
+    private final PipelineMetrics pipelineMetrics;
 
     @Autowired
     public NotificationMappingProcessor(
         NotificationDetailExtractionDelegator notificationDetailExtractionDelegator,
         JobNotificationMapper2 jobNotificationMapper,
-        NotificationAccessor notificationAccessor
+        NotificationAccessor notificationAccessor,
+        NotificationExtractionCache notificationExtractionCache,
+        PipelineMetrics pipelineMetrics
     ) {
         this.notificationDetailExtractionDelegator = notificationDetailExtractionDelegator;
         this.jobNotificationMapper = jobNotificationMapper;
         this.notificationAccessor = notificationAccessor;
+        this.notificationExtractionCache = notificationExtractionCache;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     public void processNotifications(UUID correlationID, List<AlertNotificationModel> notifications, List<FrequencyType> frequencies) {
         logNotifications("Start mapping notifications: {}", notifications);
+        Timer.Sample mappingTimer = pipelineMetrics.startTimer();
         List<DetailedNotificationContent> filterableNotifications = notifications
             .stream()
-            .map(notificationDetailExtractionDelegator::wrapNotification)
+            .map(notification -> notificationExtractionCache.retrieveDetailedContent(correlationID, notification, notificationDetailExtractionDelegator::wrapNotification))
             .flatMap(List::stream)
             .collect(Collectors.toList());
         jobNotificationMapper.mapJobsToNotifications(correlationID, filterableNotifications, frequencies);
         notificationAccessor.setNotificationsProcessed(notifications);
+        pipelineMetrics.recordDuration(PipelineStage.MAPPING, PipelineMetricTags.none(), mappingTimer);
+        countMappedNotifications(notifications);
         logNotifications("Finished mapping notifications: {}", notifications);
     }
 
@@ -61,6 +77,16 @@ public class NotificationMappingProcessor {
         return jobNotificationMapper.hasBatchReachedSizeLimit(correlationID, DEFAULT_BATCH_LIMIT);
     }
 
+    // A batch can hold the notifications of several providers, so only the counts are split by provider
+    private void countMappedNotifications(List<AlertNotificationModel> notifications) {
+        Map<Long, Long> notificationCountsByProvider = new HashMap<>();
+        for (AlertNotificationModel notification : notifications) {
+            notificationCountsByProvider.merge(notification.getProviderConfigId(), 1L, Long::sum);
+        }
+        notificationCountsByProvider.forEach((providerConfigId, notificationCount) ->
+            pipelineMetrics.countNotifications(PipelineStage.MAPPING, PipelineMetricTags.forProvider(providerConfigId), notificationCount));
+    }
+
     private void logNotifications(String messageFormat, List<AlertNotificationModel> notifications) {
         if (logger.isDebugEnabled()) {
             List<Long> notificationIds = notifications.stream()
@@ -7,9 +7,12 @@
  */
 package com.synopsys.integration.alert.api.processor.distribute;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.alert.api.event.AlertEvent;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKey;
 import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessageHolder;
@@ -21,15 +24,38 @@ public class DistributionEvent extends AlertEvent {
 
     private final UUID jobExecutionId;
 
+    @Nullable
     private final ProviderMessageHolder providerMessages;
+    @Nullable
+    private final UUID payloadId;
+
+    /**
+     * Creates an event whose provider messages were too large to send inline. They are retrieved from the {@link DistributionPayloadStore} with the payload id.
+     */
+    public static DistributionEvent withStoredPayload(ChannelKey destination, UUID jobId, UUID jobExecutionId, String jobName, Set<Long> notificationIds, UUID payloadId) {
+        return new DistributionEvent(destination, jobId, jobExecutionId, jobName, notificationIds, null, payloadId);
+    }
 
     public DistributionEvent(ChannelKey destination, UUID jobId, UUID jobExecutionId, String jobName, Set<Long> notificationIds, ProviderMessageHolder providerMessages) {
+        this(destination, jobId, jobExecutionId, jobName, notificationIds, providerMessages, null);
+    }
+
+    private DistributionEvent(
+        ChannelKey destination,
+        UUID jobId,
+        UUID jobExecutionId,
+        String jobName,
+        Set<Long> notificationIds,
+        @Nullable ProviderMessageHolder providerMessages,
+        @Nullable UUID payloadId
+    ) {
         super(destination.getUniversalKey());
         this.jobId = jobId;
         this.jobName = jobName;
         this.notificationIds = notificationIds;
         this.providerMessages = providerMessages;
         this.jobExecutionId = jobExecutionId;
+        this.payloadId = payloadId;
     }
 
     public UUID getJobId() {
@@ -48,8 +74,16 @@ public class DistributionEvent extends AlertEvent {
         return notificationIds;
     }
 
+    /**
+     * @return the provider messages sent with the event, or null when they were stored separately. Use {@link DistributionPayloadStore#retrieveProviderMessages(DistributionEvent)} to read them in either case.
+     */
+    @Nullable
     public ProviderMessageHolder getProviderMessages() {
         return providerMessages;
     }
 
+    public Optional<UUID> getPayloadId() {
+        return Optional.ofNullable(payloadId);
+    }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.processor.distribute;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.api.descriptor.model.ChannelKey;
+import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
+
+/**
+ * Keeps large provider messages out of RabbitMQ. Messages over the inline limit are saved in the database and the {@link DistributionEvent} carries only their id.
+ * The receiving channel reads them back when it distributes the event and releases them once it is done.
+ */
+@Component
+public class DistributionPayloadStore {
+    public static final int DEFAULT_INLINE_LIMIT_BYTES = 256 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final Gson gson;
+    private final DistributionPayloadAccessor distributionPayloadAccessor;
+    private final int inlineLimitBytes;
+
+    @Autowired
+    public DistributionPayloadStore(
+        Gson gson,
+        DistributionPayloadAccessor distributionPayloadAccessor,
+        @Value("${alert.distribution.payload.inline.limit.bytes:" + DEFAULT_INLINE_LIMIT_BYTES + "}") int inlineLimitBytes
+    ) {
+        this.gson = gson;
+        this.distributionPayloadAccessor = distributionPayloadAccessor;
+        this.inlineLimitBytes = inlineLimitBytes;
+    }
+
+    public DistributionEvent createEvent(ChannelKey destination, UUID jobId, UUID jobExecutionId, String jobName, Set<Long> notificationIds, ProviderMessageHolder providerMessages) {
+        return createEvent(destination, jobId, jobExecutionId, jobName, notificationIds, providerMessages, null);
+    }
+
+    /**
+     * @param sizeEstimate the approximate serialized size of the messages when the caller already measured it. Messages that are clearly below the inline limit are
+     *                     then sent without serializing them a second time.
+     */
+    public DistributionEvent createEvent(
+        ChannelKey destination,
+        UUID jobId,
+        UUID jobExecutionId,
+        String jobName,
+        Set<Long> notificationIds,
+        ProviderMessageHolder providerMessages,
+        @Nullable Long sizeEstimate
+    ) {
+        if (null != sizeEstimate && sizeEstimate <= inlineLimitBytes) {
+            return new DistributionEvent(destination, jobId, jobExecutionId, jobName, notificationIds, providerMessages);
+        }
+
+        String payload = gson.toJson(providerMessages);
+        // JSON is mostly ASCII, so its length in characters is a close enough measure of the message size
+        if (payload.length() <= inlineLimitBytes) {
+            return new DistributionEvent(destination, jobId, jobExecutionId, jobName, notificationIds, providerMessages);
+        }
+
+        UUID payloadId = distributionPayloadAccessor.savePayload(jobExecutionId, payload);
+        logger.debug("Stored a {} character payload for job execution {} with id {}", payload.length(), jobExecutionId, payloadId);
+        return DistributionEvent.withStoredPayload(destination, jobId, jobExecutionId, jobName, notificationIds, payloadId);
+    }
+
+    public ProviderMessageHolder retrieveProviderMessages(DistributionEvent event) throws AlertException {
+        Optional<UUID> payloadId = event.getPayloadId();
+        if (payloadId.isEmpty()) {
+            return event.getProviderMessages();
+        }
+
+        String payload = distributionPayloadAccessor.getPayload(payloadId.get())
+            .orElseThrow(() -> new AlertException(String.format("The stored messages for event %s no longer exist. Payload ID: %s", event.getEventId(), payloadId.get())));
+        return gson.fromJson(payload, ProviderMessageHolder.class);
+    }
+
+    public void releasePayload(DistributionEvent event) {
+        event.getPayloadId().ifPresent(this::deletePayload);
+    }
+
+    private void deletePayload(UUID payloadId) {
+        try {
+            distributionPayloadAccessor.deletePayload(payloadId);
+        } catch (Exception e) {
+            // The payload purge task removes anything left behind
+            logger.warn("Could not delete the stored payload {}", payloadId, e);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.processor.distribute;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
+
+public class ProviderMessageChunk {
+    private final ProcessedProviderMessageHolder processedMessageHolder;
+    @Nullable
+    private final Long sizeEstimate;
+
+    public ProviderMessageChunk(ProcessedProviderMessageHolder processedMessageHolder, @Nullable Long sizeEstimate) {
+        this.processedMessageHolder = processedMessageHolder;
+        this.sizeEstimate = sizeEstimate;
+    }
+
+    public ProcessedProviderMessageHolder getProcessedMessageHolder() {
+        return processedMessageHolder;
+    }
+
+    /**
+     * @return the approximate serialized size of the messages, if it was measured while chunking.
+     */
+    public Optional<Long> getSizeEstimate() {
+        return Optional.ofNullable(sizeEstimate);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.processor.distribute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.api.processor.extract.model.SimpleMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
+
+/**
+ * Splits the messages of a job into the groups that are each sent as one {@link DistributionEvent}. In the individual mode every message gets its own event. In
+ * the chunked mode consecutive messages are packed together until either the message or the size budget of a chunk would be exceeded, so a channel handles the
+ * chunk in one pass and the audit and job stage bookkeeping happens once per chunk. A failure then fails every notification in its chunk.
+ */
+@Component
+public class ProviderMessageChunker {
+    public static final String MODE_INDIVIDUAL = "individual";
+    public static final String MODE_CHUNKED = "chunked";
+    public static final int DEFAULT_MAX_MESSAGES_PER_CHUNK = 100;
+    public static final int DEFAULT_MAX_CHUNK_SIZE_BYTES = 1024 * 1024;
+
+    private final Gson gson;
+    private final boolean chunked;
+    private final int maxMessagesPerChunk;
+    private final int maxChunkSizeBytes;
+
+    @Autowired
+    public ProviderMessageChunker(
+        Gson gson,
+        @Value("${alert.distribution.mode:" + MODE_INDIVIDUAL + "}") String distributionMode,
+        @Value("${alert.distribution.chunk.max.messages:" + DEFAULT_MAX_MESSAGES_PER_CHUNK + "}") int maxMessagesPerChunk,
+        @Value("${alert.distribution.chunk.max.bytes:" + DEFAULT_MAX_CHUNK_SIZE_BYTES + "}") int maxChunkSizeBytes
+    ) {
+        if (!MODE_INDIVIDUAL.equalsIgnoreCase(distributionMode) && !MODE_CHUNKED.equalsIgnoreCase(distributionMode)) {
+            throw new IllegalArgumentException(String.format("Unknown distribution mode '%s'. Expected one of: %s, %s", distributionMode, MODE_INDIVIDUAL, MODE_CHUNKED));
+        }
+        this.gson = gson;
+        this.chunked = MODE_CHUNKED.equalsIgnoreCase(distributionMode);
+        this.maxMessagesPerChunk = Math.max(1, maxMessagesPerChunk);
+        this.maxChunkSizeBytes = maxChunkSizeBytes;
+    }
+
+    public List<ProviderMessageChunk> split(ProcessedProviderMessageHolder processedMessageHolder) {
+        List<ProviderMessageChunk> chunks = new ArrayList<>();
+        if (!chunked) {
+            for (ProcessedProviderMessageHolder singleMessageHolder : processedMessageHolder.expand()) {
+                chunks.add(new ProviderMessageChunk(singleMessageHolder, null));
+            }
+            return chunks;
+        }
+
+        ChunkBuilder chunkBuilder = new ChunkBuilder();
+        for (ProcessedProviderMessage<ProjectMessage> projectMessage : processedMessageHolder.getProcessedProjectMessages()) {
+            long messageSize = estimateSize(projectMessage);
+            if (!chunkBuilder.fits(messageSize)) {
+                chunks.add(chunkBuilder.build());
+                chunkBuilder = new ChunkBuilder();
+            }
+            chunkBuilder.addProjectMessage(projectMessage, messageSize);
+        }
+        for (ProcessedProviderMessage<SimpleMessage> simpleMessage : processedMessageHolder.getProcessedSimpleMessages()) {
+            long messageSize = estimateSize(simpleMessage);
+            if (!chunkBuilder.fits(messageSize)) {
+                chunks.add(chunkBuilder.build());
+                chunkBuilder = new ChunkBuilder();
+            }
+            chunkBuilder.addSimpleMessage(simpleMessage, messageSize);
+        }
+        if (!chunkBuilder.isEmpty()) {
+            chunks.add(chunkBuilder.build());
+        }
+        return chunks;
+    }
+
+    private long estimateSize(ProcessedProviderMessage<?> processedMessage) {
+        // JSON is mostly ASCII, so its length in characters is a close enough measure of the message size
+        return gson.toJson(processedMessage.getProviderMessage()).length();
+    }
+
+    private class ChunkBuilder {
+        private final List<ProcessedProviderMessage<ProjectMessage>> projectMessages = new ArrayList<>();
+        private final List<ProcessedProviderMessage<SimpleMessage>> simpleMessages = new ArrayList<>();
+        private int messageCount = 0;
+        private long sizeEstimate = 0L;
+
+        public boolean fits(long messageSize) {
+            // A message larger than the size budget still gets a chunk of its own
+            return isEmpty() || (messageCount < maxMessagesPerChunk && sizeEstimate + messageSize <= maxChunkSizeBytes);
+        }
+
+        public boolean isEmpty() {
+            return 0 == messageCount;
+        }
+
+        public void addProjectMessage(ProcessedProviderMessage<ProjectMessage> projectMessage, long messageSize) {
+            projectMessages.add(projectMessage);
+            recordMessage(messageSize);
+        }
+
+        public void addSimpleMessage(ProcessedProviderMessage<SimpleMessage> simpleMessage, long messageSize) {
+            simpleMessages.add(simpleMessage);
+            recordMessage(messageSize);
+        }
+
+        public ProviderMessageChunk build() {
+            return new ProviderMessageChunk(new ProcessedProviderMessageHolder(projectMessages, simpleMessages), sizeEstimate);
+        }
+
+        private void recordMessage(long messageSize) {
+            messageCount++;
+            sizeEstimate += messageSize;
+        }
+
+    }
+
+}
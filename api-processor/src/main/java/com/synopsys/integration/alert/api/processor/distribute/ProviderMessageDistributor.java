@@ -35,12 +35,22 @@ public class ProviderMessageDistributor {
     private final ProcessingAuditAccessor auditAccessor;
     private final EventManager eventManager;
     private final ExecutingJobManager executingJobManager;
+    private final DistributionPayloadStore distributionPayloadStore;
+    private final ProviderMessageChunker providerMessageChunker;
 
     @Autowired
-    public ProviderMessageDistributor(ProcessingAuditAccessor auditAccessor, EventManager eventManager, ExecutingJobManager executingJobManager) {
+    public ProviderMessageDistributor(
+        ProcessingAuditAccessor auditAccessor,
+        EventManager eventManager,
+        ExecutingJobManager executingJobManager,
+        DistributionPayloadStore distributionPayloadStore,
+        ProviderMessageChunker providerMessageChunker
+    ) {
         this.auditAccessor = auditAccessor;
         this.eventManager = eventManager;
         this.executingJobManager = executingJobManager;
+        this.distributionPayloadStore = distributionPayloadStore;
+        this.providerMessageChunker = providerMessageChunker;
     }
 
     public void distribute(ProcessedNotificationDetails processedNotificationDetails, ProcessedProviderMessageHolder processedMessageHolder) {
@@ -51,22 +61,31 @@ public class ProviderMessageDistributor {
             return;
         }
 
-        for (ProcessedProviderMessageHolder singleMessageHolder : processedMessageHolder.expand()) {
-            distributeIndividually(
+        for (ProviderMessageChunk messageChunk : providerMessageChunker.split(processedMessageHolder)) {
+            distributeChunk(
                 processedNotificationDetails.getJobExecutionId(),
                 processedNotificationDetails.getJobId(),
                 processedNotificationDetails.getJobName(),
                 destinationKey,
-                singleMessageHolder
+                messageChunk
             );
         }
     }
 
-    public void distributeIndividually(UUID jobExecutionId, UUID jobId, String jobName, ChannelKey destinationKey, ProcessedProviderMessageHolder processedMessageHolder) {
+    private void distributeChunk(UUID jobExecutionId, UUID jobId, String jobName, ChannelKey destinationKey, ProviderMessageChunk messageChunk) {
+        ProcessedProviderMessageHolder processedMessageHolder = messageChunk.getProcessedMessageHolder();
         Set<Long> notificationIds = processedMessageHolder.extractAllNotificationIds();
         executingJobManager.incrementExpectedNotificationsSent(jobExecutionId, notificationIds.size());
-        DistributionEvent event = new DistributionEvent(destinationKey, jobId, jobExecutionId, jobName, notificationIds, processedMessageHolder.toProviderMessageHolder());
-        logger.info("Sending {}. Event ID: {}. Job ID: {}. Destination: {}", EVENT_CLASS_NAME, event.getEventId(), jobId, destinationKey);
+        DistributionEvent event = distributionPayloadStore.createEvent(
+            destinationKey,
+            jobId,
+            jobExecutionId,
+            jobName,
+            notificationIds,
+            processedMessageHolder.toProviderMessageHolder(),
+            messageChunk.getSizeEstimate().orElse(null)
+        );
+        logger.info("Sending {}. Event ID: {}. Job ID: {}. Destination: {}. Notifications: {}", EVENT_CLASS_NAME, event.getEventId(), jobId, destinationKey, notificationIds.size());
         if (logger.isDebugEnabled()) {
             String joinedIds = StringUtils.join(notificationIds, ", ");
             notificationLogger.debug("Creating event: {}. Job ID: {}. For notifications: {}", event.getEventId(), jobId, joinedIds);
@@ -0,0 +1,56 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.processor.extract.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
+
+/**
+ * A mutable alternative to repeatedly calling {@link ProcessedProviderMessageHolder#reduce(ProcessedProviderMessageHolder, ProcessedProviderMessageHolder)}.
+ * Messages are appended in place rather than copied into a new holder on every merge.
+ * This class is not thread-safe.
+ */
+public class ProcessedProviderMessageAccumulator {
+    private final List<ProcessedProviderMessage<ProjectMessage>> processedProjectMessages = new ArrayList<>();
+    private final List<ProcessedProviderMessage<SimpleMessage>> processedSimpleMessages = new ArrayList<>();
+
+    public void add(ProcessedProviderMessageHolder processedMessageHolder) {
+        processedProjectMessages.addAll(processedMessageHolder.getProcessedProjectMessages());
+        processedSimpleMessages.addAll(processedMessageHolder.getProcessedSimpleMessages());
+    }
+
+    /**
+     * Replaces the accumulated project messages with the result of the combiner, e.g. to digest them so far.
+     */
+    public void combineProjectMessages(UnaryOperator<List<ProcessedProviderMessage<ProjectMessage>>> combiner) {
+        List<ProcessedProviderMessage<ProjectMessage>> combinedMessages = combiner.apply(new ArrayList<>(processedProjectMessages));
+        processedProjectMessages.clear();
+        processedProjectMessages.addAll(combinedMessages);
+    }
+
+    /**
+     * Replaces the accumulated simple messages with the result of the combiner.
+     */
+    public void combineSimpleMessages(UnaryOperator<List<ProcessedProviderMessage<SimpleMessage>>> combiner) {
+        List<ProcessedProviderMessage<SimpleMessage>> combinedMessages = combiner.apply(new ArrayList<>(processedSimpleMessages));
+        processedSimpleMessages.clear();
+        processedSimpleMessages.addAll(combinedMessages);
+    }
+
+    public boolean isEmpty() {
+        return processedProjectMessages.isEmpty() && processedSimpleMessages.isEmpty();
+    }
+
+    public ProcessedProviderMessageHolder toHolder() {
+        return new ProcessedProviderMessageHolder(new ArrayList<>(processedProjectMessages), new ArrayList<>(processedSimpleMessages));
+    }
+
+}
@@ -11,12 +11,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.processor.detail.DetailedNotificationContent;
-import com.synopsys.integration.alert.api.processor.filter.JobNotificationFilterUtils;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.persistence.accessor.JobNotificationMappingAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingJobAccessor2;
@@ -39,15 +37,22 @@ public class JobNotificationMapper2 {
         this.jobNotificationMappingAccessor = jobNotificationMappingAccessor;
     }
 
+    /**
+     * Maps a page of notifications to the jobs they apply to. The mappings for every notification in the page are written in a single batch.
+     */
     public void mapJobsToNotifications(
         UUID correlationID,
         List<DetailedNotificationContent> detailedContents,
         List<FrequencyType> frequencies
     ) {
+        List<JobToNotificationMappingModel> mappings = new LinkedList<>();
         detailedContents
             .stream()
             .map(content -> convertToRequest(content, frequencies))
-            .forEach(jobRequestModel -> retrieveResponse(correlationID, jobRequestModel));
+            .forEach(jobRequestModel -> mappings.addAll(retrieveMappings(correlationID, jobRequestModel)));
+        if (!mappings.isEmpty()) {
+            jobNotificationMappingAccessor.addJobMappings(mappings);
+        }
     }
 
     public boolean hasBatchReachedSizeLimit(UUID correlationID, int limit) {
@@ -68,30 +73,23 @@ public class JobNotificationMapper2 {
         return filteredDistributionJobRequestModel;
     }
 
-    private void retrieveResponse(
+    private List<JobToNotificationMappingModel> retrieveMappings(
         UUID correlationId,
         FilteredDistributionJobRequestModel filteredDistributionJobRequestModel
     ) {
         int pageNumber = 0;
         int pageSize = 200;
 
-        String projectName = filteredDistributionJobRequestModel.getProjectName().stream().findFirst().orElse(StringUtils.EMPTY);
-        String projectVersionName = filteredDistributionJobRequestModel.getProjectVersionNames().stream().findFirst().orElse(StringUtils.EMPTY);
-
         AlertPagedDetails<SimpleFilteredDistributionJobResponseModel> jobs = processingJobAccessor.getMatchingEnabledJobsForNotifications(
             filteredDistributionJobRequestModel,
             pageNumber,
             pageSize
         );
+        List<JobToNotificationMappingModel> mappings = new LinkedList<>();
         while (jobs.getCurrentPage() <= jobs.getTotalPages()) {
-            List<JobToNotificationMappingModel> mappings = new LinkedList<>();
+            // The accessor only returns jobs whose project filters already match the notification
             for (SimpleFilteredDistributionJobResponseModel job : jobs.getModels()) {
-                if (JobNotificationFilterUtils.doesProjectApplyToJob(job, projectName, projectVersionName)) {
-                    mappings.add(new JobToNotificationMappingModel(correlationId, job.getJobId(), job.getNotificationId()));
-                }
-            }
-            if (!mappings.isEmpty()) {
-                jobNotificationMappingAccessor.addJobMappings(mappings);
+                mappings.add(new JobToNotificationMappingModel(correlationId, job.getJobId(), job.getNotificationId()));
             }
             pageNumber++;
             jobs = processingJobAccessor.getMatchingEnabledJobsForNotifications(
@@ -100,5 +98,6 @@ public class JobNotificationMapper2 {
                 pageSize
             );
         }
+        return mappings;
     }
 }
@@ -13,7 +13,9 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobMan
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.processor.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.digest.ProjectMessageDigester;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
 import com.synopsys.integration.alert.api.processor.distribute.ProcessedNotificationDetails;
+import com.synopsys.integration.alert.api.processor.distribute.ProviderMessageChunker;
 import com.synopsys.integration.alert.api.processor.distribute.ProviderMessageDistributor;
 import com.synopsys.integration.alert.api.processor.extract.ProviderMessageExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.extract.model.ProviderDetails;
@@ -22,11 +24,14 @@ import com.synopsys.integration.alert.common.AlertProperties;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
 import com.synopsys.integration.alert.api.descriptor.BlackDuckProviderKey;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
 import com.synopsys.integration.alert.provider.blackduck.factory.BlackDuckPropertiesFactory;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.detail.RuleViolationNotificationDetailExtractor;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.RuleViolationNotificationMessageExtractor;
@@ -82,7 +87,24 @@ class JobNotificationProcessorTest {
         MockProcessingAuditAccessor processingAuditAccessor = new MockProcessingAuditAccessor();
         EventManager eventManager = Mockito.mock(EventManager.class);
         ExecutingJobManager executingJobManager = Mockito.mock(ExecutingJobManager.class);
-        ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(processingAuditAccessor, eventManager, executingJobManager);
+        DistributionPayloadStore distributionPayloadStore = new DistributionPayloadStore(
+            BlackDuckServicesFactory.createDefaultGson(),
+            Mockito.mock(DistributionPayloadAccessor.class),
+            DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES
+        );
+        ProviderMessageChunker providerMessageChunker = new ProviderMessageChunker(
+            BlackDuckServicesFactory.createDefaultGson(),
+            ProviderMessageChunker.MODE_INDIVIDUAL,
+            ProviderMessageChunker.DEFAULT_MAX_MESSAGES_PER_CHUNK,
+            ProviderMessageChunker.DEFAULT_MAX_CHUNK_SIZE_BYTES
+        );
+        ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(
+            processingAuditAccessor,
+            eventManager,
+            executingJobManager,
+            distributionPayloadStore,
+            providerMessageChunker
+        );
 
         NotificationExtractorBlackDuckServicesFactoryCache lifecycleCaches = createNotificationExtractorBlackDuckServicesFactoryCache();
 
@@ -106,8 +128,12 @@ class JobNotificationProcessorTest {
         BlackDuckPolicySeverityConverter blackDuckPolicySeverityConverter = new BlackDuckPolicySeverityConverter();
         BlackDuckPolicyComponentConcernCreator blackDuckPolicyComponentConcernCreator = new BlackDuckPolicyComponentConcernCreator(blackDuckPolicySeverityConverter);
         BlackDuckComponentVulnerabilityDetailsCreator vulnerabilityDetailsCreator = new BlackDuckComponentVulnerabilityDetailsCreator();
-        BlackDuckComponentPolicyDetailsCreatorFactory blackDuckComponentPolicyDetailsCreatorFactory = new BlackDuckComponentPolicyDetailsCreatorFactory(blackDuckPolicySeverityConverter);
-        BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory = new BlackDuckMessageBomComponentDetailsCreatorFactory(vulnerabilityDetailsCreator, blackDuckComponentPolicyDetailsCreatorFactory);
+        BlackDuckComponentPolicyDetailsCreatorFactory blackDuckComponentPolicyDetailsCreatorFactory = new BlackDuckComponentPolicyDetailsCreatorFactory(blackDuckPolicySeverityConverter, BlackDuckResponseCache.withDefaults());
+        BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory = new BlackDuckMessageBomComponentDetailsCreatorFactory(
+            vulnerabilityDetailsCreator,
+            blackDuckComponentPolicyDetailsCreatorFactory,
+            BlackDuckResponseCache.withDefaults()
+        );
 
         //Mocks for AbstractRuleViolationNotificationMessageExtractor
         BlackDuckServicesFactory blackDuckServicesFactory = Mockito.mock(BlackDuckServicesFactory.class);
@@ -123,7 +149,7 @@ class JobNotificationProcessorTest {
 
         BomComponent404Handler bomComponent404Handler = new BomComponent404Handler();
 
-        return new RuleViolationNotificationMessageExtractor(providerKey, servicesFactoryCache, blackDuckPolicyComponentConcernCreator, detailsCreatorFactory, bomComponent404Handler);
+        return new RuleViolationNotificationMessageExtractor(providerKey, servicesFactoryCache, BlackDuckEnrichmentExecutor.withDefaults(), blackDuckPolicyComponentConcernCreator, detailsCreatorFactory, bomComponent404Handler);
     }
 
     private NotificationExtractorBlackDuckServicesFactoryCache createNotificationExtractorBlackDuckServicesFactoryCache() {
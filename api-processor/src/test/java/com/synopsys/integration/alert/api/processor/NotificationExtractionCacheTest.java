@@ -0,0 +1,115 @@
+package com.synopsys.integration.alert.api.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.api.processor.detail.DetailedNotificationContent;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.api.processor.filter.NotificationContentWrapper;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+import com.synopsys.integration.blackduck.api.manual.component.ProjectVersionNotificationContent;
+import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
+
+class NotificationExtractionCacheTest {
+    private final UUID correlationId = UUID.randomUUID();
+
+    @Test
+    void detailedContentExtractedOnceTest() {
+        AlertNotificationModel notification = createNotification(1L);
+        AtomicInteger extractionCount = new AtomicInteger(0);
+        Function<AlertNotificationModel, List<DetailedNotificationContent>> detailExtractor = createDetailExtractor(extractionCount);
+
+        NotificationExtractionCache cache = new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS);
+        List<DetailedNotificationContent> firstContent = cache.retrieveDetailedContent(correlationId, notification, detailExtractor);
+        List<DetailedNotificationContent> secondContent = cache.retrieveDetailedContent(correlationId, notification, detailExtractor);
+        assertSame(firstContent, secondContent);
+        assertEquals(1, extractionCount.get());
+
+        cache.evictBatch(correlationId);
+        cache.retrieveDetailedContent(correlationId, notification, detailExtractor);
+        assertEquals(2, extractionCount.get());
+    }
+
+    @Test
+    void batchesCachedSeparatelyTest() {
+        AlertNotificationModel notification = createNotification(1L);
+        AtomicInteger extractionCount = new AtomicInteger(0);
+        Function<AlertNotificationModel, List<DetailedNotificationContent>> detailExtractor = createDetailExtractor(extractionCount);
+        UUID otherCorrelationId = UUID.randomUUID();
+
+        NotificationExtractionCache cache = new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS);
+        cache.retrieveDetailedContent(correlationId, notification, detailExtractor);
+        cache.retrieveDetailedContent(otherCorrelationId, notification, detailExtractor);
+        assertEquals(2, extractionCount.get());
+
+        cache.evictBatch(otherCorrelationId);
+        cache.retrieveDetailedContent(correlationId, notification, detailExtractor);
+        assertEquals(2, extractionCount.get());
+    }
+
+    @Test
+    void providerMessagesExtractedOnceTest() {
+        AlertNotificationModel notification = createNotification(1L);
+        NotificationExtractionCache cache = new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS);
+        DetailedNotificationContent detailedContent = cache.retrieveDetailedContent(correlationId, notification, createDetailExtractor(new AtomicInteger(0))).get(0);
+
+        AtomicInteger extractionCount = new AtomicInteger(0);
+        Function<NotificationContentWrapper, ProcessedProviderMessageHolder> messageExtractor = ignored -> {
+            extractionCount.incrementAndGet();
+            return ProcessedProviderMessageHolder.empty();
+        };
+        ProcessedProviderMessageHolder firstMessages = cache.retrieveProviderMessages(correlationId, detailedContent, messageExtractor);
+        ProcessedProviderMessageHolder secondMessages = cache.retrieveProviderMessages(correlationId, detailedContent, messageExtractor);
+        assertSame(firstMessages, secondMessages);
+        assertEquals(1, extractionCount.get());
+    }
+
+    @Test
+    void cacheSizeLimitTest() {
+        AtomicInteger extractionCount = new AtomicInteger(0);
+        Function<AlertNotificationModel, List<DetailedNotificationContent>> detailExtractor = createDetailExtractor(extractionCount);
+
+        NotificationExtractionCache cache = new NotificationExtractionCache(1);
+        AlertNotificationModel cachedNotification = createNotification(1L);
+        AlertNotificationModel uncachedNotification = createNotification(2L);
+        cache.retrieveDetailedContent(correlationId, cachedNotification, detailExtractor);
+        cache.retrieveDetailedContent(correlationId, uncachedNotification, detailExtractor);
+        cache.retrieveDetailedContent(correlationId, cachedNotification, detailExtractor);
+        cache.retrieveDetailedContent(correlationId, uncachedNotification, detailExtractor);
+        assertEquals(3, extractionCount.get());
+    }
+
+    private Function<AlertNotificationModel, List<DetailedNotificationContent>> createDetailExtractor(AtomicInteger extractionCount) {
+        return notification -> {
+            extractionCount.incrementAndGet();
+            ProjectVersionNotificationContent content = new ProjectVersionNotificationContent();
+            content.setProjectName("project");
+            content.setProjectVersionName("version");
+            return List.of(DetailedNotificationContent.project(notification, content, content.getProjectName(), content.getProjectVersionName()));
+        };
+    }
+
+    private AlertNotificationModel createNotification(Long id) {
+        return new AlertNotificationModel(
+            id,
+            1L,
+            "provider_blackduck",
+            "provider-config",
+            NotificationType.PROJECT_VERSION.name(),
+            "{}",
+            OffsetDateTime.now(),
+            OffsetDateTime.now(),
+            false,
+            String.format("content-id-%s", id)
+        );
+    }
+
+}
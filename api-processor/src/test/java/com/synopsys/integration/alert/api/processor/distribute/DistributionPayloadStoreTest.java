@@ -0,0 +1,79 @@
+package com.synopsys.integration.alert.api.processor.distribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.api.descriptor.SlackChannelKey;
+import com.synopsys.integration.alert.api.processor.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.api.processor.extract.model.SimpleMessage;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+
+class DistributionPayloadStoreTest {
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final UUID JOB_EXECUTION_ID = UUID.randomUUID();
+    private static final String JOB_NAME = "jobName";
+    private static final Set<Long> NOTIFICATION_IDS = Set.of(1L, 2L);
+
+    private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
+    private final SlackChannelKey channelKey = new SlackChannelKey();
+
+    @Test
+    void smallPayloadIsSentInlineTest() throws AlertException {
+        MockDistributionPayloadAccessor payloadAccessor = new MockDistributionPayloadAccessor();
+        DistributionPayloadStore payloadStore = new DistributionPayloadStore(gson, payloadAccessor, DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES);
+        ProviderMessageHolder providerMessages = createProviderMessages();
+
+        DistributionEvent event = payloadStore.createEvent(channelKey, JOB_ID, JOB_EXECUTION_ID, JOB_NAME, NOTIFICATION_IDS, providerMessages);
+        assertTrue(event.getPayloadId().isEmpty());
+        assertEquals(providerMessages, event.getProviderMessages());
+        assertEquals(0, payloadAccessor.getPayloadCount());
+        assertEquals(providerMessages, payloadStore.retrieveProviderMessages(event));
+    }
+
+    @Test
+    void largePayloadIsStoredTest() throws AlertException {
+        MockDistributionPayloadAccessor payloadAccessor = new MockDistributionPayloadAccessor();
+        DistributionPayloadStore payloadStore = new DistributionPayloadStore(gson, payloadAccessor, 10);
+        ProviderMessageHolder providerMessages = createProviderMessages();
+
+        DistributionEvent event = payloadStore.createEvent(channelKey, JOB_ID, JOB_EXECUTION_ID, JOB_NAME, NOTIFICATION_IDS, providerMessages);
+        assertTrue(event.getPayloadId().isPresent());
+        assertNull(event.getProviderMessages());
+        assertEquals(1, payloadAccessor.getPayloadCount());
+
+        DistributionEvent receivedEvent = gson.fromJson(gson.toJson(event), DistributionEvent.class);
+        ProviderMessageHolder retrievedMessages = payloadStore.retrieveProviderMessages(receivedEvent);
+        assertEquals(1, retrievedMessages.getSimpleMessages().size());
+        assertEquals("Summary", retrievedMessages.getSimpleMessages().get(0).getSummary());
+
+        payloadStore.releasePayload(receivedEvent);
+        assertEquals(0, payloadAccessor.getPayloadCount());
+    }
+
+    @Test
+    void missingPayloadTest() {
+        DistributionPayloadStore payloadStore = new DistributionPayloadStore(gson, new MockDistributionPayloadAccessor(), DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES);
+        DistributionEvent event = DistributionEvent.withStoredPayload(channelKey, JOB_ID, JOB_EXECUTION_ID, JOB_NAME, NOTIFICATION_IDS, UUID.randomUUID());
+
+        assertThrows(AlertException.class, () -> payloadStore.retrieveProviderMessages(event));
+    }
+
+    private ProviderMessageHolder createProviderMessages() {
+        ProviderDetails providerDetails = new ProviderDetails(1L, new LinkableItem("Provider", "Black Duck"));
+        SimpleMessage simpleMessage = SimpleMessage.original(providerDetails, "Summary", "Description", List.of(new LinkableItem("Project", "Project Name")));
+        return new ProviderMessageHolder(List.of(), List.of(simpleMessage));
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.synopsys.integration.alert.api.processor.distribute;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
+
+public class MockDistributionPayloadAccessor implements DistributionPayloadAccessor {
+    private final Map<UUID, String> payloads = new HashMap<>();
+
+    @Override
+    public UUID savePayload(UUID jobExecutionId, String payload) {
+        UUID payloadId = UUID.randomUUID();
+        payloads.put(payloadId, payload);
+        return payloadId;
+    }
+
+    @Override
+    public Optional<String> getPayload(UUID payloadId) {
+        return Optional.ofNullable(payloads.get(payloadId));
+    }
+
+    @Override
+    public void deletePayload(UUID payloadId) {
+        payloads.remove(payloadId);
+    }
+
+    @Override
+    public int deletePayloadsCreatedBefore(OffsetDateTime date) {
+        int deletedCount = payloads.size();
+        payloads.clear();
+        return deletedCount;
+    }
+
+    public int getPayloadCount() {
+        return payloads.size();
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.synopsys.integration.alert.api.processor.distribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.api.processor.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.api.processor.extract.model.SimpleMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectOperation;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
+
+class ProviderMessageChunkerTest {
+    private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
+
+    @Test
+    void individualModeTest() {
+        ProviderMessageChunker chunker = new ProviderMessageChunker(gson, ProviderMessageChunker.MODE_INDIVIDUAL, 100, 1024 * 1024);
+        List<ProviderMessageChunk> chunks = chunker.split(createHolder(3, 2, ""));
+
+        assertEquals(5, chunks.size());
+        for (ProviderMessageChunk chunk : chunks) {
+            assertEquals(1, countMessages(chunk));
+            assertTrue(chunk.getSizeEstimate().isEmpty());
+        }
+    }
+
+    @Test
+    void chunkedModeMessageLimitTest() {
+        ProviderMessageChunker chunker = new ProviderMessageChunker(gson, ProviderMessageChunker.MODE_CHUNKED, 2, 1024 * 1024);
+        List<ProviderMessageChunk> chunks = chunker.split(createHolder(3, 2, ""));
+
+        assertEquals(3, chunks.size());
+        assertEquals(2, countMessages(chunks.get(0)));
+        assertEquals(2, countMessages(chunks.get(1)));
+        assertEquals(1, countMessages(chunks.get(2)));
+        // Order is preserved, so the third project message shares a chunk with the first simple message
+        assertEquals(1, chunks.get(1).getProcessedMessageHolder().getProcessedProjectMessages().size());
+        assertEquals(1, chunks.get(1).getProcessedMessageHolder().getProcessedSimpleMessages().size());
+        assertTrue(chunks.get(0).getSizeEstimate().isPresent());
+    }
+
+    @Test
+    void chunkedModeSizeLimitTest() {
+        String padding = StringUtils.repeat('x', 1000);
+        ProviderMessageChunker chunker = new ProviderMessageChunker(gson, ProviderMessageChunker.MODE_CHUNKED, 100, 3000);
+        List<ProviderMessageChunk> chunks = chunker.split(createHolder(0, 5, padding));
+
+        assertEquals(3, chunks.size());
+        for (ProviderMessageChunk chunk : chunks) {
+            assertTrue(chunk.getSizeEstimate().orElseThrow() <= 3000);
+        }
+        assertEquals(5, chunks.stream().mapToInt(this::countMessages).sum());
+    }
+
+    @Test
+    void chunkedModeOversizedMessageTest() {
+        String padding = StringUtils.repeat('x', 1000);
+        ProviderMessageChunker chunker = new ProviderMessageChunker(gson, ProviderMessageChunker.MODE_CHUNKED, 100, 100);
+        List<ProviderMessageChunk> chunks = chunker.split(createHolder(0, 2, padding));
+
+        assertEquals(2, chunks.size());
+        assertEquals(1, countMessages(chunks.get(0)));
+        assertTrue(chunks.get(0).getSizeEstimate().orElseThrow() > 100);
+    }
+
+    @Test
+    void chunkedModeEmptyHolderTest() {
+        ProviderMessageChunker chunker = new ProviderMessageChunker(gson, ProviderMessageChunker.MODE_CHUNKED, 100, 1024 * 1024);
+        assertTrue(chunker.split(ProcessedProviderMessageHolder.empty()).isEmpty());
+    }
+
+    @Test
+    void unknownModeTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ProviderMessageChunker(gson, "batched", 100, 1024 * 1024));
+    }
+
+    private int countMessages(ProviderMessageChunk chunk) {
+        ProcessedProviderMessageHolder holder = chunk.getProcessedMessageHolder();
+        return holder.getProcessedProjectMessages().size() + holder.getProcessedSimpleMessages().size();
+    }
+
+    private ProcessedProviderMessageHolder createHolder(int numberOfProjectMessages, int numberOfSimpleMessages, String descriptionPadding) {
+        List<ProcessedProviderMessage<ProjectMessage>> processedProjectMessages = new ArrayList<>();
+        List<ProcessedProviderMessage<SimpleMessage>> processedSimpleMessages = new ArrayList<>();
+        LinkableItem project = new LinkableItem("Project", "Common Project");
+
+        for (long i = 1; i <= numberOfProjectMessages; i++) {
+            ProviderDetails providerDetails = new ProviderDetails(i, new LinkableItem("Provider", "Provider " + i));
+            ProjectMessage projectMessage = ProjectMessage.projectStatusInfo(providerDetails, project, ProjectOperation.CREATE);
+            processedProjectMessages.add(ProcessedProviderMessage.singleSource(i, projectMessage));
+        }
+
+        for (long i = 1; i <= numberOfSimpleMessages; i++) {
+            ProviderDetails providerDetails = new ProviderDetails(i, new LinkableItem("Details", "Detail " + i));
+            SimpleMessage simpleMessage = SimpleMessage.original(providerDetails, "Summary " + i, "Description " + i + descriptionPadding, List.of(project));
+            processedSimpleMessages.add(ProcessedProviderMessage.singleSource(i, simpleMessage));
+        }
+
+        return new ProcessedProviderMessageHolder(processedProjectMessages, processedSimpleMessages);
+    }
+
+}
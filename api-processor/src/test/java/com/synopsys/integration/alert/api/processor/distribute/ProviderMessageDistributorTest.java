@@ -18,6 +18,7 @@ import com.synopsys.integration.alert.api.processor.extract.model.project.Projec
 import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectOperation;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.api.descriptor.SlackChannelKey;
+import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
 class ProviderMessageDistributorTest {
      private final UUID uuid = UUID.randomUUID();
@@ -33,7 +34,13 @@ class ProviderMessageDistributorTest {
          ProcessedNotificationDetails processedNotificationDetails = new ProcessedNotificationDetails(jobExecutionId, uuid, slackChannelKey.getUniversalKey(), "JobName");
          ProcessedProviderMessageHolder processedMessageHolder = createProcessedProviderMessageHolder(2, 2);
 
-         ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(processingAuditAccessor, eventManager, executingJobManager);
+         ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(
+             processingAuditAccessor,
+             eventManager,
+             executingJobManager,
+             createPayloadStore(),
+             createChunker(ProviderMessageChunker.MODE_INDIVIDUAL)
+         );
          providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder);
 
          Mockito.verify(eventManager, Mockito.times(4)).sendEvent(Mockito.any());
@@ -48,12 +55,53 @@ class ProviderMessageDistributorTest {
          ProcessedNotificationDetails processedNotificationDetails = new ProcessedNotificationDetails(jobExecutionId, uuid, "bad channel key", "JobName");
          ProcessedProviderMessageHolder processedMessageHolder = createProcessedProviderMessageHolder(1, 0);
 
-         ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(processingAuditAccessor, eventManager, executingJobManager);
+         ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(
+             processingAuditAccessor,
+             eventManager,
+             executingJobManager,
+             createPayloadStore(),
+             createChunker(ProviderMessageChunker.MODE_INDIVIDUAL)
+         );
          providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder);
 
          Mockito.verify(eventManager, Mockito.times(0)).sendEvent(Mockito.any());
     }
 
+     @Test
+     void distributeChunkedTest() {
+         MockProcessingAuditAccessor processingAuditAccessor = new MockProcessingAuditAccessor();
+         EventManager eventManager = Mockito.mock(EventManager.class);
+         ExecutingJobManager executingJobManager = Mockito.mock(ExecutingJobManager.class);
+
+         ProcessedNotificationDetails processedNotificationDetails = new ProcessedNotificationDetails(jobExecutionId, uuid, slackChannelKey.getUniversalKey(), "JobName");
+         ProcessedProviderMessageHolder processedMessageHolder = createProcessedProviderMessageHolder(2, 2);
+
+         ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(
+             processingAuditAccessor,
+             eventManager,
+             executingJobManager,
+             createPayloadStore(),
+             createChunker(ProviderMessageChunker.MODE_CHUNKED)
+         );
+         providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder);
+
+         Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any());
+         Mockito.verify(executingJobManager).incrementExpectedNotificationsSent(jobExecutionId, 2);
+    }
+
+    private ProviderMessageChunker createChunker(String distributionMode) {
+        return new ProviderMessageChunker(
+            BlackDuckServicesFactory.createDefaultGson(),
+            distributionMode,
+            ProviderMessageChunker.DEFAULT_MAX_MESSAGES_PER_CHUNK,
+            ProviderMessageChunker.DEFAULT_MAX_CHUNK_SIZE_BYTES
+        );
+    }
+
+    private DistributionPayloadStore createPayloadStore() {
+        return new DistributionPayloadStore(BlackDuckServicesFactory.createDefaultGson(), new MockDistributionPayloadAccessor(), DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES);
+    }
+
     private ProcessedProviderMessageHolder createProcessedProviderMessageHolder(int numberOfProjectMessages, int numberOfSimpleMessages) {
         List<ProcessedProviderMessage<ProjectMessage>> processedProjectMessages = new ArrayList<>();
         List<ProcessedProviderMessage<SimpleMessage>> processedSimpleMessages = new ArrayList<>();
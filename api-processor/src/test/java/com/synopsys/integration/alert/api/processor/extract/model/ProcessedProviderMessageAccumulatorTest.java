@@ -0,0 +1,84 @@
+package com.synopsys.integration.alert.api.processor.extract.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
+import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectOperation;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+
+class ProcessedProviderMessageAccumulatorTest {
+    private final LinkableItem commonProject = new LinkableItem("Project", "Common Project");
+
+    private final ProviderDetails providerDetails1 = new ProviderDetails(1L, new LinkableItem("Provider", "Provider 1"));
+    private final ProviderDetails providerDetails2 = new ProviderDetails(2L, new LinkableItem("Provider", "Provider 2"));
+
+    private final ProcessedProviderMessage<ProjectMessage> processedProjectMessage1 = ProcessedProviderMessage.singleSource(
+        10L,
+        ProjectMessage.projectStatusInfo(providerDetails1, commonProject, ProjectOperation.CREATE)
+    );
+    private final ProcessedProviderMessage<ProjectMessage> processedProjectMessage2 = ProcessedProviderMessage.singleSource(
+        20L,
+        ProjectMessage.projectStatusInfo(providerDetails2, commonProject, ProjectOperation.CREATE)
+    );
+    private final ProcessedProviderMessage<SimpleMessage> processedSimpleMessage1 = ProcessedProviderMessage.singleSource(
+        11L,
+        SimpleMessage.original(providerDetails1, "summary", "description", List.of())
+    );
+    private final ProcessedProviderMessage<SimpleMessage> processedSimpleMessage2 = ProcessedProviderMessage.singleSource(
+        22L,
+        SimpleMessage.original(providerDetails2, "summary2", "description2", List.of())
+    );
+
+    @Test
+    void emptyTest() {
+        ProcessedProviderMessageAccumulator accumulator = new ProcessedProviderMessageAccumulator();
+        assertTrue(accumulator.isEmpty());
+
+        accumulator.add(ProcessedProviderMessageHolder.empty());
+        ProcessedProviderMessageHolder holder = accumulator.toHolder();
+        assertTrue(holder.getProcessedProjectMessages().isEmpty());
+        assertTrue(holder.getProcessedSimpleMessages().isEmpty());
+    }
+
+    @Test
+    void addPreservesOrderTest() {
+        ProcessedProviderMessageAccumulator accumulator = new ProcessedProviderMessageAccumulator();
+        accumulator.add(new ProcessedProviderMessageHolder(List.of(processedProjectMessage1), List.of(processedSimpleMessage1)));
+        accumulator.add(new ProcessedProviderMessageHolder(List.of(processedProjectMessage2), List.of(processedSimpleMessage2)));
+        assertFalse(accumulator.isEmpty());
+
+        ProcessedProviderMessageHolder holder = accumulator.toHolder();
+        assertEquals(List.of(processedProjectMessage1, processedProjectMessage2), holder.getProcessedProjectMessages());
+        assertEquals(List.of(processedSimpleMessage1, processedSimpleMessage2), holder.getProcessedSimpleMessages());
+    }
+
+    @Test
+    void combineTest() {
+        ProcessedProviderMessageAccumulator accumulator = new ProcessedProviderMessageAccumulator();
+        accumulator.add(new ProcessedProviderMessageHolder(List.of(processedProjectMessage1, processedProjectMessage2), List.of(processedSimpleMessage1, processedSimpleMessage2)));
+
+        accumulator.combineProjectMessages(projectMessages -> projectMessages.subList(0, 1));
+        accumulator.combineSimpleMessages(simpleMessages -> List.of());
+
+        ProcessedProviderMessageHolder holder = accumulator.toHolder();
+        assertEquals(List.of(processedProjectMessage1), holder.getProcessedProjectMessages());
+        assertTrue(holder.getProcessedSimpleMessages().isEmpty());
+    }
+
+    @Test
+    void holderIsDetachedTest() {
+        ProcessedProviderMessageAccumulator accumulator = new ProcessedProviderMessageAccumulator();
+        accumulator.add(new ProcessedProviderMessageHolder(List.of(processedProjectMessage1), List.of()));
+        ProcessedProviderMessageHolder holder = accumulator.toHolder();
+
+        accumulator.add(new ProcessedProviderMessageHolder(List.of(processedProjectMessage2), List.of()));
+        assertEquals(1, holder.getProcessedProjectMessages().size());
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import com.synopsys.integration.alert.api.processor.detail.DetailedNotificationContent;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
@@ -237,6 +238,41 @@ class JobNotificationMapper2Test {
         assertEquals(1, jobNotificationMappingAccessor.getNotificationCountForJob(correlationId, jobId));
     }
 
+    @Test
+    void testMappingsWrittenOncePerPage() {
+        UUID correlationId = UUID.randomUUID();
+        String project = "project-1";
+        String projectVersion = "version-1";
+        ProcessingJobAccessor2 processingJobAccessor = createProcessingAccessor(List.of(
+            createFilteredJobResponse(UUID.randomUUID(), false, false, "", ""),
+            createFilteredJobResponse(UUID.randomUUID(), false, false, "", "")
+        ));
+        JobNotificationMappingAccessor jobNotificationMappingAccessor = Mockito.spy(createJobNotificationMappingAccessor());
+        JobNotificationMapper2 jobNotificationMapper = new JobNotificationMapper2(processingJobAccessor, jobNotificationMappingAccessor);
+
+        List<DetailedNotificationContent> detailedContents = new ArrayList<>();
+        for (long id = 1L; id <= 3L; id++) {
+            AlertNotificationModel notificationModel = new AlertNotificationModel(
+                id,
+                1L,
+                "provider",
+                "providerConfigName",
+                NotificationType.PROJECT.name(),
+                "",
+                OffsetDateTime.now(),
+                OffsetDateTime.now(),
+                false,
+                String.format("content-id-%s", UUID.randomUUID())
+            );
+            detailedContents.add(DetailedNotificationContent.project(notificationModel, new ProjectVersionNotificationContent(), project, projectVersion));
+        }
+
+        jobNotificationMapper.mapJobsToNotifications(correlationId, detailedContents, List.of(FrequencyType.REAL_TIME));
+
+        Mockito.verify(jobNotificationMappingAccessor, Mockito.times(1)).addJobMappings(Mockito.anyList());
+        assertEquals(6, jobNotificationMappingAccessor.getCountByCorrelationId(correlationId));
+    }
+
     private ProcessingJobAccessor2 createProcessingAccessor(List<SimpleFilteredDistributionJobResponseModel> results) {
         return new ProcessingJobAccessor2() {
             @Override
@@ -7,35 +7,62 @@
  */
 package com.synopsys.integration.alert.channel.email.distribution.address;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertConfigurationException;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProviderDataAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.ProviderProjectEmailAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ProviderProject;
+import com.synopsys.integration.alert.common.persistence.model.ProviderProjectEmailModel;
 import com.synopsys.integration.alert.common.persistence.model.ProviderUserModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.details.EmailJobDetailsModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
 
+/**
+ * Project owner and user email addresses come from the copy the provider data sync task stores in the database. A project that is missing from that copy, or
+ * that has not been refreshed within the configured number of hours, is looked up in the provider instead.
+ */
 @Component
 public class EmailAddressGatherer {
+    // The sync task runs once a day, so this leaves room for one late or failed run
+    public static final int DEFAULT_PROJECT_EMAIL_MAX_AGE_HOURS = 26;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final JobAccessor jobAccessor;
     private final ProviderDataAccessor providerDataAccessor;
+    @Nullable
+    private final ProviderProjectEmailAccessor providerProjectEmailAccessor;
+    private final int projectEmailMaxAgeHours;
 
-    @Autowired
     public EmailAddressGatherer(JobAccessor jobAccessor, ProviderDataAccessor providerDataAccessor) {
+        this(jobAccessor, providerDataAccessor, null, DEFAULT_PROJECT_EMAIL_MAX_AGE_HOURS);
+    }
+
+    @Autowired
+    public EmailAddressGatherer(
+        JobAccessor jobAccessor,
+        ProviderDataAccessor providerDataAccessor,
+        @Nullable ProviderProjectEmailAccessor providerProjectEmailAccessor,
+        @Value("${alert.email.project.emails.max.age.hours:" + DEFAULT_PROJECT_EMAIL_MAX_AGE_HOURS + "}") int projectEmailMaxAgeHours
+    ) {
         this.jobAccessor = jobAccessor;
         this.providerDataAccessor = providerDataAccessor;
+        this.providerProjectEmailAccessor = providerProjectEmailAccessor;
+        this.projectEmailMaxAgeHours = projectEmailMaxAgeHours;
     }
 
     public Set<String> gatherEmailAddresses(EmailJobDetailsModel emailJobDetails, Collection<String> projectHrefs) {
@@ -81,23 +108,50 @@ public class EmailAddressGatherer {
 
     private Set<String> retrieveProjectOwnerEmailAddresses(Long providerConfigId, Collection<String> projectHrefs) {
         Set<String> projectOwnerEmailAddresses = new HashSet<>();
+        OffsetDateTime refreshedAfter = computeOldestUsableRefresh();
         for (String href : projectHrefs) {
-            providerDataAccessor.getProjectByHref(providerConfigId, href)
-                .map(ProviderProject::getProjectOwnerEmail)
-                .ifPresent(projectOwnerEmailAddresses::add);
+            Optional<ProviderProjectEmailModel> storedProjectEmails = retrieveStoredProjectEmails(providerConfigId, href, refreshedAfter);
+            if (storedProjectEmails.isPresent()) {
+                storedProjectEmails.get()
+                    .getProjectOwnerEmail()
+                    .ifPresent(projectOwnerEmailAddresses::add);
+            } else {
+                providerDataAccessor.getProjectByHref(providerConfigId, href)
+                    .map(ProviderProject::getProjectOwnerEmail)
+                    .ifPresent(projectOwnerEmailAddresses::add);
+            }
         }
         return projectOwnerEmailAddresses;
     }
 
     private Set<String> retrieveProjectUserEmailAddresses(Long providerConfigId, Collection<String> projectHrefs) {
         Set<String> projectUserEmailAddresses = new HashSet<>();
+        OffsetDateTime refreshedAfter = computeOldestUsableRefresh();
         for (String href : projectHrefs) {
-            Set<String> emailsForProject = providerDataAccessor.getEmailAddressesForProjectHref(providerConfigId, href);
+            Set<String> emailsForProject = retrieveStoredProjectEmails(providerConfigId, href, refreshedAfter)
+                .map(ProviderProjectEmailModel::getUserEmailAddresses)
+                .orElseGet(() -> providerDataAccessor.getEmailAddressesForProjectHref(providerConfigId, href));
             projectUserEmailAddresses.addAll(emailsForProject);
         }
         return projectUserEmailAddresses;
     }
 
+    private Optional<ProviderProjectEmailModel> retrieveStoredProjectEmails(Long providerConfigId, String projectHref, OffsetDateTime refreshedAfter) {
+        if (null == providerProjectEmailAccessor) {
+            return Optional.empty();
+        }
+        Optional<ProviderProjectEmailModel> storedProjectEmails = providerProjectEmailAccessor.getProjectEmails(providerConfigId, projectHref)
+            .filter(projectEmails -> projectEmails.getRefreshedAt().isAfter(refreshedAfter));
+        if (storedProjectEmails.isEmpty()) {
+            logger.debug("No recent email addresses are stored for the project {}. Retrieving them from the provider.", projectHref);
+        }
+        return storedProjectEmails;
+    }
+
+    private OffsetDateTime computeOldestUsableRefresh() {
+        return DateUtils.createCurrentDateTimestamp().minusHours(projectEmailMaxAgeHours);
+    }
+
     private Optional<String> retrieveProviderConfigEmailAddress(Long providerConfigId) {
         try {
             ProviderUserModel providerConfigUser = providerDataAccessor.getProviderConfigUserById(providerConfigId);
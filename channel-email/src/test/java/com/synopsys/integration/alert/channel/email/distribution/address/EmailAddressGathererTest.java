@@ -0,0 +1,108 @@
+package com.synopsys.integration.alert.channel.email.distribution.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.ProviderDataAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.ProviderProjectEmailAccessor;
+import com.synopsys.integration.alert.common.persistence.model.ProviderProject;
+import com.synopsys.integration.alert.common.persistence.model.ProviderProjectEmailModel;
+import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
+import com.synopsys.integration.alert.common.persistence.model.job.details.EmailJobDetailsModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+class EmailAddressGathererTest {
+    private static final Long BLACK_DUCK_GLOBAL_CONFIG_ID = 33L;
+    private static final String PROJECT_HREF = "https://blackduck.example.com/api/projects/1";
+    private static final String STORED_OWNER_EMAIL = "stored-owner@example.com";
+    private static final String STORED_USER_EMAIL = "stored-user@example.com";
+    private static final String PROVIDER_OWNER_EMAIL = "provider-owner@example.com";
+    private static final String PROVIDER_USER_EMAIL = "provider-user@example.com";
+
+    private final UUID jobId = UUID.randomUUID();
+    private JobAccessor jobAccessor;
+    private ProviderDataAccessor providerDataAccessor;
+    private ProviderProjectEmailAccessor providerProjectEmailAccessor;
+    private EmailAddressGatherer emailAddressGatherer;
+
+    @BeforeEach
+    void init() {
+        DistributionJobModel distributionJobModel = Mockito.mock(DistributionJobModel.class);
+        Mockito.when(distributionJobModel.getBlackDuckGlobalConfigId()).thenReturn(BLACK_DUCK_GLOBAL_CONFIG_ID);
+        jobAccessor = Mockito.mock(JobAccessor.class);
+        Mockito.when(jobAccessor.getJobById(jobId)).thenReturn(Optional.of(distributionJobModel));
+
+        providerDataAccessor = Mockito.mock(ProviderDataAccessor.class);
+        Mockito.when(providerDataAccessor.getEmailAddressesForProjectHref(BLACK_DUCK_GLOBAL_CONFIG_ID, PROJECT_HREF)).thenReturn(Set.of(PROVIDER_USER_EMAIL));
+        Mockito.when(providerDataAccessor.getProjectByHref(BLACK_DUCK_GLOBAL_CONFIG_ID, PROJECT_HREF))
+            .thenReturn(Optional.of(new ProviderProject("project", "", PROJECT_HREF, PROVIDER_OWNER_EMAIL)));
+
+        providerProjectEmailAccessor = Mockito.mock(ProviderProjectEmailAccessor.class);
+        emailAddressGatherer = new EmailAddressGatherer(jobAccessor, providerDataAccessor, providerProjectEmailAccessor, EmailAddressGatherer.DEFAULT_PROJECT_EMAIL_MAX_AGE_HOURS);
+    }
+
+    @Test
+    void usesStoredProjectUsersTest() {
+        storeProjectEmails(1);
+
+        Set<String> emailAddresses = emailAddressGatherer.gatherEmailAddresses(createEmailJobDetails(false), List.of(PROJECT_HREF));
+
+        assertEquals(Set.of(STORED_USER_EMAIL), emailAddresses);
+        Mockito.verify(providerDataAccessor, Mockito.never()).getEmailAddressesForProjectHref(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void usesStoredProjectOwnerTest() {
+        storeProjectEmails(1);
+
+        Set<String> emailAddresses = emailAddressGatherer.gatherEmailAddresses(createEmailJobDetails(true), List.of(PROJECT_HREF));
+
+        assertEquals(Set.of(STORED_OWNER_EMAIL), emailAddresses);
+        Mockito.verify(providerDataAccessor, Mockito.never()).getProjectByHref(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void retrievesStaleProjectFromProviderTest() {
+        storeProjectEmails(EmailAddressGatherer.DEFAULT_PROJECT_EMAIL_MAX_AGE_HOURS + 1);
+
+        Set<String> userEmailAddresses = emailAddressGatherer.gatherEmailAddresses(createEmailJobDetails(false), List.of(PROJECT_HREF));
+        Set<String> ownerEmailAddresses = emailAddressGatherer.gatherEmailAddresses(createEmailJobDetails(true), List.of(PROJECT_HREF));
+
+        assertEquals(Set.of(PROVIDER_USER_EMAIL), userEmailAddresses);
+        assertEquals(Set.of(PROVIDER_OWNER_EMAIL), ownerEmailAddresses);
+    }
+
+    @Test
+    void retrievesMissingProjectFromProviderTest() {
+        Mockito.when(providerProjectEmailAccessor.getProjectEmails(BLACK_DUCK_GLOBAL_CONFIG_ID, PROJECT_HREF)).thenReturn(Optional.empty());
+
+        Set<String> emailAddresses = emailAddressGatherer.gatherEmailAddresses(createEmailJobDetails(false), List.of(PROJECT_HREF));
+
+        assertEquals(Set.of(PROVIDER_USER_EMAIL), emailAddresses);
+        Mockito.verify(providerDataAccessor).getEmailAddressesForProjectHref(BLACK_DUCK_GLOBAL_CONFIG_ID, PROJECT_HREF);
+    }
+
+    private void storeProjectEmails(int hoursSinceRefresh) {
+        ProviderProjectEmailModel projectEmails = new ProviderProjectEmailModel(
+            PROJECT_HREF,
+            STORED_OWNER_EMAIL,
+            Set.of(STORED_USER_EMAIL),
+            DateUtils.createCurrentDateTimestamp().minusHours(hoursSinceRefresh)
+        );
+        Mockito.when(providerProjectEmailAccessor.getProjectEmails(BLACK_DUCK_GLOBAL_CONFIG_ID, PROJECT_HREF)).thenReturn(Optional.of(projectEmails));
+    }
+
+    private EmailJobDetailsModel createEmailJobDetails(boolean projectOwnerOnly) {
+        return new EmailJobDetailsModel(jobId, null, projectOwnerOnly, false, null, List.of());
+    }
+
+}
@@ -20,10 +20,13 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobSta
 import com.synopsys.integration.alert.api.distribution.execution.JobStage;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class JiraCloudCreateIssueEventListenerTest {
     private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
 
@@ -33,7 +36,7 @@ class JiraCloudCreateIssueEventListenerTest {
         Set<Long> notificationIds = Set.of(1L, 2L, 3L);
         EventManager eventManager = Mockito.mock(EventManager.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
 
         ExecutingJob executingJob = executingJobManager.startJob(jobId, notificationIds.size());
         UUID jobExecutionId = executingJob.getExecutionId();
@@ -73,7 +76,7 @@ class JiraCloudCreateIssueEventListenerTest {
         Set<Long> notificationIds = Set.of(1L, 2L, 3L);
         EventManager eventManager = Mockito.mock(EventManager.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
 
         ExecutingJob executingJob = executingJobManager.startJob(jobId, notificationIds.size());
         UUID jobExecutionId = executingJob.getExecutionId();
@@ -114,7 +117,7 @@ class JiraCloudCreateIssueEventListenerTest {
         Set<Long> notificationIds = Set.of(1L, 2L, 3L);
         EventManager eventManager = Mockito.mock(EventManager.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
 
         ExecutingJob executingJob = executingJobManager.startJob(jobId, notificationIds.size());
         UUID jobExecutionId = executingJob.getExecutionId();
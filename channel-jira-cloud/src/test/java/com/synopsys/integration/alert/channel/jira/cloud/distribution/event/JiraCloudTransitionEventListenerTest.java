@@ -21,10 +21,13 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobSta
 import com.synopsys.integration.alert.api.distribution.execution.JobStage;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.common.channel.issuetracker.enumeration.IssueOperation;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class JiraCloudTransitionEventListenerTest {
     private final Gson gson = BlackDuckServicesFactory.createDefaultGson();
 
@@ -34,7 +37,7 @@ class JiraCloudTransitionEventListenerTest {
         Set<Long> notificationIds = Set.of(1L, 2L, 3L);
         EventManager eventManager = Mockito.mock(EventManager.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
 
         ExecutingJob executingJob = executingJobManager.startJob(jobId, notificationIds.size());
         UUID jobExecutionId = executingJob.getExecutionId();
@@ -73,7 +76,7 @@ class JiraCloudTransitionEventListenerTest {
         Set<Long> notificationIds = Set.of(1L, 2L, 3L);
         EventManager eventManager = Mockito.mock(EventManager.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
 
         ExecutingJob executingJob = executingJobManager.startJob(jobId, notificationIds.size());
         UUID jobExecutionId = executingJob.getExecutionId();
@@ -113,7 +116,7 @@ class JiraCloudTransitionEventListenerTest {
         Set<Long> notificationIds = Set.of(1L, 2L, 3L);
         EventManager eventManager = Mockito.mock(EventManager.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
 
         ExecutingJob executingJob = executingJobManager.startJob(jobId, notificationIds.size());
         UUID jobExecutionId = executingJob.getExecutionId();
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.channel.DistributionEventHandler;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
 import com.synopsys.integration.alert.common.persistence.accessor.JiraServerJobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.JiraServerJobDetailsModel;
 
@@ -21,9 +22,10 @@ public class JiraServerDistributionEventHandler extends DistributionEventHandler
     public JiraServerDistributionEventHandler(
         JiraServerChannel channel,
         JiraServerJobDetailsAccessor jobDetailsAccessor,
-        EventManager eventManager
+        EventManager eventManager,
+        DistributionPayloadStore distributionPayloadStore
     ) {
-        super(channel, jobDetailsAccessor, eventManager);
+        super(channel, jobDetailsAccessor, eventManager, distributionPayloadStore);
     }
 
 }
@@ -18,8 +18,9 @@ import org.springframework.stereotype.Component;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.synopsys.integration.alert.api.channel.ChannelMessageSender;
-import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.ChannelHttpClientRegistry;
 import com.synopsys.integration.alert.api.channel.rest.RestChannelUtility;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatcher;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.message.model.MessageResult;
 import com.synopsys.integration.alert.common.persistence.model.job.details.MSTeamsJobDetailsModel;
@@ -33,12 +34,14 @@ public class MSTeamsChannelMessageSender implements ChannelMessageSender<MSTeams
     private static final String MESSAGE_SUMMARY = "New Content from Alert";
 
     private final MsTeamsKey msTeamsKey;
-    private final ChannelRestConnectionFactory connectionFactory;
+    private final ChannelHttpClientRegistry httpClientRegistry;
+    private final WebhookDispatcher webhookDispatcher;
 
     @Autowired
-    public MSTeamsChannelMessageSender(MsTeamsKey msTeamsKey, ChannelRestConnectionFactory connectionFactory) {
+    public MSTeamsChannelMessageSender(MsTeamsKey msTeamsKey, ChannelHttpClientRegistry httpClientRegistry, WebhookDispatcher webhookDispatcher) {
         this.msTeamsKey = msTeamsKey;
-        this.connectionFactory = connectionFactory;
+        this.httpClientRegistry = httpClientRegistry;
+        this.webhookDispatcher = webhookDispatcher;
     }
 
     @Override
@@ -48,8 +51,8 @@ public class MSTeamsChannelMessageSender implements ChannelMessageSender<MSTeams
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("Content-Type", "application/json");
 
-        IntHttpClient intHttpClient = connectionFactory.createIntHttpClient(webhook);
-        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient);
+        IntHttpClient intHttpClient = httpClientRegistry.getClient(webhook);
+        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient, webhookDispatcher);
 
         List<Request> messageRequests = channelMessages.stream()
                                             .map(this::createJsonString)
@@ -13,7 +13,8 @@ import org.mockito.Mockito;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.certificates.AlertSSLContextManager;
-import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.ChannelHttpClientRegistry;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatcher;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.event.EventManager;
@@ -64,11 +65,11 @@ class MsTeamsChannelTest {
     @Tag(TestTags.DEFAULT_INTEGRATION)
     @Tag(TestTags.CUSTOM_EXTERNAL_CONNECTION)
     void sendMessageTestIT() {
-        ChannelRestConnectionFactory connectionFactory = createConnectionFactory();
+        ChannelHttpClientRegistry httpClientRegistry = createHttpClientRegistry();
         MarkupEncoderUtil markupEncoderUtil = new MarkupEncoderUtil();
 
         MSTeamsChannelMessageConverter messageConverter = new MSTeamsChannelMessageConverter(new MSTeamsChannelMessageFormatter(markupEncoderUtil));
-        MSTeamsChannelMessageSender messageSender = new MSTeamsChannelMessageSender(ChannelKeys.MS_TEAMS, connectionFactory);
+        MSTeamsChannelMessageSender messageSender = new MSTeamsChannelMessageSender(ChannelKeys.MS_TEAMS, httpClientRegistry, createWebhookDispatcher());
 
         MSTeamsChannel msTeamsChannel = new MSTeamsChannel(messageConverter, messageSender, eventManager, executingJobManager);
         MSTeamsJobDetailsModel msTeamsJobDetailsModel = new MSTeamsJobDetailsModel(UUID.randomUUID(), properties.getProperty(TestPropertyKey.TEST_MSTEAMS_WEBHOOK));
@@ -91,13 +92,30 @@ class MsTeamsChannelTest {
         Assertions.assertFalse(messageResult.hasWarnings(), "The message result had warnings");
     }
 
-    private ChannelRestConnectionFactory createConnectionFactory() {
+    private ChannelHttpClientRegistry createHttpClientRegistry() {
         MockAlertProperties testAlertProperties = new MockAlertProperties();
         ProxyManager proxyManager = Mockito.mock(ProxyManager.class);
         AlertSSLContextManager alertSSLContextManager = Mockito.mock(AlertSSLContextManager.class);
         Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(ProxyInfo.NO_PROXY_INFO);
         Mockito.when(alertSSLContextManager.buildWithClientCertificate()).thenReturn(Optional.empty());
-        return new ChannelRestConnectionFactory(testAlertProperties, proxyManager, gson, alertSSLContextManager);
+        return new ChannelHttpClientRegistry(
+            testAlertProperties,
+            proxyManager,
+            gson,
+            alertSSLContextManager,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST
+        );
+    }
+
+    private WebhookDispatcher createWebhookDispatcher() {
+        return new WebhookDispatcher(
+            WebhookDispatcher.DEFAULT_REQUESTS_PER_SECOND,
+            WebhookDispatcher.DEFAULT_BURST_SIZE,
+            WebhookDispatcher.DEFAULT_PARALLELISM,
+            WebhookDispatcher.DEFAULT_MAX_RETRIES,
+            WebhookDispatcher.DEFAULT_MAX_RETRY_WAIT_SECONDS
+        );
     }
 
 }
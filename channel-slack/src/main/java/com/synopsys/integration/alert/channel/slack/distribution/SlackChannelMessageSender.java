@@ -9,8 +9,9 @@ package com.synopsys.integration.alert.channel.slack.distribution;
 
 import com.google.gson.JsonObject;
 import com.synopsys.integration.alert.api.channel.ChannelMessageSender;
-import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.ChannelHttpClientRegistry;
 import com.synopsys.integration.alert.api.channel.rest.RestChannelUtility;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatcher;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.message.model.MessageResult;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
@@ -31,12 +32,14 @@ public class SlackChannelMessageSender implements ChannelMessageSender<SlackJobD
     public static final String SLACK_DEFAULT_USERNAME = "Alert";
 
     private final SlackChannelKey slackChannelKey;
-    private final ChannelRestConnectionFactory connectionFactory;
+    private final ChannelHttpClientRegistry httpClientRegistry;
+    private final WebhookDispatcher webhookDispatcher;
 
     @Autowired
-    public SlackChannelMessageSender(SlackChannelKey slackChannelKey, ChannelRestConnectionFactory connectionFactory) {
+    public SlackChannelMessageSender(SlackChannelKey slackChannelKey, ChannelHttpClientRegistry httpClientRegistry, WebhookDispatcher webhookDispatcher) {
         this.slackChannelKey = slackChannelKey;
-        this.connectionFactory = connectionFactory;
+        this.httpClientRegistry = httpClientRegistry;
+        this.webhookDispatcher = webhookDispatcher;
     }
 
     @Override
@@ -47,8 +50,8 @@ public class SlackChannelMessageSender implements ChannelMessageSender<SlackJobD
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("Content-Type", "application/json");
 
-        IntHttpClient intHttpClient = connectionFactory.createIntHttpClient(webhook);
-        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient);
+        IntHttpClient intHttpClient = httpClientRegistry.getClient(webhook);
+        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient, webhookDispatcher);
 
         List<Request> requests = channelMessages.stream()
             .map(channelMessage -> createJsonString(channelMessage.getMarkdownContent(), channelUsername))
@@ -12,14 +12,20 @@ import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.channel.DistributionEventHandler;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
 import com.synopsys.integration.alert.common.persistence.accessor.SlackJobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
 
 @Component
 public class SlackDistributionEventHandler extends DistributionEventHandler<SlackJobDetailsModel> {
     @Autowired
-    public SlackDistributionEventHandler(SlackChannel channel, SlackJobDetailsAccessor jobDetailsAccessor, EventManager eventManager) {
-        super(channel, jobDetailsAccessor, eventManager);
+    public SlackDistributionEventHandler(
+        SlackChannel channel,
+        SlackJobDetailsAccessor jobDetailsAccessor,
+        EventManager eventManager,
+        DistributionPayloadStore distributionPayloadStore
+    ) {
+        super(channel, jobDetailsAccessor, eventManager, distributionPayloadStore);
     }
 
 }
@@ -20,7 +20,8 @@ import org.mockito.Mockito;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.certificates.AlertSSLContextManager;
-import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.ChannelHttpClientRegistry;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatcher;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.channel.slack.ChannelITTestAssertions;
@@ -57,8 +58,8 @@ class SlackChannelTestIT {
         SlackChannelMessageFormatter slackChannelMessageFormatter = new SlackChannelMessageFormatter(markupEncoderUtil);
         SlackChannelMessageConverter slackChannelMessageConverter = new SlackChannelMessageConverter(slackChannelMessageFormatter);
 
-        ChannelRestConnectionFactory connectionFactory = createConnectionFactory();
-        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, connectionFactory);
+        ChannelHttpClientRegistry httpClientRegistry = createHttpClientRegistry();
+        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, httpClientRegistry, createWebhookDispatcher());
 
         SlackChannel slackChannel = new SlackChannel(slackChannelMessageConverter, slackChannelMessageSender, eventManager, executingJobManager);
 
@@ -71,13 +72,30 @@ class SlackChannelTestIT {
         ChannelITTestAssertions.assertSendSimpleMessageSuccess(slackChannel, distributionDetails);
     }
 
-    private ChannelRestConnectionFactory createConnectionFactory() {
+    private ChannelHttpClientRegistry createHttpClientRegistry() {
         MockAlertProperties testAlertProperties = new MockAlertProperties();
         ProxyManager proxyManager = Mockito.mock(ProxyManager.class);
         AlertSSLContextManager alertSSLContextManager = Mockito.mock(AlertSSLContextManager.class);
         Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(ProxyInfo.NO_PROXY_INFO);
         Mockito.when(alertSSLContextManager.buildWithClientCertificate()).thenReturn(Optional.empty());
-        return new ChannelRestConnectionFactory(testAlertProperties, proxyManager, gson, alertSSLContextManager);
+        return new ChannelHttpClientRegistry(
+            testAlertProperties,
+            proxyManager,
+            gson,
+            alertSSLContextManager,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST
+        );
+    }
+
+    private WebhookDispatcher createWebhookDispatcher() {
+        return new WebhookDispatcher(
+            WebhookDispatcher.DEFAULT_REQUESTS_PER_SECOND,
+            WebhookDispatcher.DEFAULT_BURST_SIZE,
+            WebhookDispatcher.DEFAULT_PARALLELISM,
+            WebhookDispatcher.DEFAULT_MAX_RETRIES,
+            WebhookDispatcher.DEFAULT_MAX_RETRY_WAIT_SECONDS
+        );
     }
 
 }
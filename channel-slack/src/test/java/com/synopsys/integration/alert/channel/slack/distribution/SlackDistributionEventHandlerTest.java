@@ -2,12 +2,14 @@ package com.synopsys.integration.alert.channel.slack.distribution;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.certificates.AlertSSLContextManager;
-import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.ChannelHttpClientRegistry;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatcher;
 import com.synopsys.integration.alert.api.distribution.audit.AuditFailedEvent;
 import com.synopsys.integration.alert.api.distribution.audit.AuditSuccessEvent;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.SlackJobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
 import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
@@ -15,6 +17,7 @@ import com.synopsys.integration.alert.common.util.MarkupEncoderUtil;
 import com.synopsys.integration.alert.api.descriptor.SlackChannelKey;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
 import com.synopsys.integration.alert.api.processor.distribute.DistributionEvent;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
 import com.synopsys.integration.alert.api.processor.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessageHolder;
 import com.synopsys.integration.alert.api.processor.extract.model.SimpleMessage;
@@ -56,7 +59,7 @@ class SlackDistributionEventHandlerTest {
         MarkupEncoderUtil markupEncoderUtil = new MarkupEncoderUtil();
         SlackChannelMessageFormatter slackChannelMessageFormatter = new SlackChannelMessageFormatter(markupEncoderUtil);
         SlackChannelMessageConverter slackChannelMessageConverter = new SlackChannelMessageConverter(slackChannelMessageFormatter);
-        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, createConnectionFactory());
+        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, createHttpClientRegistry(), createWebhookDispatcher());
         SlackChannel slackChannel = new SlackChannel(slackChannelMessageConverter, slackChannelMessageSender, eventManager, executingJobManager);
         mockSlackServer.start();
         String url = mockSlackServer.url("/").toString();
@@ -65,7 +68,8 @@ class SlackDistributionEventHandlerTest {
 
         SlackJobDetailsAccessor slackJobDetailsAccessor = jobId -> Optional.of(slackJobDetailsModel);
 
-        distributionEventHandler = new SlackDistributionEventHandler(slackChannel, slackJobDetailsAccessor, eventManager);
+        DistributionPayloadStore distributionPayloadStore = new DistributionPayloadStore(gson, Mockito.mock(DistributionPayloadAccessor.class), DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES);
+        distributionEventHandler = new SlackDistributionEventHandler(slackChannel, slackJobDetailsAccessor, eventManager, distributionPayloadStore);
     }
 
     @AfterEach
@@ -76,7 +80,7 @@ class SlackDistributionEventHandlerTest {
     @Test
     void testNotificationsWithinMessageAfterFailureAreFailures() {
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
-        mockSlackServer.enqueue(new MockResponse().setResponseCode(429));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(400));
 
         assertEquals(0, mockSlackServer.getRequestCount());
 
@@ -90,7 +94,7 @@ class SlackDistributionEventHandlerTest {
     @Test
     void testMessagesAfterFailureAreSuccesses() {
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
-        mockSlackServer.enqueue(new MockResponse().setResponseCode(429));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(400));
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
 
@@ -104,13 +108,43 @@ class SlackDistributionEventHandlerTest {
         Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(AuditFailedEvent.class));
     }
 
-    private ChannelRestConnectionFactory createConnectionFactory() {
+    @Test
+    void testThrottledMessageIsRetried() {
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(429).setHeader(WebhookDispatcher.RETRY_AFTER_HEADER, "0"));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+
+        distributionEventHandler.handle(createSlackDistributionEvent(FIRST_MESSAGE_NOTIFICATION_IDS, createTwoMessages()));
+
+        assertEquals(3, mockSlackServer.getRequestCount());
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(AuditSuccessEvent.class));
+        Mockito.verify(eventManager, Mockito.times(0)).sendEvent(Mockito.any(AuditFailedEvent.class));
+    }
+
+    private ChannelHttpClientRegistry createHttpClientRegistry() {
         MockAlertProperties testAlertProperties = new MockAlertProperties();
         ProxyManager proxyManager = Mockito.mock(ProxyManager.class);
         AlertSSLContextManager alertSSLContextManager = Mockito.mock(AlertSSLContextManager.class);
         Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(ProxyInfo.NO_PROXY_INFO);
         Mockito.when(alertSSLContextManager.buildWithClientCertificate()).thenReturn(Optional.empty());
-        return new ChannelRestConnectionFactory(testAlertProperties, proxyManager, gson, alertSSLContextManager);
+        return new ChannelHttpClientRegistry(
+            testAlertProperties,
+            proxyManager,
+            gson,
+            alertSSLContextManager,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS,
+            ChannelHttpClientRegistry.DEFAULT_MAX_CONNECTIONS_PER_HOST
+        );
+    }
+
+    private WebhookDispatcher createWebhookDispatcher() {
+        return new WebhookDispatcher(
+            WebhookDispatcher.DEFAULT_REQUESTS_PER_SECOND,
+            WebhookDispatcher.DEFAULT_BURST_SIZE,
+            WebhookDispatcher.DEFAULT_PARALLELISM,
+            WebhookDispatcher.DEFAULT_MAX_RETRIES,
+            WebhookDispatcher.DEFAULT_MAX_RETRY_WAIT_SECONDS
+        );
     }
 
     private ProviderMessageHolder createTwoMessages() {
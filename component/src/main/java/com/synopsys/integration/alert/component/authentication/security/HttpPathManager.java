@@ -13,6 +13,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.common.rest.AlertRestConstants;
@@ -39,6 +40,7 @@ public class HttpPathManager {
     public static final String PATH_VERIFY = AlertRestConstants.BASE_PATH + "/verify";
     public static final String PATH_VERIFY_SAML = PATH_VERIFY + "/saml";
     public static final String PATH_CSRF = AlertRestConstants.BASE_PATH + "/csrf";
+    public static final String PATH_METRICS = "/actuator/prometheus";
 
     private static final String[] DEFAULT_PATHS = {
         PATH_ROOT,
@@ -64,9 +66,15 @@ public class HttpPathManager {
 
     private final Collection<String> allowedPaths;
 
+    /**
+     * @param metricsEnabled Whether the prometheus endpoint is enabled. It is only reachable without logging in once it has been enabled with ALERT_METRICS_ENABLED.
+     */
     @Autowired
-    public HttpPathManager() {
+    public HttpPathManager(@Value("${management.endpoint.prometheus.enabled:false}") boolean metricsEnabled) {
         allowedPaths = createDefaultAllowedPaths();
+        if (metricsEnabled) {
+            allowedPaths.add(PATH_METRICS);
+        }
     }
 
     private List<String> createDefaultPaths(String[] paths) {
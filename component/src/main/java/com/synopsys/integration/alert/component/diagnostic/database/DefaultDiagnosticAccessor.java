@@ -28,6 +28,7 @@ import com.synopsys.integration.alert.api.distribution.execution.JobStage;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
 import com.synopsys.integration.alert.common.persistence.accessor.DiagnosticAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModelData;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusDurations;
@@ -50,15 +51,12 @@ import com.synopsys.integration.alert.component.diagnostic.model.ProviderNotific
 import com.synopsys.integration.alert.component.diagnostic.model.RabbitMQDiagnosticModel;
 import com.synopsys.integration.alert.component.diagnostic.model.SystemDiagnosticModel;
 import com.synopsys.integration.alert.component.diagnostic.utility.RabbitMQDiagnosticUtility;
-import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
 import com.synopsys.integration.alert.database.job.api.StaticJobAccessor;
-import com.synopsys.integration.alert.database.notification.NotificationContentRepository;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
 
 @Component
 public class DefaultDiagnosticAccessor implements DiagnosticAccessor {
-    private final NotificationContentRepository notificationContentRepository;
-    private final AuditEntryRepository auditEntryRepository;
+    private final DiagnosticCounters diagnosticCounters;
     private final RabbitMQDiagnosticUtility rabbitMQDiagnosticUtility;
 
     private final StaticJobAccessor jobAccessor;
@@ -67,15 +65,13 @@ public class DefaultDiagnosticAccessor implements DiagnosticAccessor {
 
     @Autowired
     public DefaultDiagnosticAccessor(
-        NotificationContentRepository notificationContentRepository,
-        AuditEntryRepository auditEntryRepository,
+        DiagnosticCounters diagnosticCounters,
         RabbitMQDiagnosticUtility rabbitMQDiagnosticUtility,
         StaticJobAccessor staticJobAccessor,
         JobCompletionStatusModelAccessor completedJobStatusAccessor,
         ExecutingJobManager executingJobManager
     ) {
-        this.notificationContentRepository = notificationContentRepository;
-        this.auditEntryRepository = auditEntryRepository;
+        this.diagnosticCounters = diagnosticCounters;
         this.rabbitMQDiagnosticUtility = rabbitMQDiagnosticUtility;
         this.jobAccessor = staticJobAccessor;
         this.completedJobStatusAccessor = completedJobStatusAccessor;
@@ -103,9 +99,9 @@ public class DefaultDiagnosticAccessor implements DiagnosticAccessor {
     }
 
     private NotificationDiagnosticModel getNotificationDiagnosticInfo() {
-        long numberOfNotifications = notificationContentRepository.count();
-        long numberOfNotificationsProcessed = notificationContentRepository.countByProcessed(true);
-        long numberOfNotificationsUnprocessed = notificationContentRepository.countByProcessed(false);
+        long numberOfNotifications = diagnosticCounters.getNotificationCount();
+        long numberOfNotificationsProcessed = diagnosticCounters.getProcessedNotificationCount();
+        long numberOfNotificationsUnprocessed = diagnosticCounters.getUnprocessedNotificationCount();
         List<ProviderNotificationCounts> providerNotificationCounts = getProviderNotificationCounts();
         return new NotificationDiagnosticModel(numberOfNotifications, numberOfNotificationsProcessed, numberOfNotificationsUnprocessed, providerNotificationCounts);
     }
@@ -127,7 +123,7 @@ public class DefaultDiagnosticAccessor implements DiagnosticAccessor {
         for (Long providerConfigId : providerConfigIds) {
             List<NotificationTypeCount> notificationTypeCounts = new LinkedList<>();
             for (NotificationType notificationType : NotificationType.values()) {
-                long count = notificationContentRepository.countByProviderConfigIdAndNotificationType(providerConfigId, notificationType.name());
+                long count = diagnosticCounters.getNotificationCount(providerConfigId, notificationType.name());
                 notificationTypeCounts.add(new NotificationTypeCount(notificationType, count));
             }
             providerCounts.add(new ProviderNotificationCounts(providerConfigId, notificationTypeCounts));
@@ -136,14 +132,14 @@ public class DefaultDiagnosticAccessor implements DiagnosticAccessor {
     }
 
     private AuditDiagnosticModel getAuditDiagnosticInfo() {
-        long numberOfAuditEntriesSuccessful = auditEntryRepository.countByStatus(AuditEntryStatus.SUCCESS.name());
-        long numberOfAuditEntriesFailed = auditEntryRepository.countByStatus(AuditEntryStatus.FAILURE.name());
-        long numberOfAuditEntriesPending = auditEntryRepository.countByStatus(AuditEntryStatus.PENDING.name());
+        long numberOfAuditEntriesSuccessful = diagnosticCounters.getAuditEntryCount(AuditEntryStatus.SUCCESS);
+        long numberOfAuditEntriesFailed = diagnosticCounters.getAuditEntryCount(AuditEntryStatus.FAILURE);
+        long numberOfAuditEntriesPending = diagnosticCounters.getAuditEntryCount(AuditEntryStatus.PENDING);
         return new AuditDiagnosticModel(
             numberOfAuditEntriesSuccessful,
             numberOfAuditEntriesFailed,
             numberOfAuditEntriesPending,
-            auditEntryRepository.getAverageAuditEntryCompletionTime().orElse(AuditDiagnosticModel.NO_AUDIT_CONTENT_MESSAGE)
+            diagnosticCounters.getAverageAuditEntryCompletionTime().orElse(AuditDiagnosticModel.NO_AUDIT_CONTENT_MESSAGE)
         );
     }
 
@@ -0,0 +1,104 @@
+/*
+ * component
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.component.diagnostic.task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.task.StartupScheduledTask;
+import com.synopsys.integration.alert.api.task.TaskManager;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCountsSnapshot;
+import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
+import com.synopsys.integration.alert.database.audit.AuditEntryStatusCountView;
+import com.synopsys.integration.alert.database.notification.NotificationContentRepository;
+import com.synopsys.integration.alert.database.notification.NotificationCountView;
+
+/**
+ * Corrects the drift the diagnostic counters accumulated since the last run by counting the database. Only the difference between the database and
+ * the counters as they were before the database was counted is applied, so the counts recorded while the database is counted are kept.
+ */
+@Component
+public class DiagnosticCountersReconcileTask extends StartupScheduledTask {
+    public static final String EVERY_FIFTEEN_MINUTES_CRON_EXPRESSION = "0 0/15 * * * *";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final NotificationContentRepository notificationContentRepository;
+    private final AuditEntryRepository auditEntryRepository;
+    private final DiagnosticCounters diagnosticCounters;
+
+    @Autowired
+    public DiagnosticCountersReconcileTask(
+        TaskScheduler taskScheduler,
+        TaskManager taskManager,
+        NotificationContentRepository notificationContentRepository,
+        AuditEntryRepository auditEntryRepository,
+        DiagnosticCounters diagnosticCounters
+    ) {
+        super(taskScheduler, taskManager);
+        this.notificationContentRepository = notificationContentRepository;
+        this.auditEntryRepository = auditEntryRepository;
+        this.diagnosticCounters = diagnosticCounters;
+    }
+
+    @Override
+    public String scheduleCronExpression() {
+        return EVERY_FIFTEEN_MINUTES_CRON_EXPRESSION;
+    }
+
+    @Override
+    public void runTask() {
+        try {
+            reconcileNotifications();
+            reconcileAuditEntries();
+        } catch (Exception ex) {
+            logger.error("Error reconciling the diagnostic counters", ex);
+        }
+    }
+
+    @Override
+    protected void postTaskStartup() {
+        CompletableFuture.runAsync(this::run);
+    }
+
+    private void reconcileNotifications() {
+        DiagnosticCountsSnapshot countsBeforeQuery = diagnosticCounters.snapshot();
+        Map<Long, Map<String, Long>> notificationCountsByProviderAndType = new HashMap<>();
+        long processedNotifications = 0L;
+        for (NotificationCountView notificationCount : notificationContentRepository.countGroupedByProviderConfigIdAndNotificationTypeAndProcessed()) {
+            if (null != notificationCount.getProviderConfigId() && null != notificationCount.getNotificationType()) {
+                notificationCountsByProviderAndType.computeIfAbsent(notificationCount.getProviderConfigId(), ignored -> new HashMap<>())
+                    .merge(notificationCount.getNotificationType(), notificationCount.getNotificationCount(), Long::sum);
+            }
+            if (Boolean.TRUE.equals(notificationCount.getProcessed())) {
+                processedNotifications += notificationCount.getNotificationCount();
+            }
+        }
+        diagnosticCounters.reconcileNotifications(countsBeforeQuery, notificationCountsByProviderAndType, processedNotifications);
+    }
+
+    private void reconcileAuditEntries() {
+        DiagnosticCountsSnapshot countsBeforeQuery = diagnosticCounters.snapshot();
+        Map<String, Long> auditEntryCountsByStatus = new HashMap<>();
+        for (AuditEntryStatusCountView auditEntryCount : auditEntryRepository.countGroupedByStatus()) {
+            if (null != auditEntryCount.getStatus()) {
+                auditEntryCountsByStatus.put(auditEntryCount.getStatus(), auditEntryCount.getAuditEntryCount());
+            }
+        }
+        String averageCompletionTime = auditEntryRepository.getAverageAuditEntryCompletionTime().orElse(null);
+        diagnosticCounters.reconcileAuditEntries(countsBeforeQuery, auditEntryCountsByStatus, averageCompletionTime);
+    }
+
+}
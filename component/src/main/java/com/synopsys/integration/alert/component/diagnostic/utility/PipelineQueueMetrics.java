@@ -0,0 +1,77 @@
+/*
+ * component
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.component.diagnostic.utility;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
+import com.synopsys.integration.alert.component.diagnostic.model.AlertQueueInformation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Gauges for the work waiting in the pipeline. They are read when the metrics are scraped; the queue depths are asked of the broker each time.
+ */
+@Component
+public class PipelineQueueMetrics implements MeterBinder {
+    public static final String QUEUE_MESSAGES_METRIC = "alert.pipeline.queue.messages";
+    public static final String QUEUE_CONSUMERS_METRIC = "alert.pipeline.queue.consumers";
+    public static final String UNPROCESSED_NOTIFICATIONS_METRIC = "alert.pipeline.notifications.unprocessed";
+    public static final String PENDING_JOB_EXECUTIONS_METRIC = "alert.pipeline.job.executions.pending";
+    public static final String TAG_QUEUE = "queue";
+
+    private final RabbitMQDiagnosticUtility rabbitMQDiagnosticUtility;
+    private final DiagnosticCounters diagnosticCounters;
+    private final ExecutingJobManager executingJobManager;
+
+    @Autowired
+    public PipelineQueueMetrics(RabbitMQDiagnosticUtility rabbitMQDiagnosticUtility, DiagnosticCounters diagnosticCounters, ExecutingJobManager executingJobManager) {
+        this.rabbitMQDiagnosticUtility = rabbitMQDiagnosticUtility;
+        this.diagnosticCounters = diagnosticCounters;
+        this.executingJobManager = executingJobManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String queueName : rabbitMQDiagnosticUtility.getAlertQueueNames()) {
+            Gauge.builder(QUEUE_MESSAGES_METRIC, rabbitMQDiagnosticUtility, utility -> getQueueMessageCount(utility, queueName))
+                .description("The number of messages waiting in a queue")
+                .tag(TAG_QUEUE, queueName)
+                .register(registry);
+            Gauge.builder(QUEUE_CONSUMERS_METRIC, rabbitMQDiagnosticUtility, utility -> getQueueConsumerCount(utility, queueName))
+                .description("The number of consumers of a queue")
+                .tag(TAG_QUEUE, queueName)
+                .register(registry);
+        }
+        Gauge.builder(UNPROCESSED_NOTIFICATIONS_METRIC, diagnosticCounters, DiagnosticCounters::getUnprocessedNotificationCount)
+            .description("The number of stored notifications not yet mapped to jobs")
+            .register(registry);
+        Gauge.builder(PENDING_JOB_EXECUTIONS_METRIC, executingJobManager, manager -> manager.aggregateExecutingJobData().getPendingJobs())
+            .description("The number of job executions in progress")
+            .register(registry);
+    }
+
+    private double getQueueMessageCount(RabbitMQDiagnosticUtility utility, String queueName) {
+        return utility.getQueueInformation(queueName)
+            .map(AlertQueueInformation::getMessageCount)
+            .map(Integer::doubleValue)
+            .orElse(Double.NaN);
+    }
+
+    private double getQueueConsumerCount(RabbitMQDiagnosticUtility utility, String queueName) {
+        return utility.getQueueInformation(queueName)
+            .map(AlertQueueInformation::getConsumerCount)
+            .map(Integer::doubleValue)
+            .orElse(Double.NaN);
+    }
+
+}
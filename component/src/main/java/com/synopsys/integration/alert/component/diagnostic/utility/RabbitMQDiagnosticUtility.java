@@ -8,7 +8,7 @@
 package com.synopsys.integration.alert.component.diagnostic.utility;
 
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,10 +37,18 @@ public class RabbitMQDiagnosticUtility {
     public RabbitMQDiagnosticModel getRabbitMQDiagnostics() {
         List<AlertQueueInformation> alertQueueInformation = alertMessageListenerNames
             .stream()
-            .map(amqpAdmin::getQueueInfo)
-            .filter(Objects::nonNull)
-            .map(queueInfo -> new AlertQueueInformation(queueInfo.getName(), queueInfo.getMessageCount(), queueInfo.getConsumerCount()))
+            .map(this::getQueueInformation)
+            .flatMap(Optional::stream)
             .collect(Collectors.toList());
         return new RabbitMQDiagnosticModel(alertQueueInformation);
     }
+
+    public Set<String> getAlertQueueNames() {
+        return alertMessageListenerNames;
+    }
+
+    public Optional<AlertQueueInformation> getQueueInformation(String queueName) {
+        return Optional.ofNullable(amqpAdmin.getQueueInfo(queueName))
+            .map(queueInfo -> new AlertQueueInformation(queueInfo.getName(), queueInfo.getMessageCount(), queueInfo.getConsumerCount()));
+    }
 }
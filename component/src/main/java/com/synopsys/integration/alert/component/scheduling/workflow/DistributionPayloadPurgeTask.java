@@ -0,0 +1,66 @@
+/*
+ * component
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.component.scheduling.workflow;
+
+import java.time.OffsetDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.task.StartupScheduledTask;
+import com.synopsys.integration.alert.api.task.TaskManager;
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
+import com.synopsys.integration.alert.common.util.DateUtils;
+
+/**
+ * Removes stored distribution payloads whose events were never handled, for example because the message was dead-lettered or Alert stopped while it was queued.
+ */
+@Component
+public class DistributionPayloadPurgeTask extends StartupScheduledTask {
+    public static final String EVERY_HOUR_CRON_EXPRESSION = "0 0 * * * *";
+    public static final int DEFAULT_RETENTION_HOURS = 24;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final DistributionPayloadAccessor distributionPayloadAccessor;
+    private final int retentionHours;
+
+    @Autowired
+    public DistributionPayloadPurgeTask(
+        TaskScheduler taskScheduler,
+        TaskManager taskManager,
+        DistributionPayloadAccessor distributionPayloadAccessor,
+        @Value("${alert.distribution.payload.retention.hours:" + DEFAULT_RETENTION_HOURS + "}") int retentionHours
+    ) {
+        super(taskScheduler, taskManager);
+        this.distributionPayloadAccessor = distributionPayloadAccessor;
+        this.retentionHours = retentionHours;
+    }
+
+    @Override
+    public String scheduleCronExpression() {
+        return EVERY_HOUR_CRON_EXPRESSION;
+    }
+
+    @Override
+    public void runTask() {
+        OffsetDateTime cutoff = DateUtils.createCurrentDateTimestamp().minusHours(retentionHours);
+        try {
+            int deletedCount = distributionPayloadAccessor.deletePayloadsCreatedBefore(cutoff);
+            if (deletedCount > 0) {
+                logger.info("Purged {} distribution payloads created earlier than {}", deletedCount, cutoff);
+            }
+        } catch (Exception ex) {
+            logger.error("Error purging distribution payloads", ex);
+        }
+    }
+
+}
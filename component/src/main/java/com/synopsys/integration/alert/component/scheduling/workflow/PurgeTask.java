@@ -8,6 +8,8 @@
 package com.synopsys.integration.alert.component.scheduling.workflow;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -20,12 +22,16 @@ import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.task.StartupScheduledTask;
 import com.synopsys.integration.alert.api.task.TaskManager;
+import com.synopsys.integration.alert.api.task.TaskMetaData;
+import com.synopsys.integration.alert.api.task.TaskMetaDataProperty;
 import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.SystemMessageAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
+import com.synopsys.integration.alert.common.persistence.purge.PurgeEngine;
+import com.synopsys.integration.alert.common.persistence.purge.PurgeProgress;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.component.scheduling.SchedulingConfiguration;
 import com.synopsys.integration.alert.component.scheduling.descriptor.SchedulingDescriptor;
@@ -36,28 +42,34 @@ public class PurgeTask extends StartupScheduledTask {
     public static final String CRON_FORMAT = "0 0 0 1/%s * ?";
     public static final int DEFAULT_FREQUENCY = 3;
     private static final int DEFAULT_DAY_OFFSET = 1;
+    private static final String NOTIFICATION_PURGE_NAME = "notification";
+    private static final String SYSTEM_MESSAGE_PURGE_NAME = "systemMessage";
+    private static final int NOTIFICATION_PARTITION_MONTHS_AHEAD = 3;
 
     private final Logger logger = LoggerFactory.getLogger(PurgeTask.class);
     private final SchedulingDescriptorKey schedulingDescriptorKey;
     private final NotificationAccessor notificationAccessor;
     private final SystemMessageAccessor systemMessageAccessor;
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
+    private final PurgeEngine purgeEngine;
     private int dayOffset;
 
     @Autowired
     public PurgeTask(SchedulingDescriptorKey schedulingDescriptorKey, TaskScheduler taskScheduler, NotificationAccessor notificationAccessor, SystemMessageAccessor systemMessageAccessor, TaskManager taskManager,
-        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor) {
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor, PurgeEngine purgeEngine) {
         super(taskScheduler, taskManager);
         this.schedulingDescriptorKey = schedulingDescriptorKey;
         this.notificationAccessor = notificationAccessor;
         this.systemMessageAccessor = systemMessageAccessor;
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
+        this.purgeEngine = purgeEngine;
         this.dayOffset = 1;
     }
 
     @Override
     public void runTask() {
         OffsetDateTime date = createNotificationOlderThanSearchDate();
+        createNotificationPartitions();
         purgeNotifications(date);
         purgeSystemMessages(date);
     }
@@ -73,6 +85,14 @@ public class PurgeTask extends StartupScheduledTask {
         return String.format(CRON_FORMAT, purgeSavedCronValue);
     }
 
+    @Override
+    public TaskMetaData createTaskMetaData() {
+        List<TaskMetaDataProperty> properties = new ArrayList<>();
+        properties.addAll(purgeEngine.createTaskMetaDataProperties(NOTIFICATION_PURGE_NAME, "Notification"));
+        properties.addAll(purgeEngine.createTaskMetaDataProperties(SYSTEM_MESSAGE_PURGE_NAME, "System Message"));
+        return new TaskMetaData(getTaskName(), getClass().getSimpleName(), computeFullyQualifiedName(getClass()), getFormatedNextRunTime().orElse(""), properties);
+    }
+
     @Override
     public void postTaskStartup() {
         CompletableFuture.supplyAsync(this::purgeOldData);
@@ -86,11 +106,25 @@ public class PurgeTask extends StartupScheduledTask {
         setDayOffset(DEFAULT_DAY_OFFSET);
     }
 
+    private void createNotificationPartitions() {
+        try {
+            int createdPartitions = notificationAccessor.createNotificationPartitionsThrough(DateUtils.createCurrentDateTimestamp().plusMonths(NOTIFICATION_PARTITION_MONTHS_AHEAD));
+            logger.debug("Created {} notification partitions", createdPartitions);
+        } catch (Exception ex) {
+            logger.error("Error creating notification partitions", ex);
+        }
+    }
+
     private void purgeNotifications(OffsetDateTime date) {
         try {
             logger.info("Purging notifications created earlier than {}...", date);
-            int deletedCount = notificationAccessor.deleteNotificationsCreatedBefore(date);
-            logger.info("Purged {} notifications", deletedCount);
+            // Whole partitions are dropped first, leaving only the notifications in partitions that also hold newer ones to be deleted in chunks
+            long droppedCount = notificationAccessor.dropNotificationPartitionsBefore(date);
+            long deletedCount = notificationAccessor.findIdRangeCreatedBefore(date)
+                .map(idRange -> purgeEngine.purgeByIdRange(NOTIFICATION_PURGE_NAME, date, idRange, (firstId, lastId) -> notificationAccessor.deleteNotificationsCreatedBefore(date, firstId, lastId)))
+                .map(PurgeProgress::getDeletedCount)
+                .orElse(0L);
+            logger.info("Purged {} notifications, {} of them by dropping partitions", droppedCount + deletedCount, droppedCount);
         } catch (Exception ex) {
             logger.error("Error in purging notifications", ex);
         }
@@ -98,7 +132,8 @@ public class PurgeTask extends StartupScheduledTask {
 
     private void purgeSystemMessages(OffsetDateTime date) {
         try {
-            int deletedCount = systemMessageAccessor.deleteSystemMessagesCreatedBefore(date);
+            PurgeProgress purgeProgress = purgeEngine.purgeInBatches(SYSTEM_MESSAGE_PURGE_NAME, maxMessages -> systemMessageAccessor.deleteSystemMessagesCreatedBefore(date, maxMessages));
+            long deletedCount = purgeProgress.getDeletedCount();
             logger.debug("Purged {} system messages", deletedCount);
         } catch (Exception ex) {
             logger.error("Error purging system messages", ex);
@@ -0,0 +1,50 @@
+/*
+ * component
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.component.scheduling.workflow;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.task.StartupScheduledTask;
+import com.synopsys.integration.alert.api.task.TaskManager;
+import com.synopsys.integration.alert.service.email.SmtpTransportPool;
+
+/**
+ * Closes pooled SMTP sessions that have been idle longer than the configured timeout, so that Alert does not hold connections the mail server would drop anyway.
+ */
+@Component
+public class SmtpTransportEvictionTask extends StartupScheduledTask {
+    public static final String EVERY_MINUTE_CRON_EXPRESSION = "0 * * * * *";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final SmtpTransportPool smtpTransportPool;
+
+    @Autowired
+    public SmtpTransportEvictionTask(TaskScheduler taskScheduler, TaskManager taskManager, SmtpTransportPool smtpTransportPool) {
+        super(taskScheduler, taskManager);
+        this.smtpTransportPool = smtpTransportPool;
+    }
+
+    @Override
+    public String scheduleCronExpression() {
+        return EVERY_MINUTE_CRON_EXPRESSION;
+    }
+
+    @Override
+    public void runTask() {
+        try {
+            smtpTransportPool.evictIdleTransports();
+        } catch (Exception ex) {
+            logger.error("Error closing idle SMTP sessions", ex);
+        }
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,7 +20,9 @@ import com.synopsys.integration.alert.api.distribution.execution.JobStage;
 import com.synopsys.integration.alert.common.enumeration.AuditEntryStatus;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModelBuilder;
 import com.synopsys.integration.alert.common.persistence.model.job.executions.JobCompletionStatusDurations;
@@ -39,14 +42,13 @@ import com.synopsys.integration.alert.component.diagnostic.model.NotificationDia
 import com.synopsys.integration.alert.component.diagnostic.model.RabbitMQDiagnosticModel;
 import com.synopsys.integration.alert.component.diagnostic.model.SystemDiagnosticModel;
 import com.synopsys.integration.alert.component.diagnostic.utility.RabbitMQDiagnosticUtility;
-import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
 import com.synopsys.integration.alert.database.job.api.StaticJobAccessor;
-import com.synopsys.integration.alert.database.notification.NotificationContentRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class DefaultDiagnosticAccessorTest {
     public static final String TEST_JOB_NAME = "Job Name";
-    private NotificationContentRepository notificationContentRepository;
-    private AuditEntryRepository auditEntryRepository;
+    private DiagnosticCounters diagnosticCounters;
     private RabbitMQDiagnosticUtility rabbitMQDiagnosticUtility;
     private ExecutingJobManager executingJobManager;
     private StaticJobAccessor staticJobAccessor;
@@ -54,20 +56,18 @@ class DefaultDiagnosticAccessorTest {
 
     @BeforeEach
     public void init() {
-        notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
-        auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        diagnosticCounters = new DiagnosticCounters();
         rabbitMQDiagnosticUtility = Mockito.mock(RabbitMQDiagnosticUtility.class);
         staticJobAccessor = Mockito.mock(StaticJobAccessor.class);
         completedJobsAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
     void testGetDiagnosticInfo() {
         DefaultDiagnosticAccessor diagnosticAccessor = new DefaultDiagnosticAccessor(
-            notificationContentRepository,
-            auditEntryRepository,
+            diagnosticCounters,
             rabbitMQDiagnosticUtility,
             staticJobAccessor,
             completedJobsAccessor,
@@ -92,9 +92,7 @@ class DefaultDiagnosticAccessorTest {
         long numberOfNotifications = 10L;
         long numberOfNotificationsProcessed = 5L;
         long numberOfNotificationsUnprocessed = 5L;
-        Mockito.when(notificationContentRepository.count()).thenReturn(numberOfNotifications);
-        Mockito.when(notificationContentRepository.countByProcessed(true)).thenReturn(numberOfNotificationsProcessed);
-        Mockito.when(notificationContentRepository.countByProcessed(false)).thenReturn(numberOfNotificationsUnprocessed);
+        diagnosticCounters.reconcileNotifications(diagnosticCounters.snapshot(), Map.of(1L, Map.of("VULNERABILITY", 6L, "POLICY_OVERRIDE", 4L)), numberOfNotificationsProcessed);
         Mockito.when(staticJobAccessor.getPageOfJobs(Mockito.anyInt(), Mockito.anyInt())).thenReturn(AlertPagedModel.empty(0, 0));
         return new NotificationDiagnosticModel(numberOfNotifications, numberOfNotificationsProcessed, numberOfNotificationsUnprocessed, List.of());
     }
@@ -104,10 +102,11 @@ class DefaultDiagnosticAccessorTest {
         long numberOfAuditEntriesFailed = 15L;
         long numberOfAuditEntriesPending = 20L;
         String averageAuditProcessingTime = AuditDiagnosticModel.NO_AUDIT_CONTENT_MESSAGE;
-        Mockito.when(auditEntryRepository.countByStatus(AuditEntryStatus.SUCCESS.name())).thenReturn(numberOfAuditEntriesSuccessful);
-        Mockito.when(auditEntryRepository.countByStatus(AuditEntryStatus.FAILURE.name())).thenReturn(numberOfAuditEntriesFailed);
-        Mockito.when(auditEntryRepository.countByStatus(AuditEntryStatus.PENDING.name())).thenReturn(numberOfAuditEntriesPending);
-        Mockito.when(auditEntryRepository.getAverageAuditEntryCompletionTime()).thenReturn(Optional.of(averageAuditProcessingTime));
+        diagnosticCounters.reconcileAuditEntries(diagnosticCounters.snapshot(), Map.of(
+            AuditEntryStatus.SUCCESS.name(), numberOfAuditEntriesSuccessful,
+            AuditEntryStatus.FAILURE.name(), numberOfAuditEntriesFailed,
+            AuditEntryStatus.PENDING.name(), numberOfAuditEntriesPending
+        ), null);
         return new AuditDiagnosticModel(numberOfAuditEntriesSuccessful, numberOfAuditEntriesFailed, numberOfAuditEntriesPending, averageAuditProcessingTime);
     }
 
@@ -15,6 +15,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
+import com.synopsys.integration.alert.common.persistence.model.PurgeIdRange;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 
@@ -128,6 +129,26 @@ public class MockProcessingNotificationAccessor implements NotificationAccessor
         return 0;
     }
 
+    @Override
+    public Optional<PurgeIdRange> findIdRangeCreatedBefore(OffsetDateTime date) {
+        return Optional.empty();
+    }
+
+    @Override
+    public int deleteNotificationsCreatedBefore(OffsetDateTime date, long firstId, long lastId) {
+        return 0;
+    }
+
+    @Override
+    public int createNotificationPartitionsThrough(OffsetDateTime date) {
+        return 0;
+    }
+
+    @Override
+    public long dropNotificationPartitionsBefore(OffsetDateTime date) {
+        return 0L;
+    }
+
     @Override
     @Deprecated(since = "6.13.0")
     public boolean hasMoreNotificationsToProcess() {
@@ -135,6 +156,13 @@ public class MockProcessingNotificationAccessor implements NotificationAccessor
             .anyMatch(AlertNotificationModel::getProcessed);
     }
 
+    @Override
+    public boolean hasMoreUnprocessedNotificationsThan(int count) {
+        return alertNotificationModels.stream()
+            .filter(model -> !model.getProcessed())
+            .count() > count;
+    }
+
     @Override
     public boolean hasMoreNotificationsToProcess(long providerConfigId) {
         return alertNotificationModels.stream()
@@ -22,12 +22,14 @@ import org.mockito.stubbing.Answer;
 import org.springframework.scheduling.TaskScheduler;
 
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.processor.NotificationExtractionCache;
 import com.synopsys.integration.alert.api.processor.NotificationMappingProcessor;
 import com.synopsys.integration.alert.api.processor.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.filter.JobNotificationMapper;
 import com.synopsys.integration.alert.api.task.TaskManager;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.message.model.DateRange;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
@@ -39,6 +41,8 @@ import com.synopsys.integration.alert.test.common.TestResourceUtils;
 import com.synopsys.integration.blackduck.http.transform.subclass.BlackDuckResponseResolver;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class ProcessingTaskTest {
     private final BlackDuckResponseResolver blackDuckResponseResolver = new BlackDuckResponseResolver(BlackDuckServicesFactory.createDefaultGson());
 
@@ -131,7 +135,13 @@ class ProcessingTaskTest {
         Mockito.when(jobAccessor.hasJobsByFrequency(Mockito.any())).thenReturn(true);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(extractionDelegator, null, null);
+        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(
+            extractionDelegator,
+            null,
+            null,
+            new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS),
+            new PipelineMetrics(new SimpleMeterRegistry())
+        );
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationMappingProcessor, taskManager, jobAccessor);
         DateRange dateRange = task.getDateRange();
@@ -150,7 +160,13 @@ class ProcessingTaskTest {
         Mockito.when(jobAccessor.hasJobsByFrequency(Mockito.any())).thenReturn(false);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(extractionDelegator, null, null);
+        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(
+            extractionDelegator,
+            null,
+            null,
+            new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS),
+            new PipelineMetrics(new SimpleMeterRegistry())
+        );
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationMappingProcessor, taskManager, jobAccessor);
         DateRange dateRange = task.getDateRange();
@@ -167,7 +183,13 @@ class ProcessingTaskTest {
         StaticJobAccessor jobAccessor = Mockito.mock(StaticJobAccessor.class);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(extractionDelegator, null, null);
+        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(
+            extractionDelegator,
+            null,
+            null,
+            new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS),
+            new PipelineMetrics(new SimpleMeterRegistry())
+        );
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationMappingProcessor, taskManager, jobAccessor);
         DateRange dateRange = task.getDateRange();
@@ -187,7 +209,13 @@ class ProcessingTaskTest {
         Mockito.when(jobAccessor.hasJobsByFrequency(Mockito.any())).thenReturn(true);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(extractionDelegator, null, null);
+        NotificationMappingProcessor notificationMappingProcessor = new NotificationMappingProcessor(
+            extractionDelegator,
+            null,
+            null,
+            new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS),
+            new PipelineMetrics(new SimpleMeterRegistry())
+        );
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationMappingProcessor, taskManager, jobAccessor);
         int count = 20;
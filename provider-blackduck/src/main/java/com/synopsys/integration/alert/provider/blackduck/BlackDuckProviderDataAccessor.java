@@ -26,6 +26,7 @@ import com.synopsys.integration.alert.api.common.model.exception.AlertConfigurat
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProviderDataAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.ProviderProjectEmailAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
 import com.synopsys.integration.alert.common.persistence.model.ProviderProject;
 import com.synopsys.integration.alert.common.persistence.model.ProviderUserModel;
@@ -62,11 +63,22 @@ public class BlackDuckProviderDataAccessor implements ProviderDataAccessor {
     private final IntLogger logger = new Slf4jIntLogger(LoggerFactory.getLogger(getClass()));
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
     private final BlackDuckPropertiesFactory blackDuckPropertiesFactory;
+    @Nullable
+    private final ProviderProjectEmailAccessor providerProjectEmailAccessor;
 
-    @Autowired
     public BlackDuckProviderDataAccessor(ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor, BlackDuckPropertiesFactory blackDuckPropertiesFactory) {
+        this(configurationModelConfigurationAccessor, blackDuckPropertiesFactory, null);
+    }
+
+    @Autowired
+    public BlackDuckProviderDataAccessor(
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor,
+        BlackDuckPropertiesFactory blackDuckPropertiesFactory,
+        @Nullable ProviderProjectEmailAccessor providerProjectEmailAccessor
+    ) {
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
         this.blackDuckPropertiesFactory = blackDuckPropertiesFactory;
+        this.providerProjectEmailAccessor = providerProjectEmailAccessor;
     }
 
     @Override
@@ -235,7 +247,11 @@ public class BlackDuckProviderDataAccessor implements ProviderDataAccessor {
 
     @Override
     public void updateProjectAndUserData(Long providerConfigId, Map<ProviderProject, Set<String>> projectToUserData, Set<String> additionalRelevantUsers) {
-        //ignored since are not updating the database
+        // Only the project emails are stored. Everything else is still read from Black Duck when it is needed.
+        if (null != providerProjectEmailAccessor) {
+            int changedProjectCount = providerProjectEmailAccessor.synchronizeProjectEmails(providerConfigId, projectToUserData);
+            logger.debug(String.format("Synchronized the emails of %d projects for the provider with id '%s'. %d projects changed.", projectToUserData.size(), providerConfigId, changedProjectCount));
+        }
     }
 
     private <T> Optional<T> retrieveOptionalProjectData(ThrowingSupplier<T, IntegrationException> retriever) {
@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.provider.blackduck.factory;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
@@ -17,6 +18,7 @@ import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.provider.lifecycle.ProviderTask;
 import com.synopsys.integration.alert.api.provider.lifecycle.ProviderTaskFactory;
 import com.synopsys.integration.alert.api.provider.state.ProviderProperties;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProviderDataAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProviderTaskPropertiesAccessor;
@@ -36,6 +38,8 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
     private final BlackDuckSystemValidator blackDuckSystemValidator;
     private final EventManager eventManager;
     private final BlackDuckNotificationRetrieverFactory notificationRetrieverFactory;
+    private final PipelineMetrics pipelineMetrics;
+    private final int maxPrefetchedNotificationPages;
 
     @Autowired
     public BlackDuckTaskFactory(
@@ -46,7 +50,9 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
         ProviderTaskPropertiesAccessor providerTaskPropertiesAccessor,
         BlackDuckSystemValidator blackDuckSystemValidator,
         EventManager eventManager,
-        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory,
+        PipelineMetrics pipelineMetrics,
+        @Value("${alert.provider.blackduck.accumulator.prefetch.pages:" + BlackDuckAccumulator.DEFAULT_MAX_PREFETCHED_PAGES + "}") int maxPrefetchedNotificationPages
     ) {
         this.blackDuckProviderKey = blackDuckProviderKey;
         this.taskScheduler = taskScheduler;
@@ -56,6 +62,8 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
         this.blackDuckSystemValidator = blackDuckSystemValidator;
         this.eventManager = eventManager;
         this.notificationRetrieverFactory = notificationRetrieverFactory;
+        this.pipelineMetrics = pipelineMetrics;
+        this.maxPrefetchedNotificationPages = maxPrefetchedNotificationPages;
     }
 
     @Override
@@ -68,7 +76,9 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
             providerProperties,
             blackDuckSystemValidator,
             eventManager,
-            notificationRetrieverFactory
+            notificationRetrieverFactory,
+            pipelineMetrics,
+            maxPrefetchedNotificationPages
         );
         BlackDuckDataSyncTask syncTask = new BlackDuckDataSyncTask(blackDuckProviderKey, taskScheduler, blackDuckDataAccessor, providerProperties);
         return List.of(accumulator, syncTask);
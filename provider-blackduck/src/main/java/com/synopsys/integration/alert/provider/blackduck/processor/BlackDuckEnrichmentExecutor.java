@@ -0,0 +1,170 @@
+/*
+ * provider-blackduck
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.provider.blackduck.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.exception.IntegrationException;
+
+/**
+ * Runs the Black Duck requests needed to enrich the items of a notification concurrently.
+ * The number of concurrent requests to a single provider is limited, and results are always returned in the order of the items.
+ * The enrichers run on a fixed number of threads, and the permit for an item is taken before it is submitted so that one caller cannot queue up all of its items ahead of other callers.
+ */
+@Component
+public class BlackDuckEnrichmentExecutor implements DisposableBean {
+    public static final int DEFAULT_CONCURRENCY_LIMIT = 4;
+
+    private final int concurrencyLimit;
+    private final Map<String, Semaphore> providerPermits;
+    private final ExecutorService executorService;
+
+    @Autowired
+    public BlackDuckEnrichmentExecutor(@Value("${alert.provider.blackduck.enrichment.concurrency:" + DEFAULT_CONCURRENCY_LIMIT + "}") int concurrencyLimit) {
+        this.concurrencyLimit = Math.max(1, concurrencyLimit);
+        this.providerPermits = new ConcurrentHashMap<>();
+        this.executorService = Executors.newFixedThreadPool(this.concurrencyLimit, new EnrichmentThreadFactory());
+    }
+
+    public static BlackDuckEnrichmentExecutor withDefaults() {
+        return new BlackDuckEnrichmentExecutor(DEFAULT_CONCURRENCY_LIMIT);
+    }
+
+    /**
+     * Applies the enricher to every item, running at most the configured number of enrichers for the provider at a time.
+     * A single item is enriched on the calling thread.
+     * If any enricher fails, the failure of the first failed item is thrown once every enricher has finished.
+     * Enrichers must not call this method themselves, because they would wait on permits held by their callers.
+     * @param providerKey Identifies the provider the requests are made to, e.g. its URL.
+     */
+    public <S, R> List<R> enrichInOrder(String providerKey, List<S> items, Enricher<S, R> enricher) throws IntegrationException {
+        if (items.size() <= 1) {
+            List<R> results = new ArrayList<>(items.size());
+            for (S item : items) {
+                results.add(enricher.enrich(item));
+            }
+            return results;
+        }
+
+        Semaphore permits = providerPermits.computeIfAbsent(providerKey, ignored -> new Semaphore(concurrencyLimit, true));
+        List<Future<R>> futureResults = new ArrayList<>(items.size());
+        for (S item : items) {
+            // The permit is taken before submitting so that no more threads are started than there are permits.
+            acquirePermit(permits, futureResults);
+            PermitReleasingTask<R> enrichmentTask = new PermitReleasingTask<>(() -> enricher.enrich(item), permits);
+            try {
+                executorService.execute(enrichmentTask);
+                futureResults.add(enrichmentTask);
+            } catch (RejectedExecutionException e) {
+                enrichmentTask.cancel(false);
+                cancelAll(futureResults);
+                throw new IntegrationException("Unable to retrieve details from Black Duck because the enrichment executor has been shut down", e);
+            }
+        }
+        return collectInOrder(futureResults);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private <R> void acquirePermit(Semaphore permits, List<Future<R>> futureResults) throws IntegrationException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futureResults);
+            throw new IntegrationException("Interrupted while retrieving details from Black Duck", e);
+        }
+    }
+
+    private <R> void cancelAll(List<Future<R>> futureResults) {
+        futureResults.forEach(result -> result.cancel(true));
+    }
+
+    private <R> List<R> collectInOrder(List<Future<R>> futureResults) throws IntegrationException {
+        List<R> results = new ArrayList<>(futureResults.size());
+        Exception firstFailure = null;
+        for (Future<R> futureResult : futureResults) {
+            try {
+                results.add(futureResult.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(futureResults);
+                throw new IntegrationException("Interrupted while retrieving details from Black Duck", e);
+            } catch (ExecutionException e) {
+                if (null == firstFailure) {
+                    firstFailure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+
+        if (firstFailure instanceof IntegrationException) {
+            throw (IntegrationException) firstFailure;
+        } else if (firstFailure instanceof RuntimeException) {
+            throw (RuntimeException) firstFailure;
+        } else if (null != firstFailure) {
+            throw new IntegrationException("Failed to retrieve details from Black Duck", firstFailure);
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    public interface Enricher<S, R> {
+        R enrich(S item) throws IntegrationException;
+
+    }
+
+    /**
+     * Releases the permit acquired for the task once it is done, which includes being cancelled before it started.
+     */
+    private static class PermitReleasingTask<R> extends FutureTask<R> {
+        private final Semaphore permits;
+
+        public PermitReleasingTask(Callable<R> callable, Semaphore permits) {
+            super(callable);
+            this.permits = permits;
+        }
+
+        @Override
+        protected void done() {
+            permits.release();
+        }
+    }
+
+    private static class EnrichmentThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, String.format("blackduck-enrichment-%d", threadCount.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
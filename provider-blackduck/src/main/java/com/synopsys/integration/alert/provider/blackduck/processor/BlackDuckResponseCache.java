@@ -0,0 +1,228 @@
+/*
+ * provider-blackduck
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.provider.blackduck.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.processor.NotificationProcessingLifecycleCache;
+import com.synopsys.integration.blackduck.api.core.BlackDuckResponse;
+import com.synopsys.integration.blackduck.api.core.response.UrlMultipleResponses;
+import com.synopsys.integration.blackduck.api.core.response.UrlSingleResponse;
+import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.HttpUrl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Caches Black Duck GET responses by provider configuration, URL and response type for a limited time.
+ * Concurrent requests for the same URL share a single in-flight request. Failed requests are not cached.
+ * Once the configured number of responses is cached, any further responses are requested without being cached.
+ * The hits, misses and size of the cache are published as metrics.
+ */
+@Component
+public class BlackDuckResponseCache implements NotificationProcessingLifecycleCache, MeterBinder {
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 120L;
+    public static final int DEFAULT_MAX_ENTRIES = 5000;
+    public static final String REQUESTS_METRIC = "alert.provider.blackduck.response.cache.requests";
+    public static final String SIZE_METRIC = "alert.provider.blackduck.response.cache.size";
+    public static final String TAG_RESULT = "result";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final Map<String, CachedResponse> responseCache;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+
+    @Autowired
+    public BlackDuckResponseCache(
+        @Value("${alert.provider.blackduck.response.cache.ttl.seconds:" + DEFAULT_TIME_TO_LIVE_SECONDS + "}") long timeToLiveSeconds,
+        @Value("${alert.provider.blackduck.response.cache.size:" + DEFAULT_MAX_ENTRIES + "}") int maxEntries
+    ) {
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+        this.maxEntries = maxEntries;
+        this.responseCache = new ConcurrentHashMap<>();
+        this.hitCount = new AtomicLong(0L);
+        this.missCount = new AtomicLong(0L);
+    }
+
+    public static BlackDuckResponseCache withDefaults() {
+        return new BlackDuckResponseCache(DEFAULT_TIME_TO_LIVE_SECONDS, DEFAULT_MAX_ENTRIES);
+    }
+
+    public <T extends BlackDuckResponse> T getResponse(Long providerConfigId, BlackDuckApiClient blackDuckApiClient, UrlSingleResponse<T> urlSingleResponse) throws IntegrationException {
+        return retrieve(providerConfigId, urlSingleResponse.getUrl(), urlSingleResponse.getResponseClass(), () -> blackDuckApiClient.getResponse(urlSingleResponse));
+    }
+
+    public <T extends BlackDuckResponse> T getResponse(Long providerConfigId, BlackDuckApiClient blackDuckApiClient, HttpUrl url, Class<T> responseClass) throws IntegrationException {
+        return retrieve(providerConfigId, url, responseClass, () -> blackDuckApiClient.getResponse(url, responseClass));
+    }
+
+    public <T extends BlackDuckResponse> List<T> getAllResponses(Long providerConfigId, BlackDuckApiClient blackDuckApiClient, UrlMultipleResponses<T> urlMultipleResponses)
+        throws IntegrationException {
+        if (null == urlMultipleResponses) {
+            return blackDuckApiClient.getAllResponses(urlMultipleResponses);
+        }
+        return retrieve(providerConfigId, urlMultipleResponses.getUrl(), urlMultipleResponses.getResponseClass(), () -> blackDuckApiClient.getAllResponses(urlMultipleResponses));
+    }
+
+    /**
+     * @param providerConfigId The Black Duck configuration the request is sent with, because the same URL may be visible to different users on each configuration.
+     * @param url              The URL of the request. Together with the providerConfigId and responseClass this identifies the cached response.
+     * @param responseClass    The type of the response, because the same URL may be requested with different media types.
+     * @param request          Performs the request when there is no usable cached response.
+     */
+    public <R> R retrieve(Long providerConfigId, HttpUrl url, Class<?> responseClass, ResponseRequest<R> request) throws IntegrationException {
+        if (null == providerConfigId || null == url || null == responseClass) {
+            return request.perform();
+        }
+
+        String cacheKey = createCacheKey(providerConfigId, url, responseClass);
+        long now = System.currentTimeMillis();
+        CachedResponse newResponse = new CachedResponse(now + timeToLiveMillis);
+        CachedResponse cachedResponse = responseCache.compute(cacheKey, (ignored, existingResponse) -> {
+            if (null != existingResponse && !existingResponse.isExpired(now)) {
+                return existingResponse;
+            }
+            return newResponse;
+        });
+
+        if (cachedResponse != newResponse) {
+            hitCount.incrementAndGet();
+            return cachedResponse.await();
+        }
+
+        missCount.incrementAndGet();
+        try {
+            R response = request.perform();
+            newResponse.complete(response);
+            if (!hasCapacity(now)) {
+                responseCache.remove(cacheKey, newResponse);
+            }
+            return response;
+        } catch (IntegrationException | RuntimeException e) {
+            newResponse.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!newResponse.isCompletedNormally()) {
+                responseCache.remove(cacheKey, newResponse);
+                newResponse.completeExceptionally(new IntegrationException(String.format("The request to %s did not complete", url.string())));
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int getSize() {
+        return responseCache.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(REQUESTS_METRIC, this, BlackDuckResponseCache::getHitCount)
+            .description("The number of Black Duck GET requests answered by the response cache")
+            .tag(TAG_RESULT, "hit")
+            .register(registry);
+        FunctionCounter.builder(REQUESTS_METRIC, this, BlackDuckResponseCache::getMissCount)
+            .description("The number of Black Duck GET requests sent to Black Duck by the response cache")
+            .tag(TAG_RESULT, "miss")
+            .register(registry);
+        Gauge.builder(SIZE_METRIC, this, BlackDuckResponseCache::getSize)
+            .description("The number of Black Duck responses in the response cache")
+            .register(registry);
+    }
+
+    @Override
+    public void clear() {
+        logger.debug("Clearing Black Duck response cache. Size: {}, hits: {}, misses: {}", responseCache.size(), hitCount.get(), missCount.get());
+        responseCache.clear();
+    }
+
+    private boolean hasCapacity(long now) {
+        if (responseCache.size() <= maxEntries) {
+            return true;
+        }
+        responseCache.values().removeIf(cachedResponse -> cachedResponse.isExpired(now));
+        return responseCache.size() <= maxEntries;
+    }
+
+    private String createCacheKey(Long providerConfigId, HttpUrl url, Class<?> responseClass) {
+        return String.format("%s|%s|%s", providerConfigId, responseClass.getName(), url.string());
+    }
+
+    @FunctionalInterface
+    public interface ResponseRequest<R> {
+        R perform() throws IntegrationException;
+
+    }
+
+    private static class CachedResponse {
+        private final long expiresAt;
+        private final CompletableFuture<Object> response;
+
+        public CachedResponse(long expiresAt) {
+            this.expiresAt = expiresAt;
+            this.response = new CompletableFuture<>();
+        }
+
+        public boolean isExpired(long now) {
+            return now > expiresAt;
+        }
+
+        public boolean isCompletedNormally() {
+            return response.isDone() && !response.isCompletedExceptionally();
+        }
+
+        public void complete(Object value) {
+            response.complete(value);
+        }
+
+        public void completeExceptionally(Throwable throwable) {
+            response.completeExceptionally(throwable);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> R await() throws IntegrationException {
+            try {
+                return (R) response.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IntegrationException) {
+                    throw (IntegrationException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IntegrationException("Failed to retrieve the Black Duck response", cause);
+            }
+        }
+    }
+
+}
@@ -24,27 +24,33 @@ import com.synopsys.integration.alert.api.processor.extract.model.ProviderMessag
 import com.synopsys.integration.alert.api.processor.extract.model.project.BomComponentDetails;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
 import com.synopsys.integration.alert.api.processor.filter.NotificationContentWrapper;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.model.AbstractProjectVersionNotificationContent;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
+import com.synopsys.integration.blackduck.http.client.BlackDuckHttpClient;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.HttpUrl;
 
 public abstract class AbstractBlackDuckComponentConcernMessageExtractor<T extends AbstractProjectVersionNotificationContent> extends ProviderMessageExtractor<T> {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final BlackDuckProviderKey blackDuckProviderKey;
     private final NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache;
+    private final BlackDuckEnrichmentExecutor enrichmentExecutor;
 
     public AbstractBlackDuckComponentConcernMessageExtractor(
         NotificationType notificationType,
         Class<T> notificationContentClass,
         BlackDuckProviderKey blackDuckProviderKey,
-        NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache
+        NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor
     ) {
         super(notificationType, notificationContentClass);
         this.blackDuckProviderKey = blackDuckProviderKey;
         this.servicesFactoryCache = servicesFactoryCache;
+        this.enrichmentExecutor = enrichmentExecutor;
     }
 
     @Override
@@ -58,7 +64,7 @@ public abstract class AbstractBlackDuckComponentConcernMessageExtractor<T extend
         try {
             BlackDuckServicesFactory blackDuckServicesFactory = servicesFactoryCache.retrieveBlackDuckServicesFactory(providerConfigId);
             providerUrl = blackDuckServicesFactory.getBlackDuckHttpClient().getBlackDuckUrl().string();
-            bomComponentDetails = createBomComponentDetails(notificationContent, blackDuckServicesFactory);
+            bomComponentDetails = createBomComponentDetails(notificationContent, providerConfigId, blackDuckServicesFactory);
         } catch (AlertConfigurationException e) {
             logger.warn("Invalid Black Duck configuration for notification. ID: {}. Name: {}", providerConfigId, notificationModel.getProviderConfigName(), e);
             return ProviderMessageHolder.empty();
@@ -84,7 +90,24 @@ public abstract class AbstractBlackDuckComponentConcernMessageExtractor<T extend
         return ProjectMessage.componentConcern(provider, project, projectVersion, bomComponentDetails);
     }
 
-    protected abstract List<BomComponentDetails> createBomComponentDetails(T notificationContent, BlackDuckServicesFactory blackDuckServicesFactory) throws IntegrationException;
+    protected abstract List<BomComponentDetails> createBomComponentDetails(T notificationContent, Long providerConfigId, BlackDuckServicesFactory blackDuckServicesFactory)
+        throws IntegrationException;
+
+    /**
+     * Creates the details of every component concurrently, because each component requires several requests to Black Duck.
+     * The details are returned in the same order as the components.
+     */
+    protected <S> List<BomComponentDetails> createBomComponentDetailsConcurrently(
+        BlackDuckServicesFactory blackDuckServicesFactory,
+        List<S> components,
+        BlackDuckEnrichmentExecutor.Enricher<S, BomComponentDetails> detailsCreator
+    ) throws IntegrationException {
+        String providerKey = Optional.ofNullable(blackDuckServicesFactory.getBlackDuckHttpClient())
+            .map(BlackDuckHttpClient::getBlackDuckUrl)
+            .map(HttpUrl::string)
+            .orElse(blackDuckProviderKey.getUniversalKey());
+        return enrichmentExecutor.enrichInOrder(providerKey, components, detailsCreator);
+    }
 
     private Optional<String> extractProjectUrl(String projectVersionUrl) {
         return Optional.ofNullable(projectVersionUrl)
@@ -7,7 +7,6 @@
  */
 package com.synopsys.integration.alert.provider.blackduck.processor.message;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +17,7 @@ import com.synopsys.integration.alert.api.descriptor.BlackDuckProviderKey;
 import com.synopsys.integration.alert.api.processor.extract.model.project.BomComponentDetails;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentConcern;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreatorFactory;
@@ -29,10 +29,8 @@ import com.synopsys.integration.alert.provider.blackduck.processor.model.Abstrac
 import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionComponentVersionView;
 import com.synopsys.integration.blackduck.api.manual.component.ComponentVersionStatus;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
-import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.exception.IntegrationException;
-import com.synopsys.integration.rest.HttpUrl;
 import com.synopsys.integration.rest.exception.IntegrationRestException;
 
 public abstract class AbstractRuleViolationNotificationMessageExtractor<T extends AbstractRuleViolationNotificationContent>
@@ -48,11 +46,12 @@ public abstract class AbstractRuleViolationNotificationMessageExtractor<T extend
         ItemOperation itemOperation,
         BlackDuckProviderKey blackDuckProviderKey,
         NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor,
         BlackDuckPolicyComponentConcernCreator policyComponentConcernCreator,
         BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory,
         BomComponent404Handler bomComponent404Handler
     ) {
-        super(notificationType, notificationContentClass, blackDuckProviderKey, servicesFactoryCache);
+        super(notificationType, notificationContentClass, blackDuckProviderKey, servicesFactoryCache, enrichmentExecutor);
         this.itemOperation = itemOperation;
         this.policyComponentConcernCreator = policyComponentConcernCreator;
         this.detailsCreatorFactory = detailsCreatorFactory;
@@ -60,27 +59,27 @@ public abstract class AbstractRuleViolationNotificationMessageExtractor<T extend
     }
 
     @Override
-    protected List<BomComponentDetails> createBomComponentDetails(T notificationContent, BlackDuckServicesFactory blackDuckServicesFactory) throws IntegrationException {
-        List<BomComponentDetails> bomComponentDetails = new LinkedList<>();
-        for (ComponentVersionStatus componentVersionStatus : notificationContent.getComponentVersionStatuses()) {
-            BomComponentDetails componentVersionDetails = createBomComponentDetails(blackDuckServicesFactory, notificationContent, componentVersionStatus);
-            bomComponentDetails.add(componentVersionDetails);
-        }
-        return bomComponentDetails;
+    protected List<BomComponentDetails> createBomComponentDetails(T notificationContent, Long providerConfigId, BlackDuckServicesFactory blackDuckServicesFactory)
+        throws IntegrationException {
+        return createBomComponentDetailsConcurrently(
+            blackDuckServicesFactory,
+            notificationContent.getComponentVersionStatuses(),
+            componentVersionStatus -> createBomComponentDetails(providerConfigId, blackDuckServicesFactory, notificationContent, componentVersionStatus)
+        );
     }
 
-    private BomComponentDetails createBomComponentDetails(BlackDuckServicesFactory blackDuckServicesFactory, T notificationContent, ComponentVersionStatus componentVersionStatus)
-        throws IntegrationException {
-        BlackDuckApiClient blackDuckApiClient = blackDuckServicesFactory.getBlackDuckApiClient();
-        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(blackDuckServicesFactory);
-        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = new BlackDuckMessageComponentVersionUpgradeGuidanceService(blackDuckApiClient);
+    private BomComponentDetails createBomComponentDetails(
+        Long providerConfigId,
+        BlackDuckServicesFactory blackDuckServicesFactory,
+        T notificationContent,
+        ComponentVersionStatus componentVersionStatus
+    ) throws IntegrationException {
+        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(providerConfigId, blackDuckServicesFactory);
+        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = detailsCreatorFactory.createUpgradeGuidanceService(providerConfigId, blackDuckServicesFactory);
 
         ComponentConcern policyConcern = policyComponentConcernCreator.fromPolicyInfo(notificationContent.getPolicyInfo(), itemOperation);
         try {
-            ProjectVersionComponentVersionView bomComponent = blackDuckApiClient.getResponse(
-                new HttpUrl(componentVersionStatus.getBomComponent()),
-                ProjectVersionComponentVersionView.class
-            );
+            ProjectVersionComponentVersionView bomComponent = bomComponentDetailsCreator.retrieveBomComponent(componentVersionStatus.getBomComponent());
             ComponentUpgradeGuidance componentUpgradeGuidance = upgradeGuidanceService.requestUpgradeGuidanceItems(bomComponent);
             return bomComponentDetailsCreator.createBomComponentDetails(bomComponent, policyConcern, componentUpgradeGuidance, List.of());
         } catch (IntegrationRestException e) {
@@ -18,6 +18,7 @@ import com.synopsys.integration.alert.api.processor.extract.model.ProviderDetail
 import com.synopsys.integration.alert.api.processor.extract.model.project.BomComponentDetails;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ProjectMessage;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreatorFactory;
@@ -25,10 +26,8 @@ import com.synopsys.integration.alert.provider.blackduck.processor.message.servi
 import com.synopsys.integration.alert.provider.blackduck.processor.model.BomEditWithProjectNameNotificationContent;
 import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionComponentVersionView;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
-import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.exception.IntegrationException;
-import com.synopsys.integration.rest.HttpUrl;
 import com.synopsys.integration.rest.exception.IntegrationRestException;
 
 @Component
@@ -40,10 +39,11 @@ public class BomEditNotificationMessageExtractor extends AbstractBlackDuckCompon
     public BomEditNotificationMessageExtractor(
         BlackDuckProviderKey blackDuckProviderKey,
         NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor,
         BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory,
         BomComponent404Handler bomComponent404Handler
     ) {
-        super(NotificationType.BOM_EDIT, BomEditWithProjectNameNotificationContent.class, blackDuckProviderKey, servicesFactoryCache);
+        super(NotificationType.BOM_EDIT, BomEditWithProjectNameNotificationContent.class, blackDuckProviderKey, servicesFactoryCache, enrichmentExecutor);
         this.detailsCreatorFactory = detailsCreatorFactory;
         this.bomComponent404Handler = bomComponent404Handler;
     }
@@ -54,13 +54,16 @@ public class BomEditNotificationMessageExtractor extends AbstractBlackDuckCompon
     }
 
     @Override
-    protected List<BomComponentDetails> createBomComponentDetails(BomEditWithProjectNameNotificationContent notificationContent, BlackDuckServicesFactory blackDuckServicesFactory) throws IntegrationException {
-        BlackDuckApiClient blackDuckApiClient = blackDuckServicesFactory.getBlackDuckApiClient();
-        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(blackDuckServicesFactory);
+    protected List<BomComponentDetails> createBomComponentDetails(
+        BomEditWithProjectNameNotificationContent notificationContent,
+        Long providerConfigId,
+        BlackDuckServicesFactory blackDuckServicesFactory
+    ) throws IntegrationException {
+        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(providerConfigId, blackDuckServicesFactory);
 
         BomComponentDetails bomComponentDetails;
         try {
-            ProjectVersionComponentVersionView bomComponent = blackDuckApiClient.getResponse(new HttpUrl(notificationContent.getBomComponent()), ProjectVersionComponentVersionView.class);
+            ProjectVersionComponentVersionView bomComponent = bomComponentDetailsCreator.retrieveBomComponent(notificationContent.getBomComponent());
             bomComponentDetails = bomComponentDetailsCreator.createBomComponentDetails(bomComponent, List.of(), ComponentUpgradeGuidance.none(), List.of());
         } catch (IntegrationRestException e) {
             bomComponent404Handler.logIf404OrThrow(e, notificationContent.getComponentName(), notificationContent.getComponentVersionName());
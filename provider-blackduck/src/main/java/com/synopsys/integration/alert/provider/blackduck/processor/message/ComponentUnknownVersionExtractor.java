@@ -18,6 +18,7 @@ import com.synopsys.integration.alert.api.processor.extract.model.project.BomCom
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentConcern;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentConcernSeverity;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreatorFactory;
@@ -26,10 +27,8 @@ import com.synopsys.integration.alert.provider.blackduck.processor.model.Compone
 import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionComponentVersionView;
 import com.synopsys.integration.blackduck.api.manual.enumeration.ComponentUnknownVersionStatus;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
-import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.exception.IntegrationException;
-import com.synopsys.integration.rest.HttpUrl;
 import com.synopsys.integration.rest.exception.IntegrationRestException;
 
 @Component
@@ -40,20 +39,24 @@ public class ComponentUnknownVersionExtractor extends AbstractBlackDuckComponent
     @Autowired
     public ComponentUnknownVersionExtractor(BlackDuckProviderKey blackDuckProviderKey,
         NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor,
         BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory, BomComponent404Handler bomComponent404Handler) {
-        super(NotificationType.COMPONENT_UNKNOWN_VERSION, ComponentUnknownVersionWithStatusNotificationContent.class, blackDuckProviderKey, servicesFactoryCache);
+        super(NotificationType.COMPONENT_UNKNOWN_VERSION, ComponentUnknownVersionWithStatusNotificationContent.class, blackDuckProviderKey, servicesFactoryCache, enrichmentExecutor);
         this.detailsCreatorFactory = detailsCreatorFactory;
         this.bomComponent404Handler = bomComponent404Handler;
     }
 
     @Override
-    protected List<BomComponentDetails> createBomComponentDetails(ComponentUnknownVersionWithStatusNotificationContent notificationContent, BlackDuckServicesFactory blackDuckServicesFactory) throws IntegrationException {
-        BlackDuckApiClient blackDuckApiClient = blackDuckServicesFactory.getBlackDuckApiClient();
-        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(blackDuckServicesFactory);
+    protected List<BomComponentDetails> createBomComponentDetails(
+        ComponentUnknownVersionWithStatusNotificationContent notificationContent,
+        Long providerConfigId,
+        BlackDuckServicesFactory blackDuckServicesFactory
+    ) throws IntegrationException {
+        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(providerConfigId, blackDuckServicesFactory);
         List<ComponentConcern> componentConcerns = createComponentConcerns(notificationContent);
         BomComponentDetails bomComponentDetails;
         try {
-            ProjectVersionComponentVersionView bomComponent = blackDuckApiClient.getResponse(new HttpUrl(notificationContent.getBomComponent()), ProjectVersionComponentVersionView.class);
+            ProjectVersionComponentVersionView bomComponent = bomComponentDetailsCreator.retrieveBomComponent(notificationContent.getBomComponent());
             bomComponentDetails = bomComponentDetailsCreator.createBomComponentUnknownVersionDetails(bomComponent, componentConcerns, ComponentUpgradeGuidance.none(), List.of());
         } catch (IntegrationRestException e) {
             bomComponent404Handler.logIf404OrThrow(e, notificationContent.getComponentName(), null);
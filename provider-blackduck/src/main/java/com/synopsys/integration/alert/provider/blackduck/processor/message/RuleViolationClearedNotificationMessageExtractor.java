@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.common.enumeration.ItemOperation;
 import com.synopsys.integration.alert.api.descriptor.BlackDuckProviderKey;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreatorFactory;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BomComponent404Handler;
@@ -25,11 +26,12 @@ public class RuleViolationClearedNotificationMessageExtractor extends AbstractRu
     public RuleViolationClearedNotificationMessageExtractor(
         BlackDuckProviderKey blackDuckProviderKey,
         NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor,
         BlackDuckPolicyComponentConcernCreator policyComponentConcernCreator,
         BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory,
         BomComponent404Handler bomComponent404Handler
     ) {
-        super(NotificationType.RULE_VIOLATION_CLEARED, RuleViolationClearedUniquePolicyNotificationContent.class, ItemOperation.DELETE, blackDuckProviderKey, servicesFactoryCache, policyComponentConcernCreator, detailsCreatorFactory,
+        super(NotificationType.RULE_VIOLATION_CLEARED, RuleViolationClearedUniquePolicyNotificationContent.class, ItemOperation.DELETE, blackDuckProviderKey, servicesFactoryCache, enrichmentExecutor, policyComponentConcernCreator, detailsCreatorFactory,
             bomComponent404Handler);
     }
 
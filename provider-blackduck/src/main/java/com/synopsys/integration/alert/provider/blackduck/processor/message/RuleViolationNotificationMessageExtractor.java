@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.common.enumeration.ItemOperation;
 import com.synopsys.integration.alert.api.descriptor.BlackDuckProviderKey;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreatorFactory;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BomComponent404Handler;
@@ -25,11 +26,12 @@ public class RuleViolationNotificationMessageExtractor extends AbstractRuleViola
     public RuleViolationNotificationMessageExtractor(
         BlackDuckProviderKey blackDuckProviderKey,
         NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor,
         BlackDuckPolicyComponentConcernCreator policyComponentConcernCreator,
         BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory,
         BomComponent404Handler bomComponent404Handler
     ) {
-        super(NotificationType.RULE_VIOLATION, RuleViolationUniquePolicyNotificationContent.class, ItemOperation.ADD, blackDuckProviderKey, servicesFactoryCache, policyComponentConcernCreator, detailsCreatorFactory, bomComponent404Handler);
+        super(NotificationType.RULE_VIOLATION, RuleViolationUniquePolicyNotificationContent.class, ItemOperation.ADD, blackDuckProviderKey, servicesFactoryCache, enrichmentExecutor, policyComponentConcernCreator, detailsCreatorFactory, bomComponent404Handler);
     }
 
 }
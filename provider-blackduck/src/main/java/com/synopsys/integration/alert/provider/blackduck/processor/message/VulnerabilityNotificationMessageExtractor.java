@@ -22,6 +22,7 @@ import com.synopsys.integration.alert.api.processor.extract.model.project.BomCom
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentConcern;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentConcernSeverity;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckEnrichmentExecutor;
 import com.synopsys.integration.alert.provider.blackduck.processor.NotificationExtractorBlackDuckServicesFactoryCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.BlackDuckMessageBomComponentDetailsCreatorFactory;
@@ -33,10 +34,8 @@ import com.synopsys.integration.blackduck.api.generated.view.ProjectVersionCompo
 import com.synopsys.integration.blackduck.api.manual.component.AffectedProjectVersion;
 import com.synopsys.integration.blackduck.api.manual.component.VulnerabilitySourceQualifiedId;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
-import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.exception.IntegrationException;
-import com.synopsys.integration.rest.HttpUrl;
 import com.synopsys.integration.rest.exception.IntegrationRestException;
 
 @Component
@@ -54,10 +53,11 @@ public class VulnerabilityNotificationMessageExtractor extends AbstractBlackDuck
     public VulnerabilityNotificationMessageExtractor(
         BlackDuckProviderKey blackDuckProviderKey,
         NotificationExtractorBlackDuckServicesFactoryCache servicesFactoryCache,
+        BlackDuckEnrichmentExecutor enrichmentExecutor,
         BlackDuckMessageBomComponentDetailsCreatorFactory detailsCreatorFactory,
         BomComponent404Handler bomComponent404Handler
     ) {
-        super(NotificationType.VULNERABILITY, VulnerabilityUniqueProjectNotificationContent.class, blackDuckProviderKey, servicesFactoryCache);
+        super(NotificationType.VULNERABILITY, VulnerabilityUniqueProjectNotificationContent.class, blackDuckProviderKey, servicesFactoryCache, enrichmentExecutor);
         this.detailsCreatorFactory = detailsCreatorFactory;
         this.bomComponent404Handler = bomComponent404Handler;
     }
@@ -65,11 +65,11 @@ public class VulnerabilityNotificationMessageExtractor extends AbstractBlackDuck
     @Override
     protected List<BomComponentDetails> createBomComponentDetails(
         VulnerabilityUniqueProjectNotificationContent notificationContent,
+        Long providerConfigId,
         BlackDuckServicesFactory blackDuckServicesFactory
     ) throws IntegrationException {
-        BlackDuckApiClient blackDuckApiClient = blackDuckServicesFactory.getBlackDuckApiClient();
-        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(blackDuckServicesFactory);
-        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = new BlackDuckMessageComponentVersionUpgradeGuidanceService(blackDuckApiClient);
+        BlackDuckMessageBomComponentDetailsCreator bomComponentDetailsCreator = detailsCreatorFactory.createBomComponentDetailsCreator(providerConfigId, blackDuckServicesFactory);
+        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = detailsCreatorFactory.createUpgradeGuidanceService(providerConfigId, blackDuckServicesFactory);
 
         AffectedProjectVersion affectedProjectVersion = notificationContent.getAffectedProjectVersion();
         String bomComponentUrl = affectedProjectVersion.getBomComponent();
@@ -77,7 +77,7 @@ public class VulnerabilityNotificationMessageExtractor extends AbstractBlackDuck
 
         BomComponentDetails bomComponentDetails;
         try {
-            ProjectVersionComponentVersionView bomComponent = blackDuckApiClient.getResponse(new HttpUrl(bomComponentUrl), ProjectVersionComponentVersionView.class);
+            ProjectVersionComponentVersionView bomComponent = bomComponentDetailsCreator.retrieveBomComponent(bomComponentUrl);
             ComponentUpgradeGuidance componentUpgradeGuidance = upgradeGuidanceService.requestUpgradeGuidanceItems(bomComponent);
             bomComponentDetails = bomComponentDetailsCreator.createBomComponentDetails(bomComponent, componentConcerns, componentUpgradeGuidance, List.of());
         } catch (IntegrationRestException e) {
@@ -26,6 +26,7 @@ import com.synopsys.integration.alert.api.processor.extract.model.project.Compon
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentPolicy;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentVulnerabilities;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.BlackDuckMessageLabels;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.policy.BlackDuckComponentPolicyDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.util.BlackDuckMessageAttributesUtils;
@@ -50,18 +51,28 @@ public class BlackDuckMessageBomComponentDetailsCreator {
     private static final String VULNERABILITIES_MEDIA_TYPE = "application/vnd.blackducksoftware.internal-1+json";
     public static final String COMPONENT_VERSION_UNKNOWN = "Unknown Version";
 
+    private final Long providerConfigId;
     private final BlackDuckApiClient blackDuckApiClient;
     private final BlackDuckComponentVulnerabilityDetailsCreator vulnerabilityDetailsCreator;
     private final BlackDuckComponentPolicyDetailsCreator policyDetailsCreator;
+    private final BlackDuckResponseCache blackDuckResponseCache;
 
     public BlackDuckMessageBomComponentDetailsCreator(
+        Long providerConfigId,
         BlackDuckApiClient blackDuckApiClient,
         BlackDuckComponentVulnerabilityDetailsCreator vulnerabilityDetailsCreator,
-        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator
+        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator,
+        BlackDuckResponseCache blackDuckResponseCache
     ) {
+        this.providerConfigId = providerConfigId;
         this.blackDuckApiClient = blackDuckApiClient;
         this.vulnerabilityDetailsCreator = vulnerabilityDetailsCreator;
         this.policyDetailsCreator = policyDetailsCreator;
+        this.blackDuckResponseCache = blackDuckResponseCache;
+    }
+
+    public ProjectVersionComponentVersionView retrieveBomComponent(String bomComponentUrl) throws IntegrationException {
+        return blackDuckResponseCache.getResponse(providerConfigId, blackDuckApiClient, new HttpUrl(bomComponentUrl), ProjectVersionComponentVersionView.class);
     }
 
     public BomComponentDetails createBomComponentDetails(ProjectVersionComponentVersionView bomComponent, ComponentConcern componentConcern, ComponentUpgradeGuidance componentUpgradeGuidance, List<LinkableItem> additionalAttributes)
@@ -256,7 +267,7 @@ public class BlackDuckMessageBomComponentDetailsCreator {
                 .addHeader(HttpHeaders.ACCEPT, VULNERABILITIES_MEDIA_TYPE)
                 .buildBlackDuckRequest(urlMultipleResponses);
 
-            allVulnerabilitiesViews.addAll(blackDuckApiClient.getAllResponses(spec));
+            allVulnerabilitiesViews.addAll(blackDuckResponseCache.retrieve(providerConfigId, vulnerabilitiesUrl, VULNERABILITIES_LINK.getResponseClass(), () -> blackDuckApiClient.getAllResponses(spec)));
         }
         return vulnerabilityDetailsCreator.toComponentVulnerabilities(allVulnerabilitiesViews);
     }
@@ -274,7 +285,7 @@ public class BlackDuckMessageBomComponentDetailsCreator {
             return List.of();
         }
 
-        return blackDuckApiClient.getAllResponses(bomComponent.metaPolicyRulesLink())
+        return blackDuckResponseCache.getAllResponses(providerConfigId, blackDuckApiClient, bomComponent.metaPolicyRulesLink())
             .stream()
             .filter(policyRulesView -> hasConcernForPolicy(policyRulesView, policyConcerns))
             .map(policyDetailsCreator::toComponentPolicy)
@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.provider.blackduck.processor.message.serv
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.policy.BlackDuckComponentPolicyDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.policy.BlackDuckComponentPolicyDetailsCreatorFactory;
 import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
@@ -19,19 +20,26 @@ import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 public class BlackDuckMessageBomComponentDetailsCreatorFactory {
     private final BlackDuckComponentVulnerabilityDetailsCreator vulnerabilityDetailsCreator;
     private final BlackDuckComponentPolicyDetailsCreatorFactory blackDuckComponentPolicyDetailsCreatorFactory;
+    private final BlackDuckResponseCache blackDuckResponseCache;
 
     @Autowired
     public BlackDuckMessageBomComponentDetailsCreatorFactory(
         BlackDuckComponentVulnerabilityDetailsCreator vulnerabilityDetailsCreator,
-        BlackDuckComponentPolicyDetailsCreatorFactory blackDuckComponentPolicyDetailsCreatorFactory
+        BlackDuckComponentPolicyDetailsCreatorFactory blackDuckComponentPolicyDetailsCreatorFactory,
+        BlackDuckResponseCache blackDuckResponseCache
     ) {
         this.vulnerabilityDetailsCreator = vulnerabilityDetailsCreator;
         this.blackDuckComponentPolicyDetailsCreatorFactory = blackDuckComponentPolicyDetailsCreatorFactory;
+        this.blackDuckResponseCache = blackDuckResponseCache;
     }
 
-    public BlackDuckMessageBomComponentDetailsCreator createBomComponentDetailsCreator(BlackDuckServicesFactory blackDuckServicesFactory) {
+    public BlackDuckMessageBomComponentDetailsCreator createBomComponentDetailsCreator(Long providerConfigId, BlackDuckServicesFactory blackDuckServicesFactory) {
         BlackDuckApiClient blackDuckApiClient = blackDuckServicesFactory.getBlackDuckApiClient();
-        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = blackDuckComponentPolicyDetailsCreatorFactory.createBlackDuckComponentPolicyDetailsCreator(blackDuckApiClient);
-        return new BlackDuckMessageBomComponentDetailsCreator(blackDuckApiClient, vulnerabilityDetailsCreator, policyDetailsCreator);
+        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = blackDuckComponentPolicyDetailsCreatorFactory.createBlackDuckComponentPolicyDetailsCreator(providerConfigId, blackDuckApiClient);
+        return new BlackDuckMessageBomComponentDetailsCreator(providerConfigId, blackDuckApiClient, vulnerabilityDetailsCreator, policyDetailsCreator, blackDuckResponseCache);
+    }
+
+    public BlackDuckMessageComponentVersionUpgradeGuidanceService createUpgradeGuidanceService(Long providerConfigId, BlackDuckServicesFactory blackDuckServicesFactory) {
+        return new BlackDuckMessageComponentVersionUpgradeGuidanceService(providerConfigId, blackDuckServicesFactory.getBlackDuckApiClient(), blackDuckResponseCache);
     }
 }
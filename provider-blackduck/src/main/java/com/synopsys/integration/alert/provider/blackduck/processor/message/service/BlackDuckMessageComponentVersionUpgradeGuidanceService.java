@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.BlackDuckMessageLabels;
 import com.synopsys.integration.blackduck.api.core.ResourceLink;
 import com.synopsys.integration.blackduck.api.core.ResourceMetadata;
@@ -32,10 +33,14 @@ import com.synopsys.integration.rest.HttpUrl;
 public class BlackDuckMessageComponentVersionUpgradeGuidanceService {
     private static final String LINK_UPGRADE_GUIDANCE = "upgrade-guidance";
     private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final Long providerConfigId;
     private final BlackDuckApiClient blackDuckApiClient;
+    private final BlackDuckResponseCache blackDuckResponseCache;
 
-    public BlackDuckMessageComponentVersionUpgradeGuidanceService(BlackDuckApiClient blackDuckApiClient) {
+    public BlackDuckMessageComponentVersionUpgradeGuidanceService(Long providerConfigId, BlackDuckApiClient blackDuckApiClient, BlackDuckResponseCache blackDuckResponseCache) {
+        this.providerConfigId = providerConfigId;
         this.blackDuckApiClient = blackDuckApiClient;
+        this.blackDuckResponseCache = blackDuckResponseCache;
     }
 
     public ComponentUpgradeGuidance requestUpgradeGuidanceItems(ProjectVersionComponentVersionView bomComponent) {
@@ -49,7 +54,7 @@ public class BlackDuckMessageComponentVersionUpgradeGuidanceService {
                 .map(url -> new UrlSingleResponse<>(url, ComponentVersionUpgradeGuidanceView.class))
                 .or(() -> extractComponentVersionUpgradeGuidanceUrl(bomComponent));
             if (upgradeGuidanceUrl.isPresent()) {
-                ComponentVersionUpgradeGuidanceView upgradeGuidanceView = blackDuckApiClient.getResponse(upgradeGuidanceUrl.get());
+                ComponentVersionUpgradeGuidanceView upgradeGuidanceView = blackDuckResponseCache.getResponse(providerConfigId, blackDuckApiClient, upgradeGuidanceUrl.get());
                 return createUpgradeGuidanceItems(upgradeGuidanceView);
             }
         } catch (IntegrationException e) {
@@ -62,7 +67,7 @@ public class BlackDuckMessageComponentVersionUpgradeGuidanceService {
         try {
             Optional<UrlSingleResponse<ComponentVersionUpgradeGuidanceView>> upgradeGuidanceUrl = componentVersionView.metaUpgradeGuidanceLinkSafely();
             if (upgradeGuidanceUrl.isPresent()) {
-                ComponentVersionUpgradeGuidanceView upgradeGuidanceView = blackDuckApiClient.getResponse(upgradeGuidanceUrl.get());
+                ComponentVersionUpgradeGuidanceView upgradeGuidanceView = blackDuckResponseCache.getResponse(providerConfigId, blackDuckApiClient, upgradeGuidanceUrl.get());
                 return createUpgradeGuidanceItems(upgradeGuidanceView);
             }
         } catch (IntegrationException e) {
@@ -74,7 +79,7 @@ public class BlackDuckMessageComponentVersionUpgradeGuidanceService {
     public ComponentUpgradeGuidance requestUpgradeGuidanceItems(String componentVersionUrl) {
         ComponentVersionView componentVersionView;
         try {
-            componentVersionView = blackDuckApiClient.getResponse(new HttpUrl(componentVersionUrl), ComponentVersionView.class);
+            componentVersionView = blackDuckResponseCache.getResponse(providerConfigId, blackDuckApiClient, new HttpUrl(componentVersionUrl), ComponentVersionView.class);
         } catch (IntegrationException e) {
             logger.debug("Could not retrieve component version attributes");
             return ComponentUpgradeGuidance.none();
@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentConcernSeverity;
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentPolicy;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.blackduck.api.generated.component.PolicyRuleExpressionExpressionsView;
 import com.synopsys.integration.blackduck.api.generated.component.PolicyRuleExpressionView;
 import com.synopsys.integration.blackduck.api.generated.enumeration.PolicyRuleCategoryType;
@@ -31,11 +32,20 @@ public class BlackDuckComponentPolicyDetailsCreator {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final BlackDuckPolicySeverityConverter policySeverityConverter;
+    private final Long providerConfigId;
     private final BlackDuckApiClient blackDuckApiClient;
+    private final BlackDuckResponseCache blackDuckResponseCache;
 
-    public BlackDuckComponentPolicyDetailsCreator(BlackDuckPolicySeverityConverter policySeverityConverter, BlackDuckApiClient blackDuckApiClient) {
+    public BlackDuckComponentPolicyDetailsCreator(
+        BlackDuckPolicySeverityConverter policySeverityConverter,
+        Long providerConfigId,
+        BlackDuckApiClient blackDuckApiClient,
+        BlackDuckResponseCache blackDuckResponseCache
+    ) {
         this.policySeverityConverter = policySeverityConverter;
+        this.providerConfigId = providerConfigId;
         this.blackDuckApiClient = blackDuckApiClient;
+        this.blackDuckResponseCache = blackDuckResponseCache;
     }
 
     public ComponentPolicy toComponentPolicy(ComponentPolicyRulesView componentPolicyRulesView) {
@@ -52,7 +62,7 @@ public class BlackDuckComponentPolicyDetailsCreator {
 
     private Optional<PolicyRuleView> retrievePolicyRuleView(HttpUrl policyUrl) {
         try {
-            PolicyRuleView policyRuleView = blackDuckApiClient.getResponse(policyUrl, PolicyRuleView.class);
+            PolicyRuleView policyRuleView = blackDuckResponseCache.getResponse(providerConfigId, blackDuckApiClient, policyUrl, PolicyRuleView.class);
             return Optional.of(policyRuleView);
         } catch (IntegrationException e) {
             logger.debug("Could not retrieve policy rule from component policy.");
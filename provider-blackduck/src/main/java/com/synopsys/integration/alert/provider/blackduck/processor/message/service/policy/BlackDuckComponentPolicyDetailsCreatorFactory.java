@@ -10,18 +10,21 @@ package com.synopsys.integration.alert.provider.blackduck.processor.message.serv
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.blackduck.service.BlackDuckApiClient;
 
 @Component
 public class BlackDuckComponentPolicyDetailsCreatorFactory {
     private final BlackDuckPolicySeverityConverter policySeverityConverter;
+    private final BlackDuckResponseCache blackDuckResponseCache;
 
     @Autowired
-    public BlackDuckComponentPolicyDetailsCreatorFactory(BlackDuckPolicySeverityConverter policySeverityConverter) {
+    public BlackDuckComponentPolicyDetailsCreatorFactory(BlackDuckPolicySeverityConverter policySeverityConverter, BlackDuckResponseCache blackDuckResponseCache) {
         this.policySeverityConverter = policySeverityConverter;
+        this.blackDuckResponseCache = blackDuckResponseCache;
     }
 
-    public BlackDuckComponentPolicyDetailsCreator createBlackDuckComponentPolicyDetailsCreator(BlackDuckApiClient blackDuckApiClient) {
-        return new BlackDuckComponentPolicyDetailsCreator(policySeverityConverter, blackDuckApiClient);
+    public BlackDuckComponentPolicyDetailsCreator createBlackDuckComponentPolicyDetailsCreator(Long providerConfigId, BlackDuckApiClient blackDuckApiClient) {
+        return new BlackDuckComponentPolicyDetailsCreator(policySeverityConverter, providerConfigId, blackDuckApiClient, blackDuckResponseCache);
     }
 }
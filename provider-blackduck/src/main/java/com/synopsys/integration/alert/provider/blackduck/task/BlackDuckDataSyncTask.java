@@ -112,9 +112,7 @@ public class BlackDuckDataSyncTask extends ProviderTask {
                                                                 .map(UserView::getEmail)
                                                                 .filter(StringUtils::isNotBlank)
                                                                 .collect(Collectors.toSet());
-                    if (StringUtils.isNotBlank(alertProject.getProjectOwnerEmail())) {
-                        projectUserEmailAddresses.add(alertProject.getProjectOwnerEmail());
-                    }
+                    // The project owner is stored separately, so the user emails match what is retrieved from Black Duck when none are stored
                     projectToEmailAddresses.put(alertProject, projectUserEmailAddresses);
                 } catch (IntegrationException e) {
                     // We do this to break out of the stream
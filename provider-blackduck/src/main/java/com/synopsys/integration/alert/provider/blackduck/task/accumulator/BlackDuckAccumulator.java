@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,6 +31,9 @@ import com.synopsys.integration.alert.api.provider.state.ProviderProperties;
 import com.synopsys.integration.alert.api.task.ScheduledTask;
 import com.synopsys.integration.alert.common.logging.AlertLoggerFactory;
 import com.synopsys.integration.alert.common.message.model.DateRange;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProviderTaskPropertiesAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
@@ -44,7 +48,11 @@ import com.synopsys.integration.blackduck.api.manual.view.NotificationUserView;
 import com.synopsys.integration.blackduck.api.manual.view.NotificationView;
 import com.synopsys.integration.exception.IntegrationException;
 
+import io.micrometer.core.instrument.Timer;
+
 public class BlackDuckAccumulator extends ProviderTask {
+    public static final int DEFAULT_MAX_PREFETCHED_PAGES = 2;
+
     private static final List<String> SUPPORTED_NOTIFICATION_TYPES = Stream.of(NotificationType.values())
         .filter(type -> type != NotificationType.VERSION_BOM_CODE_LOCATION_BOM_COMPUTED)
         .map(Enum::name)
@@ -59,6 +67,8 @@ public class BlackDuckAccumulator extends ProviderTask {
     private final EventManager eventManager;
     private final BlackDuckNotificationRetrieverFactory notificationRetrieverFactory;
     private final BlackDuckAccumulatorSearchDateManager searchDateManager;
+    private final PipelineMetrics pipelineMetrics;
+    private final int maxPrefetchedPages;
 
     private final ReentrantLock accumulatingLock = new ReentrantLock();
     private final AtomicBoolean accumulatorRunning = new AtomicBoolean(false);
@@ -71,7 +81,37 @@ public class BlackDuckAccumulator extends ProviderTask {
         ProviderProperties providerProperties,
         BlackDuckSystemValidator blackDuckSystemValidator,
         EventManager eventManager,
-        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory,
+        PipelineMetrics pipelineMetrics
+    ) {
+        this(
+            blackDuckProviderKey,
+            taskScheduler,
+            notificationAccessor,
+            providerTaskPropertiesAccessor,
+            providerProperties,
+            blackDuckSystemValidator,
+            eventManager,
+            notificationRetrieverFactory,
+            pipelineMetrics,
+            DEFAULT_MAX_PREFETCHED_PAGES
+        );
+    }
+
+    /**
+     * @param maxPrefetchedPages The number of pages retrieved from Black Duck ahead of the page being stored. Zero retrieves each page only after the previous one is stored.
+     */
+    public BlackDuckAccumulator(
+        BlackDuckProviderKey blackDuckProviderKey,
+        TaskScheduler taskScheduler,
+        NotificationAccessor notificationAccessor,
+        ProviderTaskPropertiesAccessor providerTaskPropertiesAccessor,
+        ProviderProperties providerProperties,
+        BlackDuckSystemValidator blackDuckSystemValidator,
+        EventManager eventManager,
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory,
+        PipelineMetrics pipelineMetrics,
+        int maxPrefetchedPages
     ) {
         super(blackDuckProviderKey, taskScheduler, providerProperties);
         this.blackDuckProviderKey = blackDuckProviderKey;
@@ -80,6 +120,8 @@ public class BlackDuckAccumulator extends ProviderTask {
         this.eventManager = eventManager;
         this.notificationRetrieverFactory = notificationRetrieverFactory;
         this.searchDateManager = new BlackDuckAccumulatorSearchDateManager(providerTaskPropertiesAccessor, providerProperties.getConfigId(), getTaskName());
+        this.pipelineMetrics = pipelineMetrics;
+        this.maxPrefetchedPages = maxPrefetchedPages;
     }
 
     @Override
@@ -127,34 +169,63 @@ public class BlackDuckAccumulator extends ProviderTask {
     }
 
     private void retrieveAndStoreNotificationsSafely(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange) {
+        PipelineMetricTags metricTags = PipelineMetricTags.forProvider(getProviderProperties().getConfigId());
+        Timer.Sample accumulationTimer = pipelineMetrics.startTimer();
         try {
-            retrieveAndStoreNotifications(notificationRetriever, dateRange);
+            retrieveAndStoreNotifications(notificationRetriever, dateRange, metricTags);
         } catch (IntegrationException e) {
             logger.error("Error reading notifications", e);
+            pipelineMetrics.countFailure(PipelineStage.ACCUMULATION, metricTags);
+        } finally {
+            pipelineMetrics.recordDuration(PipelineStage.ACCUMULATION, metricTags, accumulationTimer);
         }
     }
 
-    private void retrieveAndStoreNotifications(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange) throws IntegrationException {
+    private void retrieveAndStoreNotifications(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange, PipelineMetricTags metricTags) throws IntegrationException {
         StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = notificationRetriever.retrievePageOfFilteredNotifications(
             dateRange,
             SUPPORTED_NOTIFICATION_TYPES
         );
-        int storedNotifications = 0;
+        AtomicInteger storedNotifications = new AtomicInteger(0);
         try {
-            while (!notificationPage.isCurrentPageEmpty()) {
-                List<NotificationUserView> currentNotifications = notificationPage.getCurrentModels();
-                logger.debug("Retrieved a page of {} notifications", currentNotifications.size());
-
-                storedNotifications += storeNotifications(currentNotifications);
-                notificationPage = notificationPage.retrieveNextPage();
+            if (maxPrefetchedPages > 0) {
+                storePrefetchedPages(notificationPage, storedNotifications);
+            } else {
+                storePages(notificationPage, storedNotifications);
             }
         } finally {
-            if (storedNotifications > 0) {
+            pipelineMetrics.countNotifications(PipelineStage.ACCUMULATION, metricTags, storedNotifications.get());
+            if (storedNotifications.get() > 0) {
                 eventManager.sendEvent(new NotificationReceivedEvent(getProviderProperties().getConfigId()));
             }
         }
     }
 
+    private void storePages(StatefulAlertPage<NotificationUserView, IntegrationException> firstPage, AtomicInteger storedNotifications) throws IntegrationException {
+        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = firstPage;
+        while (!notificationPage.isCurrentPageEmpty()) {
+            List<NotificationUserView> currentNotifications = notificationPage.getCurrentModels();
+            logger.debug("Retrieved a page of {} notifications", currentNotifications.size());
+
+            storedNotifications.addAndGet(storeNotifications(currentNotifications));
+            notificationPage = notificationPage.retrieveNextPage();
+        }
+    }
+
+    // The next pages are retrieved while the current page is stored. The search date only advances past a page once that page has been saved.
+    private void storePrefetchedPages(StatefulAlertPage<NotificationUserView, IntegrationException> firstPage, AtomicInteger storedNotifications) throws IntegrationException {
+        String prefetchThreadName = String.format("blackduck-accumulator-%d", getProviderProperties().getConfigId());
+        try (BlackDuckNotificationPagePrefetcher pagePrefetcher = new BlackDuckNotificationPagePrefetcher(firstPage, maxPrefetchedPages, prefetchThreadName)) {
+            Optional<List<NotificationUserView>> currentNotifications = pagePrefetcher.nextPage();
+            while (currentNotifications.isPresent()) {
+                logger.debug("Retrieved a page of {} notifications", currentNotifications.get().size());
+
+                storedNotifications.addAndGet(storeNotifications(currentNotifications.get()));
+                currentNotifications = pagePrefetcher.nextPage();
+            }
+        }
+    }
+
     private int storeNotifications(List<NotificationUserView> notifications) {
         List<AlertNotificationModel> alertNotifications = convertToAlertNotificationModels(notifications);
         int notificationsWritten = write(alertNotifications);
@@ -33,6 +33,9 @@ public class BlackDuckAccumulatorSearchDateManager {
         this.taskName = taskName;
     }
 
+    /**
+     * Only call this once every notification created before the next search start has been stored, otherwise those notifications are skipped by the next search.
+     */
     public void saveNextSearchStart(OffsetDateTime nextSearchStartTime) {
         String nextSearchStartTimeString = DateUtils.formatDateAsJsonString(nextSearchStartTime);
         logger.info("Accumulator Next Range Start Time: {} ", nextSearchStartTimeString);
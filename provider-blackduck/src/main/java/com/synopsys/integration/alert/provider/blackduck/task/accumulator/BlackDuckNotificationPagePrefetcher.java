@@ -0,0 +1,102 @@
+/*
+ * provider-blackduck
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.provider.blackduck.task.accumulator;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.alert.api.processor.filter.StatefulAlertPage;
+import com.synopsys.integration.blackduck.api.manual.view.NotificationUserView;
+import com.synopsys.integration.exception.IntegrationException;
+
+/**
+ * Retrieves the remaining pages of notifications on a background thread while the caller stores the pages already retrieved.
+ * At most the configured number of pages are held in memory; once that many are waiting, retrieval pauses until the caller takes one.
+ */
+public class BlackDuckNotificationPagePrefetcher implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final BlockingQueue<PrefetchedPage> prefetchedPages;
+    private final Thread prefetchThread;
+    private volatile boolean closed = false;
+
+    public BlackDuckNotificationPagePrefetcher(StatefulAlertPage<NotificationUserView, IntegrationException> firstPage, int maxPrefetchedPages, String threadName) {
+        this.prefetchedPages = new ArrayBlockingQueue<>(Math.max(1, maxPrefetchedPages));
+        this.prefetchThread = new Thread(() -> prefetchPages(firstPage), threadName);
+        this.prefetchThread.setDaemon(true);
+        this.prefetchThread.start();
+    }
+
+    /**
+     * @return The notifications of the next page in order, or empty once there are no more pages.
+     * @throws IntegrationException If a page could not be retrieved from Black Duck. The pages before it have already been returned.
+     */
+    public Optional<List<NotificationUserView>> nextPage() throws IntegrationException {
+        PrefetchedPage prefetchedPage;
+        try {
+            prefetchedPage = prefetchedPages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while waiting for a page of notifications", e);
+        }
+
+        if (null != prefetchedPage.failure) {
+            throw prefetchedPage.failure;
+        }
+        return Optional.ofNullable(prefetchedPage.notifications);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        prefetchThread.interrupt();
+    }
+
+    private void prefetchPages(StatefulAlertPage<NotificationUserView, IntegrationException> firstPage) {
+        StatefulAlertPage<NotificationUserView, IntegrationException> currentPage = firstPage;
+        try {
+            while (!closed && !currentPage.isCurrentPageEmpty()) {
+                prefetchedPages.put(new PrefetchedPage(currentPage.getCurrentModels(), null));
+                currentPage = currentPage.retrieveNextPage();
+            }
+            prefetchedPages.put(new PrefetchedPage(null, null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Stopped retrieving notification pages");
+        } catch (IntegrationException e) {
+            offerFailure(e);
+        } catch (RuntimeException e) {
+            offerFailure(new IntegrationException("Failed to retrieve a page of notifications", e));
+        }
+    }
+
+    private void offerFailure(IntegrationException failure) {
+        try {
+            prefetchedPages.put(new PrefetchedPage(null, failure));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Stopped retrieving notification pages", failure);
+        }
+    }
+
+    private static class PrefetchedPage {
+        private final List<NotificationUserView> notifications;
+        private final IntegrationException failure;
+
+        public PrefetchedPage(List<NotificationUserView> notifications, IntegrationException failure) {
+            this.notifications = notifications;
+            this.failure = failure;
+        }
+    }
+
+}
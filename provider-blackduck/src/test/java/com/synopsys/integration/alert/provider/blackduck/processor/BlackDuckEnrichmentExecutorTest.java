@@ -0,0 +1,95 @@
+package com.synopsys.integration.alert.provider.blackduck.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.exception.IntegrationException;
+
+class BlackDuckEnrichmentExecutorTest {
+    private static final String PROVIDER_KEY = "https://blackduck";
+
+    @Test
+    void resultsInItemOrderTest() throws IntegrationException {
+        List<Integer> items = List.of(1, 2, 3, 4, 5, 6, 7, 8);
+        BlackDuckEnrichmentExecutor enrichmentExecutor = BlackDuckEnrichmentExecutor.withDefaults();
+        try {
+            List<String> results = enrichmentExecutor.enrichInOrder(PROVIDER_KEY, items, item -> {
+                sleep(ThreadLocalRandom.current().nextLong(1L, 20L));
+                return String.format("component-%d", item);
+            });
+            assertEquals(List.of("component-1", "component-2", "component-3", "component-4", "component-5", "component-6", "component-7", "component-8"), results);
+        } finally {
+            enrichmentExecutor.destroy();
+        }
+    }
+
+    @Test
+    void concurrencyLimitTest() throws IntegrationException {
+        AtomicInteger runningEnrichers = new AtomicInteger(0);
+        AtomicInteger maxRunningEnrichers = new AtomicInteger(0);
+        BlackDuckEnrichmentExecutor enrichmentExecutor = new BlackDuckEnrichmentExecutor(2);
+        try {
+            enrichmentExecutor.enrichInOrder(PROVIDER_KEY, List.of(1, 2, 3, 4, 5, 6), item -> {
+                maxRunningEnrichers.accumulateAndGet(runningEnrichers.incrementAndGet(), Math::max);
+                sleep(10L);
+                runningEnrichers.decrementAndGet();
+                return item;
+            });
+            assertTrue(maxRunningEnrichers.get() <= 2);
+        } finally {
+            enrichmentExecutor.destroy();
+        }
+    }
+
+    @Test
+    void threadCountLimitedTest() throws IntegrationException {
+        Set<String> enrichmentThreads = ConcurrentHashMap.newKeySet();
+        BlackDuckEnrichmentExecutor enrichmentExecutor = new BlackDuckEnrichmentExecutor(2);
+        try {
+            for (int caller = 0; caller < 3; caller++) {
+                enrichmentExecutor.enrichInOrder(String.format("%s/%d", PROVIDER_KEY, caller), List.of(1, 2, 3, 4, 5, 6), item -> {
+                    enrichmentThreads.add(Thread.currentThread().getName());
+                    sleep(1L);
+                    return item;
+                });
+            }
+            assertTrue(enrichmentThreads.size() <= 2);
+        } finally {
+            enrichmentExecutor.destroy();
+        }
+    }
+
+    @Test
+    void firstFailureThrownTest() {
+        BlackDuckEnrichmentExecutor enrichmentExecutor = BlackDuckEnrichmentExecutor.withDefaults();
+        try {
+            IntegrationException exception = assertThrows(IntegrationException.class, () -> enrichmentExecutor.enrichInOrder(PROVIDER_KEY, List.of(1, 2, 3), item -> {
+                if (item > 1) {
+                    throw new IntegrationException(String.format("Failed %d", item));
+                }
+                return item;
+            }));
+            assertEquals("Failed 2", exception.getMessage());
+        } finally {
+            enrichmentExecutor.destroy();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
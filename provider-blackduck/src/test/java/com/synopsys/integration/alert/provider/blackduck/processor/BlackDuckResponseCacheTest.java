@@ -0,0 +1,137 @@
+package com.synopsys.integration.alert.provider.blackduck.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.HttpUrl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BlackDuckResponseCacheTest {
+    private static final Long PROVIDER_CONFIG_ID = 1L;
+
+    @Test
+    void cachedResponseTest() throws IntegrationException {
+        HttpUrl url = new HttpUrl("https://blackduck/api/components/1");
+        AtomicInteger requestCount = new AtomicInteger(0);
+        BlackDuckResponseCache.ResponseRequest<String> request = () -> String.valueOf(requestCount.incrementAndGet());
+
+        BlackDuckResponseCache responseCache = BlackDuckResponseCache.withDefaults();
+        assertEquals("1", responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, request));
+        assertEquals("1", responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, request));
+        assertEquals("2", responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, request));
+        assertEquals(2, requestCount.get());
+        assertEquals(1, responseCache.getHitCount());
+        assertEquals(2, responseCache.getMissCount());
+
+        responseCache.clear();
+        assertEquals("3", responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, request));
+    }
+
+    @Test
+    void responsesCachedPerProviderConfigTest() throws IntegrationException {
+        HttpUrl url = new HttpUrl("https://blackduck/api/components/1");
+        AtomicInteger requestCount = new AtomicInteger(0);
+        BlackDuckResponseCache.ResponseRequest<Integer> request = requestCount::incrementAndGet;
+
+        BlackDuckResponseCache responseCache = BlackDuckResponseCache.withDefaults();
+        assertEquals(1, responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, request));
+        assertEquals(2, responseCache.retrieve(2L, url, Integer.class, request));
+        assertEquals(1, responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, request));
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void expiredResponseTest() throws IntegrationException, InterruptedException {
+        HttpUrl url = new HttpUrl("https://blackduck/api/components/1");
+        AtomicInteger requestCount = new AtomicInteger(0);
+        BlackDuckResponseCache.ResponseRequest<Integer> request = requestCount::incrementAndGet;
+
+        BlackDuckResponseCache responseCache = new BlackDuckResponseCache(0L, BlackDuckResponseCache.DEFAULT_MAX_ENTRIES);
+        responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, request);
+        Thread.sleep(5L);
+        responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, request);
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void failedResponseNotCachedTest() throws IntegrationException {
+        HttpUrl url = new HttpUrl("https://blackduck/api/components/1");
+        BlackDuckResponseCache responseCache = BlackDuckResponseCache.withDefaults();
+        assertThrows(IntegrationException.class, () -> responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, () -> {
+            throw new IntegrationException("Black Duck is unavailable");
+        }));
+        assertEquals("response", responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, () -> "response"));
+        assertEquals(0, responseCache.getHitCount());
+    }
+
+    @Test
+    void metricsTest() throws IntegrationException {
+        HttpUrl url = new HttpUrl("https://blackduck/api/components/1");
+        BlackDuckResponseCache responseCache = BlackDuckResponseCache.withDefaults();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        responseCache.bindTo(meterRegistry);
+
+        responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, () -> "response");
+        responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, () -> "response");
+        responseCache.retrieve(PROVIDER_CONFIG_ID, url, String.class, () -> "response");
+
+        assertEquals(2.0, meterRegistry.get(BlackDuckResponseCache.REQUESTS_METRIC).tag(BlackDuckResponseCache.TAG_RESULT, "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get(BlackDuckResponseCache.REQUESTS_METRIC).tag(BlackDuckResponseCache.TAG_RESULT, "miss").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get(BlackDuckResponseCache.SIZE_METRIC).gauge().value());
+    }
+
+    @Test
+    void concurrentRequestsCoalescedTest() throws Exception {
+        HttpUrl url = new HttpUrl("https://blackduck/api/components/1");
+        AtomicInteger requestCount = new AtomicInteger(0);
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseRequest = new CountDownLatch(1);
+        BlackDuckResponseCache.ResponseRequest<Integer> slowRequest = () -> {
+            requestStarted.countDown();
+            try {
+                releaseRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return requestCount.incrementAndGet();
+        };
+
+        BlackDuckResponseCache responseCache = BlackDuckResponseCache.withDefaults();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> firstResponse = executorService.submit(() -> responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, slowRequest));
+            requestStarted.await(5, TimeUnit.SECONDS);
+            Future<Integer> secondResponse = executorService.submit(() -> responseCache.retrieve(PROVIDER_CONFIG_ID, url, Integer.class, slowRequest));
+            releaseRequest.countDown();
+
+            assertEquals(1, firstResponse.get(5, TimeUnit.SECONDS));
+            assertEquals(1, secondResponse.get(5, TimeUnit.SECONDS));
+            assertEquals(1, requestCount.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void maxEntriesTest() throws IntegrationException {
+        AtomicInteger requestCount = new AtomicInteger(0);
+        BlackDuckResponseCache.ResponseRequest<Integer> request = requestCount::incrementAndGet;
+
+        BlackDuckResponseCache responseCache = new BlackDuckResponseCache(BlackDuckResponseCache.DEFAULT_TIME_TO_LIVE_SECONDS, 1);
+        responseCache.retrieve(PROVIDER_CONFIG_ID, new HttpUrl("https://blackduck/api/components/1"), Integer.class, request);
+        responseCache.retrieve(PROVIDER_CONFIG_ID, new HttpUrl("https://blackduck/api/components/2"), Integer.class, request);
+        assertEquals(1, responseCache.getSize());
+    }
+
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentPolicy;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.policy.BlackDuckComponentPolicyDetailsCreator;
 import com.synopsys.integration.alert.provider.blackduck.processor.message.service.policy.BlackDuckPolicySeverityConverter;
 import com.synopsys.integration.blackduck.api.core.ResourceMetadata;
@@ -34,7 +35,7 @@ public class BlackDuckComponentPolicyDetailsCreatorTest {
         PolicyRuleSeverityType severity = PolicyRuleSeverityType.MAJOR;
         BlackDuckApiClient blackDuckApiClient = Mockito.mock(BlackDuckApiClient.class);
 
-        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = new BlackDuckComponentPolicyDetailsCreator(POLICY_SEVERITY_CONVERTER, blackDuckApiClient);
+        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = new BlackDuckComponentPolicyDetailsCreator(POLICY_SEVERITY_CONVERTER, 1L, blackDuckApiClient, BlackDuckResponseCache.withDefaults());
 
         ComponentPolicyRulesView componentPolicyRulesView = new ComponentPolicyRulesView();
         componentPolicyRulesView.setName(policyName);
@@ -68,7 +69,7 @@ public class BlackDuckComponentPolicyDetailsCreatorTest {
         PolicyRuleExpressionView policyRuleExpression = new PolicyRuleExpressionView();
         policyRuleExpression.setExpressions(List.of(expression));
 
-        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = new BlackDuckComponentPolicyDetailsCreator(POLICY_SEVERITY_CONVERTER, blackDuckApiClient);
+        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = new BlackDuckComponentPolicyDetailsCreator(POLICY_SEVERITY_CONVERTER, 1L, blackDuckApiClient, BlackDuckResponseCache.withDefaults());
 
         ComponentPolicyRulesView componentPolicyRulesView = new ComponentPolicyRulesView();
         componentPolicyRulesView.setName("vuln-test-policy");
@@ -97,7 +98,7 @@ public class BlackDuckComponentPolicyDetailsCreatorTest {
         PolicyRuleExpressionView policyRuleExpression = new PolicyRuleExpressionView();
         policyRuleExpression.setExpressions(List.of(expression));
 
-        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = new BlackDuckComponentPolicyDetailsCreator(POLICY_SEVERITY_CONVERTER, blackDuckApiClient);
+        BlackDuckComponentPolicyDetailsCreator policyDetailsCreator = new BlackDuckComponentPolicyDetailsCreator(POLICY_SEVERITY_CONVERTER, 1L, blackDuckApiClient, BlackDuckResponseCache.withDefaults());
 
         ComponentPolicyRulesView componentPolicyRulesView = new ComponentPolicyRulesView();
         componentPolicyRulesView.setName("override-test-policy");
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.alert.api.processor.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.provider.blackduck.processor.BlackDuckResponseCache;
 import com.synopsys.integration.blackduck.api.core.response.LinkSingleResponse;
 import com.synopsys.integration.blackduck.api.core.response.UrlSingleResponse;
 import com.synopsys.integration.blackduck.api.generated.component.ComponentVersionUpgradeGuidanceLongTermView;
@@ -34,7 +35,7 @@ class BlackDuckMessageComponentVersionUpgradeGuidanceServiceTest {
         LinkSingleResponse<ComponentVersionUpgradeGuidanceView> upgradeGuidanceLink = new LinkSingleResponse<>("upgrade-guidance", ComponentVersionUpgradeGuidanceView.class);
         ProjectVersionComponentVersionView bomComponent = createBomComponent(upgradeGuidanceLink, expectedUrl);
 
-        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = new BlackDuckMessageComponentVersionUpgradeGuidanceService(blackDuckApiClient);
+        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = new BlackDuckMessageComponentVersionUpgradeGuidanceService(1L, blackDuckApiClient, BlackDuckResponseCache.withDefaults());
         ComponentUpgradeGuidance componentUpgradeGuidance = upgradeGuidanceService.requestUpgradeGuidanceItems(bomComponent);
         assertTrue(componentUpgradeGuidance.getLongTermUpgradeGuidance().isPresent());
         assertTrue(componentUpgradeGuidance.getShortTermUpgradeGuidance().isPresent());
@@ -49,7 +50,7 @@ class BlackDuckMessageComponentVersionUpgradeGuidanceServiceTest {
 
         ComponentVersionView componentVersion = createComponentVersion(expectedUrl);
 
-        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = new BlackDuckMessageComponentVersionUpgradeGuidanceService(blackDuckApiClient);
+        BlackDuckMessageComponentVersionUpgradeGuidanceService upgradeGuidanceService = new BlackDuckMessageComponentVersionUpgradeGuidanceService(1L, blackDuckApiClient, BlackDuckResponseCache.withDefaults());
         ComponentUpgradeGuidance componentUpgradeGuidance = upgradeGuidanceService.requestUpgradeGuidanceItems(componentVersion);
         assertTrue(componentUpgradeGuidance.getLongTermUpgradeGuidance().isPresent());
         assertFalse(componentUpgradeGuidance.getShortTermUpgradeGuidance().isPresent());
@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.jsoup.Jsoup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,10 +52,17 @@ public class EmailMessagingService {
     private final Logger logger = LoggerFactory.getLogger(EmailMessagingService.class);
 
     private final FreemarkerTemplatingService freemarkerTemplatingService;
+    @Nullable
+    private final SmtpTransportPool smtpTransportPool;
 
-    @Autowired
     public EmailMessagingService(FreemarkerTemplatingService freemarkerTemplatingService) {
+        this(freemarkerTemplatingService, null);
+    }
+
+    @Autowired
+    public EmailMessagingService(FreemarkerTemplatingService freemarkerTemplatingService, @Nullable SmtpTransportPool smtpTransportPool) {
         this.freemarkerTemplatingService = freemarkerTemplatingService;
+        this.smtpTransportPool = smtpTransportPool;
     }
 
     public void sendEmailMessage(Properties javamailProperties, String smtpFrom, String smtpHost, int smtpPort, boolean smtpAuth, String smtpUsername, String smtpPassword, EmailTarget emailTarget) throws AlertException {
@@ -97,7 +105,12 @@ public class EmailMessagingService {
             String resolvedSubjectLine = freemarkerTemplatingService.resolveTemplate(model, subjectLineTemplate);
 
             List<Message> messages = createMessages(emailAddresses, resolvedSubjectLine, session, mimeMultipart, smtpFrom);
-            sendMessages(smtpAuth, smtpHost, smtpPort, smtpUsername, smtpPassword, session, messages);
+            if (null != smtpTransportPool) {
+                SmtpServerKey serverKey = SmtpServerKey.from(javamailProperties, smtpHost, smtpPort, smtpAuth, smtpUsername, smtpPassword);
+                sendPooledMessages(smtpTransportPool, serverKey, messages);
+            } else {
+                sendMessages(smtpAuth, smtpHost, smtpPort, smtpUsername, smtpPassword, session, messages);
+            }
         } catch (MessagingException | IOException | IntegrationException ex) {
             String errorMessage = "Could not send the email. " + ex.getMessage();
             throw new AlertException(errorMessage, ex);
@@ -173,6 +186,22 @@ public class EmailMessagingService {
             throw new AlertException(errorMessage, e);
         }
         logger.trace("Transport session closed.");
+        throwIfAnyFailed(errorMessages);
+    }
+
+    private void sendPooledMessages(SmtpTransportPool transportPool, SmtpServerKey serverKey, List<Message> messages) throws AlertException {
+        Set<String> errorMessages;
+        try {
+            errorMessages = transportPool.sendMessages(serverKey, messages);
+        } catch (MessagingException e) {
+            String errorMessage = "Could not setup the email transport: " + e.getMessage();
+            logger.error(errorMessage);
+            throw new AlertException(errorMessage, e);
+        }
+        throwIfAnyFailed(errorMessages);
+    }
+
+    private void throwIfAnyFailed(Set<String> errorMessages) throws AlertException {
         if (!errorMessages.isEmpty()) {
             String joinedErrorMessages = StringUtils.join(errorMessages, System.lineSeparator());
             logger.error(joinedErrorMessages);
@@ -191,7 +220,7 @@ public class EmailMessagingService {
         return transport;
     }
 
-    private Optional<String> sendMessage(Transport transport, Message message) {
+    static Optional<String> sendMessage(Transport transport, Message message) {
         Address[] recipients = null;
         try {
             recipients = message.getAllRecipients();
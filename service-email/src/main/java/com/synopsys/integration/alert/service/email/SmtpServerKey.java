@@ -0,0 +1,109 @@
+/*
+ * service-email
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.service.email;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Identifies an SMTP server and the settings used to log in to it. Transports are only shared between sends with equal keys, so changing any part of the email
+ * configuration leads to new sessions.
+ */
+public class SmtpServerKey {
+    private final Map<String, String> javamailProperties;
+    private final String host;
+    private final int port;
+    private final boolean auth;
+    private final String username;
+    private final String password;
+
+    public static SmtpServerKey from(SmtpConfig smtpConfig) {
+        return from(
+            smtpConfig.getJavamailProperties(),
+            smtpConfig.getSmtpHost(),
+            smtpConfig.getSmtpPort(),
+            smtpConfig.isSmtpAuth(),
+            smtpConfig.getSmtpUsername(),
+            smtpConfig.getSmtpPassword()
+        );
+    }
+
+    public static SmtpServerKey from(Properties javamailProperties, String host, int port, boolean auth, String username, String password) {
+        Map<String, String> propertyMap = new HashMap<>();
+        for (String propertyName : javamailProperties.stringPropertyNames()) {
+            propertyMap.put(propertyName, javamailProperties.getProperty(propertyName));
+        }
+        return new SmtpServerKey(propertyMap, host, port, auth, username, password);
+    }
+
+    private SmtpServerKey(Map<String, String> javamailProperties, String host, int port, boolean auth, String username, String password) {
+        this.javamailProperties = Map.copyOf(javamailProperties);
+        this.host = host;
+        this.port = port;
+        this.auth = auth;
+        this.username = username;
+        this.password = password;
+    }
+
+    public Properties createJavamailProperties() {
+        Properties properties = new Properties();
+        properties.putAll(javamailProperties);
+        return properties;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isAuth() {
+        return auth;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SmtpServerKey that = (SmtpServerKey) o;
+        return port == that.port
+            && auth == that.auth
+            && Objects.equals(javamailProperties, that.javamailProperties)
+            && Objects.equals(host, that.host)
+            && Objects.equals(username, that.username)
+            && Objects.equals(password, that.password);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(javamailProperties, host, port, auth, username, password);
+    }
+
+    @Override
+    public String toString() {
+        // Leave the credentials out of log messages
+        return String.format("%s:%d", host, port);
+    }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * service-email
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.service.email;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+
+/**
+ * Keeps connected and authenticated SMTP transports open between sends so that every email does not pay for a new connection, TLS handshake and login. Each
+ * server gets at most a fixed number of sessions. A large batch of messages is spread over several of them, and each session sends many messages before it goes
+ * back to the pool. A transport that sat idle for a while is checked with a NOOP before it is reused, and transports that stay idle too long are closed.
+ */
+@Component
+public class SmtpTransportPool implements DisposableBean {
+    public static final int DEFAULT_MAX_SESSIONS_PER_SERVER = 4;
+    public static final int DEFAULT_MAX_MESSAGES_PER_SESSION = 100;
+    public static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 60;
+
+    // A batch only opens another session for every this many messages, so small sends stay on one connection
+    private static final int MESSAGES_PER_ADDITIONAL_SESSION = 10;
+    private static final Duration VALIDATE_AFTER_IDLE = Duration.ofSeconds(5);
+    private static final long SESSION_WAIT_SECONDS = 120;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final SmtpTransportConnector transportConnector;
+    private final int maxSessionsPerServer;
+    private final int maxMessagesPerSession;
+    private final Duration idleTimeout;
+    private final ExecutorService executorService;
+    private final Map<SmtpServerKey, ServerPool> serverPools = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    @Autowired
+    public SmtpTransportPool(
+        @Value("${alert.email.smtp.pool.max.sessions:" + DEFAULT_MAX_SESSIONS_PER_SERVER + "}") int maxSessionsPerServer,
+        @Value("${alert.email.smtp.pool.max.messages.per.session:" + DEFAULT_MAX_MESSAGES_PER_SESSION + "}") int maxMessagesPerSession,
+        @Value("${alert.email.smtp.pool.idle.timeout.seconds:" + DEFAULT_IDLE_TIMEOUT_SECONDS + "}") int idleTimeoutSeconds
+    ) {
+        this(SmtpTransportPool::connectTransport, maxSessionsPerServer, maxMessagesPerSession, idleTimeoutSeconds);
+    }
+
+    public SmtpTransportPool(SmtpTransportConnector transportConnector, int maxSessionsPerServer, int maxMessagesPerSession, int idleTimeoutSeconds) {
+        this.transportConnector = transportConnector;
+        this.maxSessionsPerServer = Math.max(1, maxSessionsPerServer);
+        this.maxMessagesPerSession = Math.max(1, maxMessagesPerSession);
+        this.idleTimeout = Duration.ofSeconds(idleTimeoutSeconds);
+        this.executorService = Executors.newFixedThreadPool(this.maxSessionsPerServer, new CustomizableThreadFactory("alert-smtp-"));
+    }
+
+    /**
+     * @return the reasons individual messages could not be sent. Messages that fail do not stop the others.
+     * @throws MessagingException if no session to the server could be opened, leaving messages unsent.
+     */
+    public Set<String> sendMessages(SmtpServerKey serverKey, List<Message> messages) throws MessagingException {
+        ServerPool serverPool = serverPools.computeIfAbsent(serverKey, ignored -> new ServerPool(maxSessionsPerServer));
+        Queue<Message> pendingMessages = new ConcurrentLinkedQueue<>(messages);
+        Set<String> errorMessages = ConcurrentHashMap.newKeySet();
+
+        int sessionCount = Math.min(maxSessionsPerServer, 1 + (messages.size() - 1) / MESSAGES_PER_ADDITIONAL_SESSION);
+        List<CompletableFuture<Void>> additionalSessions = new ArrayList<>();
+        for (int session = 1; session < sessionCount; session++) {
+            additionalSessions.add(CompletableFuture.runAsync(() -> sendPendingMessagesUnchecked(serverKey, serverPool, pendingMessages, errorMessages), executorService));
+        }
+
+        MessagingException setupException = null;
+        try {
+            sendPendingMessages(serverKey, serverPool, pendingMessages, errorMessages);
+        } catch (MessagingException e) {
+            setupException = e;
+        }
+        for (CompletableFuture<Void> additionalSession : additionalSessions) {
+            try {
+                additionalSession.join();
+            } catch (CompletionException e) {
+                if (null == setupException && e.getCause() instanceof MessagingException) {
+                    setupException = (MessagingException) e.getCause();
+                }
+            }
+        }
+
+        if (null != setupException && !pendingMessages.isEmpty()) {
+            throw setupException;
+        }
+        return errorMessages;
+    }
+
+    /**
+     * Closes the transports that have not been used within the idle timeout.
+     */
+    public void evictIdleTransports() {
+        long evictBeforeNanos = System.nanoTime() - idleTimeout.toNanos();
+        for (Map.Entry<SmtpServerKey, ServerPool> serverPoolEntry : serverPools.entrySet()) {
+            ServerPool serverPool = serverPoolEntry.getValue();
+            for (PooledTransport idleTransport : serverPool.getIdleTransports()) {
+                if (idleTransport.getLastUsedNanos() < evictBeforeNanos && serverPool.getIdleTransports().remove(idleTransport)) {
+                    logger.debug("Closing an idle SMTP session to {}", serverPoolEntry.getKey());
+                    closeQuietly(idleTransport);
+                }
+            }
+            if (serverPool.isUnused()) {
+                serverPools.remove(serverPoolEntry.getKey(), serverPool);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        executorService.shutdownNow();
+        for (ServerPool serverPool : serverPools.values()) {
+            PooledTransport idleTransport;
+            while (null != (idleTransport = serverPool.getIdleTransports().pollLast())) {
+                closeQuietly(idleTransport);
+            }
+        }
+        serverPools.clear();
+    }
+
+    private void sendPendingMessagesUnchecked(SmtpServerKey serverKey, ServerPool serverPool, Queue<Message> pendingMessages, Set<String> errorMessages) {
+        try {
+            sendPendingMessages(serverKey, serverPool, pendingMessages, errorMessages);
+        } catch (MessagingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void sendPendingMessages(SmtpServerKey serverKey, ServerPool serverPool, Queue<Message> pendingMessages, Set<String> errorMessages) throws MessagingException {
+        while (!pendingMessages.isEmpty()) {
+            PooledTransport pooledTransport = borrowTransport(serverKey, serverPool);
+            boolean reusable = true;
+            try {
+                Message message;
+                while (pooledTransport.getMessagesSent() < maxMessagesPerSession && null != (message = pendingMessages.poll())) {
+                    Optional<String> error = EmailMessagingService.sendMessage(pooledTransport.getTransport(), message);
+                    pooledTransport.recordMessageSent();
+                    if (error.isPresent()) {
+                        errorMessages.add(error.get());
+                        if (!pooledTransport.getTransport().isConnected()) {
+                            reusable = false;
+                            break;
+                        }
+                    }
+                }
+                reusable = reusable && pooledTransport.getMessagesSent() < maxMessagesPerSession;
+            } finally {
+                releaseTransport(serverPool, pooledTransport, reusable);
+            }
+        }
+    }
+
+    private PooledTransport borrowTransport(SmtpServerKey serverKey, ServerPool serverPool) throws MessagingException {
+        serverPool.acquireSession();
+        try {
+            PooledTransport idleTransport;
+            while (null != (idleTransport = serverPool.getIdleTransports().pollLast())) {
+                if (isHealthy(idleTransport)) {
+                    return idleTransport;
+                }
+                closeQuietly(idleTransport);
+            }
+            logger.debug("Opening a new SMTP session to {}", serverKey);
+            return new PooledTransport(transportConnector.connect(serverKey));
+        } catch (MessagingException | RuntimeException e) {
+            serverPool.releaseSession();
+            throw e;
+        }
+    }
+
+    private void releaseTransport(ServerPool serverPool, PooledTransport pooledTransport, boolean reusable) {
+        if (reusable && !closed) {
+            pooledTransport.markUsed();
+            serverPool.getIdleTransports().offerLast(pooledTransport);
+        } else {
+            closeQuietly(pooledTransport);
+        }
+        serverPool.releaseSession();
+    }
+
+    private boolean isHealthy(PooledTransport pooledTransport) {
+        long idleNanos = System.nanoTime() - pooledTransport.getLastUsedNanos();
+        if (idleNanos > idleTimeout.toNanos()) {
+            return false;
+        }
+        // For SMTP this sends a NOOP, so only pay for it when the server may have dropped the connection
+        return idleNanos < VALIDATE_AFTER_IDLE.toNanos() || pooledTransport.getTransport().isConnected();
+    }
+
+    private void closeQuietly(PooledTransport pooledTransport) {
+        try {
+            pooledTransport.getTransport().close();
+        } catch (MessagingException e) {
+            logger.debug("Could not close an SMTP session cleanly", e);
+        }
+    }
+
+    private static Transport connectTransport(SmtpServerKey serverKey) throws MessagingException {
+        Session session = Session.getInstance(serverKey.createJavamailProperties());
+        Transport transport = session.getTransport();
+        if (serverKey.isAuth()) {
+            transport.connect(serverKey.getHost(), serverKey.getPort(), serverKey.getUsername(), serverKey.getPassword());
+        } else {
+            transport.connect();
+        }
+        return transport;
+    }
+
+    @FunctionalInterface
+    public interface SmtpTransportConnector {
+        Transport connect(SmtpServerKey serverKey) throws MessagingException;
+
+    }
+
+    private static class ServerPool {
+        private final int maxSessions;
+        private final Semaphore sessionPermits;
+        private final Deque<PooledTransport> idleTransports = new ConcurrentLinkedDeque<>();
+
+        public ServerPool(int maxSessions) {
+            this.maxSessions = maxSessions;
+            this.sessionPermits = new Semaphore(maxSessions, true);
+        }
+
+        public void acquireSession() throws MessagingException {
+            try {
+                if (!sessionPermits.tryAcquire(SESSION_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new MessagingException(String.format("Timed out after %d seconds waiting for a free SMTP session", SESSION_WAIT_SECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessagingException("Interrupted while waiting for a free SMTP session", e);
+            }
+        }
+
+        public void releaseSession() {
+            sessionPermits.release();
+        }
+
+        public Deque<PooledTransport> getIdleTransports() {
+            return idleTransports;
+        }
+
+        public boolean isUnused() {
+            return idleTransports.isEmpty() && sessionPermits.availablePermits() == maxSessions;
+        }
+
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private int messagesSent = 0;
+        private long lastUsedNanos;
+
+        public PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        public Transport getTransport() {
+            return transport;
+        }
+
+        public int getMessagesSent() {
+            return messagesSent;
+        }
+
+        public void recordMessageSent() {
+            messagesSent++;
+        }
+
+        public long getLastUsedNanos() {
+            return lastUsedNanos;
+        }
+
+        public void markUsed() {
+            lastUsedNanos = System.nanoTime();
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.synopsys.integration.alert.service.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+
+class SmtpTransportPoolTest {
+    private static final SmtpServerKey SERVER_KEY = SmtpServerKey.from(new Properties(), "smtp.example.com", 25, true, "user", "password");
+
+    private final List<Transport> connectedTransports = new ArrayList<>();
+    private SmtpTransportPool smtpTransportPool;
+
+    @AfterEach
+    void cleanup() {
+        if (null != smtpTransportPool) {
+            smtpTransportPool.destroy();
+        }
+    }
+
+    @Test
+    void reusesTransportAcrossSendsTest() throws MessagingException {
+        smtpTransportPool = new SmtpTransportPool(this::connectMockTransport, 1, 100, 60);
+
+        Set<String> firstErrors = smtpTransportPool.sendMessages(SERVER_KEY, createMessages(1));
+        Set<String> secondErrors = smtpTransportPool.sendMessages(SERVER_KEY, createMessages(1));
+
+        assertTrue(firstErrors.isEmpty());
+        assertTrue(secondErrors.isEmpty());
+        assertEquals(1, connectedTransports.size());
+        Mockito.verify(connectedTransports.get(0), Mockito.times(2)).sendMessage(Mockito.any(), Mockito.any());
+        Mockito.verify(connectedTransports.get(0), Mockito.never()).close();
+    }
+
+    @Test
+    void separatesTransportsByServerTest() throws MessagingException {
+        smtpTransportPool = new SmtpTransportPool(this::connectMockTransport, 1, 100, 60);
+        SmtpServerKey otherServerKey = SmtpServerKey.from(new Properties(), "smtp.example.com", 25, true, "otherUser", "password");
+
+        smtpTransportPool.sendMessages(SERVER_KEY, createMessages(1));
+        smtpTransportPool.sendMessages(otherServerKey, createMessages(1));
+
+        assertEquals(2, connectedTransports.size());
+    }
+
+    @Test
+    void rotatesTransportAfterMaxMessagesTest() throws MessagingException {
+        smtpTransportPool = new SmtpTransportPool(this::connectMockTransport, 1, 2, 60);
+
+        Set<String> errors = smtpTransportPool.sendMessages(SERVER_KEY, createMessages(5));
+
+        assertTrue(errors.isEmpty());
+        assertEquals(3, connectedTransports.size());
+        Mockito.verify(connectedTransports.get(0)).close();
+        Mockito.verify(connectedTransports.get(1)).close();
+        Mockito.verify(connectedTransports.get(2), Mockito.never()).close();
+    }
+
+    @Test
+    void spreadsLargeBatchOverSessionsTest() throws MessagingException {
+        smtpTransportPool = new SmtpTransportPool(this::connectMockTransport, 4, 100, 60);
+
+        Set<String> errors = smtpTransportPool.sendMessages(SERVER_KEY, createMessages(200));
+
+        assertTrue(errors.isEmpty());
+        assertTrue(connectedTransports.size() <= 4);
+        int sentCount = 0;
+        for (Transport transport : connectedTransports) {
+            sentCount += Mockito.mockingDetails(transport).getInvocations()
+                .stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("sendMessage"))
+                .count();
+        }
+        assertEquals(200, sentCount);
+    }
+
+    @Test
+    void discardsDisconnectedTransportTest() throws MessagingException {
+        smtpTransportPool = new SmtpTransportPool(serverKey -> {
+            Transport transport = connectMockTransport(serverKey);
+            if (connectedTransports.size() == 1) {
+                Mockito.doThrow(new MessagingException("Connection reset")).when(transport).sendMessage(Mockito.any(), Mockito.any());
+                Mockito.when(transport.isConnected()).thenReturn(false);
+            }
+            return transport;
+        }, 1, 100, 60);
+
+        Set<String> errors = smtpTransportPool.sendMessages(SERVER_KEY, createMessages(2));
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.iterator().next().contains("Connection reset"));
+        assertEquals(2, connectedTransports.size());
+        Mockito.verify(connectedTransports.get(0)).close();
+        Mockito.verify(connectedTransports.get(1)).sendMessage(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void connectFailureThrowsTest() {
+        smtpTransportPool = new SmtpTransportPool(serverKey -> {
+            throw new MessagingException("Authentication failed");
+        }, 1, 100, 60);
+
+        List<Message> messages = createMessages(1);
+        MessagingException exception = assertThrows(MessagingException.class, () -> smtpTransportPool.sendMessages(SERVER_KEY, messages));
+        assertEquals("Authentication failed", exception.getMessage());
+    }
+
+    @Test
+    void evictIdleTransportsTest() throws MessagingException, InterruptedException {
+        smtpTransportPool = new SmtpTransportPool(this::connectMockTransport, 1, 100, 0);
+
+        smtpTransportPool.sendMessages(SERVER_KEY, createMessages(1));
+        Thread.sleep(5);
+        smtpTransportPool.evictIdleTransports();
+
+        Mockito.verify(connectedTransports.get(0)).close();
+    }
+
+    private synchronized Transport connectMockTransport(SmtpServerKey serverKey) {
+        Transport transport = Mockito.mock(Transport.class);
+        Mockito.when(transport.isConnected()).thenReturn(true);
+        connectedTransports.add(transport);
+        return transport;
+    }
+
+    private List<Message> createMessages(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(ignored -> createMessage())
+            .collect(Collectors.toList());
+    }
+
+    private Message createMessage() {
+        Message message = Mockito.mock(Message.class);
+        try {
+            Mockito.when(message.getAllRecipients()).thenReturn(new Address[0]);
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+        return message;
+    }
+
+}
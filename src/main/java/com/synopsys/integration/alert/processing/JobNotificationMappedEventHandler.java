@@ -18,6 +18,7 @@ import com.synopsys.integration.alert.api.event.AlertEventHandler;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.common.logging.AlertLoggerFactory;
 import com.synopsys.integration.alert.common.persistence.accessor.JobNotificationMappingAccessor;
+import com.synopsys.integration.alert.api.processor.NotificationExtractionCache;
 import com.synopsys.integration.alert.api.processor.event.JobNotificationMappedEvent;
 import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
 
@@ -26,17 +27,23 @@ public class JobNotificationMappedEventHandler implements AlertEventHandler<JobN
     private final Logger notificationLogger = AlertLoggerFactory.getNotificationLogger(getClass());
     private final JobNotificationMappingAccessor jobMappingAccessor;
     private final EventManager eventManager;
+    private final NotificationExtractionCache notificationExtractionCache;
 
     @Autowired
-    public JobNotificationMappedEventHandler(JobNotificationMappingAccessor jobMappingAccessor, EventManager eventManager) {
+    public JobNotificationMappedEventHandler(JobNotificationMappingAccessor jobMappingAccessor, EventManager eventManager, NotificationExtractionCache notificationExtractionCache) {
         this.jobMappingAccessor = jobMappingAccessor;
         this.eventManager = eventManager;
+        this.notificationExtractionCache = notificationExtractionCache;
     }
 
     @Override
     public void handle(JobNotificationMappedEvent event) {
         UUID correlationId = event.getCorrelationId();
         Set<UUID> jobConfigIds = jobMappingAccessor.getUniqueJobIds(correlationId);
+        if (jobConfigIds.isEmpty()) {
+            // No job will process this batch, so nothing else would release the content extracted while mapping it.
+            notificationExtractionCache.evictBatch(correlationId);
+        }
         for (UUID jobConfigId : jobConfigIds) {
             notificationLogger.info("Creating processing event for jobConfigId: {}, batch: {}", jobConfigId, correlationId);
             eventManager.sendEvent(new JobProcessingEvent(correlationId, jobConfigId));
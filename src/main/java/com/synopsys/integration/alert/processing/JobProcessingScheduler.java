@@ -0,0 +1,312 @@
+/*
+ * blackduck-alert
+ *
+ * Copyright (c) 2022 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.event.AlertEventHandler;
+import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
+import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
+import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Runs {@link JobProcessingEvent}s on a dedicated, bounded pool of threads.
+ * Pending events are queued per job and dispatched round-robin across jobs so that a job with a large backlog cannot starve other jobs.
+ * The number of events processed concurrently for a single channel can be capped to protect slower downstream systems.
+ * Once the queue holds its capacity of pending events, {@link #submit(JobProcessingEvent)} blocks the listener thread so that further messages stay in RabbitMQ.
+ */
+@Component
+public class JobProcessingScheduler implements MeterBinder, DisposableBean {
+    public static final String UNKNOWN_CHANNEL = "unknown";
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    public static final String QUEUE_DEPTH_METRIC = "alert.processing.job.queue.depth";
+    public static final String RUNNING_METRIC = "alert.processing.job.running";
+    public static final String DISPATCHED_METRIC = "alert.processing.job.dispatched";
+    public static final String WAIT_METRIC = "alert.processing.job.wait";
+    private static final Duration MINIMUM_EXPECTED_WAIT = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED_WAIT = Duration.ofHours(1);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final JobAccessor jobAccessor;
+    private final AlertEventHandler<JobProcessingEvent> eventHandler;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final Map<String, Integer> channelLimits;
+    private final ExecutorService executorService;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<UUID, Deque<ScheduledJobProcessingEvent>> pendingEventsByJob = new LinkedHashMap<>();
+    private final Map<String, Integer> runningCountByChannel = new HashMap<>();
+    // The channel only decides which channel limit applies, so it is looked up the first time an event for the job is submitted rather than for every event
+    private final Map<UUID, String> channelNameByJobId = new ConcurrentHashMap<>();
+    private int pendingCount = 0;
+    private int runningCount = 0;
+
+    private final AtomicLong dispatchedCount = new AtomicLong(0L);
+    private volatile Timer waitTimer;
+
+    @Autowired
+    public JobProcessingScheduler(
+        JobAccessor jobAccessor,
+        ProcessingJobEventHandler eventHandler,
+        @Value("${alert.processing.job.parallelism:0}") int parallelism,
+        @Value("${alert.processing.job.channel.limits:}") String channelLimits,
+        @Value("${alert.processing.job.queue.capacity:" + DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity
+    ) {
+        this(jobAccessor, (AlertEventHandler<JobProcessingEvent>) eventHandler, parallelism, parseChannelLimits(channelLimits), queueCapacity);
+    }
+
+    JobProcessingScheduler(JobAccessor jobAccessor, AlertEventHandler<JobProcessingEvent> eventHandler, int parallelism, Map<String, Integer> channelLimits, int queueCapacity) {
+        this.jobAccessor = jobAccessor;
+        this.eventHandler = eventHandler;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.channelLimits = channelLimits;
+        this.executorService = Executors.newFixedThreadPool(this.parallelism, new JobProcessingThreadFactory());
+    }
+
+    /**
+     * Queues the event for processing. This method does not wait for the event to be processed, but it does wait for room in the queue when the queue is full.
+     */
+    public void submit(JobProcessingEvent event) {
+        String channelName = retrieveChannelName(event.getJobId());
+        synchronized (lock) {
+            waitForQueueCapacity();
+            ScheduledJobProcessingEvent scheduledEvent = new ScheduledJobProcessingEvent(event, channelName, Instant.now());
+            pendingEventsByJob.computeIfAbsent(event.getJobId(), ignored -> new ArrayDeque<>()).addLast(scheduledEvent);
+            pendingCount++;
+            dispatchAvailable();
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return pendingCount;
+        }
+    }
+
+    public int getRunningCount() {
+        synchronized (lock) {
+            return runningCount;
+        }
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH_METRIC, this, JobProcessingScheduler::getQueueDepth)
+            .description("The number of job processing events waiting for a thread")
+            .register(registry);
+        Gauge.builder(RUNNING_METRIC, this, JobProcessingScheduler::getRunningCount)
+            .description("The number of job processing events being processed")
+            .register(registry);
+        FunctionCounter.builder(DISPATCHED_METRIC, this, JobProcessingScheduler::getDispatchedCount)
+            .description("The number of job processing events handed to a thread")
+            .register(registry);
+        waitTimer = Timer.builder(WAIT_METRIC)
+            .description("The time job processing events waited in the queue")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MINIMUM_EXPECTED_WAIT)
+            .maximumExpectedValue(MAXIMUM_EXPECTED_WAIT)
+            .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void waitForQueueCapacity() {
+        while (pendingCount >= queueCapacity && !executorService.isShutdown()) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                // Keep the event rather than lose it; the queue goes over capacity by one
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void dispatchAvailable() {
+        while (runningCount < parallelism) {
+            Optional<ScheduledJobProcessingEvent> nextEvent = pollNextEligibleEvent();
+            if (nextEvent.isEmpty()) {
+                return;
+            }
+            ScheduledJobProcessingEvent scheduledEvent = nextEvent.get();
+            runningCount++;
+            runningCountByChannel.merge(scheduledEvent.getChannelName(), 1, Integer::sum);
+            recordWaitTime(scheduledEvent);
+            executorService.execute(() -> runEvent(scheduledEvent));
+        }
+    }
+
+    // Takes the first event from the least recently served job whose channel is below its limit, then moves that job to the back of the line.
+    private Optional<ScheduledJobProcessingEvent> pollNextEligibleEvent() {
+        Iterator<Map.Entry<UUID, Deque<ScheduledJobProcessingEvent>>> jobQueueIterator = pendingEventsByJob.entrySet().iterator();
+        while (jobQueueIterator.hasNext()) {
+            Map.Entry<UUID, Deque<ScheduledJobProcessingEvent>> jobQueue = jobQueueIterator.next();
+            Deque<ScheduledJobProcessingEvent> pendingEvents = jobQueue.getValue();
+            ScheduledJobProcessingEvent candidate = pendingEvents.peekFirst();
+            if (null != candidate && isBelowChannelLimit(candidate.getChannelName())) {
+                pendingEvents.pollFirst();
+                pendingCount--;
+                lock.notifyAll();
+                jobQueueIterator.remove();
+                if (!pendingEvents.isEmpty()) {
+                    pendingEventsByJob.put(jobQueue.getKey(), pendingEvents);
+                }
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String retrieveChannelName(UUID jobId) {
+        String cachedChannelName = channelNameByJobId.get(jobId);
+        if (null != cachedChannelName) {
+            return cachedChannelName;
+        }
+        Optional<String> channelName = jobAccessor.getJobById(jobId)
+            .map(DistributionJobModel::getChannelDescriptorName);
+        channelName.ifPresent(name -> channelNameByJobId.put(jobId, name));
+        return channelName.orElse(UNKNOWN_CHANNEL);
+    }
+
+    private boolean isBelowChannelLimit(String channelName) {
+        Integer limit = channelLimits.get(channelName);
+        if (null == limit) {
+            return true;
+        }
+        return runningCountByChannel.getOrDefault(channelName, 0) < limit;
+    }
+
+    private void recordWaitTime(ScheduledJobProcessingEvent scheduledEvent) {
+        Duration waitTime = Duration.between(scheduledEvent.getQueuedAt(), Instant.now());
+        dispatchedCount.incrementAndGet();
+        Timer boundWaitTimer = waitTimer;
+        if (null != boundWaitTimer) {
+            boundWaitTimer.record(waitTime);
+        }
+        logger.debug(
+            "Dispatching job {} for channel {} after waiting {}ms. Queue depth: {}, running: {}",
+            scheduledEvent.getEvent().getJobId(),
+            scheduledEvent.getChannelName(),
+            waitTime.toMillis(),
+            pendingCount,
+            runningCount
+        );
+    }
+
+    private void runEvent(ScheduledJobProcessingEvent scheduledEvent) {
+        try {
+            eventHandler.handle(scheduledEvent.getEvent());
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        } finally {
+            synchronized (lock) {
+                runningCount--;
+                runningCountByChannel.computeIfPresent(scheduledEvent.getChannelName(), (ignored, count) -> count > 1 ? count - 1 : null);
+                dispatchAvailable();
+            }
+        }
+    }
+
+    // Expected format: channel_key:limit[,channel_key:limit...]
+    static Map<String, Integer> parseChannelLimits(String channelLimits) {
+        Map<String, Integer> parsedLimits = new HashMap<>();
+        for (String channelLimit : StringUtils.split(StringUtils.trimToEmpty(channelLimits), ',')) {
+            String channelName = StringUtils.trimToEmpty(StringUtils.substringBefore(channelLimit, ":"));
+            int limit = NumberUtils.toInt(StringUtils.trimToEmpty(StringUtils.substringAfter(channelLimit, ":")), 0);
+            if (StringUtils.isNotBlank(channelName) && limit > 0) {
+                parsedLimits.put(channelName, limit);
+            }
+        }
+        return parsedLimits;
+    }
+
+    private static class ScheduledJobProcessingEvent {
+        private final JobProcessingEvent event;
+        private final String channelName;
+        private final Instant queuedAt;
+
+        public ScheduledJobProcessingEvent(JobProcessingEvent event, String channelName, Instant queuedAt) {
+            this.event = event;
+            this.channelName = channelName;
+            this.queuedAt = queuedAt;
+        }
+
+        public JobProcessingEvent getEvent() {
+            return event;
+        }
+
+        public String getChannelName() {
+            return channelName;
+        }
+
+        public Instant getQueuedAt() {
+            return queuedAt;
+        }
+    }
+
+    private static class JobProcessingThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, String.format("job-processing-%d", threadCount.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
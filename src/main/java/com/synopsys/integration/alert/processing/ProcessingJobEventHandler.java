@@ -19,15 +19,16 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJob;
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
 import com.synopsys.integration.alert.api.distribution.execution.JobStage;
 import com.synopsys.integration.alert.api.event.AlertEventHandler;
+import com.synopsys.integration.alert.common.metrics.PipelineMetricTags;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobNotificationMappingAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.api.processor.JobNotificationContentProcessor;
+import com.synopsys.integration.alert.api.processor.NotificationExtractionCache;
 import com.synopsys.integration.alert.api.processor.NotificationProcessingLifecycleCache;
 import com.synopsys.integration.alert.api.processor.distribute.ProcessedNotificationDetails;
 import com.synopsys.integration.alert.api.processor.distribute.ProviderMessageDistributor;
 import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
-import com.synopsys.integration.alert.api.processor.extract.model.ProcessedProviderMessageHolder;
 
 @Component
 public class ProcessingJobEventHandler implements AlertEventHandler<JobProcessingEvent> {
@@ -37,6 +38,7 @@ public class ProcessingJobEventHandler implements AlertEventHandler<JobProcessin
     private final JobNotificationMappingAccessor jobNotificationMappingAccessor;
     private final JobNotificationContentProcessor jobNotificationContentProcessor;
     private final ExecutingJobManager executingJobManager;
+    private final NotificationExtractionCache notificationExtractionCache;
 
     @Autowired
     public ProcessingJobEventHandler(
@@ -45,7 +47,8 @@ public class ProcessingJobEventHandler implements AlertEventHandler<JobProcessin
         JobAccessor jobAccessor,
         JobNotificationMappingAccessor jobNotificationMappingAccessor,
         JobNotificationContentProcessor jobNotificationContentProcessor,
-        ExecutingJobManager executingJobManager
+        ExecutingJobManager executingJobManager,
+        NotificationExtractionCache notificationExtractionCache
     ) {
         this.providerMessageDistributor = providerMessageDistributor;
         this.lifecycleCaches = lifecycleCaches;
@@ -53,6 +56,7 @@ public class ProcessingJobEventHandler implements AlertEventHandler<JobProcessin
         this.jobNotificationMappingAccessor = jobNotificationMappingAccessor;
         this.jobNotificationContentProcessor = jobNotificationContentProcessor;
         this.executingJobManager = executingJobManager;
+        this.notificationExtractionCache = notificationExtractionCache;
     }
 
     @Override
@@ -62,23 +66,33 @@ public class ProcessingJobEventHandler implements AlertEventHandler<JobProcessin
         try {
             Optional<DistributionJobModel> jobModel = jobAccessor.getJobById(jobId);
             if (jobModel.isPresent()) {
+                DistributionJobModel jobConfiguration = jobModel.get();
                 int totalNotificationCount = jobNotificationMappingAccessor.getNotificationCountForJob(correlationId, jobId);
-                ExecutingJob executingJob = executingJobManager.startJob(jobId, totalNotificationCount);
+                PipelineMetricTags metricTags = PipelineMetricTags.forJob(jobId, jobConfiguration.getChannelDescriptorName(), jobConfiguration.getBlackDuckGlobalConfigId());
+                ExecutingJob executingJob = executingJobManager.startJob(jobId, metricTags, totalNotificationCount);
                 executingJobManager.startStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
-                DistributionJobModel jobConfiguration = jobModel.get();
-                ProcessedProviderMessageHolder processedMessageHolder = jobNotificationContentProcessor.processNotifications(
-                    event,
-                    executingJob.getExecutionId(),
-                    jobConfiguration
-                );
                 ProcessedNotificationDetails processedNotificationDetails = new ProcessedNotificationDetails(
                     executingJob.getExecutionId(),
                     jobConfiguration.getJobId(),
                     jobConfiguration.getChannelDescriptorName(),
                     jobConfiguration.getName()
                 );
-                providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder);
-                executingJobManager.endStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
+                // Held until every page is processed, so the events distributed for the first pages cannot end the job while it is still being processed
+                executingJobManager.incrementRemainingEvents(executingJob.getExecutionId(), 1);
+                try {
+                    jobNotificationContentProcessor.processNotifications(
+                        event,
+                        executingJob.getExecutionId(),
+                        jobConfiguration,
+                        processedMessageHolder -> providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder)
+                    );
+                    executingJobManager.endStage(executingJob.getExecutionId(), JobStage.NOTIFICATION_PROCESSING, Instant.now());
+                } finally {
+                    executingJobManager.decrementRemainingEvents(executingJob.getExecutionId());
+                }
+                if (executingJob.getExpectedNotificationsToSend() > 0 || executingJob.hasCompletedStatus()) {
+                    executingJobManager.endJobIfDistributed(executingJob.getExecutionId(), Instant.now());
+                }
             }
         } finally {
             jobNotificationMappingAccessor.removeJobMapping(correlationId, jobId);
@@ -88,6 +102,7 @@ public class ProcessingJobEventHandler implements AlertEventHandler<JobProcessin
 
     private void clearCaches(UUID correlationId) {
         if (!jobNotificationMappingAccessor.hasJobMappings(correlationId)) {
+            notificationExtractionCache.evictBatch(correlationId);
             for (NotificationProcessingLifecycleCache lifecycleCache : lifecycleCaches) {
                 lifecycleCache.clear();
             }
@@ -7,7 +7,7 @@
  */
 package com.synopsys.integration.alert.processing;
 
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
@@ -18,9 +18,9 @@ import com.synopsys.integration.alert.api.processor.event.NotificationProcessing
 public class ProcessingJobReceiver extends NotificationProcessingReceiver<JobProcessingEvent> {
     public ProcessingJobReceiver(
         Gson gson,
-        TaskExecutor taskExecutor,
-        ProcessingJobEventHandler eventHandler
+        JobProcessingScheduler jobProcessingScheduler
     ) {
-        super(gson, taskExecutor, JobProcessingEvent.JOB_PROCESSING_EVENT_TYPE, JobProcessingEvent.class, eventHandler);
+        // The scheduler owns the threads for job processing, so the listener only hands the event off.
+        super(gson, new SyncTaskExecutor(), JobProcessingEvent.JOB_PROCESSING_EVENT_TYPE, JobProcessingEvent.class, jobProcessingScheduler::submit);
     }
 }
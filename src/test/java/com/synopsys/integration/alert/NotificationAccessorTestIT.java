@@ -6,12 +6,23 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +30,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.synopsys.integration.alert.api.descriptor.BlackDuckProviderKey;
 import com.synopsys.integration.alert.api.descriptor.model.ChannelKeys;
@@ -29,8 +44,10 @@ import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
+import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
+import com.synopsys.integration.alert.common.persistence.model.PurgeIdRange;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.security.EncryptionUtility;
@@ -76,6 +93,12 @@ class NotificationAccessorTestIT {
     private DefaultNotificationAccessor notificationManager;
     @Autowired
     private EncryptionUtility encryptionUtility;
+    @Autowired
+    private ProcessingAuditAccessor processingAuditAccessor;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     private ConfigurationModel providerConfigModel = null;
 
@@ -423,9 +446,204 @@ class NotificationAccessorTestIT {
         assertTrue(alertNotificationModelTest.get().getProcessed());
     }
 
+    @Test
+    void saveAllNotificationsSkipsExistingContentIdsTest() {
+        AlertNotificationModel existingNotification = createNotificationModel();
+        notificationManager.saveAllNotifications(List.of(existingNotification));
+        AlertNotificationModel newNotification = createNotificationModel();
+
+        List<AlertNotificationModel> savedModels = notificationManager.saveAllNotifications(List.of(existingNotification, newNotification, newNotification));
+
+        assertEquals(1, savedModels.size());
+        assertEquals(newNotification.getContentId(), savedModels.get(0).getContentId());
+        assertEquals(2, notificationContentRepository.count());
+    }
+
+    @Test
+    void saveAllNotificationsConcurrentlySkipsExistingContentIdsTest() throws Exception {
+        String contentId = String.format("content-id-%s", UUID.randomUUID());
+        // Each save commits in its own transaction so that the two inserts really race for the content id
+        TransactionTemplate newTransactionTemplate = new TransactionTemplate(transactionManager);
+        newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // The provider configuration of this test's transaction is not visible to the other transactions
+        ConfigurationModel committedProviderConfig = newTransactionTemplate.execute(status -> configurationModelConfigurationAccessor.createConfiguration(
+            new BlackDuckProviderKey(),
+            ConfigContextEnum.GLOBAL,
+            List.of()
+        ));
+        assertNotNull(committedProviderConfig);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Callable<Integer> saveNotification = () -> {
+            startLatch.await();
+            AlertNotificationModel notification = createNotificationModel(DateUtils.createCurrentDateTimestamp(), committedProviderConfig.getConfigurationId(), contentId);
+            return newTransactionTemplate.execute(status -> notificationManager.saveAllNotifications(List.of(notification)).size());
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> firstSavedCount = executorService.submit(saveNotification);
+            Future<Integer> secondSavedCount = executorService.submit(saveNotification);
+            startLatch.countDown();
+
+            assertEquals(1, firstSavedCount.get(30, TimeUnit.SECONDS) + secondSavedCount.get(30, TimeUnit.SECONDS));
+            Integer storedCount = newTransactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM alert.raw_notification_content WHERE content_id = ?",
+                Integer.class,
+                contentId
+            ));
+            assertEquals(1, storedCount);
+        } finally {
+            executorService.shutdownNow();
+            // Deleting the provider configuration cascades to its notifications
+            newTransactionTemplate.executeWithoutResult(status -> configurationModelConfigurationAccessor.deleteConfiguration(committedProviderConfig.getConfigurationId()));
+        }
+    }
+
+    @Test
+    void saveAllNotificationsAllocatesConsecutiveIdsTest() {
+        List<AlertNotificationModel> notifications = IntStream.range(0, 3)
+            .mapToObj(ignored -> createNotificationModel())
+            .collect(Collectors.toList());
+
+        List<Long> savedIds = notificationManager.saveAllNotifications(notifications)
+            .stream()
+            .map(AlertNotificationModel::getId)
+            .collect(Collectors.toList());
+
+        Long firstId = savedIds.get(0);
+        assertEquals(List.of(firstId, firstId + 1, firstId + 2), savedIds);
+    }
+
+    @Test
+    void auditSummaryFollowsNotificationAuditTest() {
+        UUID jobId = UUID.randomUUID();
+        AlertNotificationModel savedModel = notificationManager.saveAllNotifications(List.of(createNotificationModel())).get(0);
+        Set<Long> notificationIds = Set.of(savedModel.getId());
+        assertEquals(1, countNotificationRows("alert.notification_audit_summary", savedModel.getId()));
+        assertTrue(getAuditSummaryStatus(savedModel.getId()).isEmpty());
+
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(jobId, notificationIds);
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(jobId, notificationIds);
+        assertEquals(1, countNotificationRows("alert.audit_notification_relation", savedModel.getId()));
+        assertEquals(Optional.of(AuditEntryStatus.PENDING.name()), getAuditSummaryStatus(savedModel.getId()));
+
+        processingAuditAccessor.setAuditEntrySuccess(jobId, notificationIds);
+        assertEquals(Optional.of(AuditEntryStatus.SUCCESS.name()), getAuditSummaryStatus(savedModel.getId()));
+
+        processingAuditAccessor.setAuditEntryFailure(jobId, notificationIds, "Failure message", (String) null);
+        assertEquals(Optional.of(AuditEntryStatus.FAILURE.name()), getAuditSummaryStatus(savedModel.getId()));
+        assertEquals(1, auditEntryRepository.count());
+    }
+
+    @Test
+    void deleteNotificationRemovesDependentRowsTest() {
+        AlertNotificationModel savedModel = notificationManager.saveAllNotifications(List.of(createNotificationModel())).get(0);
+        DistributionJobEntity savedJob = createDistributionJob();
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(savedJob.getJobId(), Set.of(savedModel.getId()));
+        jdbcTemplate.update(
+            "INSERT INTO alert.job_notification_relation (correlation_id, job_id, notification_id) VALUES (?, ?, ?)",
+            UUID.randomUUID(),
+            savedJob.getJobId(),
+            savedModel.getId()
+        );
+
+        notificationManager.deleteNotification(savedModel);
+        notificationContentRepository.flush();
+
+        assertEquals(0, countNotificationRows("alert.audit_notification_relation", savedModel.getId()));
+        assertEquals(0, countNotificationRows("alert.job_notification_relation", savedModel.getId()));
+        assertEquals(0, countNotificationRows("alert.notification_audit_summary", savedModel.getId()));
+    }
+
+    @Test
+    void deleteNotificationsCreatedBeforeInChunksTest() {
+        OffsetDateTime currentTime = DateUtils.createCurrentDateTimestamp();
+        OffsetDateTime oneHourAgo = currentTime.minusHours(1);
+        List<AlertNotificationModel> savedModels = notificationManager.saveAllNotifications(List.of(
+            createNotificationModel(currentTime.minusHours(3)),
+            createNotificationModel(currentTime.minusHours(2)),
+            createNotificationModel(currentTime)
+        ));
+        AlertNotificationModel oldestNotification = savedModels.get(0);
+        AlertNotificationModel olderNotification = savedModels.get(1);
+        AlertNotificationModel recentNotification = savedModels.get(2);
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(UUID.randomUUID(), Set.of(oldestNotification.getId(), recentNotification.getId()));
+
+        Optional<PurgeIdRange> purgeIdRange = notificationManager.findIdRangeCreatedBefore(oneHourAgo);
+        assertTrue(purgeIdRange.isPresent());
+        assertEquals(oldestNotification.getId(), purgeIdRange.get().getFirstId());
+        assertEquals(olderNotification.getId(), purgeIdRange.get().getLastId());
+
+        int deletedCount = notificationManager.deleteNotificationsCreatedBefore(oneHourAgo, purgeIdRange.get().getFirstId(), purgeIdRange.get().getLastId());
+
+        assertEquals(2, deletedCount);
+        assertTrue(notificationManager.findById(oldestNotification.getId()).isEmpty());
+        assertTrue(notificationManager.findById(recentNotification.getId()).isPresent());
+        assertEquals(0, countNotificationRows("alert.audit_notification_relation", oldestNotification.getId()));
+        // Only the audit entry of the notification that was kept remains
+        assertEquals(1, auditEntryRepository.count());
+        assertTrue(notificationManager.findIdRangeCreatedBefore(oneHourAgo).isEmpty());
+    }
+
+    @Test
+    void notificationsAcrossPartitionsTest() {
+        OffsetDateTime partitionedMonth = getStartOfNextMonth().plusMonths(4);
+        notificationManager.createNotificationPartitionsThrough(partitionedMonth);
+        assertEquals(0, notificationManager.createNotificationPartitionsThrough(partitionedMonth));
+        assertTrue(notificationPartitionExists(partitionedMonth));
+
+        List<String> primaryKeyColumns = jdbcTemplate.queryForList(
+            "SELECT key_column.attname FROM pg_index key_index"
+                + " JOIN pg_attribute key_column ON key_column.attrelid = key_index.indrelid AND key_column.attnum = ANY(key_index.indkey)"
+                + " WHERE key_index.indrelid = 'alert.raw_notification_content'::regclass AND key_index.indisprimary",
+            String.class
+        );
+        assertEquals(Set.of("id", "created_at"), new HashSet<>(primaryKeyColumns));
+
+        List<AlertNotificationModel> savedModels = notificationManager.saveAllNotifications(List.of(
+            createNotificationModel(DateUtils.createCurrentDateTimestamp()),
+            createNotificationModel(partitionedMonth.plusDays(1))
+        ));
+        notificationManager.setNotificationsProcessed(savedModels);
+
+        for (AlertNotificationModel savedModel : savedModels) {
+            Optional<AlertNotificationModel> foundModel = notificationManager.findById(savedModel.getId());
+            assertTrue(foundModel.isPresent());
+            assertTrue(foundModel.get().getProcessed());
+        }
+    }
+
+    @Test
+    void dropNotificationPartitionsBeforeTest() {
+        OffsetDateTime startOfNextMonth = getStartOfNextMonth();
+        OffsetDateTime partitionedMonth = startOfNextMonth.plusMonths(4);
+        notificationManager.createNotificationPartitionsThrough(partitionedMonth);
+        List<AlertNotificationModel> savedModels = notificationManager.saveAllNotifications(List.of(
+            createNotificationModel(DateUtils.createCurrentDateTimestamp()),
+            createNotificationModel(partitionedMonth.plusDays(1))
+        ));
+        AlertNotificationModel currentNotification = savedModels.get(0);
+        AlertNotificationModel futureNotification = savedModels.get(1);
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(UUID.randomUUID(), Set.of(currentNotification.getId()));
+
+        long droppedCount = notificationManager.dropNotificationPartitionsBefore(startOfNextMonth);
+
+        assertEquals(1, droppedCount);
+        assertTrue(notificationManager.findById(currentNotification.getId()).isEmpty());
+        assertTrue(notificationManager.findById(futureNotification.getId()).isPresent());
+        assertTrue(notificationPartitionExists(partitionedMonth));
+        assertEquals(0, countNotificationRows("alert.audit_notification_relation", currentNotification.getId()));
+        assertEquals(0, countNotificationRows("alert.notification_audit_summary", currentNotification.getId()));
+        assertEquals(0, auditEntryRepository.count());
+    }
+
     private AlertNotificationModel createNotificationModel(OffsetDateTime createdAt) {
+        return createNotificationModel(createdAt, providerConfigModel.getConfigurationId(), String.format("content-id-%s", UUID.randomUUID()));
+    }
+
+    private AlertNotificationModel createNotificationModel(OffsetDateTime createdAt, Long providerConfigId, String contentId) {
         return new AlertNotificationModel(1L,
-            providerConfigModel.getConfigurationId(),
+            providerConfigId,
             "provider",
             "providerConfigName",
             NOTIFICATION_TYPE,
@@ -433,7 +651,7 @@ class NotificationAccessorTestIT {
             createdAt,
             createdAt,
             false,
-            String.format("content-id-%s", UUID.randomUUID())
+            contentId
         );
     }
 
@@ -452,4 +670,51 @@ class NotificationAccessorTestIT {
         return createNotificationContent(createdAt);
     }
 
+    private DistributionJobEntity createDistributionJob() {
+        DistributionJobEntity distributionJobEntity = new DistributionJobEntity(
+            null,
+            "job_name",
+            true,
+            FrequencyType.REAL_TIME.name(),
+            ProcessingType.DEFAULT.name(),
+            ChannelKeys.EMAIL.getUniversalKey(),
+            UUID.randomUUID(),
+            DateUtils.createCurrentDateTimestamp(),
+            null
+        );
+        return distributionJobRepository.saveAndFlush(distributionJobEntity);
+    }
+
+    private int countNotificationRows(String tableName, Long notificationId) {
+        Integer rowCount = jdbcTemplate.queryForObject(String.format("SELECT COUNT(*) FROM %s WHERE notification_id = ?", tableName), Integer.class, notificationId);
+        return null != rowCount ? rowCount : 0;
+    }
+
+    private Optional<String> getAuditSummaryStatus(Long notificationId) {
+        return jdbcTemplate.queryForList("SELECT overall_status FROM alert.notification_audit_summary WHERE notification_id = ?", String.class, notificationId)
+            .stream()
+            .filter(Objects::nonNull)
+            .findFirst();
+    }
+
+    private boolean notificationPartitionExists(OffsetDateTime partitionMonth) {
+        String partitionName = String.format("raw_notification_content_%d_%02d", partitionMonth.getYear(), partitionMonth.getMonthValue());
+        Integer partitionCount = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_inherits inheritance JOIN pg_class partition ON partition.oid = inheritance.inhrelid"
+                + " WHERE inheritance.inhparent = 'alert.raw_notification_content'::regclass AND partition.relname = ?",
+            Integer.class,
+            partitionName
+        );
+        return null != partitionCount && partitionCount > 0;
+    }
+
+    // The monthly partitions are bounded by the start of each month in UTC
+    private OffsetDateTime getStartOfNextMonth() {
+        return DateUtils.createCurrentDateTimestamp()
+            .withOffsetSameInstant(ZoneOffset.UTC)
+            .withDayOfMonth(1)
+            .truncatedTo(ChronoUnit.DAYS)
+            .plusMonths(1);
+    }
+
 }
@@ -29,6 +29,7 @@ import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
+import com.synopsys.integration.alert.common.persistence.diagnostic.DiagnosticCounters;
 import com.synopsys.integration.alert.common.persistence.model.AuditEntryModel;
 import com.synopsys.integration.alert.common.persistence.model.AuditEntryPageModel;
 import com.synopsys.integration.alert.common.persistence.model.AuditJobStatusModel;
@@ -71,7 +72,7 @@ public class AuditEntryActionsLegacyTest {
         DefaultNotificationAccessor notificationAccessor = Mockito.mock(DefaultNotificationAccessor.class);
         Mockito.when(notificationAccessor.findById(Mockito.anyLong())).thenReturn(Optional.empty());
 
-        DefaultRestApiAuditAccessor auditEntryUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, notificationAccessor, null);
+        DefaultRestApiAuditAccessor auditEntryUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, notificationAccessor, null, null);
         AuditEntryActionsLegacy auditEntryActionsLegacy = new AuditEntryActionsLegacy(
             authorizationManager,
             auditDescriptorKey,
@@ -95,7 +96,7 @@ public class AuditEntryActionsLegacyTest {
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
         Mockito.when(auditEntryRepository.findFirstByCommonConfigIdOrderByTimeLastSentDesc(Mockito.any())).thenReturn(Optional.empty());
 
-        DefaultRestApiAuditAccessor auditEntryUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, null);
+        DefaultRestApiAuditAccessor auditEntryUtility = new DefaultRestApiAuditAccessor(auditEntryRepository, null, null, null, null, null, null);
         AuditEntryActionsLegacy auditEntryActionsLegacy = new AuditEntryActionsLegacy(authorizationManager, auditDescriptorKey, auditEntryUtility, null, null, null, null);
 
         ActionResponse<AuditJobStatusModel> jobAuditModel = auditEntryActionsLegacy.getAuditInfoForJob(UUID.randomUUID());
@@ -118,13 +119,14 @@ public class AuditEntryActionsLegacyTest {
         Mockito.when(auditEntryRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(mockAuditEntryEntity.createEmptyEntity()));
         Mockito.when(notificationRepository.findAllById(Mockito.anyList())).thenReturn(Collections.singletonList(mockNotificationEntity.createEntity()));
 
-        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationRepository, auditEntryRepository, null);
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationRepository, auditEntryRepository, null, null, new DiagnosticCounters());
         DefaultRestApiAuditAccessor auditEntryUtility = new DefaultRestApiAuditAccessor(
             auditEntryRepository,
             auditNotificationRepository,
             jobAccessor,
             null,
             notificationManager,
+            null,
             null
         );
         AuditEntryActionsLegacy auditEntryActionsLegacy = new AuditEntryActionsLegacy(
@@ -215,7 +217,8 @@ public class AuditEntryActionsLegacyTest {
             jobAccessor,
             configurationModelConfigurationAccessor,
             notificationManager,
-            contentConverter
+            contentConverter,
+            null
         );
         AuditEntryActionsLegacy auditEntryActionsLegacy = new AuditEntryActionsLegacy(
             authorizationManager,
@@ -285,7 +288,8 @@ public class AuditEntryActionsLegacyTest {
             jobAccessor,
             configurationModelConfigurationAccessor,
             notificationManager,
-            contentConverter
+            contentConverter,
+            null
         );
         AuditEntryActionsLegacy auditEntryActionsLegacy = new AuditEntryActionsLegacy(
             authorizationManager,
@@ -1,13 +1,16 @@
-package com.synopsys.integration.alert.database.job;
+package com.synopsys.integration.alert.database.job.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,22 +22,21 @@ import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobRequestModel;
+import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
+import com.synopsys.integration.alert.common.persistence.model.job.SimpleFilteredDistributionJobResponseModel;
 import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
 import com.synopsys.integration.alert.common.persistence.model.job.details.EmailJobDetailsModel;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.util.DateUtils;
-import com.synopsys.integration.alert.database.job.api.DefaultNotificationAccessor;
-import com.synopsys.integration.alert.database.job.api.StaticJobAccessor;
 import com.synopsys.integration.alert.util.AlertIntegrationTest;
 import com.synopsys.integration.blackduck.api.generated.enumeration.VulnerabilitySeverityType;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
 
 @AlertIntegrationTest
-class DistributionJobRepositoryTestIT {
-    // Distribution jobs related
-    @Autowired private DistributionJobRepository distributionJobRepository;
+class ProcessingJobAccessor2FilterTestIT {
     @Autowired private StaticJobAccessor staticJobAccessor;
+    @Autowired private DefaultProcessingJobAccessor2 processingJobAccessor;
 
     @Autowired
     private DefaultNotificationAccessor defaultNotificationAccessor;
@@ -44,8 +46,6 @@ class DistributionJobRepositoryTestIT {
 
     @AfterEach
     public void cleanup() {
-        distributionJobRepository.deleteAll();
-
         PageRequest notificationPages = defaultNotificationAccessor.getPageRequestForNotifications(0, 10, null, null);
         Page<AlertNotificationModel> notifications = defaultNotificationAccessor.findAll(notificationPages, false);
         notifications.get().forEach(defaultNotificationAccessor::deleteNotification);
@@ -57,7 +57,7 @@ class DistributionJobRepositoryTestIT {
     }
 
     @Test
-    void findAndSortReturnsNotificationsOnNoFilters() {
+    void matchesJobWithoutFilters() {
         // Create a JobsDetailEntity and the DistributionJobEntity
         EmailJobDetailsModel emailJobDetailsModel = createEmailJobDetails();
         DistributionJobRequestModel distributionJobModel = createDistributionJobRequestModel(
@@ -76,22 +76,19 @@ class DistributionJobRepositoryTestIT {
         );
 
         // Filter and find
-        Page<FilteredDistributionJob> filteredDistributionJobPage = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(),
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredDistributionJobPage = findMatchingJobs(
+            alertNotificationModels.get(0),
             null,
-            null,
-            PageRequest.of(0, 10)
+            null
         );
 
-        assertEquals(1L, filteredDistributionJobPage.getTotalElements());
+        assertEquals(1, filteredDistributionJobPage.size());
         assertFilteredPageMatchesJobAndNotificationId(filteredDistributionJobPage, createdJobId, alertNotificationModels);
+        assertFalse(filteredDistributionJobPage.get(0).hasProjectsConfigured());
     }
 
     @Test
-    void findAndSortReturnsNotificationsOnPolicyFilter() {
+    void matchesJobOnPolicyFilter() {
         List<String> policyFilterNames = List.of("Policy1");
 
         // Create a JobsDetailEntity and the DistributionJobEntity
@@ -113,35 +110,27 @@ class DistributionJobRepositoryTestIT {
         );
 
         // Filter and find with matching policy
-        Page<FilteredDistributionJob> filteredPageWithWantedPolicy = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(),
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithWantedPolicy = findMatchingJobs(
+            alertNotificationModels.get(0),
             new HashSet<>(policyFilterNames),
-            null,
-            PageRequest.of(0, 10)
+            null
         );
 
-        assertEquals(1L, filteredPageWithWantedPolicy.getTotalElements());
+        assertEquals(1, filteredPageWithWantedPolicy.size());
         assertFilteredPageMatchesJobAndNotificationId(filteredPageWithWantedPolicy, createdJobId, alertNotificationModels);
 
         // Filter and find with non-matching policy
-        Page<FilteredDistributionJob> filteredPageWithUnwantedPolicy = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(),
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithUnwantedPolicy = findMatchingJobs(
+            alertNotificationModels.get(0),
             new HashSet<>(List.of("Policy2")),
-            null,
-            PageRequest.of(0, 10)
+            null
         );
 
-        assertEquals(0L, filteredPageWithUnwantedPolicy.getTotalElements());
+        assertEquals(0, filteredPageWithUnwantedPolicy.size());
     }
 
     @Test
-    void findAndSortReturnsNotificationsOnSeverityFilter() {
+    void matchesJobOnSeverityFilter() {
         List<String> vulnerabilitySeverityFilterNames = List.of(VulnerabilitySeverityType.CRITICAL.name());
 
         // Create a JobsDetailEntity and the DistributionJobEntity
@@ -163,33 +152,25 @@ class DistributionJobRepositoryTestIT {
         );
 
         // Filter and find with matching severity
-        Page<FilteredDistributionJob> filteredPageWithWantedSeverity = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(),
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithWantedSeverity = findMatchingJobs(
+            alertNotificationModels.get(0),
             null,
-            new HashSet<>(vulnerabilitySeverityFilterNames),
-            PageRequest.of(0, 10)
+            new HashSet<>(vulnerabilitySeverityFilterNames)
         );
-        assertEquals(1L, filteredPageWithWantedSeverity.getTotalElements());
+        assertEquals(1, filteredPageWithWantedSeverity.size());
         assertFilteredPageMatchesJobAndNotificationId(filteredPageWithWantedSeverity, createdJobId, alertNotificationModels);
 
         // Filter and find with non-matching severity
-        Page<FilteredDistributionJob> filteredPageWithUnwantedSeverity = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(),
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithUnwantedSeverity = findMatchingJobs(
+            alertNotificationModels.get(0),
             null,
-            new HashSet<>(List.of(VulnerabilitySeverityType.LOW.name())),
-            PageRequest.of(0, 10)
+            new HashSet<>(List.of(VulnerabilitySeverityType.LOW.name()))
         );
-        assertEquals(0L, filteredPageWithUnwantedSeverity.getTotalElements());
+        assertEquals(0, filteredPageWithUnwantedSeverity.size());
     }
 
     @Test
-    void findAndSortReturnsNotificationsOnSeverityAndPolicyFilter() {
+    void matchesJobOnSeverityAndPolicyFilter() {
         List<String> policyFilterNames = List.of("Policy1");
         List<String> vulnerabilitySeverityFilterNames = List.of(VulnerabilitySeverityType.CRITICAL.name());
 
@@ -213,52 +194,36 @@ class DistributionJobRepositoryTestIT {
         );
 
         // Filter and find with matching severity and policy on a notification
-        Page<FilteredDistributionJob> filteredPageWithWantedSeverityAndPolicy = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(), // Notification 0
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithWantedSeverityAndPolicy = findMatchingJobs(
+            alertNotificationModels.get(0), // Notification 0
             new HashSet<>(policyFilterNames),
-            new HashSet<>(vulnerabilitySeverityFilterNames),
-            PageRequest.of(0, 10)
+            new HashSet<>(vulnerabilitySeverityFilterNames)
         );
-        assertEquals(1L, filteredPageWithWantedSeverityAndPolicy.getTotalElements());
+        assertEquals(1, filteredPageWithWantedSeverityAndPolicy.size());
         assertFilteredPageMatchesJobAndNotificationId(filteredPageWithWantedSeverityAndPolicy, createdJobId, alertNotificationModels);
 
         // Filter and find with non-matching severity and policy on the other notification
-        Page<FilteredDistributionJob> filteredPageWithUnwantedSeverityAndPolicy = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(1).getId(), // Notification 1
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithUnwantedSeverityAndPolicy = findMatchingJobs(
+            alertNotificationModels.get(1), // Notification 1
             new HashSet<>(List.of("Policy2")),
-            new HashSet<>(List.of(VulnerabilitySeverityType.LOW.name())),
-            PageRequest.of(0, 10)
+            new HashSet<>(List.of(VulnerabilitySeverityType.LOW.name()))
         );
-        assertEquals(0L, filteredPageWithUnwantedSeverityAndPolicy.getTotalElements());
+        assertEquals(0, filteredPageWithUnwantedSeverityAndPolicy.size());
 
         // Extra scenarios checks here for policy and sev dependency along with non-existence and emptiness
-        Page<FilteredDistributionJob> filteredPageWithWantedSeverityAndNullPolicy = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(0).getId(), // Notification 0
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithWantedSeverityAndNullPolicy = findMatchingJobs(
+            alertNotificationModels.get(0), // Notification 0
             null,
-            new HashSet<>(vulnerabilitySeverityFilterNames),
-            PageRequest.of(0, 10)
+            new HashSet<>(vulnerabilitySeverityFilterNames)
         );
-        assertEquals(1L, filteredPageWithWantedSeverityAndNullPolicy.getTotalElements());
+        assertEquals(1, filteredPageWithWantedSeverityAndNullPolicy.size());
 
-        Page<FilteredDistributionJob> filteredPageWithEmptySeverityAndWantedPolicy = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotification(
-            alertNotificationModels.get(1).getId(), // Notification 1
-            PROVIDER_AND_BDCONFIG_ID,
-            List.of(FrequencyType.REAL_TIME.name()),
-            Collections.emptySet(),
+        List<SimpleFilteredDistributionJobResponseModel> filteredPageWithEmptySeverityAndWantedPolicy = findMatchingJobs(
+            alertNotificationModels.get(1), // Notification 1
             new HashSet<>(policyFilterNames),
-            null,
-            PageRequest.of(0, 10)
+            null
         );
-        assertEquals(1L, filteredPageWithEmptySeverityAndWantedPolicy.getTotalElements());
+        assertEquals(1, filteredPageWithEmptySeverityAndWantedPolicy.size());
     }
 
     private EmailJobDetailsModel createEmailJobDetails() {
@@ -308,8 +273,20 @@ class DistributionJobRepositoryTestIT {
         );
     }
 
-    private void assertFilteredPageMatchesJobAndNotificationId(Page<FilteredDistributionJob> filteredPage, UUID createdJobId, List<AlertNotificationModel> alertNotificationModels) {
-        FilteredDistributionJob firstFilteredDistributionJob = filteredPage.stream().findFirst().orElseThrow();
+    private List<SimpleFilteredDistributionJobResponseModel> findMatchingJobs(AlertNotificationModel notification, @Nullable Set<String> policyNames, @Nullable Set<String> vulnerabilitySeverities) {
+        FilteredDistributionJobRequestModel requestModel = new FilteredDistributionJobRequestModel(PROVIDER_AND_BDCONFIG_ID, notification.getId(), List.of(FrequencyType.REAL_TIME));
+        requestModel.addNotificationType(notification.getNotificationType());
+        if (null != policyNames) {
+            policyNames.forEach(requestModel::addPolicyName);
+        }
+        if (null != vulnerabilitySeverities) {
+            requestModel.addVulnerabilitySeverities(vulnerabilitySeverities);
+        }
+        return processingJobAccessor.getMatchingEnabledJobsForNotifications(requestModel, 0, 10).getModels();
+    }
+
+    private void assertFilteredPageMatchesJobAndNotificationId(List<SimpleFilteredDistributionJobResponseModel> filteredPage, UUID createdJobId, List<AlertNotificationModel> alertNotificationModels) {
+        SimpleFilteredDistributionJobResponseModel firstFilteredDistributionJob = filteredPage.stream().findFirst().orElseThrow();
         assertEquals(createdJobId, firstFilteredDistributionJob.getJobId());
         assertEquals(alertNotificationModels.get(0).getId(), firstFilteredDistributionJob.getNotificationId());
     }
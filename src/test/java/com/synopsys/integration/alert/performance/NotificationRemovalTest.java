@@ -36,6 +36,7 @@ import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAudi
 import com.synopsys.integration.alert.common.persistence.accessor.SystemMessageAccessor;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
+import com.synopsys.integration.alert.common.persistence.purge.PurgeEngine;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.component.scheduling.descriptor.SchedulingDescriptorKey;
@@ -88,6 +89,8 @@ class NotificationRemovalTest {
     private ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
     @Autowired
     private EventManager eventManager;
+    @Autowired
+    private PurgeEngine purgeEngine;
 
     private PurgeTask purgeTask;
     private ConfigurationModel providerConfig;
@@ -122,7 +125,7 @@ class NotificationRemovalTest {
             createABatchOfNotifications(providerConfig, notificationCreatedAtTime, processed);
         }
         OffsetDateTime oldestNotificationCreationTime = notificationCreatedAtTime;
-        purgeTask = new PurgeTask(schedulingDescriptorKey, taskScheduler, notificationAccessor, systemMessageAccessor, taskManager, configurationModelConfigurationAccessor);
+        purgeTask = new PurgeTask(schedulingDescriptorKey, taskScheduler, notificationAccessor, systemMessageAccessor, taskManager, configurationModelConfigurationAccessor, purgeEngine);
         LocalDateTime startTime = LocalDateTime.now();
         purgeTask.runTask();
 
@@ -0,0 +1,194 @@
+package com.synopsys.integration.alert.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.api.event.AlertEventHandler;
+import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
+import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
+import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobProcessingSchedulerTest {
+    private static final String SLOW_CHANNEL = "channel_slow";
+    private static final String FAST_CHANNEL = "channel_fast";
+
+    @Test
+    void roundRobinAcrossJobsTest() throws InterruptedException {
+        UUID busyJobId = UUID.randomUUID();
+        UUID quietJobId = UUID.randomUUID();
+        JobAccessor jobAccessor = createJobAccessor(Map.of(busyJobId, FAST_CHANNEL, quietJobId, FAST_CHANNEL));
+
+        CountDownLatch firstEventStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstEvent = new CountDownLatch(1);
+        CountDownLatch allEventsHandled = new CountDownLatch(4);
+        List<UUID> handledJobIds = Collections.synchronizedList(new ArrayList<>());
+        AlertEventHandler<JobProcessingEvent> eventHandler = event -> {
+            if (handledJobIds.isEmpty()) {
+                firstEventStarted.countDown();
+                await(releaseFirstEvent);
+            }
+            handledJobIds.add(event.getJobId());
+            allEventsHandled.countDown();
+        };
+
+        JobProcessingScheduler scheduler = new JobProcessingScheduler(jobAccessor, eventHandler, 1, Map.of(), JobProcessingScheduler.DEFAULT_QUEUE_CAPACITY);
+        try {
+            UUID correlationId = UUID.randomUUID();
+            scheduler.submit(new JobProcessingEvent(correlationId, busyJobId));
+            assertTrue(firstEventStarted.await(5, TimeUnit.SECONDS));
+            scheduler.submit(new JobProcessingEvent(correlationId, busyJobId));
+            scheduler.submit(new JobProcessingEvent(correlationId, busyJobId));
+            scheduler.submit(new JobProcessingEvent(correlationId, quietJobId));
+            assertEquals(3, scheduler.getQueueDepth());
+
+            releaseFirstEvent.countDown();
+            assertTrue(allEventsHandled.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(busyJobId, busyJobId, quietJobId, busyJobId), handledJobIds);
+            assertEquals(4, scheduler.getDispatchedCount());
+            assertEquals(0, scheduler.getQueueDepth());
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void channelLimitTest() throws InterruptedException {
+        UUID firstSlowJobId = UUID.randomUUID();
+        UUID secondSlowJobId = UUID.randomUUID();
+        UUID fastJobId = UUID.randomUUID();
+        JobAccessor jobAccessor = createJobAccessor(Map.of(firstSlowJobId, SLOW_CHANNEL, secondSlowJobId, SLOW_CHANNEL, fastJobId, FAST_CHANNEL));
+
+        AtomicInteger runningSlowEvents = new AtomicInteger(0);
+        AtomicInteger maxRunningSlowEvents = new AtomicInteger(0);
+        CountDownLatch fastEventHandled = new CountDownLatch(1);
+        CountDownLatch allEventsHandled = new CountDownLatch(3);
+        AlertEventHandler<JobProcessingEvent> eventHandler = event -> {
+            if (fastJobId.equals(event.getJobId())) {
+                fastEventHandled.countDown();
+            } else {
+                maxRunningSlowEvents.accumulateAndGet(runningSlowEvents.incrementAndGet(), Math::max);
+                await(fastEventHandled);
+                runningSlowEvents.decrementAndGet();
+            }
+            allEventsHandled.countDown();
+        };
+
+        JobProcessingScheduler scheduler = new JobProcessingScheduler(jobAccessor, eventHandler, 4, Map.of(SLOW_CHANNEL, 1), JobProcessingScheduler.DEFAULT_QUEUE_CAPACITY);
+        try {
+            UUID correlationId = UUID.randomUUID();
+            scheduler.submit(new JobProcessingEvent(correlationId, firstSlowJobId));
+            scheduler.submit(new JobProcessingEvent(correlationId, secondSlowJobId));
+            scheduler.submit(new JobProcessingEvent(correlationId, fastJobId));
+
+            assertTrue(allEventsHandled.await(5, TimeUnit.SECONDS));
+            assertEquals(1, maxRunningSlowEvents.get());
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void fullQueueBlocksSubmitTest() throws InterruptedException {
+        UUID jobId = UUID.randomUUID();
+        JobAccessor jobAccessor = createJobAccessor(Map.of(jobId, FAST_CHANNEL));
+
+        CountDownLatch firstEventStarted = new CountDownLatch(1);
+        CountDownLatch releaseEvents = new CountDownLatch(1);
+        AlertEventHandler<JobProcessingEvent> eventHandler = event -> {
+            firstEventStarted.countDown();
+            await(releaseEvents);
+        };
+
+        JobProcessingScheduler scheduler = new JobProcessingScheduler(jobAccessor, eventHandler, 1, Map.of(), 1);
+        try {
+            UUID correlationId = UUID.randomUUID();
+            scheduler.submit(new JobProcessingEvent(correlationId, jobId));
+            assertTrue(firstEventStarted.await(5, TimeUnit.SECONDS));
+            scheduler.submit(new JobProcessingEvent(correlationId, jobId));
+
+            CountDownLatch thirdEventSubmitted = new CountDownLatch(1);
+            Thread listenerThread = new Thread(() -> {
+                scheduler.submit(new JobProcessingEvent(correlationId, jobId));
+                thirdEventSubmitted.countDown();
+            });
+            listenerThread.start();
+            assertFalse(thirdEventSubmitted.await(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, scheduler.getQueueDepth());
+
+            releaseEvents.countDown();
+            assertTrue(thirdEventSubmitted.await(5, TimeUnit.SECONDS));
+            listenerThread.join(5000);
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void metricsTest() {
+        UUID jobId = UUID.randomUUID();
+        JobAccessor jobAccessor = createJobAccessor(Map.of(jobId, FAST_CHANNEL));
+        CountDownLatch releaseEvents = new CountDownLatch(1);
+        AlertEventHandler<JobProcessingEvent> eventHandler = event -> await(releaseEvents);
+
+        JobProcessingScheduler scheduler = new JobProcessingScheduler(jobAccessor, eventHandler, 1, Map.of(), JobProcessingScheduler.DEFAULT_QUEUE_CAPACITY);
+        try {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            scheduler.bindTo(meterRegistry);
+            UUID correlationId = UUID.randomUUID();
+            scheduler.submit(new JobProcessingEvent(correlationId, jobId));
+            scheduler.submit(new JobProcessingEvent(correlationId, jobId));
+
+            assertEquals(1, meterRegistry.get(JobProcessingScheduler.QUEUE_DEPTH_METRIC).gauge().value());
+            assertEquals(1, meterRegistry.get(JobProcessingScheduler.RUNNING_METRIC).gauge().value());
+            assertEquals(1, meterRegistry.get(JobProcessingScheduler.DISPATCHED_METRIC).functionCounter().count());
+            assertEquals(1, meterRegistry.get(JobProcessingScheduler.WAIT_METRIC).timer().count());
+            // The channel of a job is looked up once, not for every submitted event
+            Mockito.verify(jobAccessor, Mockito.times(1)).getJobById(jobId);
+        } finally {
+            releaseEvents.countDown();
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void parseChannelLimitsTest() {
+        Map<String, Integer> channelLimits = JobProcessingScheduler.parseChannelLimits(" channel_jira_server:2, channel_slack:8,invalid,channel_email:0,channel_msteams:abc");
+        assertEquals(Map.of("channel_jira_server", 2, "channel_slack", 8), channelLimits);
+        assertTrue(JobProcessingScheduler.parseChannelLimits(null).isEmpty());
+    }
+
+    private JobAccessor createJobAccessor(Map<UUID, String> channelsByJobId) {
+        JobAccessor jobAccessor = Mockito.mock(JobAccessor.class);
+        for (Map.Entry<UUID, String> channelByJobId : channelsByJobId.entrySet()) {
+            DistributionJobModel jobModel = Mockito.mock(DistributionJobModel.class);
+            Mockito.when(jobModel.getChannelDescriptorName()).thenReturn(channelByJobId.getValue());
+            Mockito.when(jobAccessor.getJobById(channelByJobId.getKey())).thenReturn(Optional.of(jobModel));
+        }
+        return jobAccessor;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
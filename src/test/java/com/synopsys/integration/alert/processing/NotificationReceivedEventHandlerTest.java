@@ -8,11 +8,13 @@ import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.core.task.SyncTaskExecutor;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.event.codec.AlertEventMessageConverter;
 import com.synopsys.integration.alert.api.event.NotificationReceivedEvent;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
@@ -63,10 +65,10 @@ class NotificationReceivedEventHandlerTest {
 
     private EventManager mockEventManager() {
         RabbitTemplate rabbitTemplate = Mockito.mock(RabbitTemplate.class);
-        Mockito.doNothing().when(rabbitTemplate).convertAndSend(Mockito.anyString(), Mockito.any(Object.class));
+        Mockito.doNothing().when(rabbitTemplate).send(Mockito.anyString(), Mockito.any(Message.class));
         Gson gson = BlackDuckServicesFactory.createDefaultGson();
 
-        return new EventManager(gson, rabbitTemplate, new SyncTaskExecutor());
+        return new EventManager(rabbitTemplate, new SyncTaskExecutor(), new AlertEventMessageConverter(gson));
     }
 
 }
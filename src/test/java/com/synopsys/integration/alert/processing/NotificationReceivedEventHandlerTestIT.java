@@ -20,11 +20,13 @@ import org.springframework.data.domain.PageRequest;
 import com.synopsys.integration.alert.api.descriptor.BlackDuckProviderKey;
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.event.NotificationReceivedEvent;
+import com.synopsys.integration.alert.api.processor.NotificationExtractionCache;
 import com.synopsys.integration.alert.api.processor.NotificationMappingProcessor;
 import com.synopsys.integration.alert.api.processor.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.mapping.JobNotificationMapper2;
 import com.synopsys.integration.alert.api.provider.ProviderDescriptor;
 import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
@@ -39,6 +41,8 @@ import com.synopsys.integration.alert.test.common.TestProperties;
 import com.synopsys.integration.alert.util.AlertIntegrationTest;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 //TODO: This class depends on AlertIntegrationTest which cannot be moved into test-common yet due to it's dependencies.
 //  Move this class into the workflow subproject once the dependencies are resolved
 @AlertIntegrationTest
@@ -225,7 +229,9 @@ class NotificationReceivedEventHandlerTestIT {
         return new NotificationMappingProcessor(
             notificationDetailExtractionDelegator,
             jobNotificationMapper2,
-            defaultNotificationAccessor
+            defaultNotificationAccessor,
+            new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS),
+            new PipelineMetrics(new SimpleMeterRegistry())
         );
     }
 
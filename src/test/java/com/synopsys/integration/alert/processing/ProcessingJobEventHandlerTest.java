@@ -9,11 +9,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobManager;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobCompletionStatusModelAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobNotificationMappingAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.api.processor.JobNotificationContentProcessor;
+import com.synopsys.integration.alert.api.processor.NotificationExtractionCache;
 import com.synopsys.integration.alert.api.processor.NotificationProcessingLifecycleCache;
 import com.synopsys.integration.alert.api.processor.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.digest.ProjectMessageDigester;
@@ -22,6 +24,8 @@ import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
 import com.synopsys.integration.alert.api.processor.extract.ProviderMessageExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.summarize.ProjectMessageSummarizer;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class ProcessingJobEventHandlerTest {
     @Test
     void handleEventTest() {
@@ -30,12 +34,13 @@ class ProcessingJobEventHandlerTest {
         NotificationDetailExtractionDelegator notificationDetailExtractionDelegator = Mockito.mock(NotificationDetailExtractionDelegator.class);
         ProviderMessageDistributor providerMessageDistributor = Mockito.mock(ProviderMessageDistributor.class);
         List<NotificationProcessingLifecycleCache> lifecycleCaches = List.of();
+        NotificationExtractionCache notificationExtractionCache = new NotificationExtractionCache(NotificationExtractionCache.DEFAULT_MAX_CACHED_NOTIFICATIONS);
         NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
         JobAccessor jobAccessor = Mockito.mock(JobAccessor.class);
         JobNotificationMappingAccessor jobNotificationMappingAccessor = Mockito.mock(JobNotificationMappingAccessor.class);
         ProviderMessageExtractionDelegator providerMessageExtractionDelegator = Mockito.mock(ProviderMessageExtractionDelegator.class);
         JobCompletionStatusModelAccessor jobCompletionStatusModelAccessor = Mockito.mock(JobCompletionStatusModelAccessor.class);
-        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor);
+        ExecutingJobManager executingJobManager = new ExecutingJobManager(jobCompletionStatusModelAccessor, new PipelineMetrics(new SimpleMeterRegistry()));
         JobNotificationContentProcessor jobNotificationContentProcessor = new JobNotificationContentProcessor(
             notificationDetailExtractionDelegator,
             notificationAccessor,
@@ -43,7 +48,9 @@ class ProcessingJobEventHandlerTest {
             providerMessageExtractionDelegator,
             new ProjectMessageDigester(),
             new ProjectMessageSummarizer(),
-            executingJobManager
+            executingJobManager,
+            notificationExtractionCache,
+            new PipelineMetrics(new SimpleMeterRegistry())
         );
 
         ProcessingJobEventHandler eventHandler = new ProcessingJobEventHandler(
@@ -52,7 +59,8 @@ class ProcessingJobEventHandlerTest {
             jobAccessor,
             jobNotificationMappingAccessor,
             jobNotificationContentProcessor,
-            executingJobManager
+            executingJobManager,
+            notificationExtractionCache
         );
         try {
             eventHandler.handle(new JobProcessingEvent(correlationId, jobId));
@@ -33,11 +33,14 @@ import com.synopsys.integration.alert.api.distribution.execution.ExecutingJobMan
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.processor.JobNotificationContentProcessor;
 import com.synopsys.integration.alert.api.processor.NotificationContentProcessor;
+import com.synopsys.integration.alert.api.processor.NotificationExtractionCache;
 import com.synopsys.integration.alert.api.processor.NotificationMappingProcessor;
 import com.synopsys.integration.alert.api.processor.NotificationProcessingLifecycleCache;
 import com.synopsys.integration.alert.api.processor.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.api.processor.digest.ProjectMessageDigester;
 import com.synopsys.integration.alert.api.processor.distribute.DistributionEvent;
+import com.synopsys.integration.alert.api.processor.distribute.DistributionPayloadStore;
+import com.synopsys.integration.alert.api.processor.distribute.ProviderMessageChunker;
 import com.synopsys.integration.alert.api.processor.distribute.ProviderMessageDistributor;
 import com.synopsys.integration.alert.api.processor.event.JobProcessingEvent;
 import com.synopsys.integration.alert.api.processor.extract.ProviderMessageExtractionDelegator;
@@ -53,6 +56,8 @@ import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.persistence.accessor.DistributionPayloadAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.JobNotificationMappingAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
@@ -76,6 +81,8 @@ import com.synopsys.integration.alert.util.AlertIntegrationTest;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
 import com.synopsys.integration.blackduck.api.manual.view.VulnerabilityNotificationView;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @AlertIntegrationTest
 class ProcessingJobEventHandlerTestIT {
     public static final String VULNERABILITY_SIMPLE_JSON_PATH = "json/vulnerabilityNotificationSimple01.json";
@@ -90,6 +97,8 @@ class ProcessingJobEventHandlerTestIT {
     @Autowired
     private List<NotificationProcessingLifecycleCache> lifecycleCaches;
     @Autowired
+    private NotificationExtractionCache notificationExtractionCache;
+    @Autowired
     private DefaultNotificationAccessor notificationAccessor;
     @Autowired
     private JobAccessor jobAccessor;
@@ -174,7 +183,8 @@ class ProcessingJobEventHandlerTestIT {
             jobAccessor,
             jobNotificationMappingAccessor,
             jobNotificationContentProcessor,
-            executingJobManager
+            executingJobManager,
+            notificationExtractionCache
         );
         JobProcessingEvent event = new JobProcessingEvent(correlationId, jobId);
         eventHandler.handle(event);
@@ -200,7 +210,8 @@ class ProcessingJobEventHandlerTestIT {
             jobAccessor,
             jobNotificationMappingAccessor,
             jobNotificationContentProcessor,
-            executingJobManager
+            executingJobManager,
+            notificationExtractionCache
         );
         JobProcessingEvent event = new JobProcessingEvent(correlationId, jobId);
         eventHandler.handle(event);
@@ -244,7 +255,9 @@ class ProcessingJobEventHandlerTestIT {
             providerMessageExtractionDelegator,
             projectMessageDigester,
             projectMessageSummarizer,
-            executingJobManager
+            executingJobManager,
+            notificationExtractionCache,
+            new PipelineMetrics(new SimpleMeterRegistry())
         );
     }
 
@@ -368,6 +381,13 @@ class ProcessingJobEventHandlerTestIT {
     private ProviderMessageDistributor createMockMessageDistributor() {
         EventManager eventManager = createMockEventManager();
         ProcessingAuditAccessor auditAccessor = createMockAuditAccessor();
-        return new ProviderMessageDistributor(auditAccessor, eventManager, executingJobManager);
+        DistributionPayloadStore distributionPayloadStore = new DistributionPayloadStore(gson, Mockito.mock(DistributionPayloadAccessor.class), DistributionPayloadStore.DEFAULT_INLINE_LIMIT_BYTES);
+        ProviderMessageChunker providerMessageChunker = new ProviderMessageChunker(
+            gson,
+            ProviderMessageChunker.MODE_INDIVIDUAL,
+            ProviderMessageChunker.DEFAULT_MAX_MESSAGES_PER_CHUNK,
+            ProviderMessageChunker.DEFAULT_MAX_CHUNK_SIZE_BYTES
+        );
+        return new ProviderMessageDistributor(auditAccessor, eventManager, executingJobManager, distributionPayloadStore, providerMessageChunker);
     }
 }
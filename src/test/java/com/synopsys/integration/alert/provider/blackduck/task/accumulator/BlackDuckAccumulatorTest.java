@@ -11,10 +11,13 @@ import java.util.function.BiFunction;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.event.NotificationReceivedEvent;
+import com.synopsys.integration.alert.common.metrics.PipelineMetrics;
+import com.synopsys.integration.alert.common.metrics.PipelineStage;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProviderTaskPropertiesAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedDetails;
@@ -28,9 +31,14 @@ import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationTyp
 import com.synopsys.integration.blackduck.api.manual.view.NotificationUserView;
 import com.synopsys.integration.exception.IntegrationException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class BlackDuckAccumulatorTest {
     private static final BlackDuckProviderKey BLACK_DUCK_PROVIDER_KEY = new BlackDuckProviderKey();
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PipelineMetrics pipelineMetrics = new PipelineMetrics(meterRegistry);
+
     /**
      * This test should simulate a normal run of the accumulator with notifications present.
      */
@@ -53,10 +61,85 @@ class BlackDuckAccumulatorTest {
         EventManager eventManager = Mockito.mock(EventManager.class);
         Mockito.doNothing().when(eventManager).sendEvent(Mockito.any(NotificationReceivedEvent.class));
 
-        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(BLACK_DUCK_PROVIDER_KEY, null, notificationAccessor, taskPropertiesAccessor, blackDuckProperties, validator, eventManager, notificationRetrieverFactory);
+        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(BLACK_DUCK_PROVIDER_KEY, null, notificationAccessor, taskPropertiesAccessor, blackDuckProperties, validator, eventManager, notificationRetrieverFactory, pipelineMetrics);
+        accumulator.run();
+
+        Mockito.verify(notificationAccessor, Mockito.times(1)).saveAllNotifications(Mockito.anyList());
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(NotificationReceivedEvent.class));
+        assertEquals(1L, meterRegistry.get(PipelineMetrics.STAGE_DURATION_METRIC).tag(PipelineMetrics.TAG_STAGE, PipelineStage.ACCUMULATION.getTagValue()).timer().count());
+        assertEquals(1.0, meterRegistry.get(PipelineMetrics.STAGE_NOTIFICATIONS_METRIC).tag(PipelineMetrics.TAG_STAGE, PipelineStage.ACCUMULATION.getTagValue()).counter().count());
+    }
+
+    @Test
+    void runPrefetchedPagesAccumulatorTest() throws Exception {
+        ProviderTaskPropertiesAccessor taskPropertiesAccessor = Mockito.mock(ProviderTaskPropertiesAccessor.class);
+        BlackDuckProperties blackDuckProperties = createBlackDuckProperties();
+        BlackDuckSystemValidator validator = createBlackDuckValidator(blackDuckProperties, true);
+
+        PageRetriever pageRetriever = Mockito.mock(PageRetriever.class);
+        AlertPagedDetails<NotificationUserView> firstPage = new AlertPagedDetails<>(3, 0, 1, List.of(createMockNotificationView()));
+        AlertPagedDetails<NotificationUserView> secondPage = new AlertPagedDetails<>(3, 1, 1, List.of(createMockNotificationView()));
+        AlertPagedDetails<NotificationUserView> thirdPage = new AlertPagedDetails<>(3, 2, 1, List.of(createMockNotificationView()));
+        Mockito.when(pageRetriever.retrieveNextPage(0, 1)).thenReturn(secondPage);
+        Mockito.when(pageRetriever.retrieveNextPage(1, 1)).thenReturn(thirdPage);
+        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = new StatefulAlertPage<>(firstPage, pageRetriever, BlackDuckNotificationRetriever.HAS_NEXT_PAGE);
+
+        BlackDuckNotificationRetriever notificationRetriever = Mockito.mock(BlackDuckNotificationRetriever.class);
+        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList())).thenReturn(notificationPage);
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = createBlackDuckNotificationRetrieverFactory(blackDuckProperties, notificationRetriever);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.saveAllNotifications(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EventManager eventManager = Mockito.mock(EventManager.class);
+
+        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(
+            BLACK_DUCK_PROVIDER_KEY,
+            null,
+            notificationAccessor,
+            taskPropertiesAccessor,
+            blackDuckProperties,
+            validator,
+            eventManager,
+            notificationRetrieverFactory,
+            pipelineMetrics,
+            1
+        );
+        accumulator.run();
+
+        InOrder inOrder = Mockito.inOrder(notificationAccessor, taskPropertiesAccessor);
+        for (int page = 0; page < 3; page++) {
+            inOrder.verify(notificationAccessor).saveAllNotifications(Mockito.anyList());
+            inOrder.verify(taskPropertiesAccessor).setTaskProperty(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+        }
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(NotificationReceivedEvent.class));
+    }
+
+    @Test
+    void runPrefetchedPageFailureTest() throws Exception {
+        ProviderTaskPropertiesAccessor taskPropertiesAccessor = Mockito.mock(ProviderTaskPropertiesAccessor.class);
+        BlackDuckProperties blackDuckProperties = createBlackDuckProperties();
+        BlackDuckSystemValidator validator = createBlackDuckValidator(blackDuckProperties, true);
+
+        PageRetriever pageRetriever = Mockito.mock(PageRetriever.class);
+        AlertPagedDetails<NotificationUserView> firstPage = new AlertPagedDetails<>(2, 0, 1, List.of(createMockNotificationView()));
+        Mockito.when(pageRetriever.retrieveNextPage(Mockito.anyInt(), Mockito.anyInt())).thenThrow(new IntegrationException("Test Exception"));
+        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = new StatefulAlertPage<>(firstPage, pageRetriever, BlackDuckNotificationRetriever.HAS_NEXT_PAGE);
+
+        BlackDuckNotificationRetriever notificationRetriever = Mockito.mock(BlackDuckNotificationRetriever.class);
+        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList())).thenReturn(notificationPage);
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = createBlackDuckNotificationRetrieverFactory(blackDuckProperties, notificationRetriever);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.saveAllNotifications(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EventManager eventManager = Mockito.mock(EventManager.class);
+
+        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(BLACK_DUCK_PROVIDER_KEY, null, notificationAccessor, taskPropertiesAccessor, blackDuckProperties, validator, eventManager, notificationRetrieverFactory, pipelineMetrics);
         accumulator.run();
 
         Mockito.verify(notificationAccessor, Mockito.times(1)).saveAllNotifications(Mockito.anyList());
+        Mockito.verify(taskPropertiesAccessor, Mockito.times(1)).setTaskProperty(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
         Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(NotificationReceivedEvent.class));
     }
 
@@ -66,7 +149,7 @@ class BlackDuckAccumulatorTest {
         BlackDuckSystemValidator validator = createBlackDuckValidator(invalidProperties, false);
         BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = Mockito.mock(BlackDuckNotificationRetrieverFactory.class);
 
-        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(BLACK_DUCK_PROVIDER_KEY, null, null, null, invalidProperties, validator, null, notificationRetrieverFactory);
+        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(BLACK_DUCK_PROVIDER_KEY, null, null, null, invalidProperties, validator, null, notificationRetrieverFactory, pipelineMetrics);
         accumulator.run();
 
         Mockito.verify(notificationRetrieverFactory, Mockito.times(0)).createBlackDuckNotificationRetriever(invalidProperties);
@@ -87,7 +170,8 @@ class BlackDuckAccumulatorTest {
             blackDuckProperties,
             validator,
             null,
-            notificationRetrieverFactory
+            notificationRetrieverFactory,
+            pipelineMetrics
         );
         accumulator.run();
 
@@ -114,7 +198,8 @@ class BlackDuckAccumulatorTest {
             blackDuckProperties,
             validator,
             null,
-            notificationRetrieverFactory
+            notificationRetrieverFactory,
+            pipelineMetrics
         );
         accumulator.run();
 